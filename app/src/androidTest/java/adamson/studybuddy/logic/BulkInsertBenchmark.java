@@ -0,0 +1,89 @@
+package adamson.studybuddy.logic;
+
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * compares importing the homework of a term one by one with {@link DatabaseHelperImpl#insertAllIntoDB(Homework[])},
+ * logs both times, filter logcat by the tag BulkInsertBenchmark
+ */
+@RunWith(AndroidJUnit4.class)
+public class BulkInsertBenchmark {
+    private static final String TAG = "BulkInsertBenchmark";
+    private static final int HOMEWORK = 300;
+    private static final int RUNS = 5;
+
+    private DatabaseHelperImpl databaseHelper;
+    private Subject subject;
+
+    @Before
+    public void setUp() {
+        databaseHelper = DatabaseHelperImpl.getInstance(InstrumentationRegistry.getTargetContext());
+        databaseHelper.resetDatabase();
+
+        int subjectId = databaseHelper.insertIntoDB(new Subject(0, new Teacher(0, "Meyer", "MEY", Teacher.FEMALE), "maths", "A210", "#ff0000"));
+        subject = databaseHelper.getSubjectAtId(subjectId);
+    }
+
+    @After
+    public void tearDown() {
+        databaseHelper.resetDatabase();
+    }
+
+    @Test
+    public void compareWithSingleInserts() {
+        long single = 0;
+        long bulk = 0;
+        for (int run = 0; run < RUNS; run++) {
+            Homework[] homework = buildHomework(run);
+
+            long start = SystemClock.elapsedRealtime();
+            for (Homework item : homework) {
+                databaseHelper.insertIntoDB(item);
+            }
+            single += SystemClock.elapsedRealtime() - start;
+
+            start = SystemClock.elapsedRealtime();
+            databaseHelper.insertAllIntoDB(homework);
+            bulk += SystemClock.elapsedRealtime() - start;
+        }
+
+        assertEquals(2 * RUNS * HOMEWORK, databaseHelper.getAllHomework().length);
+        Log.i(TAG, HOMEWORK + " homework one by one: " + single / RUNS + " ms, in one transaction: " + bulk / RUNS + " ms");
+    }
+
+    //region private methods
+
+    /**
+     * builds the homework of a term which isn't in the database yet
+     *
+     * @param run number of the run, part of the description
+     * @return the homework with id 0
+     */
+    private Homework[] buildHomework(int run) {
+        Homework[] homework = new Homework[HOMEWORK];
+        for (int i = 0; i < HOMEWORK; i++) {
+            GregorianCalendar deadline = new GregorianCalendar();
+            deadline.add(Calendar.DAY_OF_MONTH, i % 180);
+            homework[i] = new Homework(0, subject, "Run " + run + " homework " + i, deadline, false);
+        }
+        return homework;
+    }
+    //endregion
+}
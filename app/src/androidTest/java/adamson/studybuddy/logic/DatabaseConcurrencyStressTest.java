@@ -0,0 +1,166 @@
+package adamson.studybuddy.logic;
+
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * stress harness for the write-ahead logging mode: several threads read while one thread writes batches of homework.
+ * logs the read latency without and with the writer, filter logcat by the tag DatabaseConcurrencyStressTest
+ * <br> </br>
+ * Note: every thread uses its own compiled statements, so the harness also runs the {@link StatementRegistry} from several threads
+ */
+@RunWith(AndroidJUnit4.class)
+public class DatabaseConcurrencyStressTest {
+    private static final String TAG = "DatabaseConcurrencyStressTest";
+    private static final int READERS = 3;
+    private static final int READS_PER_READER = 300;
+    private static final int HOMEWORK = 5000;
+    private static final int BATCH_SIZE = 200;
+    private static final int PAGE_SIZE = 50;
+
+    private DatabaseHelperImpl databaseHelper;
+    private Subject subject;
+
+    @Before
+    public void setUp() {
+        databaseHelper = DatabaseHelperImpl.getInstance(InstrumentationRegistry.getTargetContext());
+        databaseHelper.resetDatabase();
+
+        int subjectId = databaseHelper.insertIntoDB(new Subject(0, new Teacher(0, "Meyer", "MEY", Teacher.FEMALE), "maths", "A210", "#ff0000"));
+        subject = databaseHelper.getSubjectAtId(subjectId);
+        databaseHelper.insertAllIntoDB(buildHomework(HOMEWORK, "Homework"));
+    }
+
+    @After
+    public void tearDown() {
+        databaseHelper.resetDatabase();
+    }
+
+    @Test
+    public void readLatencyWhileWriting() throws Exception {
+        long[] idle = runReaders(null);
+
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final AtomicReference<Throwable> writerFailure = new AtomicReference<>();
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    for (int batch = 0; writing.get(); batch++) {
+                        int[] ids = databaseHelper.insertAllIntoDB(buildHomework(BATCH_SIZE, "Batch " + batch));
+                        databaseHelper.deleteAllHomeworkAtIds(ids);
+                    }
+                } catch (Throwable t) {
+                    writerFailure.set(t);
+                }
+            }
+        });
+        writer.start();
+        long[] busy;
+        try {
+            busy = runReaders(writerFailure);
+        } finally {
+            writing.set(false);
+            writer.join();
+        }
+
+        assertNull(writerFailure.get());
+        Log.i(TAG, "read latency idle: median " + percentile(idle, 50) + " ms, p95 " + percentile(idle, 95) + " ms");
+        Log.i(TAG, "read latency while writing: median " + percentile(busy, 50) + " ms, p95 " + percentile(busy, 95) + " ms");
+    }
+
+    //region private methods
+
+    /**
+     * runs the readers until each of them read {@link DatabaseConcurrencyStressTest#READS_PER_READER} times
+     *
+     * @param writerFailure failure of the writer thread, the readers stop as soon as it is set, may be null
+     * @return the latency of every read in ms
+     * @throws Exception if a reader failed
+     */
+    private long[] runReaders(final AtomicReference<Throwable> writerFailure) throws Exception {
+        final long[] latencies = new long[READERS * READS_PER_READER];
+        final AtomicReference<Throwable> readerFailure = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(READERS);
+
+        for (int r = 0; r < READERS; r++) {
+            final int reader = r;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < READS_PER_READER && (writerFailure == null || writerFailure.get() == null); i++) {
+                            long start = SystemClock.elapsedRealtime();
+                            Homework[] page = databaseHelper.findHomework(new Criteria().whereDone(false).orderBy(Criteria.Order.DEADLINE).limit(PAGE_SIZE));
+                            assertTrue(databaseHelper.existsHomeworkAtId(page[0].getId()));
+                            databaseHelper.getExamPage(null, PAGE_SIZE);
+                            latencies[reader * READS_PER_READER + i] = SystemClock.elapsedRealtime() - start;
+                        }
+                    } catch (Throwable t) {
+                        readerFailure.set(t);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        done.await();
+
+        if (readerFailure.get() != null) {
+            throw new AssertionError(readerFailure.get());
+        }
+        return latencies;
+    }
+
+    /**
+     * builds homework of the test subject which isn't in the database yet, the deadlines start today
+     *
+     * @param count       count of homework
+     * @param description description of the homework, followed by its number
+     * @return the homework with id 0
+     */
+    private Homework[] buildHomework(int count, String description) {
+        Homework[] homework = new Homework[count];
+        for (int i = 0; i < count; i++) {
+            GregorianCalendar deadline = new GregorianCalendar();
+            deadline.add(Calendar.DAY_OF_MONTH, i % 365);
+            homework[i] = new Homework(0, subject, description + " " + i, deadline, false);
+        }
+        return homework;
+    }
+
+    /**
+     * gets a percentile of the latencies
+     *
+     * @param latencies  latencies of all reads
+     * @param percentile the percentile, from 0 to 100
+     * @return the latency in ms
+     */
+    private static long percentile(long[] latencies, int percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+    //endregion
+}
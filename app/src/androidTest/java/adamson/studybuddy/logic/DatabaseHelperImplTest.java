@@ -0,0 +1,216 @@
+package adamson.studybuddy.logic;
+
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Schedule;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+import adamson.studybuddy.logic.objects.Weekday;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests of the {@link DatabaseHelperImpl} which need the SQLite Database of the device
+ */
+@RunWith(AndroidJUnit4.class)
+public class DatabaseHelperImplTest {
+    private DatabaseHelperImpl databaseHelper;
+
+    @Before
+    public void setUp() {
+        databaseHelper = DatabaseHelperImpl.getInstance(InstrumentationRegistry.getTargetContext());
+        databaseHelper.resetDatabase();
+    }
+
+    @After
+    public void tearDown() {
+        databaseHelper.resetDatabase();
+    }
+
+    //Launch test area: insert with unsaved parents
+    @Test
+    public void insertSubjectWithUnsavedTeacher() throws Exception {
+        int id = databaseHelper.insertIntoDBOrThrow(newSubject("maths"));
+
+        Subject testResultValue = databaseHelper.getSubjectAtIdOrThrow(id);
+
+        assertTrue(testResultValue.getTeacher().getId() > 0);
+        assertEquals("MATHS", testResultValue.getTeacher().getAbbreviation());
+    }
+
+    @Test
+    public void insertHomeworkWithUnsavedSubject() throws Exception {
+        int id = databaseHelper.insertIntoDBOrThrow(new Homework(0, newSubject("german"), "read chapter 3", new GregorianCalendar(2018, 9, 1), false));
+
+        Homework testResultValue = databaseHelper.getHomeworkAtIdOrThrow(id);
+
+        assertTrue(testResultValue.getSubject().getId() > 0);
+        assertEquals("german", testResultValue.getSubject().getName());
+    }
+
+    @Test
+    public void insertExamWithUnsavedSubject() throws Exception {
+        int id = databaseHelper.insertIntoDBOrThrow(new Exam(0, newSubject("maths"), "functions", new GregorianCalendar(2018, 10, 5)));
+
+        assertEquals("maths", databaseHelper.getExamAtIdOrThrow(id).getSubject().getName());
+    }
+
+    @Test
+    public void insertGradeWithUnsavedSubject() throws Exception {
+        int id = databaseHelper.insertIntoDBOrThrow(new Grade(0, newSubject("english"), "test 1", "2"));
+
+        assertEquals("english", databaseHelper.getGradeAtIdOrThrow(id).getSubject().getName());
+    }
+
+    @Test
+    public void insertLessonWithUnsavedSubjectAndPeriod() throws Exception {
+        int id = databaseHelper.insertIntoDBOrThrow(new Lesson(0, newSubject("physics"), new Period(0, 1, "08-00-00", "08-45-00")));
+
+        Lesson testResultValue = databaseHelper.getLessonAtIdOrThrow(id);
+
+        assertEquals("physics", testResultValue.getSubject().getName());
+        assertEquals(1, testResultValue.getPeriod().getSchoolHourNo());
+    }
+    //End test area: insert with unsaved parents
+
+    //Launch test area: bulk insert
+    @Test
+    public void insertAllRollsBackTheParentsOfAFailedItem() throws Exception {
+        int takenId = databaseHelper.insertIntoDBOrThrow(new Homework(0, newSubject("maths"), "p. 12", new GregorianCalendar(2018, 9, 1), false));
+        Homework[] homework = {
+                new Homework(takenId, newSubject("physics"), "p. 30", new GregorianCalendar(2018, 9, 2), false),
+                new Homework(0, newSubject("german"), "read chapter 3", new GregorianCalendar(2018, 9, 3), false)
+        };
+
+        int[] ids = databaseHelper.insertAllIntoDB(homework);
+
+        assertEquals(-1, ids[0]);
+        assertTrue(ids[1] > 0);
+        assertEquals(2, databaseHelper.getAllSubjects().length);
+        assertEquals(2, databaseHelper.getAllTeachers().length);
+    }
+    //End test area: bulk insert
+
+    //Launch test area: tombstones
+    @Test
+    public void insertTeacherWithAbbreviationOfTombstonedTeacher() throws Exception {
+        int tombstonedId = databaseHelper.insertIntoDBOrThrow(new Teacher(0, "Meyer", "MEY", Teacher.FEMALE));
+        tombstone(DatabaseHelper.TABLE_TEACHER, DatabaseHelper.TEACHER_COLUMN_DELETED, DatabaseHelper.TEACHER_COLUMN_ID, tombstonedId);
+
+        int id = databaseHelper.insertIntoDBOrThrow(new Teacher(0, "Meyer", "MEY", Teacher.MALE));
+
+        assertTrue(id > 0);
+        assertEquals(Teacher.MALE, databaseHelper.getTeacherAtIdOrThrow(id).getGender());
+    }
+
+    @Test
+    public void insertLessonAtSlotOfTombstonedSubject() throws Exception {
+        Period period = new Period(0, 1, "08-00-00", "08-45-00");
+        Weekday[] weekdays = {new Weekday(0, "Monday", new Lesson[]{new Lesson(0, newSubject("maths"), period)})};
+        int scheduleId = databaseHelper.insertIntoDBOrThrow(new Schedule(0, "A", weekdays));
+        Weekday monday = databaseHelper.getScheduleAtIdOrThrow(scheduleId).getDay("Monday");
+        Lesson tombstonedLesson = monday.getLessons()[0];
+        tombstone(DatabaseHelper.TABLE_SUBJECT, DatabaseHelper.SUBJECT_COLUMN_DELETED, DatabaseHelper.SUBJECT_COLUMN_ID, tombstonedLesson.getSubject().getId());
+
+        int id = databaseHelper.insertIntoDBOrThrow(new Lesson(0, newSubject("german"), tombstonedLesson.getPeriod()));
+
+        databaseHelper.updateWeekdayAtIdOrThrow(new Weekday(monday.getId(), "Monday", new Lesson[]{databaseHelper.getLessonAtIdOrThrow(id)}));
+
+        assertEquals(id, databaseHelper.getLessonOrThrowAtDate(monday, tombstonedLesson.getPeriod()).getId());
+        assertFalse(databaseHelper.existsLessonAtId(tombstonedLesson.getId()));
+    }
+
+    @Test(expected = IllegalAccessException.class)
+    public void insertHomeworkOfTombstonedSubject() throws Exception {
+        Subject subject = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(newSubject("maths")));
+        tombstone(DatabaseHelper.TABLE_SUBJECT, DatabaseHelper.SUBJECT_COLUMN_DELETED, DatabaseHelper.SUBJECT_COLUMN_ID, subject.getId());
+
+        assertFalse(databaseHelper.existsSubjectAtId(subject.getId()));
+        databaseHelper.insertIntoDBOrThrow(new Homework(0, subject, "read chapter 3", new GregorianCalendar(2018, 9, 1), false));
+    }
+
+    @Test(expected = IllegalAccessException.class)
+    public void insertSubjectOfTombstonedTeacher() throws Exception {
+        Teacher teacher = databaseHelper.getTeacherAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Teacher(0, "Meyer", "MEY", Teacher.FEMALE)));
+        tombstone(DatabaseHelper.TABLE_TEACHER, DatabaseHelper.TEACHER_COLUMN_DELETED, DatabaseHelper.TEACHER_COLUMN_ID, teacher.getId());
+
+        databaseHelper.insertIntoDBOrThrow(new Subject(0, teacher, "maths", "A210", "#ff0000"));
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void moveGradeToTombstonedSubject() throws Exception {
+        int gradeId = databaseHelper.insertIntoDBOrThrow(new Grade(0, newSubject("maths"), "test 1", "2"));
+        Subject german = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(newSubject("german")));
+        tombstone(DatabaseHelper.TABLE_SUBJECT, DatabaseHelper.SUBJECT_COLUMN_DELETED, DatabaseHelper.SUBJECT_COLUMN_ID, german.getId());
+
+        databaseHelper.updateGradeAtIdOrThrow(new Grade(gradeId, german, "test 1", "2"));
+    }
+    //End test area: tombstones
+
+    //Launch test area: week agenda
+    @Test
+    public void weekAgendaOfTheStoredWeek() throws Exception {
+        Subject subject = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(newSubject("maths")));
+        databaseHelper.insertIntoDBOrThrow(new Homework(0, subject, "p. 12", new GregorianCalendar(2018, 8, 5), false));
+        databaseHelper.insertIntoDBOrThrow(new Exam(0, subject, "functions", new GregorianCalendar(2018, 8, 6)));
+
+        databaseHelper.moveWeekAgenda(new GregorianCalendar(2018, 8, 3), new GregorianCalendar(2018, 8, 9));
+
+        assertEquals(1, databaseHelper.getWeekAgendaHomework(new GregorianCalendar(2018, 8, 3), new GregorianCalendar(2018, 8, 9)).length);
+        assertEquals(1, databaseHelper.getWeekAgendaExams(new GregorianCalendar(2018, 8, 3), new GregorianCalendar(2018, 8, 9)).length);
+    }
+
+    @Test
+    public void weekAgendaOfAnotherWeekIsEmpty() throws Exception {
+        Subject subject = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(newSubject("maths")));
+        databaseHelper.insertIntoDBOrThrow(new Homework(0, subject, "p. 12", new GregorianCalendar(2018, 8, 5), false));
+        databaseHelper.insertIntoDBOrThrow(new Exam(0, subject, "functions", new GregorianCalendar(2018, 8, 6)));
+
+        databaseHelper.moveWeekAgenda(new GregorianCalendar(2018, 8, 3), new GregorianCalendar(2018, 8, 9));
+
+        assertEquals(0, databaseHelper.getWeekAgendaHomework(new GregorianCalendar(2018, 8, 10), new GregorianCalendar(2018, 8, 16)).length);
+        assertEquals(0, databaseHelper.getWeekAgendaExams(new GregorianCalendar(2018, 8, 10), new GregorianCalendar(2018, 8, 16)).length);
+    }
+    //End test area: week agenda
+
+    //region private methods
+
+    /**
+     * tombstones a row directly, like a cascading delete does before its undo runs out
+     *
+     * @param table         name of the table
+     * @param deletedColumn name of the tombstone column
+     * @param idColumn      name of the id column
+     * @param id            id of the row
+     */
+    private static void tombstone(String table, String deletedColumn, String idColumn, int id) {
+        DatabaseOpenHelper.getInstance(InstrumentationRegistry.getTargetContext()).getWritableDatabase()
+                .execSQL("UPDATE " + table + " SET " + deletedColumn + " = 1 WHERE " + idColumn + " = " + id);
+    }
+
+    /**
+     * builds a {@link Subject} which isn't in the database yet, together with its {@link Teacher}
+     *
+     * @param name name of the {@link Subject}, also used for the abbreviation of its {@link Teacher}
+     * @return the {@link Subject} with id 0
+     */
+    private static Subject newSubject(String name) {
+        return new Subject(0, new Teacher(0, "Meyer", name.toUpperCase(), Teacher.FEMALE), name, "A210", "#ff0000");
+    }
+    //endregion
+}
@@ -0,0 +1,161 @@
+package adamson.studybuddy.logic;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Schedule;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static adamson.studybuddy.logic.DatabaseHelper.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * upgrades a populated database of version 1 through all migration steps and checks that no row got lost
+ * <br> </br>
+ * Note: the migrations run on the SQLite Database of the device, the android.jar of the JVM tests has no working SQLite
+ */
+@RunWith(AndroidJUnit4.class)
+public class DatabaseMigrationTest {
+    private Context context;
+    private DatabaseHelperImpl databaseHelper;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getTargetContext();
+        DatabaseOpenHelper.closeInstance();
+        SQLiteDatabase.deleteDatabase(context.getDatabasePath(DATABASE_NAME));
+        createVersion1Database();
+
+        databaseHelper = DatabaseHelperImpl.getInstance(context);
+    }
+
+    @After
+    public void tearDown() {
+        databaseHelper.resetDatabase();
+    }
+
+    //Launch test area: upgrade from version 1
+    @Test
+    public void upgradeKeepsAllRows() throws Exception {
+        assertTrue(new Teacher(1, "Meyer", "MEY", Teacher.FEMALE).match(databaseHelper.getTeacherAtIdOrThrow(1)));
+        assertEquals("maths", databaseHelper.getSubjectAtIdOrThrow(1).getName());
+        assertEquals(2, databaseHelper.getAllHomework().length);
+        assertEquals("2", databaseHelper.getGradeAtIdOrThrow(1).getGrade());
+
+        Schedule schedule = databaseHelper.getScheduleAtIdOrThrow(1);
+        assertEquals(1, schedule.getDay("Monday").getLessons().length);
+    }
+
+    @Test
+    public void upgradeConvertsUnpaddedDeadlines() throws Exception {
+        Homework homework = databaseHelper.getHomeworkAtIdOrThrow(1);
+        Exam exam = databaseHelper.getExamAtIdOrThrow(1);
+
+        assertEquals(new GregorianCalendar(2018, 8, 1), homework.getDeadline());
+        assertFalse(homework.isDone());
+        assertEquals(new GregorianCalendar(2018, 9, 15), databaseHelper.getHomeworkAtIdOrThrow(2).getDeadline());
+        assertEquals(new GregorianCalendar(2018, 10, 5), exam.getDeadline());
+    }
+
+    @Test
+    public void upgradeCountsExistingRows() {
+        UsageCounts testResultValue = databaseHelper.getSubjectUsage(1);
+
+        assertEquals(2, testResultValue.getHomework());
+        assertEquals(1, testResultValue.getOpenHomework());
+        assertEquals(1, testResultValue.getExams());
+        assertEquals(1, testResultValue.getGrades());
+        assertEquals(1, testResultValue.getLessons());
+        assertTrue(databaseHelper.verifyUsageCounters());
+    }
+    //End test area: upgrade from version 1
+
+    //region private methods
+
+    /**
+     * creates the database file with the tables of version 1 and fills them, the deadlines are stored in the YYYY-M-D format
+     * of version 1
+     */
+    private void createVersion1Database() {
+        try (SQLiteDatabase db = SQLiteDatabase.openOrCreateDatabase(context.getDatabasePath(DATABASE_NAME), null)) {
+            db.execSQL("CREATE TABLE " + TABLE_TEACHER + "(" +
+                    TEACHER_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    TEACHER_COLUMN_NAME + " VARCHAR NOT NULL, " +
+                    TEACHER_COLUMN_ABBREVIATION + " VARCHAR UNIQUE, " +
+                    TEACHER_COLUMN_GENDER + " CHAR NOT NULL )");
+            db.execSQL("CREATE TABLE " + TABLE_SUBJECT + "(" +
+                    SUBJECT_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    SUBJECT_COLUMN_TEACHER_ID + " INTEGER NOT NULL " +
+                    "REFERENCES " + TABLE_TEACHER + "(" + TEACHER_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                    SUBJECT_COLUMN_NAME + " VARCHAR NOT NULL, " +
+                    SUBJECT_COLUMN_ROOM + " VARCHAR NOT NULL, " +
+                    SUBJECT_COLUMN_COLOR + " VARCHAR NOT NULL )");
+            db.execSQL("CREATE TABLE " + TABLE_HOMEWORK + "(" +
+                    HOMEWORK_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    HOMEWORK_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                    "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                    HOMEWORK_COLUMN_DESCRIPTION + " TEXT NOT NULL, " +
+                    HOMEWORK_COLUMN_DEADLINE + " DATE NOT NULL, " +
+                    HOMEWORK_COLUMN_DONE + " INTEGER )");
+            db.execSQL("CREATE TABLE " + TABLE_EXAM + "(" +
+                    EXAM_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    EXAM_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                    "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                    EXAM_COLUMN_DESCRIPTION + " TEXT NOT NULL, " +
+                    EXAM_COLUMN_DEADLINE + " DATE NOT NULL)");
+            db.execSQL("CREATE TABLE " + TABLE_GRADE + "(" +
+                    GRADE_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    GRADE_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                    "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                    GRADE_COLUMN_NAME + " VARCHAR NOT NULL, " +
+                    GRADE_COLUMN_GRADE + " VARCHAR NOT NULL )");
+            db.execSQL("CREATE TABLE " + TABLE_PERIOD + "(" +
+                    PERIOD_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    PERIOD_COLUMN_SCHOOL_HOUR_NO + " INTEGER NOT NULL, " +
+                    PERIOD_COLUMN_STARTTIME + " TIME NOT NULL, " +
+                    PERIOD_COLUMN_ENDTIME + " TIME NOT NULL )");
+            db.execSQL("CREATE TABLE " + TABLE_SCHEDULE + "(" +
+                    SCHEDULE_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    SCHEDULE_COLUMN_NAME + " VARCHAR NOT NULL )");
+            db.execSQL("CREATE TABLE " + TABLE_WEEKDAY + "(" +
+                    WEEKDAY_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    WEEKDAY_COLUMN_SCHEDULE_ID + " INTEGER " +
+                    "REFERENCES " + TABLE_SCHEDULE + "(" + SCHEDULE_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                    WEEKDAY_COLUMN_NAME + " VARCHAR NOT NULL )");
+            db.execSQL("CREATE TABLE " + TABLE_LESSON + "(" +
+                    LESSON_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                    LESSON_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                    "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                    LESSON_COLUMN_PERIOD_ID + " INTEGER NOT NULL " +
+                    "REFERENCES " + TABLE_PERIOD + "(" + PERIOD_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                    LESSON_COLUMN_WEEKDAY_ID + " INTEGER  " +
+                    "REFERENCES " + TABLE_WEEKDAY + "(" + WEEKDAY_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE)");
+
+            db.execSQL("INSERT INTO " + TABLE_TEACHER + " VALUES (1, 'Meyer', 'MEY', 'f')");
+            db.execSQL("INSERT INTO " + TABLE_SUBJECT + " VALUES (1, 1, 'maths', 'A210', '#ff0000')");
+            db.execSQL("INSERT INTO " + TABLE_HOMEWORK + " VALUES (1, 1, 'p. 12', '2018-9-1', 0)");
+            db.execSQL("INSERT INTO " + TABLE_HOMEWORK + " VALUES (2, 1, 'p. 13', '2018-10-15', 1)");
+            db.execSQL("INSERT INTO " + TABLE_EXAM + " VALUES (1, 1, 'functions', '2018-11-5')");
+            db.execSQL("INSERT INTO " + TABLE_GRADE + " VALUES (1, 1, 'test 1', '2')");
+            db.execSQL("INSERT INTO " + TABLE_PERIOD + " VALUES (1, 1, '08-00-00', '08-45-00')");
+            db.execSQL("INSERT INTO " + TABLE_SCHEDULE + " VALUES (1, 'A')");
+            db.execSQL("INSERT INTO " + TABLE_WEEKDAY + " VALUES (1, 1, 'Monday')");
+            db.execSQL("INSERT INTO " + TABLE_LESSON + " VALUES (1, 1, 1, 1)");
+            db.setVersion(1);
+        }
+    }
+    //endregion
+}
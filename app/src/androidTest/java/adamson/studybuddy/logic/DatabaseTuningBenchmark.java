@@ -0,0 +1,271 @@
+package adamson.studybuddy.logic;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * runs the queries of the screens against a synthetic database of several school years under every {@link DatabaseTuning} profile
+ * and logs the median time of each workload, filter logcat by the tag DatabaseTuningBenchmark
+ * <br> </br>
+ * Note: the database is closed before every run, so the first query of a run reads from a cold connection
+ */
+@RunWith(AndroidJUnit4.class)
+public class DatabaseTuningBenchmark {
+    private static final String TAG = "DatabaseTuningBenchmark";
+    private static final String[] PROFILES = {DatabaseTuning.PROFILE_DEFAULT, DatabaseTuning.PROFILE_LOW_MEMORY,
+            DatabaseTuning.PROFILE_BALANCED, DatabaseTuning.PROFILE_FAST};
+
+    private static final int TEACHERS = 40;
+    private static final int SUBJECTS = 80;
+    private static final int HOMEWORK = 20000;
+    private static final int EXAMS = 5000;
+    private static final int GRADES = 10000;
+    private static final int DAYS = 3 * 365;
+    private static final int RUNS = 7;
+    private static final int PAGE_SIZE = 50;
+    private static final int BATCH_SIZE = 100;
+
+    private Context context;
+    private DatabaseHelperImpl databaseHelper;
+    private String savedProfile;
+    private Subject[] subjects;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getTargetContext();
+        savedProfile = Settings.getInstance(context).getDatabaseTuning();
+        databaseHelper = DatabaseHelperImpl.getInstance(context);
+        databaseHelper.resetDatabase();
+        fillDatabase();
+    }
+
+    @After
+    public void tearDown() {
+        useProfile(savedProfile);
+        databaseHelper.resetDatabase();
+    }
+
+    @Test
+    public void compareProfiles() {
+        for (String profile : PROFILES) {
+            useProfile(profile);
+
+            long[] coldHome = new long[RUNS];
+            long[] homeworkPage = new long[RUNS];
+            long[] examPage = new long[RUNS];
+            long[] gradePage = new long[RUNS];
+            long[] lists = new long[RUNS];
+            long[] insertBatch = new long[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                DatabaseOpenHelper.closeInstance();
+                coldHome[run] = timeHomeScreen(run);
+                homeworkPage[run] = timeHomeworkPage();
+                examPage[run] = timeExamPage();
+                gradePage[run] = timeGradePage(run);
+                lists[run] = timeLists();
+                insertBatch[run] = timeInsertBatch(run);
+            }
+
+            Log.i(TAG, profile + ": cold home " + median(coldHome) + " ms, homework page " + median(homeworkPage) +
+                    " ms, exam page " + median(examPage) + " ms, grade page " + median(gradePage) +
+                    " ms, subjects and teachers " + median(lists) + " ms, insert " + BATCH_SIZE + " homework " + median(insertBatch) + " ms");
+        }
+    }
+
+    //region private methods
+
+    /**
+     * fills the database with {@link Teacher}s, {@link Subject}s, {@link Homework}s, {@link Exam}s and {@link Grade}s,
+     * the deadlines are spread over three school years around today
+     */
+    private void fillDatabase() {
+        Teacher[] teachers = new Teacher[TEACHERS];
+        for (int i = 0; i < TEACHERS; i++) {
+            teachers[i] = new Teacher(0, "Teacher " + i, "T" + i, i % 2 == 0 ? Teacher.MALE : Teacher.FEMALE);
+        }
+        int[] teacherIds = databaseHelper.insertAllIntoDB(teachers);
+
+        subjects = new Subject[SUBJECTS];
+        for (int i = 0; i < SUBJECTS; i++) {
+            Teacher teacher = databaseHelper.getTeacherAtId(teacherIds[i % TEACHERS]);
+            subjects[i] = new Subject(0, teacher, "Subject " + i, "R" + i, "#ff0000");
+        }
+        int[] subjectIds = databaseHelper.insertAllIntoDB(subjects);
+        for (int i = 0; i < SUBJECTS; i++) {
+            subjects[i] = databaseHelper.getSubjectAtId(subjectIds[i]);
+        }
+
+        Homework[] homework = new Homework[HOMEWORK];
+        for (int i = 0; i < HOMEWORK; i++) {
+            homework[i] = new Homework(0, subjects[i % SUBJECTS], "Homework " + i, dayFromToday(i % DAYS - DAYS / 2), i % 3 == 0);
+        }
+        assertEquals(HOMEWORK, countInserted(databaseHelper.insertAllIntoDB(homework)));
+
+        Exam[] exams = new Exam[EXAMS];
+        for (int i = 0; i < EXAMS; i++) {
+            exams[i] = new Exam(0, subjects[i % SUBJECTS], "Exam " + i, dayFromToday(i % DAYS - DAYS / 2));
+        }
+        assertEquals(EXAMS, countInserted(databaseHelper.insertAllIntoDB(exams)));
+
+        Grade[] grades = new Grade[GRADES];
+        for (int i = 0; i < GRADES; i++) {
+            grades[i] = new Grade(0, subjects[i % SUBJECTS], "Grade " + i, String.valueOf(1 + i % 6));
+        }
+        assertEquals(GRADES, countInserted(databaseHelper.insertAllIntoDB(grades)));
+    }
+
+    /**
+     * saves the profile, so it is applied the next time the database is opened
+     *
+     * @param profile name of the {@link DatabaseTuning} profile
+     */
+    private void useProfile(String profile) {
+        Settings settings = Settings.getInstance(context);
+        settings.setDatabaseTuning(profile);
+        settings.saveSettings();
+        DatabaseOpenHelper.closeInstance();
+    }
+
+    /**
+     * times the queries of the home screen, every run moves the week agenda to another week
+     *
+     * @param run number of the run
+     * @return the time in ms
+     */
+    private long timeHomeScreen(int run) {
+        GregorianCalendar firstDay = dayFromToday(7 * run);
+        GregorianCalendar lastDay = dayFromToday(7 * run + 6);
+
+        long start = SystemClock.elapsedRealtime();
+        databaseHelper.moveWeekAgenda(firstDay, lastDay);
+        databaseHelper.getWeekAgendaHomework(firstDay, lastDay);
+        databaseHelper.getWeekAgendaExams(firstDay, lastDay);
+        return SystemClock.elapsedRealtime() - start;
+    }
+
+    /**
+     * times the first two pages of the homework to do, like the homework screen loads them
+     *
+     * @return the time in ms
+     */
+    private long timeHomeworkPage() {
+        long start = SystemClock.elapsedRealtime();
+        Homework[] page = databaseHelper.findHomework(new Criteria().whereDone(false).orderBy(Criteria.Order.DEADLINE).limit(PAGE_SIZE));
+        databaseHelper.findHomework(new Criteria().whereDone(false).orderBy(Criteria.Order.DEADLINE).after(page[page.length - 1]).limit(PAGE_SIZE));
+        return SystemClock.elapsedRealtime() - start;
+    }
+
+    /**
+     * times the first two pages of the exams, like the exam screen loads them
+     *
+     * @return the time in ms
+     */
+    private long timeExamPage() {
+        long start = SystemClock.elapsedRealtime();
+        Exam[] page = databaseHelper.getExamPage(null, PAGE_SIZE);
+        databaseHelper.getExamPage(page[page.length - 1], PAGE_SIZE);
+        return SystemClock.elapsedRealtime() - start;
+    }
+
+    /**
+     * times the first page of the grades of one subject, like the grade screen loads them
+     *
+     * @param run number of the run, picks the subject
+     * @return the time in ms
+     */
+    private long timeGradePage(int run) {
+        long start = SystemClock.elapsedRealtime();
+        databaseHelper.findGrades(new Criteria().whereSubject(subjects[run % SUBJECTS].getId()).orderBy(Criteria.Order.NAME).limit(PAGE_SIZE));
+        return SystemClock.elapsedRealtime() - start;
+    }
+
+    /**
+     * times the list of all subjects and the first page of teachers
+     *
+     * @return the time in ms
+     */
+    private long timeLists() {
+        long start = SystemClock.elapsedRealtime();
+        databaseHelper.getAllSubjects();
+        databaseHelper.getTeacherPage(null, PAGE_SIZE);
+        return SystemClock.elapsedRealtime() - start;
+    }
+
+    /**
+     * times the insert of a batch of homework, the commit shows the syncing and checkpoints of the profile
+     *
+     * @param run number of the run, picks the subject
+     * @return the time in ms
+     */
+    private long timeInsertBatch(int run) {
+        Homework[] homework = new Homework[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            homework[i] = new Homework(0, subjects[run % SUBJECTS], "Batch " + run + " " + i, dayFromToday(i), false);
+        }
+
+        long start = SystemClock.elapsedRealtime();
+        databaseHelper.insertAllIntoDB(homework);
+        return SystemClock.elapsedRealtime() - start;
+    }
+
+    /**
+     * gets a day relative to today
+     *
+     * @param days count of days after today, negative for days before today
+     * @return the day
+     */
+    private static GregorianCalendar dayFromToday(int days) {
+        GregorianCalendar calendar = new GregorianCalendar();
+        calendar.add(Calendar.DAY_OF_MONTH, days);
+        return calendar;
+    }
+
+    /**
+     * counts the ids of inserted rows
+     *
+     * @param ids the ids returned by an insertAllIntoDB method, -1 for a row which wasn't inserted
+     * @return count of inserted rows
+     */
+    private static int countInserted(int[] ids) {
+        int count = 0;
+        for (int id : ids) {
+            if (id > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * gets the median of the times
+     *
+     * @param times the times of all runs
+     * @return the median
+     */
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+    //endregion
+}
@@ -0,0 +1,113 @@
+package adamson.studybuddy.logic;
+
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * compares the lookups by id of {@link DatabaseHelperImpl}, the exception free findX methods against the getXAtIdOrThrow
+ * methods for missing rows, and the batched findX methods against one lookup per id.
+ * logs the median times, filter logcat by the tag LookupBenchmark
+ */
+@RunWith(AndroidJUnit4.class)
+public class LookupBenchmark {
+    private static final String TAG = "LookupBenchmark";
+    private static final int SUBJECTS = 200;
+    private static final int LOOKUPS = 1000;
+    private static final int RUNS = 7;
+
+    private DatabaseHelperImpl databaseHelper;
+    private int[] subjectIds;
+
+    @Before
+    public void setUp() {
+        databaseHelper = DatabaseHelperImpl.getInstance(InstrumentationRegistry.getTargetContext());
+        databaseHelper.resetDatabase();
+
+        Subject[] subjects = new Subject[SUBJECTS];
+        for (int i = 0; i < SUBJECTS; i++) {
+            subjects[i] = new Subject(0, new Teacher(0, "Teacher " + i, "T" + i, Teacher.FEMALE), "Subject " + i, "R" + i, "#ff0000");
+        }
+        subjectIds = databaseHelper.insertAllIntoDB(subjects);
+    }
+
+    @After
+    public void tearDown() {
+        databaseHelper.resetDatabase();
+    }
+
+    @Test
+    public void compareMissPaths() {
+        int missingId = subjectIds[SUBJECTS - 1] + 1;
+        assertNull(databaseHelper.findSubject(missingId));
+
+        long[] find = new long[RUNS];
+        long[] orThrow = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            long start = SystemClock.elapsedRealtime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                databaseHelper.findSubject(missingId);
+            }
+            find[run] = SystemClock.elapsedRealtime() - start;
+
+            start = SystemClock.elapsedRealtime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                try {
+                    databaseHelper.getSubjectAtIdOrThrow(missingId);
+                } catch (NoSuchFieldException ignored) {
+                }
+            }
+            orThrow[run] = SystemClock.elapsedRealtime() - start;
+        }
+
+        Log.i(TAG, LOOKUPS + " missing subjects with findSubject: " + median(find) + " ms, with getSubjectAtIdOrThrow: " + median(orThrow) + " ms");
+    }
+
+    @Test
+    public void compareBatchedLookups() {
+        long[] single = new long[RUNS];
+        long[] batched = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            long start = SystemClock.elapsedRealtime();
+            for (int id : subjectIds) {
+                databaseHelper.findSubject(id);
+            }
+            single[run] = SystemClock.elapsedRealtime() - start;
+
+            start = SystemClock.elapsedRealtime();
+            assertEquals(SUBJECTS, databaseHelper.findSubjects(subjectIds).length);
+            batched[run] = SystemClock.elapsedRealtime() - start;
+        }
+
+        Log.i(TAG, SUBJECTS + " subjects one by one: " + median(single) + " ms, with findSubjects: " + median(batched) + " ms");
+    }
+
+    //region private methods
+
+    /**
+     * gets the median of the times
+     *
+     * @param times the times of all runs
+     * @return the median
+     */
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+    //endregion
+}
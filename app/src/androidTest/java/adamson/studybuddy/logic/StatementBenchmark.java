@@ -0,0 +1,131 @@
+package adamson.studybuddy.logic;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static adamson.studybuddy.logic.DatabaseHelper.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * compares the compiled statements with bound arguments of {@link DatabaseHelperImpl} against SQL with the values
+ * concatenated into it, which SQLite has to parse and plan for every call.
+ * logs the throughput of inserts, updates and selects by id, filter logcat by the tag StatementBenchmark
+ */
+@RunWith(AndroidJUnit4.class)
+public class StatementBenchmark {
+    private static final String TAG = "StatementBenchmark";
+    private static final int ROWS = 1000;
+
+    private DatabaseHelperImpl databaseHelper;
+    private SQLiteDatabase database;
+    private Subject subject;
+    private long deadline;
+
+    @Before
+    public void setUp() {
+        databaseHelper = DatabaseHelperImpl.getInstance(InstrumentationRegistry.getTargetContext());
+        databaseHelper.resetDatabase();
+        database = DatabaseOpenHelper.getInstance(InstrumentationRegistry.getTargetContext()).getWritableDatabase();
+
+        int subjectId = databaseHelper.insertIntoDB(new Subject(0, new Teacher(0, "Meyer", "MEY", Teacher.FEMALE), "maths", "A210", "#ff0000"));
+        subject = databaseHelper.getSubjectAtId(subjectId);
+        deadline = EpochDays.fromCalendar(new GregorianCalendar(2018, 8, 1));
+    }
+
+    @After
+    public void tearDown() {
+        databaseHelper.resetDatabase();
+    }
+
+    @Test
+    public void compareWithConcatenatedSql() throws Exception {
+        long start = SystemClock.elapsedRealtime();
+        database.beginTransaction();
+        try {
+            for (int i = 1; i <= ROWS; i++) {
+                database.execSQL("INSERT INTO " + TABLE_HOMEWORK + " VALUES (" + i + ", " + subject.getId() + ", 'Homework " + i + "', " + deadline + ", 0)");
+            }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+        long concatenatedInsert = SystemClock.elapsedRealtime() - start;
+
+        start = SystemClock.elapsedRealtime();
+        database.beginTransaction();
+        try {
+            for (int i = 1; i <= ROWS; i++) {
+                database.execSQL("UPDATE " + TABLE_HOMEWORK + " SET " + HOMEWORK_COLUMN_DONE + " = 1 WHERE " + HOMEWORK_COLUMN_ID + " = " + i);
+            }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+        long concatenatedUpdate = SystemClock.elapsedRealtime() - start;
+
+        start = SystemClock.elapsedRealtime();
+        for (int i = 1; i <= ROWS; i++) {
+            try (Cursor cursor = database.rawQuery("SELECT * FROM " + TABLE_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_ID + " = " + i, null)) {
+                cursor.moveToFirst();
+            }
+        }
+        long concatenatedSelect = SystemClock.elapsedRealtime() - start;
+
+        database.execSQL("DELETE FROM " + TABLE_HOMEWORK);
+
+        Homework[] homework = new Homework[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            homework[i] = new Homework(i + 1, subject, "Homework " + (i + 1), EpochDays.toCalendar(deadline), false);
+        }
+
+        start = SystemClock.elapsedRealtime();
+        database.beginTransaction();
+        try {
+            for (Homework item : homework) {
+                databaseHelper.insertIntoDBOrThrow(item);
+            }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+        long compiledInsert = SystemClock.elapsedRealtime() - start;
+
+        start = SystemClock.elapsedRealtime();
+        database.beginTransaction();
+        try {
+            for (Homework item : homework) {
+                databaseHelper.updateHomeworkAtIdOrThrow(new Homework(item.getId(), subject, item.getDescription(), item.getDeadline(), true));
+            }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+        long compiledUpdate = SystemClock.elapsedRealtime() - start;
+
+        start = SystemClock.elapsedRealtime();
+        for (int i = 1; i <= ROWS; i++) {
+            databaseHelper.findHomework(i);
+        }
+        long compiledSelect = SystemClock.elapsedRealtime() - start;
+
+        assertEquals(ROWS, databaseHelper.findHomework(new Criteria().whereDone(true)).length);
+        Log.i(TAG, ROWS + " inserts concatenated: " + concatenatedInsert + " ms, compiled: " + compiledInsert + " ms");
+        Log.i(TAG, ROWS + " updates concatenated: " + concatenatedUpdate + " ms, compiled: " + compiledUpdate + " ms");
+        Log.i(TAG, ROWS + " selects by id concatenated: " + concatenatedSelect + " ms, bound: " + compiledSelect + " ms");
+    }
+}
@@ -0,0 +1,151 @@
+package adamson.studybuddy.logic;
+
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static adamson.studybuddy.logic.DatabaseHelper.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * checks the subject counter table, which is written by triggers, against the real count of rows after inserts, updates and deletes
+ */
+@RunWith(AndroidJUnit4.class)
+public class UsageCounterTest {
+    private DatabaseHelperImpl databaseHelper;
+    private Subject maths;
+    private Subject physics;
+
+    @Before
+    public void setUp() throws Exception {
+        databaseHelper = DatabaseHelperImpl.getInstance(InstrumentationRegistry.getTargetContext());
+        databaseHelper.resetDatabase();
+
+        Teacher teacher = databaseHelper.getTeacherAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Teacher(0, "Meyer", "MEY", Teacher.FEMALE)));
+        maths = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Subject(0, teacher, "maths", "A210", "#ff0000")));
+        physics = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Subject(0, teacher, "physics", "B106", "#00ff00")));
+    }
+
+    @After
+    public void tearDown() {
+        databaseHelper.resetDatabase();
+    }
+
+    //Launch test area: triggers
+    @Test
+    public void insertsAreCounted() throws Exception {
+        databaseHelper.insertIntoDBOrThrow(new Homework(0, maths, "p. 12", new GregorianCalendar(2018, 9, 1), false));
+        databaseHelper.insertIntoDBOrThrow(new Homework(0, maths, "p. 13", new GregorianCalendar(2018, 9, 2), true));
+        databaseHelper.insertIntoDBOrThrow(new Exam(0, maths, "functions", new GregorianCalendar(2018, 10, 5)));
+        databaseHelper.insertIntoDBOrThrow(new Grade(0, maths, "test 1", "2"));
+        databaseHelper.insertIntoDBOrThrow(new Lesson(0, maths, new Period(0, 1, "08-00-00", "08-45-00")));
+
+        UsageCounts testResultValue = databaseHelper.getSubjectUsage(maths.getId());
+
+        assertEquals(2, testResultValue.getHomework());
+        assertEquals(1, testResultValue.getOpenHomework());
+        assertEquals(1, testResultValue.getExams());
+        assertEquals(1, testResultValue.getGrades());
+        assertEquals(1, testResultValue.getLessons());
+        assertEquals(countRows(TABLE_HOMEWORK, HOMEWORK_COLUMN_SUBJECT_ID, maths.getId()), testResultValue.getHomework());
+        assertEquals(0, databaseHelper.getSubjectUsage(physics.getId()).getTotal());
+        assertTrue(databaseHelper.verifyUsageCounters());
+    }
+
+    @Test
+    public void updatesMoveTheCounts() throws Exception {
+        int homeworkId = databaseHelper.insertIntoDBOrThrow(new Homework(0, maths, "p. 12", new GregorianCalendar(2018, 9, 1), false));
+        int examId = databaseHelper.insertIntoDBOrThrow(new Exam(0, maths, "functions", new GregorianCalendar(2018, 10, 5)));
+
+        databaseHelper.updateHomeworkAtIdOrThrow(new Homework(homeworkId, physics, "p. 12", new GregorianCalendar(2018, 9, 1), true));
+        databaseHelper.updateExamAtIdOrThrow(new Exam(examId, physics, "forces", new GregorianCalendar(2018, 10, 5)));
+
+        assertEquals(0, databaseHelper.getSubjectUsage(maths.getId()).getTotal());
+        UsageCounts testResultValue = databaseHelper.getSubjectUsage(physics.getId());
+        assertEquals(1, testResultValue.getHomework());
+        assertEquals(0, testResultValue.getOpenHomework());
+        assertEquals(1, testResultValue.getExams());
+        assertTrue(databaseHelper.verifyUsageCounters());
+    }
+
+    @Test
+    public void deletesAreCounted() throws Exception {
+        int homeworkId = databaseHelper.insertIntoDBOrThrow(new Homework(0, maths, "p. 12", new GregorianCalendar(2018, 9, 1), false));
+        int gradeId = databaseHelper.insertIntoDBOrThrow(new Grade(0, maths, "test 1", "2"));
+        int lessonId = databaseHelper.insertIntoDBOrThrow(new Lesson(0, maths, new Period(0, 1, "08-00-00", "08-45-00")));
+
+        databaseHelper.deleteHomeworkAtIdOrThrow(homeworkId);
+        databaseHelper.deleteGradeAtIdOrThrow(gradeId);
+        databaseHelper.deleteLessonAtIdOrThrow(lessonId);
+
+        assertEquals(0, databaseHelper.getSubjectUsage(maths.getId()).getTotal());
+        assertTrue(databaseHelper.verifyUsageCounters());
+    }
+
+    @Test
+    public void teacherUsageSumsItsSubjects() throws Exception {
+        databaseHelper.insertIntoDBOrThrow(new Homework(0, maths, "p. 12", new GregorianCalendar(2018, 9, 1), false));
+        databaseHelper.insertIntoDBOrThrow(new Grade(0, physics, "test 1", "2"));
+
+        assertEquals(2, databaseHelper.getTeacherUsage(maths.getTeacher().getId()).getTotal());
+    }
+    //End test area: triggers
+
+    //Launch test area: verify and rebuild
+    @Test
+    public void rebuildRepairsAWrongCounter() throws Exception {
+        databaseHelper.insertIntoDBOrThrow(new Homework(0, maths, "p. 12", new GregorianCalendar(2018, 9, 1), false));
+        database().execSQL("UPDATE " + TABLE_SUBJECT_COUNTER + " SET " + SUBJECT_COUNTER_COLUMN_HOMEWORK + " = 5");
+
+        assertFalse(databaseHelper.verifyUsageCounters());
+
+        databaseHelper.rebuildUsageCounters();
+
+        assertTrue(databaseHelper.verifyUsageCounters());
+        assertEquals(1, databaseHelper.getSubjectUsage(maths.getId()).getHomework());
+    }
+    //End test area: verify and rebuild
+
+    //region private methods
+
+    /**
+     * gets the database connection, to read and write past the {@link DatabaseHelperImpl}
+     *
+     * @return the schoolPlanner Database
+     */
+    private static SQLiteDatabase database() {
+        return DatabaseOpenHelper.getInstance(InstrumentationRegistry.getTargetContext()).getWritableDatabase();
+    }
+
+    /**
+     * counts the rows of a table which use a {@link Subject}, without the subject counter table
+     *
+     * @param table           name of the table
+     * @param subjectIdColumn name of the subject id column of the table
+     * @param subjectId       id of the {@link Subject}
+     * @return count of rows
+     */
+    private static int countRows(String table, String subjectIdColumn, int subjectId) {
+        return (int) DatabaseUtils.longForQuery(database(),
+                "SELECT COUNT(*) FROM " + table + " WHERE " + subjectIdColumn + " = ?", new String[]{String.valueOf(subjectId)});
+    }
+    //endregion
+}
@@ -7,13 +7,15 @@ import android.support.annotation.NonNull;
 import android.support.v7.app.AlertDialog;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.CascadeImpact;
+import adamson.studybuddy.logic.DatabaseHelper;
 
 /**
  * subclass of {@link AlertDialog} for a ConfirmDialog used if one or more other Objects would also be deleted at the deletion of the current one
  * <br></br>
  * <b>Usage:</b>
  * <br></br>
- * - call {@link DatabaseCascadeDeleteConfirmDialog#DatabaseCascadeDeleteConfirmDialog(Context, int)}
+ * - call {@link DatabaseCascadeDeleteConfirmDialog#DatabaseCascadeDeleteConfirmDialog(Context, CascadeImpact)}
  * <br></br>
  * - set positiveButton onClickListener ({@link DatabaseCascadeDeleteConfirmDialog#positiveButton(OnClickListener)})
  * <br></br>
@@ -23,16 +25,21 @@ public class DatabaseCascadeDeleteConfirmDialog extends AlertDialog {
 
 
     /**
-     * prepare dialog for use
+     * prepare dialog for use, the message lists how many objects of which type would also be deleted
      *
-     * @param context         context to display dialog in
-     * @param numberOfObjects number of objects which would also be deleted
+     * @param context context to display dialog in
+     * @param impact  the objects which would also be deleted
      */
-    public DatabaseCascadeDeleteConfirmDialog(@NonNull Context context, int numberOfObjects) {
+    public DatabaseCascadeDeleteConfirmDialog(@NonNull Context context, CascadeImpact impact) {
         super(context);
         setTitle(getContext().getResources().getString(R.string.string_confirm_delete));
-        setMessage(getContext().getResources().getString(R.string.text_dialog_db_cascade_deletion_part1) +
-                " " + numberOfObjects + " " + getContext().getResources().getString(R.string.text_dialog_db_cascade_deletion_part2));
+
+        StringBuilder message = new StringBuilder(getContext().getResources().getString(R.string.text_dialog_db_cascade_deletion_part1) +
+                " " + impact.getTotal() + " " + getContext().getResources().getString(R.string.text_dialog_db_cascade_deletion_part2) + "\n");
+        for (String table : impact.getAffectedTables()) {
+            message.append("\n").append(getTableLabel(table)).append(": ").append(impact.getCount(table));
+        }
+        setMessage(message.toString());
         setIcon(android.R.drawable.ic_menu_delete);
         setCancelable(false);
         setButton(BUTTON_NEGATIVE, getContext().getResources().getString(R.string.string_cancel), new OnClickListener() {
@@ -52,4 +59,29 @@ public class DatabaseCascadeDeleteConfirmDialog extends AlertDialog {
         setButton(BUTTON_POSITIVE, getContext().getResources().getString(R.string.string_delete), onClickListener);
     }
 
+    /**
+     * gets the name of the objects stored in the given table, to show it to the user
+     *
+     * @param tableName name of the table, one of the TABLE_XXX constants of {@link DatabaseHelper}
+     * @return the localized name of the objects in the table, the table name if there is none
+     */
+    private String getTableLabel(String tableName) {
+        switch (tableName) {
+            case DatabaseHelper.TABLE_SUBJECT:
+                return getContext().getResources().getString(R.string.string_subjects);
+            case DatabaseHelper.TABLE_HOMEWORK:
+                return getContext().getResources().getString(R.string.string_homework);
+            case DatabaseHelper.TABLE_EXAM:
+                return getContext().getResources().getString(R.string.string_exams);
+            case DatabaseHelper.TABLE_GRADE:
+                return getContext().getResources().getString(R.string.string_grades);
+            case DatabaseHelper.TABLE_LESSON:
+                return getContext().getResources().getString(R.string.string_lessons);
+            case DatabaseHelper.TABLE_WEEKDAY:
+                return getContext().getResources().getString(R.string.string_weekdays);
+            default:
+                return tableName;
+        }
+    }
+
 }
@@ -15,8 +15,10 @@ import android.widget.Spinner;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelper;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.Settings;
@@ -64,24 +66,36 @@ public class ExamDetailsActivity extends AppCompatActivity {
     }
 
     /**
-     * saves changes to database
+     * saves changes to database on the writer thread of {@link DatabaseExecutor} & finishes the activity afterwards
      *
      * @param view the button
      */
     public void onSaveClick(View view) {
         try {
-            if (addMode) {
-                dbHelper.insertIntoDB(readHomeworkFromGUI());
-            } else {
-                dbHelper.updateExamAtId(readHomeworkFromGUI());
-            }
-            finish();
+            final Exam exam = readHomeworkFromGUI();
+            DatabaseExecutor.getInstance().write(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    if (addMode) {
+                        dbHelper.insertIntoDB(exam);
+                    } else {
+                        dbHelper.updateExamAtId(exam);
+                    }
+                    return null;
+                }
+            }, new DatabaseExecutor.Callback<Void>() {
+                @Override
+                public void onResult(Void result) {
+                    finish();
+                }
+            });
         } catch (IllegalArgumentException ignored) {
         }
     }
 
     /**
-     * deletes homework from database & finishes the activity if deletion successful
+     * deletes the exam from database on the writer thread of {@link DatabaseExecutor}
+     * & finishes the activity afterwards if deletion successful
      *
      * @param view the button
      */
@@ -137,11 +151,7 @@ public class ExamDetailsActivity extends AppCompatActivity {
         ArrayList<String> subjectStrings = new ArrayList<>();
         ArrayList<Subject> subjectArrayList = new ArrayList<>();
 
-        int[] subjectIndices = dbHelper.getIndices(DatabaseHelper.TABLE_SUBJECT);
-
-        for (int subjectIndex : subjectIndices) {
-            Subject subject = dbHelper.getSubjectAtId(subjectIndex);
-
+        for (Subject subject : dbHelper.getAllSubjects()) {
             subjectStrings.add(GuiHelper.extractGuiString(subject));
             subjectArrayList.add(subject);
         }
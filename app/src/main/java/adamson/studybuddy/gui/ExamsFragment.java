@@ -14,7 +14,6 @@ import android.view.ViewGroup;
 import android.widget.AdapterView;
 import android.widget.ListView;
 
-import java.util.ArrayList;
 import java.util.Objects;
 
 import adamson.studybuddy.R;
@@ -32,7 +31,6 @@ public class ExamsFragment extends Fragment implements View.OnClickListener {
     @SuppressWarnings({"FieldNever", "unused"})
     private OnFragmentInteractionListener mListener;
     private View view;
-    private Exam[] allExamsInList;
 
     @Override
     public void onCreate(Bundle savedInstanceState) {
@@ -104,34 +102,33 @@ public class ExamsFragment extends Fragment implements View.OnClickListener {
     private void initGUI() {
         GuiHelper.defineFloatingActionButtonOnClickListener(view, R.id.exams_floatingActionButton_add, this);
 
-        allExamsInList = fillListView();
+        fillListView();
         defineExamListOnClick(view);
     }
 
     /**
-     * method to fill the ListView, which shows the {@link Exam}s at the exams screen
-     *
-     * @return returns a array of all {@link Exam}s shown in the listView ordered by their position in the listView
+     * method to fill the ListView, which shows the {@link Exam}s at the exams screen.
+     * the {@link Exam}s are loaded page by page while scrolling
      */
-    private Exam[] fillListView() {
-        DatabaseHelper dbHelper = new DatabaseHelperImpl(view.getContext());
-
-        ArrayList<String> examStrings = new ArrayList<>();
-        ArrayList<Exam> examArrayList = new ArrayList<>();
-        int[] examIndices = dbHelper.getIndices(DatabaseHelper.TABLE_EXAM);
-
-        for (int examIndex : examIndices) {
-            Exam exam = dbHelper.getExamAtId(examIndex);
+    private void fillListView() {
+        final DatabaseHelper dbHelper = DatabaseHelperImpl.getInstance(view.getContext());
 
-            examStrings.add(GuiHelper.extractGuiString(exam, getContext()));
-            examArrayList.add(exam);
-        }
+        new PagedListAdapter<Exam>(view.getContext(), 1) {
+            @Override
+            Exam[] loadPage(Exam after, int pageSize) {
+                return dbHelper.getExamPage(after, pageSize);
+            }
 
-        if (examStrings.size() != 0) {
-            GuiHelper.fillListViewFromArray(view, R.id.exams_listExams, examStrings.toArray(new String[0]));
-        }
+            @Override
+            int getStableId(Exam item) {
+                return item.getId();
+            }
 
-        return examArrayList.toArray(new Exam[0]);
+            @Override
+            String getCellText(Exam item, int cell) {
+                return GuiHelper.extractGuiString(item, view.getContext());
+            }
+        }.attachTo((ListView) view.findViewById(R.id.exams_listExams));
     }
 
     /**
@@ -146,7 +143,7 @@ public class ExamsFragment extends Fragment implements View.OnClickListener {
             @Override
             public void onItemClick(AdapterView<?> adapter, View v, int position, long id) {
                 Intent intent = new Intent(getContext(), ExamDetailsActivity.class);
-                intent.putExtra("ExamID", allExamsInList[position].getId());
+                intent.putExtra("ExamID", (int) id);
                 startActivity(intent);
             }
         });
@@ -8,8 +8,10 @@ import android.view.View;
 import android.widget.Spinner;
 
 import java.util.ArrayList;
+import java.util.concurrent.Callable;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelper;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.objects.Grade;
@@ -45,24 +47,36 @@ public class GradeDetailsActivity extends AppCompatActivity {
     }
 
     /**
-     * saves changes to database
+     * saves changes to database on the writer thread of {@link DatabaseExecutor} & finishes the activity afterwards
      *
      * @param view the button
      */
     public void onSaveClick(View view) {
         try {
-            if (addMode) {
-                dbHelper.insertIntoDB(readGradeFromGUI());
-            } else {
-                dbHelper.updateGradeAtId(readGradeFromGUI());
-            }
-            finish();
+            final Grade grade = readGradeFromGUI();
+            DatabaseExecutor.getInstance().write(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    if (addMode) {
+                        dbHelper.insertIntoDB(grade);
+                    } else {
+                        dbHelper.updateGradeAtId(grade);
+                    }
+                    return null;
+                }
+            }, new DatabaseExecutor.Callback<Void>() {
+                @Override
+                public void onResult(Void result) {
+                    finish();
+                }
+            });
         } catch (IllegalArgumentException ignored) {
         }
     }
 
     /**
-     * deletes grade from database  & finishes the activity if deletion successful
+     * deletes the grade from database on the writer thread of {@link DatabaseExecutor}
+     * & finishes the activity afterwards if deletion successful
      *
      * @param view the button
      */
@@ -116,11 +130,7 @@ public class GradeDetailsActivity extends AppCompatActivity {
         ArrayList<String> subjectStrings = new ArrayList<>();
         ArrayList<Subject> subjectArrayList = new ArrayList<>();
 
-        int[] subjectIndices = dbHelper.getIndices(DatabaseHelper.TABLE_SUBJECT);
-
-        for (int subjectIndex : subjectIndices) {
-            Subject subject = dbHelper.getSubjectAtId(subjectIndex);
-
+        for (Subject subject : dbHelper.getAllSubjects()) {
             subjectStrings.add(GuiHelper.extractGuiString(subject));
             subjectArrayList.add(subject);
         }
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Objects;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.Criteria;
 import adamson.studybuddy.logic.DatabaseHelper;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.objects.Grade;
@@ -34,7 +35,6 @@ import adamson.studybuddy.logic.objects.Subject;
 public class GradesFragment extends Fragment implements View.OnClickListener {
     @SuppressWarnings({"FieldNever", "unused"})
     private OnFragmentInteractionListener mListener;
-    private Grade[] gradesCurrentlyShowing;
 
     @Override
     public void onCreate(Bundle savedInstanceState) {
@@ -137,7 +137,7 @@ public class GradesFragment extends Fragment implements View.OnClickListener {
         subjectList.setOnItemClickListener(new AdapterView.OnItemClickListener() {
             @Override
             public void onItemClick(AdapterView<?> adapter, View v, int position, long id) {
-                gradesCurrentlyShowing = fillGridView(view, allSubjectsInList[position]);
+                fillGridView(view, allSubjectsInList[position]);
             }
         });
     }
@@ -154,12 +154,7 @@ public class GradesFragment extends Fragment implements View.OnClickListener {
             @Override
             public void onItemClick(AdapterView<?> adapter, View v, int position, long id) {
                 Intent intent = new Intent(getContext(), GradeDetailsActivity.class);
-                if (position % 2 == 0) {
-                    intent.putExtra("GradeID", gradesCurrentlyShowing[position / 2].getId());
-
-                } else {
-                    intent.putExtra("GradeID", gradesCurrentlyShowing[(position - 1) / 2].getId());
-                }
+                intent.putExtra("GradeID", ((Grade) adapter.getItemAtPosition(position)).getId());
                 startActivity(intent);
             }
         });
@@ -172,15 +167,11 @@ public class GradesFragment extends Fragment implements View.OnClickListener {
      * @return returns a array of all {@link Subject}s shown in the listView ordered by their position in the listView
      */
     private Subject[] fillSubjectListView(View view) {
-        DatabaseHelper dbHelper = new DatabaseHelperImpl(view.getContext());
+        DatabaseHelper dbHelper = DatabaseHelperImpl.getInstance(view.getContext());
 
         ArrayList<String> subjectStrings = new ArrayList<>();
         ArrayList<Subject> subjectArrayList = new ArrayList<>();
-        int[] subjectIndices = dbHelper.getIndices(DatabaseHelper.TABLE_SUBJECT);
-
-        for (int subjectIndex : subjectIndices) {
-            Subject subject = dbHelper.getSubjectAtId(subjectIndex);
-
+        for (Subject subject : dbHelper.getAllSubjects()) {
             subjectStrings.add(GuiHelper.extractGuiString(subject));
             subjectArrayList.add(subject);
         }
@@ -192,34 +183,34 @@ public class GradesFragment extends Fragment implements View.OnClickListener {
     }
 
     /**
-     * method to fill the GridView, which shows the {@link Grade}s at the grades screen
+     * method to fill the GridView, which shows the {@link Grade}s at the grades screen.
+     * every {@link Grade} takes a row with its name and its grade, the {@link Grade}s are loaded page by page while scrolling
      *
      * @param view    the view of the fragment
      * @param subject the subjects the grades to be shown are in
-     * @return returns a array of all {@link Grade}s shown in the gridView ordered by their position in the gridView
      */
-    private Grade[] fillGridView(View view, Subject subject) {
-        DatabaseHelper dbHelper = new DatabaseHelperImpl(view.getContext());
+    private void fillGridView(View view, final Subject subject) {
+        final DatabaseHelper dbHelper = DatabaseHelperImpl.getInstance(view.getContext());
 
-        ArrayList<String> gridStrings = new ArrayList<>();
-        ArrayList<Grade> gradeArrayList = new ArrayList<>();
-        int[] gradeIndices = dbHelper.getIndices(DatabaseHelper.TABLE_GRADE);
-
-        for (int gradeIndex : gradeIndices) {
-            Grade grade = dbHelper.getGradeAtId(gradeIndex);
-
-            if (grade.getSubject().match(subject)) {
-                gridStrings.add(grade.getName());
-                gridStrings.add("\t" + "\t" + "\t" + "\t" + grade.getGrade());
+        new PagedListAdapter<Grade>(view.getContext(), 2) {
+            @Override
+            Grade[] loadPage(Grade after, int pageSize) {
+                return dbHelper.findGrades(new Criteria().whereSubject(subject.getId()).orderBy(Criteria.Order.NAME).after(after).limit(pageSize));
+            }
 
-                gradeArrayList.add(grade);
+            @Override
+            int getStableId(Grade item) {
+                return item.getId();
             }
-        }
 
-        //if (gridStrings.size() != 0) {
-        GuiHelper.fillGridViewFromArray(view, gridStrings.toArray(new String[0]));
-//        }
-        return gradeArrayList.toArray(new Grade[0]);
+            @Override
+            String getCellText(Grade item, int cell) {
+                if (cell == 0) {
+                    return item.getName();
+                }
+                return "\t" + "\t" + "\t" + "\t" + item.getGrade();
+            }
+        }.attachTo((GridView) view.findViewById(R.id.grades_gradesTable));
     }
 
     /**
@@ -8,7 +8,6 @@ import android.view.View;
 import android.widget.ArrayAdapter;
 import android.widget.Button;
 import android.widget.EditText;
-import android.widget.GridView;
 import android.widget.ListView;
 import android.widget.SeekBar;
 import android.widget.Spinner;
@@ -205,23 +204,6 @@ class GuiHelper {
         listView.setAdapter(adapter);
     }
 
-    /**
-     * method to set the content of a {@link GridView}
-     *
-     * @param view    the view the {@link GridView} is in
-     * @param content The content to fill the {@link GridView} with as string array.
-     *                Fills the grid from left to right, so if you have a {@link GridView}
-     *                with the {@link GridView#getNumColumns()} == 2 the content[] indices 0 & 1
-     *                will form the first row in the grid, 2 & 3 the second row and so on.
-     * @return the updated {@link GridView}
-     */
-    static void fillGridViewFromArray(View view, String[] content) {
-        GridView gridView = view.findViewById(R.id.grades_gradesTable);
-        ArrayAdapter<String> adapter = new ArrayAdapter<>(view.getContext(), android.R.layout.simple_list_item_1, content);
-
-        gridView.setAdapter(adapter);
-    }
-
     /**
      * method to set the content of a {@link Spinner}
      *
@@ -16,8 +16,10 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelper;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.objects.Exam;
@@ -91,8 +93,7 @@ public class HomeFragment extends Fragment {
     private void initGui(View view) {
         setDateToLabels(view);
 
-        fillHomeworkListView(view);
-        fillExamListView(view);
+        fillWeekAgendaListViews(view);
     }
 
     /**
@@ -133,69 +134,129 @@ public class HomeFragment extends Fragment {
     }
 
     /**
-     * method to fill the ListView, which shows the {@link Homework}s at the home screen
+     * method to fill the ListViews, which show the {@link Homework}s and {@link Exam}s at the home screen.
+     * the week agenda is moved to the current week on the writer thread of {@link DatabaseExecutor} first,
+     * then both lists are read from it in parallel
      *
      * @param view the view of the fragment
      */
-    private void fillHomeworkListView(View view) {
-        DatabaseHelper dbHelper = new DatabaseHelperImpl(view.getContext());
+    private void fillWeekAgendaListViews(final View view) {
+        final DatabaseHelper dbHelper = DatabaseHelperImpl.getInstance(view.getContext());
+        final Calendar firstDay = getFirstDayOfThisWeek();
+        final Calendar lastDay = getLastDayOfThisWeek();
 
-        ArrayList<String> homeworkStrings = new ArrayList<>();
-        int[] homeworkIndices = dbHelper.getIndices(DatabaseHelper.TABLE_HOMEWORK);
-
-        for (int homeworkIndex : homeworkIndices) {
-            Homework homework = dbHelper.getHomeworkAtId(homeworkIndex);
-
-            if (isDateInThisWeek(homework.getDeadline()) && !homework.isDone()) {
-                homeworkStrings.add(GuiHelper.extractGuiString(homework, getContext()));
+        DatabaseExecutor.getInstance().write(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                dbHelper.moveWeekAgenda(firstDay, lastDay);
+                return true;
             }
-        }
+        }, new DatabaseExecutor.Callback<Boolean>() {
+            @Override
+            public void onResult(Boolean result) {
+                if (!isAdded()) {
+                    return;
+                }
 
-        if (homeworkStrings.size() != 0) {
-            GuiHelper.fillListViewFromArray(view, R.id.home_listHomework, homeworkStrings.toArray(new String[0]));
-        }
+                fillHomeworkListView(view, dbHelper, firstDay, lastDay);
+                fillExamListView(view, dbHelper, firstDay, lastDay);
+            }
+        });
     }
 
     /**
-     * method to fill the ListView, which shows the {@link Exam}s at the home screen
+     * method to fill the ListView, which shows the {@link Homework}s at the home screen.
+     * only the homework to do in the current week is read from the week agenda, on the reader pool of {@link DatabaseExecutor}
      *
-     * @param view the view of the fragment
+     * @param view     the view of the fragment
+     * @param dbHelper the database to read from
+     * @param firstDay the first day of the current week
+     * @param lastDay  the last day of the current week
      */
-    private void fillExamListView(View view) {
-        DatabaseHelper dbHelper = new DatabaseHelperImpl(view.getContext());
+    private void fillHomeworkListView(final View view, final DatabaseHelper dbHelper, final Calendar firstDay, final Calendar lastDay) {
+        DatabaseExecutor.getInstance().read(new Callable<Homework[]>() {
+            @Override
+            public Homework[] call() {
+                return dbHelper.getWeekAgendaHomework(firstDay, lastDay);
+            }
+        }, new DatabaseExecutor.Callback<Homework[]>() {
+            @Override
+            public void onResult(Homework[] result) {
+                if (result == null || !isAdded()) {
+                    return;
+                }
 
-        ArrayList<String> examStrings = new ArrayList<>();
-        int[] examIndices = dbHelper.getIndices(DatabaseHelper.TABLE_EXAM);
+                ArrayList<String> homeworkStrings = new ArrayList<>();
+                for (Homework homework : result) {
+                    homeworkStrings.add(GuiHelper.extractGuiString(homework, getContext()));
+                }
 
-        for (int examIndex : examIndices) {
-            Exam exam = dbHelper.getExamAtId(examIndex);
+                if (homeworkStrings.size() != 0) {
+                    GuiHelper.fillListViewFromArray(view, R.id.home_listHomework, homeworkStrings.toArray(new String[0]));
+                }
+            }
+        });
+    }
 
-            if (isDateInThisWeek(exam.getDeadline())) {
-                examStrings.add(GuiHelper.extractGuiString(exam, getContext()));
+    /**
+     * method to fill the ListView, which shows the {@link Exam}s at the home screen.
+     * only the exams of the current week are read from the week agenda, on the reader pool of {@link DatabaseExecutor}, in parallel to the homework
+     *
+     * @param view     the view of the fragment
+     * @param dbHelper the database to read from
+     * @param firstDay the first day of the current week
+     * @param lastDay  the last day of the current week
+     */
+    private void fillExamListView(final View view, final DatabaseHelper dbHelper, final Calendar firstDay, final Calendar lastDay) {
+        DatabaseExecutor.getInstance().read(new Callable<Exam[]>() {
+            @Override
+            public Exam[] call() {
+                return dbHelper.getWeekAgendaExams(firstDay, lastDay);
             }
-        }
+        }, new DatabaseExecutor.Callback<Exam[]>() {
+            @Override
+            public void onResult(Exam[] result) {
+                if (result == null || !isAdded()) {
+                    return;
+                }
 
-        if (examStrings.size() != 0) {
-            GuiHelper.fillListViewFromArray(view, R.id.home_listExams, examStrings.toArray(new String[0]));
-        }
+                ArrayList<String> examStrings = new ArrayList<>();
+                for (Exam exam : result) {
+                    examStrings.add(GuiHelper.extractGuiString(exam, getContext()));
+                }
+
+                if (examStrings.size() != 0) {
+                    GuiHelper.fillListViewFromArray(view, R.id.home_listExams, examStrings.toArray(new String[0]));
+                }
+            }
+        });
     }
 
     /**
-     * Indicates whether the given Date is in the current week.
-     * <br><br/>
-     * Note: that this method may not work properly in the last week of this and
-     * the first week of the next year.
+     * gets the Monday of the current week
      * <br><br/>
      * Note: this method uses a week that goes from Monday to Sunday
      *
-     * @param date the date
-     * @return true if the date is in the current week, else false
+     * @return the first day of the current week
      */
-    private boolean isDateInThisWeek(Calendar date) {
+    private Calendar getFirstDayOfThisWeek() {
         Calendar calendar = GregorianCalendar.getInstance();
+        //days since monday, Calendar.SUNDAY is 1 and Calendar.MONDAY is 2
+        calendar.add(Calendar.DAY_OF_MONTH, -((calendar.get(Calendar.DAY_OF_WEEK) + 5) % 7));
+        return calendar;
+    }
 
-        return date.get(Calendar.WEEK_OF_YEAR) == calendar.get(Calendar.WEEK_OF_YEAR) &&
-                date.get(Calendar.YEAR) == calendar.get(Calendar.YEAR);
+    /**
+     * gets the Sunday of the current week
+     * <br><br/>
+     * Note: this method uses a week that goes from Monday to Sunday
+     *
+     * @return the last day of the current week
+     */
+    private Calendar getLastDayOfThisWeek() {
+        Calendar calendar = getFirstDayOfThisWeek();
+        calendar.add(Calendar.DAY_OF_MONTH, 6);
+        return calendar;
     }
 
     /**
@@ -16,8 +16,10 @@ import android.widget.Spinner;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelper;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.Settings;
@@ -66,24 +68,36 @@ public class HomeworkDetailsActivity extends AppCompatActivity {
     }
 
     /**
-     * saves changes to database
+     * saves changes to database on the writer thread of {@link DatabaseExecutor} & finishes the activity afterwards
      *
      * @param view the button
      */
     public void onSaveClick(View view) {
         try {
-            if (addMode) {
-                dbHelper.insertIntoDB(readHomeworkFromGUI());
-            } else {
-                dbHelper.updateHomeworkAtId(readHomeworkFromGUI());
-            }
-            finish();
+            final Homework homework = readHomeworkFromGUI();
+            DatabaseExecutor.getInstance().write(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    if (addMode) {
+                        dbHelper.insertIntoDB(homework);
+                    } else {
+                        dbHelper.updateHomeworkAtId(homework);
+                    }
+                    return null;
+                }
+            }, new DatabaseExecutor.Callback<Void>() {
+                @Override
+                public void onResult(Void result) {
+                    finish();
+                }
+            });
         } catch (IllegalArgumentException ignored) {
         }
     }
 
     /**
-     * deletes homework from database & finishes the activity if deletion successful
+     * deletes the homework from database on the writer thread of {@link DatabaseExecutor}
+     * & finishes the activity afterwards if deletion successful
      *
      * @param view the button
      */
@@ -142,11 +156,7 @@ public class HomeworkDetailsActivity extends AppCompatActivity {
         ArrayList<String> subjectStrings = new ArrayList<>();
         ArrayList<Subject> subjectArrayList = new ArrayList<>();
 
-        int[] subjectIndices = dbHelper.getIndices(DatabaseHelper.TABLE_SUBJECT);
-
-        for (int subjectIndex : subjectIndices) {
-            Subject subject = dbHelper.getSubjectAtId(subjectIndex);
-
+        for (Subject subject : dbHelper.getAllSubjects()) {
             subjectStrings.add(GuiHelper.extractGuiString(subject));
             subjectArrayList.add(subject);
         }
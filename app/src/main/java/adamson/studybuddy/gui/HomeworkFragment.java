@@ -14,10 +14,10 @@ import android.view.ViewGroup;
 import android.widget.AdapterView;
 import android.widget.ListView;
 
-import java.util.ArrayList;
 import java.util.Objects;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.Criteria;
 import adamson.studybuddy.logic.DatabaseHelper;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.objects.Homework;
@@ -33,7 +33,6 @@ public class HomeworkFragment extends Fragment implements View.OnClickListener {
     private OnFragmentInteractionListener mListener;
     private View view;
     private boolean tabIsToDo;
-    private Homework[] allHomeworkInList;
 
 
     @Override
@@ -80,11 +79,11 @@ public class HomeworkFragment extends Fragment implements View.OnClickListener {
         switch (v.getId()) {
             case R.id.homework_buttonToDo:
                 tabIsToDo = true;
-                allHomeworkInList = changeTab();
+                changeTab();
                 break;
             case R.id.homework_buttonDone:
                 tabIsToDo = false;
-                allHomeworkInList = changeTab();
+                changeTab();
                 break;
             case R.id.homework_floatingActionButton_add:
                 startActivity(new Intent(getContext(), HomeworkDetailsActivity.class));
@@ -118,56 +117,48 @@ public class HomeworkFragment extends Fragment implements View.OnClickListener {
         GuiHelper.defineButtonOnClickListener(view, R.id.homework_buttonDone, this);
         GuiHelper.defineFloatingActionButtonOnClickListener(view, R.id.homework_floatingActionButton_add, this);
 
-        allHomeworkInList = changeTab();
+        changeTab();
         defineHomeworkListOnClick(view);
     }
 
     /**
      * method to change between the to-do tab and the done tab
-     *
-     * @return returns a array of all {@link Homework}s shown in the listView ordered by their position in the listView
      */
-    private Homework[] changeTab() {
+    private void changeTab() {
         if (tabIsToDo) {
             GuiHelper.setColorToButton(view, R.id.homework_buttonToDo, R.color.button_active);
             GuiHelper.setColorToButton(view, R.id.homework_buttonDone, R.color.button_passive);
-            return fillListView();
         } else {
             GuiHelper.setColorToButton(view, R.id.homework_buttonToDo, R.color.button_passive);
             GuiHelper.setColorToButton(view, R.id.homework_buttonDone, R.color.button_active);
-            return fillListView();
         }
+        fillListView();
     }
 
     /**
-     * method to fill the ListView, which shows the {@link Homework}s at the homework screen, depending on the activated tab
-     *
-     * @return returns a array of all {@link Homework}s shown in the listView ordered by their position in the listView
+     * method to fill the ListView, which shows the {@link Homework}s at the homework screen, depending on the activated tab.
+     * the {@link Homework}s are loaded page by page while scrolling
      */
-    private Homework[] fillListView() {
-        DatabaseHelper dbHelper = new DatabaseHelperImpl(view.getContext());
-
-        ArrayList<String> homeworkStrings = new ArrayList<>();
-        ArrayList<Homework> homeworkArrayList = new ArrayList<>();
-        int[] homeworkIndices = dbHelper.getIndices(DatabaseHelper.TABLE_HOMEWORK);
-
-        for (int homeworkIndex : homeworkIndices) {
-            Homework homework = dbHelper.getHomeworkAtId(homeworkIndex);
-
-            if (tabIsToDo && !homework.isDone()) {
-                homeworkStrings.add(GuiHelper.extractGuiString(homework, getContext()));
-                homeworkArrayList.add(homework);
-            } else if (!tabIsToDo && homework.isDone()) {
-                homeworkStrings.add(GuiHelper.extractGuiString(homework, getContext()));
-                homeworkArrayList.add(homework);
+    private void fillListView() {
+        final DatabaseHelper dbHelper = DatabaseHelperImpl.getInstance(view.getContext());
+        final boolean done = !tabIsToDo;
+
+        new PagedListAdapter<Homework>(view.getContext(), 1) {
+            @Override
+            Homework[] loadPage(Homework after, int pageSize) {
+                return dbHelper.findHomework(new Criteria().whereDone(done).orderBy(Criteria.Order.DEADLINE).after(after).limit(pageSize));
             }
-        }
 
-        //  if (homeworkStrings.size() != 0) {
-        GuiHelper.fillListViewFromArray(view, R.id.homework_listHomework, homeworkStrings.toArray(new String[0]));
-        //}
+            @Override
+            int getStableId(Homework item) {
+                return item.getId();
+            }
 
-        return homeworkArrayList.toArray(new Homework[0]);
+            @Override
+            String getCellText(Homework item, int cell) {
+                return GuiHelper.extractGuiString(item, view.getContext());
+            }
+        }.attachTo((ListView) view.findViewById(R.id.homework_listHomework));
     }
 
     /**
@@ -183,7 +174,7 @@ public class HomeworkFragment extends Fragment implements View.OnClickListener {
             @Override
             public void onItemClick(AdapterView<?> adapter, View v, int position, long id) {
                 Intent intent = new Intent(getContext(), HomeworkDetailsActivity.class);
-                intent.putExtra("HomeworkID", allHomeworkInList[position].getId());
+                intent.putExtra("HomeworkID", (int) id);
                 startActivity(intent);
             }
         });
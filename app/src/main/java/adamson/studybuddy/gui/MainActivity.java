@@ -6,6 +6,7 @@ import android.net.Uri;
 import android.os.Bundle;
 import android.support.annotation.NonNull;
 import android.support.design.widget.NavigationView;
+import android.support.design.widget.Snackbar;
 import android.support.v4.app.Fragment;
 import android.support.v4.app.FragmentManager;
 import android.support.v4.app.FragmentTransaction;
@@ -16,8 +17,10 @@ import android.support.v7.app.AppCompatActivity;
 import android.support.v7.widget.Toolbar;
 import android.util.Log;
 import android.view.MenuItem;
+import android.view.View;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 
 public class MainActivity extends AppCompatActivity implements
@@ -43,8 +46,13 @@ public class MainActivity extends AppCompatActivity implements
         initDrawer();
         fragmentManager = this.getSupportFragmentManager();
 
+        if (savedInstanceState == null) {
+            // deletes of a former start can't be undone anymore
+            DatabaseHelperImpl.getInstance(this).purgeDeleted(Long.MAX_VALUE);
+        }
+
         //----TESTING----
-        DatabaseHelperImpl testHelper = new DatabaseHelperImpl(this);
+        DatabaseHelperImpl testHelper = DatabaseHelperImpl.getInstance(this);
 //        testHelper.resetDatabase();
         testHelper.fillDatabaseWithExamples();
 
@@ -54,11 +62,12 @@ public class MainActivity extends AppCompatActivity implements
 
     /**
      * Method called when starting or resuming the activity to reload the fragment to take care of may occurred changes.
-     * Method also preselects the last loaded Fragment at app start
+     * Method also preselects the last loaded Fragment at app start and offers to undo the last cascading delete
      */
     @Override
     protected void onResumeFragments() {
         super.onResumeFragments();
+        showUndoableDelete();
         if (loadedFragment != null) {
             reloadFragment();
             FragmentTransaction ft = fragmentManager.beginTransaction();
@@ -154,7 +163,8 @@ public class MainActivity extends AppCompatActivity implements
     }
 
     /**
-     * calls {@link AppCompatActivity#onDestroy()} and saves loaded fragment's menu item id into {@link SharedPreferences}
+     * calls {@link AppCompatActivity#onDestroy()}, saves loaded fragment's menu item id into {@link SharedPreferences}
+     * and closes the shared database connection if the app is finishing
      */
     @Override
     protected void onDestroy() {
@@ -165,6 +175,10 @@ public class MainActivity extends AppCompatActivity implements
             editor.putInt("lastFragment", reloadFragment());
             editor.apply();
         }
+
+        if (isFinishing()) {
+            DatabaseHelperImpl.closeDatabase();
+        }
     }
 
 
@@ -189,6 +203,41 @@ public class MainActivity extends AppCompatActivity implements
         navigationView.setNavigationItemSelectedListener(this);
     }
 
+    /**
+     * shows a {@link Snackbar} to undo the last cascading delete, if there is one.
+     * the tombstoned rows are purged as soon as the {@link Snackbar} is dismissed without undo
+     */
+    private void showUndoableDelete() {
+        final long deletedAt = DatabaseHelperImpl.takeUndoableDelete();
+        if (deletedAt == 0) {
+            return;
+        }
+
+        Snackbar.make(findViewById(R.id.containerMain), R.string.string_deleted, Snackbar.LENGTH_LONG)
+                .setAction(R.string.string_undo, new View.OnClickListener() {
+                    @Override
+                    public void onClick(View view) {
+                        DatabaseHelperImpl.getInstance(MainActivity.this).undoDelete(deletedAt, new DatabaseExecutor.Callback<Integer>() {
+                            @Override
+                            public void onResult(Integer result) {
+                                if (!isFinishing()) {
+                                    onResumeFragments();
+                                }
+                            }
+                        });
+                    }
+                })
+                .addCallback(new Snackbar.Callback() {
+                    @Override
+                    public void onDismissed(Snackbar snackbar, int event) {
+                        if (event != DISMISS_EVENT_ACTION) {
+                            DatabaseHelperImpl.getInstance(MainActivity.this).purgeDeleted(deletedAt);
+                        }
+                    }
+                })
+                .show();
+    }
+
     /**
      * method to reload the loaded fragment
      *
@@ -0,0 +1,173 @@
+package adamson.studybuddy.gui;
+
+import android.content.Context;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.AbsListView;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import adamson.studybuddy.logic.DatabaseExecutor;
+
+/**
+ * adapter for a {@link android.widget.ListView} or {@link android.widget.GridView} which loads its objects page by page
+ * from the database while the user scrolls, instead of reading all of them before anything is shown.
+ * the pages are read on the reader pool of {@link DatabaseExecutor}
+ * <br> </br>
+ * <b>Usage:</b>
+ * <br> </br>
+ * - implement {@link PagedListAdapter#loadPage(Object, int)}, {@link PagedListAdapter#getStableId(Object)}
+ * and {@link PagedListAdapter#getCellText(Object, int)}
+ * <br> </br>
+ * - call {@link PagedListAdapter#attachTo(AbsListView)}
+ * <br> </br>
+ * - use {@link android.widget.AdapterView#getItemAtPosition(int)} in click handlers to get the clicked object
+ *
+ * @param <T> type of the shown objects
+ */
+abstract class PagedListAdapter<T> extends BaseAdapter implements AbsListView.OnScrollListener {
+    private static final int PAGE_SIZE = 50;
+
+    private final Context context;
+    private final int cellsPerItem;
+    private final ArrayList<T> items = new ArrayList<>();
+    private boolean loading = false;
+    private boolean lastPageLoaded = false;
+
+    /**
+     * c'tor for the PagedListAdapter
+     *
+     * @param context      context of the list
+     * @param cellsPerItem count of cells every object takes, e.g. 2 for a {@link android.widget.GridView} with a name and a value column
+     */
+    PagedListAdapter(Context context, int cellsPerItem) {
+        this.context = context;
+        this.cellsPerItem = cellsPerItem;
+    }
+
+    /**
+     * loads the next page of objects from the database, called on a reader thread
+     *
+     * @param after    the last loaded object, null for the first page
+     * @param pageSize maximum count of objects to load
+     * @return the objects of the page, less than pageSize if it is the last one
+     */
+    abstract T[] loadPage(T after, int pageSize);
+
+    /**
+     * gets the database id of an object
+     *
+     * @param item the object
+     * @return the id of the object
+     */
+    abstract int getStableId(T item);
+
+    /**
+     * gets the text to show in a cell of an object
+     *
+     * @param item the object
+     * @param cell index of the cell of the object, from 0 to cellsPerItem - 1
+     * @return the text of the cell
+     */
+    abstract String getCellText(T item, int cell);
+
+    /**
+     * sets the adapter to the given list and starts loading the first page
+     *
+     * @param listView the list to show the objects in
+     */
+    void attachTo(AbsListView listView) {
+        listView.setAdapter(this);
+        listView.setOnScrollListener(this);
+        loadNextPage();
+    }
+
+    @Override
+    public int getCount() {
+        return items.size() * cellsPerItem;
+    }
+
+    @Override
+    public T getItem(int position) {
+        return items.get(position / cellsPerItem);
+    }
+
+    /**
+     * gets a stable id for the cell at the given position, which is the database id of its object
+     * if every object takes only one cell
+     *
+     * @param position position of the cell
+     * @return the stable id of the cell
+     */
+    @Override
+    public long getItemId(int position) {
+        return (long) getStableId(getItem(position)) * cellsPerItem + position % cellsPerItem;
+    }
+
+    @Override
+    public boolean hasStableIds() {
+        return true;
+    }
+
+    @Override
+    public View getView(int position, View convertView, ViewGroup parent) {
+        TextView textView = (TextView) convertView;
+        if (textView == null) {
+            textView = (TextView) LayoutInflater.from(context).inflate(android.R.layout.simple_list_item_1, parent, false);
+        }
+        textView.setText(getCellText(getItem(position), position % cellsPerItem));
+        return textView;
+    }
+
+    @Override
+    public void onScrollStateChanged(AbsListView view, int scrollState) {
+    }
+
+    /**
+     * loads the next page as soon as the user scrolled into the second half of the last loaded page
+     */
+    @Override
+    public void onScroll(AbsListView view, int firstVisibleItem, int visibleItemCount, int totalItemCount) {
+        if (firstVisibleItem + visibleItemCount >= totalItemCount - PAGE_SIZE * cellsPerItem / 2) {
+            loadNextPage();
+        }
+    }
+
+    //region private methods
+
+    /**
+     * loads the page after the last loaded object, if it isn't loading already and there are more objects
+     */
+    private void loadNextPage() {
+        if (loading || lastPageLoaded) {
+            return;
+        }
+        loading = true;
+
+        final T after = items.isEmpty() ? null : items.get(items.size() - 1);
+        DatabaseExecutor.getInstance().read(new Callable<T[]>() {
+            @Override
+            public T[] call() {
+                return loadPage(after, PAGE_SIZE);
+            }
+        }, new DatabaseExecutor.Callback<T[]>() {
+            @Override
+            public void onResult(T[] result) {
+                loading = false;
+                if (result == null || result.length < PAGE_SIZE) {
+                    lastPageLoaded = true;
+                }
+                if (result != null && result.length > 0) {
+                    Collections.addAll(items, result);
+                    notifyDataSetChanged();
+                }
+            }
+        });
+    }
+    //endregion
+}
@@ -24,13 +24,15 @@ import android.widget.TableLayout;
 import android.widget.TableRow;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.GregorianCalendar;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 import adamson.studybuddy.R;
-import adamson.studybuddy.logic.DatabaseHelper;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
+import adamson.studybuddy.logic.LessonGrid;
+import adamson.studybuddy.logic.ScheduleUnitOfWork;
 import adamson.studybuddy.logic.Settings;
 import adamson.studybuddy.logic.objects.Lesson;
 import adamson.studybuddy.logic.objects.Period;
@@ -51,6 +53,7 @@ public class ScheduleFragment extends Fragment {
 
     private TableLayout table;
     private Schedule schedule;
+    private LessonGrid grid;
     private TableRow[] rows;
     private Button[][] buttons;
 
@@ -67,6 +70,7 @@ public class ScheduleFragment extends Fragment {
     public View onCreateView(@NonNull LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
         rootView = inflater.inflate(R.layout.fragment_schedule, container, false);
 
+        updateValues();
         initGui();
         return rootView;
 
@@ -110,8 +114,6 @@ public class ScheduleFragment extends Fragment {
      * method to initialise components of the GUI
      */
     private void initGui() {
-        updateValues();
-
         rows = getScheduleRowsInArray();
         initVisibilityForSchedule();
 
@@ -123,12 +125,16 @@ public class ScheduleFragment extends Fragment {
     }
 
     /**
-     * a little method to refresh the local variables: {@link ScheduleFragment#databaseHelper}, {@link ScheduleFragment#table}, {@link ScheduleFragment#schedule}
+     * a little method to load the local variables: {@link ScheduleFragment#databaseHelper}, {@link ScheduleFragment#table}, {@link ScheduleFragment#schedule},
+     * {@link ScheduleFragment#grid}
+     * <br> </br>
+     * Note: it runs once for the view, later changes are applied to {@link ScheduleFragment#schedule} and {@link ScheduleFragment#grid} instead of reloading them
      */
     private void updateValues() {
-        databaseHelper = new DatabaseHelperImpl(getContext());
+        databaseHelper = DatabaseHelperImpl.getInstance(getContext());
         table = rootView.findViewById(R.id.schedule_table);
         schedule = databaseHelper.getScheduleAtId(0);
+        grid = new LessonGrid(schedule, databaseHelper.getAllPeriods());
     }
 
     /**
@@ -231,32 +237,14 @@ public class ScheduleFragment extends Fragment {
      * loads the {@link Subject} at their specific slot to the given Button
      */
     private void loadSubjectButtons() {
-        for (int i = 0; i < schedule.getDays().length; i++) {
-            for (Lesson lesson : schedule.getDays()[i].getLessons()) {
-                int columnIdx = 2;
-
-                switch (schedule.getDays()[i].getName()) {
-                    case Weekday.MONDAY:
-                        columnIdx = 2;
-                        break;
-                    case Weekday.TUESDAY:
-                        columnIdx = 3;
-                        break;
-                    case Weekday.WEDNESDAY:
-                        columnIdx = 4;
-                        break;
-                    case Weekday.THURSDAY:
-                        columnIdx = 5;
-                        break;
-                    case Weekday.FRIDAY:
-                        columnIdx = 6;
-                        break;
-                    case Weekday.SATURDAY:
-                        columnIdx = 7;
-                        break;
+        for (int day = 0; day < LessonGrid.WEEKDAYS.length && day + 2 < buttons.length; day++) {
+            for (int schoolHourNo = 1; schoolHourNo < buttons[day + 2].length; schoolHourNo++) {
+                Lesson lesson = grid.getLesson(LessonGrid.WEEKDAYS[day], schoolHourNo);
+                if (lesson == null) {
+                    continue;
                 }
 
-                Button currButton = buttons[columnIdx][lesson.getPeriod().getSchoolHourNo()];
+                Button currButton = buttons[day + 2][schoolHourNo];
 
                 currButton.setText(lesson.getSubject().getName());
                 currButton.getBackground().setColorFilter(Color.parseColor(lesson.getSubject().getColor()), PorterDuff.Mode.MULTIPLY);
@@ -268,30 +256,13 @@ public class ScheduleFragment extends Fragment {
      * loads the {@link Period} at their specific slot to the given Button
      */
     private void initPeriodButtons() {
-        Period[] periods = getAllPeriodsInDb();
-        for (Period p : periods) {
-            buttons[1][p.getSchoolHourNo()].setText(GuiHelper.extractGuiString(p.getStartTime(), true, getContext()) + " - " +
-                    GuiHelper.extractGuiString(p.getEndTime(), true, getContext()));
-        }
-    }
-
-    /**
-     * method to query all {@link Period}s from the SchoolPlanner's Database
-     *
-     * @return all {@link Period}s as Array
-     */
-    private Period[] getAllPeriodsInDb() {
-        ArrayList<Period> periodArrayList = new ArrayList<>();
-
-        int[] periodIndices = databaseHelper.getIndices(DatabaseHelper.TABLE_PERIOD);
-
-        for (int periodIndex : periodIndices) {
-            Period period = databaseHelper.getPeriodAtId(periodIndex);
-
-            periodArrayList.add(period);
+        for (int schoolHourNo = 1; schoolHourNo < buttons[1].length; schoolHourNo++) {
+            Period p = grid.getPeriod(schoolHourNo);
+            if (p != null) {
+                buttons[1][schoolHourNo].setText(GuiHelper.extractGuiString(p.getStartTime(), true, getContext()) + " - " +
+                        GuiHelper.extractGuiString(p.getEndTime(), true, getContext()));
+            }
         }
-
-        return periodArrayList.toArray(new Period[0]);
     }
     //endregion
 
@@ -353,29 +324,48 @@ public class ScheduleFragment extends Fragment {
 
         /**
          * method tho handle clicks at the {@link InsertPeriodTimesDialog} shown by {@link OnScheduleButtonClickListener#showTimeAlertDialog()}
-         * by updating the {@link Period} with the entered times or inserting a new one, if it isn't existing
+         * by updating the {@link Period} with the entered times or inserting a new one, if it isn't existing.
+         * the {@link Period} is written on the writer thread of {@link DatabaseExecutor} and put into the grid afterwards
          *
          * @param timesDialog the {@link InsertPeriodTimesDialog}
          */
         private void handleOnPositiveButtonInTimeDialogClick(InsertPeriodTimesDialog timesDialog) {
+            final GregorianCalendar startTime;
+            final GregorianCalendar endTime;
             try {
-                try {
-                    Period period = databaseHelper.getPeriodAtIdOrThrow(y);
-
-                    databaseHelper.updatePeriodAtId(
-                            new Period(period.getId(), period.getSchoolHourNo(), timesDialog.getStartTime(), timesDialog.getEndTime()));
-
-                    timeHasChanged = true;
-                } catch (NoSuchFieldException e) {
-                    databaseHelper.insertIntoDB(
-                            new Period(y, y, timesDialog.getStartTime(), timesDialog.getEndTime()));
-
-                    timeHasChanged = true;
-                }
+                startTime = timesDialog.getStartTime();
+                endTime = timesDialog.getEndTime();
+                timeHasChanged = true;
             } catch (IllegalArgumentException ex) {
                 timeHasChanged = false;
+                return;
             }
-            initGui();
+
+            DatabaseExecutor.getInstance().write(new Callable<Period>() {
+                @Override
+                public Period call() {
+                    Period period = databaseHelper.findPeriod(y);
+
+                    if (period != null) {
+                        period = new Period(period.getId(), period.getSchoolHourNo(), startTime, endTime);
+                        databaseHelper.updatePeriodAtId(period);
+                    } else {
+                        period = new Period(y, y, startTime, endTime);
+                        if (databaseHelper.insertIntoDB(period) <= 0) {
+                            return null;
+                        }
+                    }
+                    return period;
+                }
+            }, new DatabaseExecutor.Callback<Period>() {
+                @Override
+                public void onResult(Period period) {
+                    if (period != null && isAdded()) {
+                        grid.putPeriod(period);
+                        initGui();
+                    }
+                }
+            });
         }
 
         /**
@@ -401,84 +391,64 @@ public class ScheduleFragment extends Fragment {
         /**
          * method to handle clicks at the SubjectAlertDialog shown by {@link OnScheduleButtonClickListener#showSubjectAlertDialog()}
          * by deleting the {@link Lesson} from the database if "none" was selected as {@link Subject} or
-         * inserting or updating the clicked Lesson with the selected {@link Subject}
+         * inserting or updating the clicked Lesson with the selected {@link Subject}.
+         * the changes are committed on the writer thread of {@link DatabaseExecutor} and applied to the grid afterwards
          *
          * @param dialog the SubjectAlertDialog
          * @param which  the clicked Subject in the displayed list
          */
         private void handleOnSubjectInSubjectDialogClick(DialogInterface dialog, int which) {
-            Weekday weekday = schedule.getDay(getClickedWeekdayName());
+            final ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
 
             if (which == 0) {
-                try {
-                    Lesson lesson = databaseHelper.getLessonOrThrowAtDate(weekday, getAllPeriodsInDb()[y - 1]);
-                    databaseHelper.deleteLessonAtId(lesson.getId());
-                } catch (NoSuchFieldException | ArrayIndexOutOfBoundsException ignore) {
+                Lesson lesson = grid.getLesson(getClickedWeekdayName(), y);
+                if (lesson != null) {
+                    work.removeLesson(lesson);
+                } else {
                     dialog.dismiss();
                 }
+            } else if (grid.getPeriod(y) == null) {
+                handleMissingPeriod();
             } else {
-                try {
-                    insertOrUpdateLesson(getAllSubjectsInDb()[which - 1]);
-                } catch (NullPointerException ex) {
-                    insertNewWeekdayInDb();
-                    insertOrUpdateLesson(getAllSubjectsInDb()[which - 1]);
-                } catch (ArrayIndexOutOfBoundsException ex) {
-                    handleMissingPeriod();
-                }
+                putClickedLesson(work, getAllSubjectsInDb()[which - 1]);
             }
-            initGui();
+
+            DatabaseExecutor.getInstance().write(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return databaseHelper.commit(work);
+                }
+            }, new DatabaseExecutor.Callback<Boolean>() {
+                @Override
+                public void onResult(Boolean committed) {
+                    if (committed != null && committed && isAdded()) {
+                        schedule = work.getCommittedSchedule();
+                        grid.apply(work);
+                        initGui();
+                    }
+                }
+            });
         }
 
         /**
-         * inserts the clicked {@link Lesson} with the given {@link Subject} in db
+         * puts the clicked {@link Lesson} with the given {@link Subject} into the unit of work,
+         * together with its {@link Weekday} if that isn't in the {@link Schedule} yet.
+         * an occupied cell keeps the id of its {@link Lesson}, so it is updated instead of conflicting with it
          *
+         * @param work    the unit of work of the click
          * @param subject the {@link Subject} in clicked {@link Lesson}
-         * @throws ArrayIndexOutOfBoundsException if the {@link Weekday} or the {@link Period} the {@link Lesson} is on isn't initialised
          */
-        private void insertOrUpdateLesson(Subject subject) throws ArrayIndexOutOfBoundsException {
+        private void putClickedLesson(ScheduleUnitOfWork work, Subject subject) {
+            Period period = grid.getPeriod(y);
             Weekday weekday = schedule.getDay(getClickedWeekdayName());
 
-            try {
-                Lesson lesson = databaseHelper.getLessonOrThrowAtDate(weekday, getAllPeriodsInDb()[y - 1]);
-                Lesson newLesson = new Lesson(lesson.getId(), subject, lesson.getPeriod());
-
-                databaseHelper.updateLessonAtId(newLesson);
-
-            } catch (NoSuchFieldException e) {
-                Lesson newLesson = new Lesson(-1, subject, getAllPeriodsInDb()[y - 1]);
-
-                int newLessonId = databaseHelper.insertIntoDB(newLesson);
-                newLesson = new Lesson(newLessonId, newLesson.getSubject(), newLesson.getPeriod());
-
-                ArrayList<Lesson> lessons = new ArrayList<>(Arrays.asList(weekday.getLessons()));
-                lessons.add(newLesson);
-                databaseHelper.updateWeekdayAtId(new Weekday(
-                        weekday.getId(),
-                        weekday.getName(),
-                        lessons.toArray(new Lesson[0])
-                ));
+            if (weekday == null) {
+                weekday = new Weekday(-1, getClickedWeekdayName(), new Lesson[0]);
+                work.putWeekday(weekday);
             }
-        }
-
-        /**
-         * inserts clicked {@link Weekday} in database
-         */
-        private void insertNewWeekdayInDb() {
-            Weekday newWeekday = new Weekday(-1, getClickedWeekdayName(), new Lesson[0]);
-
-            int newWeekdayID = databaseHelper.insertIntoDB(newWeekday);
-            newWeekday = new Weekday(newWeekdayID, newWeekday.getName(), newWeekday.getLessons());
-
-            ArrayList<Weekday> weekdays = new ArrayList<>(Arrays.asList(schedule.getDays()));
-            weekdays.add(newWeekday);
 
-            databaseHelper.updateScheduleAtId(new Schedule(
-                    schedule.getId(),
-                    schedule.getName(),
-                    weekdays.toArray(new Weekday[0])
-            ));
-
-            updateValues();
+            Lesson lesson = grid.getLesson(getClickedWeekdayName(), y);
+            work.putLesson(weekday, new Lesson(lesson == null ? -1 : lesson.getId(), subject, period));
         }
 
         /**
@@ -530,17 +500,7 @@ public class ScheduleFragment extends Fragment {
          * @return all {@link Subject}s as Array
          */
         private Subject[] getAllSubjectsInDb() {
-            ArrayList<Subject> subjectArrayList = new ArrayList<>();
-
-            int[] subjectIndices = databaseHelper.getIndices(DatabaseHelper.TABLE_SUBJECT);
-
-            for (int subjectIndex : subjectIndices) {
-                Subject subject = databaseHelper.getSubjectAtId(subjectIndex);
-
-                subjectArrayList.add(subject);
-            }
-
-            return subjectArrayList.toArray(new Subject[0]);
+            return databaseHelper.getAllSubjects();
         }
 
         /**
@@ -10,6 +10,7 @@ import android.support.v7.widget.Toolbar;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.Button;
 import android.widget.SeekBar;
 import android.widget.Spinner;
 import android.widget.Toast;
@@ -17,7 +18,7 @@ import android.widget.Toast;
 import java.util.Objects;
 
 import adamson.studybuddy.R;
-import adamson.studybuddy.logic.DatabaseHelper;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.Settings;
 
@@ -81,12 +82,7 @@ public class SettingsFragment extends Fragment implements View.OnClickListener {
                 Toast.makeText(getContext(), R.string.string_settings_saved, Toast.LENGTH_SHORT).show();
                 break;
             case R.id.settings_buttonResetDB:
-                Toast.makeText(getContext(), "dodo", Toast.LENGTH_SHORT).show();
-                System.out.println("pressed");
-                DatabaseHelper dbHelper = new DatabaseHelperImpl(getContext());
-                System.out.println(dbHelper.toString());
-                dbHelper.resetDatabase();
-                System.out.println(dbHelper.toString());
+                resetDatabase();
                 break;
         }
     }
@@ -115,9 +111,40 @@ public class SettingsFragment extends Fragment implements View.OnClickListener {
         initSeekBar();
         initDateFormatSpinner();
         GuiHelper.defineButtonOnClickListener(view, R.id.settings_buttonSave, this);
+        GuiHelper.defineButtonOnClickListener(view, R.id.settings_buttonResetDB, this);
 
     }
 
+    /**
+     * resets the database on the writer thread of {@link DatabaseExecutor}, the reset button shows the progress
+     * and can't be pressed again until the reset finished
+     */
+    private void resetDatabase() {
+        final Button resetButton = view.findViewById(R.id.settings_buttonResetDB);
+        resetButton.setEnabled(false);
+
+        DatabaseHelperImpl.getInstance(view.getContext()).resetDatabase(new DatabaseExecutor.ProgressCallback() {
+            @Override
+            public void onProgress(int done, int total) {
+                if (isAdded()) {
+                    resetButton.setText(getString(R.string.string_resetting_database, done, total));
+                }
+            }
+        }, new DatabaseExecutor.Callback<Boolean>() {
+            @Override
+            public void onResult(Boolean result) {
+                if (!isAdded()) {
+                    return;
+                }
+
+                resetButton.setText(R.string.string_reset_database);
+                resetButton.setEnabled(true);
+                Toast.makeText(getContext(), result != null && result ? R.string.string_database_reset : R.string.string_error,
+                        Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
     /**
      * initialises the {@link SeekBar} which displays the {@link Settings#periodsAtDay}
      */
@@ -16,8 +16,10 @@ import com.flask.colorpicker.builder.ColorPickerClickListener;
 import com.flask.colorpicker.builder.ColorPickerDialogBuilder;
 
 import java.util.ArrayList;
+import java.util.concurrent.Callable;
 
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelper;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.objects.Subject;
@@ -80,24 +82,36 @@ public class SubjectDetailsActivity extends AppCompatActivity {
     }
 
     /**
-     * saves changes to database
+     * saves changes to database on the writer thread of {@link DatabaseExecutor} & finishes the activity afterwards
      *
      * @param view the button
      */
     public void onSaveClick(View view) {
         try {
-            if (addMode) {
-                dbHelper.insertIntoDB(readSubjectFromGUI());
-            } else {
-                dbHelper.updateSubjectAtId(readSubjectFromGUI());
-            }
-            finish();
+            final Subject subject = readSubjectFromGUI();
+            DatabaseExecutor.getInstance().write(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    if (addMode) {
+                        dbHelper.insertIntoDB(subject);
+                    } else {
+                        dbHelper.updateSubjectAtId(subject);
+                    }
+                    return null;
+                }
+            }, new DatabaseExecutor.Callback<Void>() {
+                @Override
+                public void onResult(Void result) {
+                    finish();
+                }
+            });
         } catch (IllegalArgumentException ignored) {
         }
     }
 
     /**
-     * deletes grade from database & finishes the activity if deletion successful
+     * deletes the subject from database on the writer thread of {@link DatabaseExecutor}, the affected objects are read on the reader pool before
+     * & finishes the activity afterwards if deletion successful
      *
      * @param view the button
      */
@@ -155,11 +169,7 @@ public class SubjectDetailsActivity extends AppCompatActivity {
         ArrayList<String> teacherStrings = new ArrayList<>();
         ArrayList<Teacher> teacherArrayList = new ArrayList<>();
 
-        int[] teacherIndices = dbHelper.getIndices(DatabaseHelper.TABLE_TEACHER);
-
-        for (int teacherIndex : teacherIndices) {
-            Teacher teacher = dbHelper.getTeacherAtId(teacherIndex);
-
+        for (Teacher teacher : dbHelper.getAllTeachers()) {
             teacherStrings.add(GuiHelper.extractGuiString(teacher, getBaseContext()));
             teacherArrayList.add(teacher);
         }
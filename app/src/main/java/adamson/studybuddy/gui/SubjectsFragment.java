@@ -116,15 +116,11 @@ public class SubjectsFragment extends Fragment implements View.OnClickListener {
      * @return returns a array of all {@link Subject}s shown in the listView ordered by their position in the listView
      */
     private Subject[] fillListView(View view) {
-        DatabaseHelper dbHelper = new DatabaseHelperImpl(view.getContext());
+        DatabaseHelper dbHelper = DatabaseHelperImpl.getInstance(view.getContext());
 
         ArrayList<String> subjectStrings = new ArrayList<>();
         ArrayList<Subject> subjectArrayList = new ArrayList<>();
-        int[] subjectIndices = dbHelper.getIndices(DatabaseHelper.TABLE_SUBJECT);
-
-        for (int subjectIndex : subjectIndices) {
-            Subject subject = dbHelper.getSubjectAtId(subjectIndex);
-
+        for (Subject subject : dbHelper.getAllSubjects()) {
             subjectStrings.add(GuiHelper.extractGuiString(subject));
             subjectArrayList.add(subject);
         }
@@ -7,7 +7,10 @@ import android.support.v7.app.AppCompatActivity;
 import android.view.View;
 import android.widget.Spinner;
 
+import java.util.concurrent.Callable;
+
 import adamson.studybuddy.R;
+import adamson.studybuddy.logic.DatabaseExecutor;
 import adamson.studybuddy.logic.DatabaseHelper;
 import adamson.studybuddy.logic.DatabaseHelperImpl;
 import adamson.studybuddy.logic.objects.Teacher;
@@ -42,24 +45,36 @@ public class TeacherDetailsActivity extends AppCompatActivity {
     }
 
     /**
-     * saves changes to database
+     * saves changes to database on the writer thread of {@link DatabaseExecutor} & finishes the activity afterwards
      *
      * @param view the button
      */
     public void onSaveClick(View view) {
         try {
-            if (addMode) {
-                dbHelper.insertIntoDB(readTeacherFromGUI());
-            } else {
-                dbHelper.updateTeacherAtId(readTeacherFromGUI());
-            }
-            finish();
+            final Teacher teacher = readTeacherFromGUI();
+            DatabaseExecutor.getInstance().write(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    if (addMode) {
+                        dbHelper.insertIntoDB(teacher);
+                    } else {
+                        dbHelper.updateTeacherAtId(teacher);
+                    }
+                    return null;
+                }
+            }, new DatabaseExecutor.Callback<Void>() {
+                @Override
+                public void onResult(Void result) {
+                    finish();
+                }
+            });
         } catch (IllegalArgumentException ignored) {
         }
     }
 
     /**
-     * deletes grade from database & finishes the activity if deletion successful
+     * deletes the teacher from database on the writer thread of {@link DatabaseExecutor}, the affected objects are read on the reader pool before
+     * & finishes the activity afterwards if deletion successful
      *
      * @param view the button
      */
@@ -14,7 +14,6 @@ import android.view.ViewGroup;
 import android.widget.AdapterView;
 import android.widget.ListView;
 
-import java.util.ArrayList;
 import java.util.Objects;
 
 import adamson.studybuddy.R;
@@ -31,7 +30,6 @@ import adamson.studybuddy.logic.objects.Teacher;
 public class TeachersFragment extends Fragment implements View.OnClickListener {
     @SuppressWarnings({"FieldNever", "unused"})
     private OnFragmentInteractionListener mListener;
-    private Teacher[] allTeachersInList;
 
     @Override
     public void onCreate(Bundle savedInstanceState) {
@@ -103,35 +101,36 @@ public class TeachersFragment extends Fragment implements View.OnClickListener {
      * @param view the view of the fragment
      */
     private void initGui(View view) {
-        allTeachersInList = fillListView(view);
+        fillListView(view);
         GuiHelper.defineFloatingActionButtonOnClickListener(view, R.id.teachers_floatingActionButton_add, this);
         defineTeacherListOnClick(view);
     }
 
     /**
-     * method to fill the ListView, which shows the {@link Teacher}s at the teachers screen
+     * method to fill the ListView, which shows the {@link Teacher}s at the teachers screen.
+     * the {@link Teacher}s are loaded page by page while scrolling
      *
      * @param view the view of the fragment
-     * @return returns a array of all {@link Teacher}s shown in the listView ordered by their position in the listView
      */
-    private Teacher[] fillListView(View view) {
-        DatabaseHelper dbHelper = new DatabaseHelperImpl(view.getContext());
+    private void fillListView(final View view) {
+        final DatabaseHelper dbHelper = DatabaseHelperImpl.getInstance(view.getContext());
 
-        ArrayList<String> teacherStrings = new ArrayList<>();
-        ArrayList<Teacher> teacherArrayList = new ArrayList<>();
-        int[] teacherIndices = dbHelper.getIndices(DatabaseHelper.TABLE_TEACHER);
-
-        for (int teacherIndex : teacherIndices) {
-            Teacher teacher = dbHelper.getTeacherAtId(teacherIndex);
+        new PagedListAdapter<Teacher>(view.getContext(), 1) {
+            @Override
+            Teacher[] loadPage(Teacher after, int pageSize) {
+                return dbHelper.getTeacherPage(after, pageSize);
+            }
 
-            teacherStrings.add(GuiHelper.extractGuiString(teacher, getContext()));
-            teacherArrayList.add(teacher);
-        }
+            @Override
+            int getStableId(Teacher item) {
+                return item.getId();
+            }
 
-        if (teacherStrings.size() != 0) {
-            GuiHelper.fillListViewFromArray(view, R.id.teachers_listTeachers, teacherStrings.toArray(new String[0]));
-        }
-        return teacherArrayList.toArray(new Teacher[0]);
+            @Override
+            String getCellText(Teacher item, int cell) {
+                return GuiHelper.extractGuiString(item, view.getContext());
+            }
+        }.attachTo((ListView) view.findViewById(R.id.teachers_listTeachers));
     }
 
     /**
@@ -146,7 +145,7 @@ public class TeachersFragment extends Fragment implements View.OnClickListener {
             @Override
             public void onItemClick(AdapterView<?> adapter, View v, int position, long id) {
                 Intent intent = new Intent(getContext(), TeacherDetailsActivity.class);
-                intent.putExtra("TeacherID", allTeachersInList[position].getId());
+                intent.putExtra("TeacherID", (int) id);
                 startActivity(intent);
             }
         });
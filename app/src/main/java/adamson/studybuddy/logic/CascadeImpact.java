@@ -0,0 +1,71 @@
+package adamson.studybuddy.logic;
+
+import android.database.Cursor;
+
+import java.util.LinkedHashMap;
+
+/**
+ * breakdown of the rows which would also be deleted by ON DELETE CASCADE if a specific object is deleted,
+ * counted per table
+ */
+public class CascadeImpact {
+    private final LinkedHashMap<String, Integer> counts = new LinkedHashMap<>();
+    private int total = 0;
+
+    /**
+     * c'tor for the CascadeImpact, reads the counts from the first row of the given cursor.
+     * every column of the cursor has to be named after the table it counts
+     *
+     * @param cursor cursor of a cascade impact query, positioned at its only row
+     */
+    CascadeImpact(Cursor cursor) {
+        for (int i = 0; i < cursor.getColumnCount(); i++) {
+            int count = cursor.getInt(i);
+            counts.put(cursor.getColumnName(i), count);
+            total += count;
+        }
+    }
+
+    /**
+     * gets the count of all affected rows
+     *
+     * @return count of all rows which would also be deleted
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * gets the count of affected rows in the given table
+     *
+     * @param tableName name of the table, choose from the TABLE_XXX constants of {@link DatabaseHelper}
+     * @return count of rows in the table which would also be deleted, 0 if the table isn't affected
+     */
+    public int getCount(String tableName) {
+        Integer count = counts.get(tableName);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * gets the names of all tables with affected rows, in the order of the query
+     *
+     * @return names of the affected tables as array
+     */
+    public String[] getAffectedTables() {
+        int affected = 0;
+        for (int count : counts.values()) {
+            if (count > 0) {
+                affected++;
+            }
+        }
+
+        String[] tables = new String[affected];
+        int i = 0;
+        for (String table : counts.keySet()) {
+            if (counts.get(table) > 0) {
+                tables[i++] = table;
+            }
+        }
+        return tables;
+    }
+}
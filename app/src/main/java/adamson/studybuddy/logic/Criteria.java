@@ -0,0 +1,278 @@
+package adamson.studybuddy.logic;
+
+import java.util.Calendar;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+
+/**
+ * filter, order and limit for the {@link Homework}s, {@link Exam}s or {@link Grade}s to get with the find methods
+ * of {@link DatabaseHelper}, which compile it to one parameterized query over the indexed columns.
+ * all set filters have to match, a filter which isn't set matches every row
+ * <br> </br>
+ * <b>Usage:</b>
+ * <br> </br>
+ * new Criteria().whereSubject(subject.getId()).orderBy(Criteria.Order.NAME).limit(20)
+ * <br> </br>
+ * Note: {@link Criteria#whereDone(boolean)} only works for {@link Homework}s and {@link Criteria#whereDeadlineBetween(Calendar, Calendar)}
+ * only for {@link Homework}s and {@link Exam}s, the find methods throw an IllegalArgumentException otherwise
+ */
+public class Criteria {
+
+    /**
+     * order of the found objects, ties are always ordered by id
+     */
+    public enum Order {
+        /**
+         * ascending by id
+         */
+        ID,
+        /**
+         * ascending by deadline, only for {@link Homework}s and {@link Exam}s
+         */
+        DEADLINE,
+        /**
+         * ascending by name, only for {@link Grade}s
+         */
+        NAME
+    }
+
+    private int subjectId = -1;
+    private int teacherId = -1;
+    private Boolean done = null;
+    private long fromDay = 0;
+    private long toDay = 0;
+    private boolean deadlineSet = false;
+    private Order order = Order.ID;
+    private int limit = -1;
+    private boolean afterSet = false;
+    private String afterKey = null;
+    private int afterId = 0;
+
+    /**
+     * only matches objects in the {@link adamson.studybuddy.logic.objects.Subject} at the given id
+     *
+     * @param subjectId id of the {@link adamson.studybuddy.logic.objects.Subject}
+     * @return this Criteria
+     */
+    public Criteria whereSubject(int subjectId) {
+        this.subjectId = subjectId;
+        return this;
+    }
+
+    /**
+     * only matches objects in a {@link adamson.studybuddy.logic.objects.Subject} of the
+     * {@link adamson.studybuddy.logic.objects.Teacher} at the given id
+     *
+     * @param teacherId id of the {@link adamson.studybuddy.logic.objects.Teacher}
+     * @return this Criteria
+     */
+    public Criteria whereTeacher(int teacherId) {
+        this.teacherId = teacherId;
+        return this;
+    }
+
+    /**
+     * only matches done or to do {@link Homework}s
+     *
+     * @param done true for done {@link Homework}s, false for the ones to do
+     * @return this Criteria
+     */
+    public Criteria whereDone(boolean done) {
+        this.done = done;
+        return this;
+    }
+
+    /**
+     * only matches objects with a deadline between two dates, both included
+     *
+     * @param from the first day of the range
+     * @param to   the last day of the range
+     * @return this Criteria
+     */
+    public Criteria whereDeadlineBetween(Calendar from, Calendar to) {
+        this.fromDay = EpochDays.fromCalendar(from);
+        this.toDay = EpochDays.fromCalendar(to);
+        this.deadlineSet = true;
+        return this;
+    }
+
+    /**
+     * sets the order of the found objects, {@link Order#ID} if not set
+     *
+     * @param order the order
+     * @return this Criteria
+     */
+    public Criteria orderBy(Order order) {
+        this.order = order;
+        return this;
+    }
+
+    /**
+     * limits the count of found objects
+     *
+     * @param limit maximum count of found objects
+     * @return this Criteria
+     */
+    public Criteria limit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * only matches {@link Homework}s after the given one in the order, to get the next page
+     *
+     * @param homework the last {@link Homework} of the previous page, null for the first page
+     * @return this Criteria
+     */
+    public Criteria after(Homework homework) {
+        if (homework != null) {
+            setAfter(String.valueOf(EpochDays.fromCalendar(homework.getDeadline())), homework.getId());
+        }
+        return this;
+    }
+
+    /**
+     * only matches {@link Exam}s after the given one in the order, to get the next page
+     *
+     * @param exam the last {@link Exam} of the previous page, null for the first page
+     * @return this Criteria
+     */
+    public Criteria after(Exam exam) {
+        if (exam != null) {
+            setAfter(String.valueOf(EpochDays.fromCalendar(exam.getDeadline())), exam.getId());
+        }
+        return this;
+    }
+
+    /**
+     * only matches {@link Grade}s after the given one in the order, to get the next page
+     *
+     * @param grade the last {@link Grade} of the previous page, null for the first page
+     * @return this Criteria
+     */
+    public Criteria after(Grade grade) {
+        if (grade != null) {
+            setAfter(grade.getName(), grade.getId());
+        }
+        return this;
+    }
+
+    //region package-private getters
+
+    /**
+     * gets the id of the {@link adamson.studybuddy.logic.objects.Subject} to match
+     *
+     * @return the id, -1 if not set
+     */
+    int getSubjectId() {
+        return subjectId;
+    }
+
+    /**
+     * gets the id of the {@link adamson.studybuddy.logic.objects.Teacher} to match
+     *
+     * @return the id, -1 if not set
+     */
+    int getTeacherId() {
+        return teacherId;
+    }
+
+    /**
+     * gets whether done or to do {@link Homework}s match
+     *
+     * @return true for done, false for to do, null if not set
+     */
+    Boolean getDone() {
+        return done;
+    }
+
+    /**
+     * indicates whether a deadline range is set
+     *
+     * @return true if {@link Criteria#whereDeadlineBetween(Calendar, Calendar)} was called
+     */
+    boolean hasDeadlineRange() {
+        return deadlineSet;
+    }
+
+    /**
+     * gets the first day of the deadline range
+     *
+     * @return the first day as epoch day
+     */
+    long getFromDay() {
+        return fromDay;
+    }
+
+    /**
+     * gets the last day of the deadline range
+     *
+     * @return the last day as epoch day
+     */
+    long getToDay() {
+        return toDay;
+    }
+
+    /**
+     * gets the order of the found objects
+     *
+     * @return the order
+     */
+    Order getOrder() {
+        return order;
+    }
+
+    /**
+     * gets the maximum count of found objects
+     *
+     * @return the limit, -1 if not set
+     */
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * indicates whether only objects after a given one match
+     *
+     * @return true if one of the after methods was called with an object
+     */
+    boolean hasAfter() {
+        return afterSet;
+    }
+
+    /**
+     * gets the sort value of the object the found ones have to come after, as query argument
+     *
+     * @return the deadline as epoch day or the name
+     */
+    String getAfterKey() {
+        return afterKey;
+    }
+
+    /**
+     * gets the id of the object the found ones have to come after
+     *
+     * @return the id
+     */
+    int getAfterId() {
+        return afterId;
+    }
+    //endregion
+
+    //region private methods
+
+    /**
+     * sets the object the found ones have to come after
+     *
+     * @param key the sort value of the object
+     * @param id  the id of the object
+     */
+    private void setAfter(String key, int id) {
+        this.afterSet = true;
+        this.afterKey = key;
+        this.afterId = id;
+    }
+    //endregion
+}
@@ -0,0 +1,180 @@
+package adamson.studybuddy.logic;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * runs database work off the main thread.
+ * reads are spread over a small pool, so independent queries of one screen run in parallel,
+ * all mutations run one after another on a single writer thread.
+ * results are delivered on the main thread
+ * <br> </br>
+ * Note: parallel reads only pay off because {@link DatabaseOpenHelper} opens the database in write-ahead logging mode,
+ * so readers see the last committed state while the writer commits
+ */
+public class DatabaseExecutor {
+    private static final String TAG = "DatabaseExecutor";
+    private static final int READER_THREADS = 3;
+
+    private static DatabaseExecutor instance;
+
+    private final ExecutorService readers = Executors.newFixedThreadPool(READER_THREADS);
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    //held by every query of the reader pool, exclusive mutations take it exclusively
+    private final ReadWriteLock readerAccess = new ReentrantReadWriteLock();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * callback to receive the result of a database task on the main thread
+     *
+     * @param <T> type of the result
+     */
+    public interface Callback<T> {
+        /**
+         * called on the main thread after the task finished
+         *
+         * @param result the result of the task, null if the task failed
+         */
+        void onResult(T result);
+    }
+
+    /**
+     * callback to receive the progress of a long database task on the main thread
+     */
+    public interface ProgressCallback {
+        /**
+         * called on the main thread after each step of the task
+         *
+         * @param done  count of finished steps
+         * @param total count of all steps
+         */
+        void onProgress(int done, int total);
+    }
+
+    /**
+     * c'tor for the DatabaseExecutor, use {@link DatabaseExecutor#getInstance()} to get the shared instance
+     */
+    private DatabaseExecutor() {
+    }
+
+    /**
+     * gets the process wide DatabaseExecutor, creates it if it doesn't exist yet
+     *
+     * @return the shared DatabaseExecutor
+     */
+    public static synchronized DatabaseExecutor getInstance() {
+        if (instance == null) {
+            instance = new DatabaseExecutor();
+        }
+        return instance;
+    }
+
+    /**
+     * runs a query on the reader pool
+     * <br> </br>
+     * Note: the query must not change the database, use {@link DatabaseExecutor#write(Callable, Callback)} instead
+     *
+     * @param query    the query to run
+     * @param callback gets the result of the query on the main thread, may be null
+     * @param <T>      type of the result
+     */
+    public <T> void read(Callable<T> query, Callback<T> callback) {
+        readers.execute(buildTask(query, callback, readerAccess.readLock()));
+    }
+
+    /**
+     * runs a mutation on the writer thread, after all mutations passed before
+     *
+     * @param mutation the mutation to run
+     * @param callback gets the result of the mutation on the main thread, may be null
+     * @param <T>      type of the result
+     */
+    public <T> void write(Callable<T> mutation, Callback<T> callback) {
+        writer.execute(buildTask(mutation, callback, null));
+    }
+
+    /**
+     * runs a mutation on the writer thread, after all mutations passed before, while no query runs on the reader pool.
+     * waits until the running queries finished and holds back the queued ones until the mutation finished
+     * <br> </br>
+     * Note: use it for mutations which close the database, queries running on other threads aren't held back
+     *
+     * @param mutation the mutation to run
+     * @param callback gets the result of the mutation on the main thread, may be null
+     * @param <T>      type of the result
+     */
+    public <T> void writeExclusive(Callable<T> mutation, Callback<T> callback) {
+        writer.execute(buildTask(mutation, callback, readerAccess.writeLock()));
+    }
+
+    /**
+     * posts the progress of a running task to the callback on the main thread
+     *
+     * @param callback the callback for the progress, may be null
+     * @param done     count of finished steps
+     * @param total    count of all steps
+     */
+    void postProgress(final ProgressCallback callback, final int done, final int total) {
+        if (callback == null) {
+            return;
+        }
+
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                callback.onProgress(done, total);
+            }
+        });
+    }
+
+    //region private methods
+
+    /**
+     * wraps a task, so its result or null in case of an exception is posted to the callback on the main thread
+     *
+     * @param task     the task to run
+     * @param callback the callback for the result, may be null
+     * @param lock     the lock held while the task runs, may be null
+     * @param <T>      type of the result
+     * @return the wrapped task
+     */
+    private <T> Runnable buildTask(final Callable<T> task, final Callback<T> callback, final Lock lock) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                T result = null;
+                if (lock != null) {
+                    lock.lock();
+                }
+                try {
+                    result = task.call();
+                } catch (Exception e) {
+                    Log.e(TAG, "database task failed", e);
+                } finally {
+                    if (lock != null) {
+                        lock.unlock();
+                    }
+                }
+
+                if (callback != null) {
+                    final T finalResult = result;
+                    mainHandler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            callback.onResult(finalResult);
+                        }
+                    });
+                }
+            }
+        };
+    }
+    //endregion
+}
@@ -2,6 +2,8 @@ package adamson.studybuddy.logic;
 
 import android.content.Context;
 
+import java.util.Calendar;
+
 import adamson.studybuddy.logic.objects.Exam;
 import adamson.studybuddy.logic.objects.Grade;
 import adamson.studybuddy.logic.objects.Homework;
@@ -21,8 +23,24 @@ public interface DatabaseHelper {
 
     /**
      * Versionnumber of the database as int
+     * <br> </br>
+     * 1: initial tables
+     * <br> </br>
+     * 2: indexes on all foreign key columns and covering indexes for the lists
+     * <br> </br>
+     * 3: deadlines stored as epoch days
+     * <br> </br>
+     * 4: per subject usage counters maintained by triggers
+     * <br> </br>
+     * 5: tombstone columns for undoable subject and teacher deletes
+     * <br> </br>
+     * 6: at most one lesson per weekday and period
+     * <br> </br>
+     * 7: week agenda of the open homework and exams of one week maintained by triggers
+     * <br> </br>
+     * 8: tombstoned teachers and lessons of tombstoned subjects give up their abbreviation and lesson slot to a new row
      */
-    int DATABASE_VERSION = 1;
+    int DATABASE_VERSION = 8;
 
     /**
      * Name of the database file as String
@@ -71,6 +89,14 @@ public interface DatabaseHelper {
      * color of subject as Hex starting with a '#'
      */
     String SUBJECT_COLUMN_COLOR = "subject_color";
+    /**
+     * integer, not null, default 0
+     * <br> </br>
+     * 0 = not deleted, otherwise the stamp of the delete, which can still be undone until the subject is purged
+     * <br> </br>
+     * name of the deleted column in the subject table as String
+     */
+    String SUBJECT_COLUMN_DELETED = "subject_deleted";
     //endregion
 
     //region teacher table
@@ -109,6 +135,14 @@ public interface DatabaseHelper {
      * name of the gender column in the teacher table as String
      */
     String TEACHER_COLUMN_GENDER = "teacher_gender";
+    /**
+     * integer, not null, default 0
+     * <br> </br>
+     * 0 = not deleted, otherwise the stamp of the delete, which can still be undone until the teacher is purged
+     * <br> </br>
+     * name of the deleted column in the teacher table as String
+     */
+    String TEACHER_COLUMN_DELETED = "teacher_deleted";
     //endregion
 
     //region homework table
@@ -140,9 +174,9 @@ public interface DatabaseHelper {
     String HOMEWORK_COLUMN_DESCRIPTION = "homework_description";
 
     /**
-     * date, not null
+     * integer, not null
      * <br> </br>
-     * YYYY-MM-DD
+     * days since 1970-01-01
      * <br> </br>
      * name of the deadline column in the homework table as String
      */
@@ -185,9 +219,9 @@ public interface DatabaseHelper {
     String EXAM_COLUMN_DESCRIPTION = "exam_description";
 
     /**
-     * date, not null
+     * integer, not null
      * <br> </br>
-     * YYYY-MM-DD
+     * days since 1970-01-01
      * <br> </br>
      * name of the deadline column in the exam table as String
      */
@@ -353,6 +387,108 @@ public interface DatabaseHelper {
      */
     String SCHEDULE_COLUMN_NAME = "schedule_name";
     //endregion
+
+    //region subject counter table
+    /**
+     * name of the subject counter table as String, it holds how many rows use each subject and is only written by triggers
+     */
+    String TABLE_SUBJECT_COUNTER = "subject_counter";
+
+
+    /**
+     * integer, primary key, foreign key, not null
+     * <br> </br>
+     * name of the subject id column in the subject counter table as String
+     */
+    String SUBJECT_COUNTER_COLUMN_SUBJECT_ID = "subject_counter_subject_id";
+
+    /**
+     * integer, not null
+     * <br> </br>
+     * name of the column with the count of all homework of the subject as String
+     */
+    String SUBJECT_COUNTER_COLUMN_HOMEWORK = "subject_counter_homework";
+
+    /**
+     * integer, not null
+     * <br> </br>
+     * name of the column with the count of the homework to do of the subject as String
+     */
+    String SUBJECT_COUNTER_COLUMN_OPEN_HOMEWORK = "subject_counter_open_homework";
+
+    /**
+     * integer, not null
+     * <br> </br>
+     * name of the column with the count of exams of the subject as String
+     */
+    String SUBJECT_COUNTER_COLUMN_EXAMS = "subject_counter_exams";
+
+    /**
+     * integer, not null
+     * <br> </br>
+     * name of the column with the count of grades of the subject as String
+     */
+    String SUBJECT_COUNTER_COLUMN_GRADES = "subject_counter_grades";
+
+    /**
+     * integer, not null
+     * <br> </br>
+     * name of the column with the count of lessons of the subject as String
+     */
+    String SUBJECT_COUNTER_COLUMN_LESSONS = "subject_counter_lessons";
+    //endregion
+
+    //region week agenda table
+    /**
+     * name of the week agenda table as String, it holds the homework to do and the exams of the week in the week agenda range table
+     * and is only written by triggers and when the week changes
+     */
+    String TABLE_WEEK_AGENDA = "week_agenda";
+
+
+    /**
+     * integer, primary key, not null
+     * <br> </br>
+     * name of the id column in the week agenda table as String
+     */
+    String WEEK_AGENDA_COLUMN_ID = "week_agenda_id";
+
+    /**
+     * integer, foreign key
+     * <br> </br>
+     * name of the homework id column in the week agenda table as String, null if the row is an exam
+     */
+    String WEEK_AGENDA_COLUMN_HOMEWORK_ID = "week_agenda_homework_id";
+
+    /**
+     * integer, foreign key
+     * <br> </br>
+     * name of the exam id column in the week agenda table as String, null if the row is a homework
+     */
+    String WEEK_AGENDA_COLUMN_EXAM_ID = "week_agenda_exam_id";
+    //endregion
+
+    //region week agenda range table
+    /**
+     * name of the week agenda range table as String, its only row holds the days the week agenda table is for
+     */
+    String TABLE_WEEK_AGENDA_RANGE = "week_agenda_range";
+
+
+    /**
+     * integer, not null
+     * <br> </br>
+     * name of the column with the first day of the week agenda as epoch day as String
+     */
+    String WEEK_AGENDA_RANGE_COLUMN_FIRST_DAY = "week_agenda_range_first_day";
+
+    /**
+     * integer, not null
+     * <br> </br>
+     * name of the column with the last day of the week agenda as epoch day as String
+     */
+    String WEEK_AGENDA_RANGE_COLUMN_LAST_DAY = "week_agenda_range_last_day";
+    //endregion
     //endregion
 
     //region handling Methods
@@ -449,6 +585,384 @@ public interface DatabaseHelper {
     Schedule getScheduleAtId(int id);
     //endregion
 
+    //region findObject methods
+
+    /**
+     * finds the {@link Subject} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Subject}, or null if not existing
+     */
+    Subject findSubject(int id);
+
+    /**
+     * finds the {@link Teacher} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Teacher}, or null if not existing
+     */
+    Teacher findTeacher(int id);
+
+    /**
+     * finds the {@link Homework} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Homework}, or null if not existing
+     */
+    Homework findHomework(int id);
+
+    /**
+     * finds the {@link Exam} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Exam}, or null if not existing
+     */
+    Exam findExam(int id);
+
+    /**
+     * finds the {@link Grade} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Grade}, or null if not existing
+     */
+    Grade findGrade(int id);
+
+    /**
+     * finds the {@link Period} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Period}, or null if not existing
+     */
+    Period findPeriod(int id);
+
+    /**
+     * finds the {@link Lesson} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Lesson}, or null if not existing
+     */
+    Lesson findLesson(int id);
+
+    /**
+     * finds the {@link Weekday} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Weekday}, or null if not existing
+     */
+    Weekday findWeekday(int id);
+
+    /**
+     * finds the {@link Schedule} at a specific id without throwing or showing anything if there is none
+     *
+     * @param id id in database
+     * @return row with given id from db as {@link Schedule}, or null if not existing
+     */
+    Schedule findSchedule(int id);
+
+    /**
+     * finds the {@link Subject}s at the given ids in a single query, without throwing or showing anything for missing ones
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Subject} at this id, or null if not existing
+     */
+    Subject[] findSubjects(int[] ids);
+
+    /**
+     * finds the {@link Teacher}s at the given ids in a single query, without throwing or showing anything for missing ones
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Teacher} at this id, or null if not existing
+     */
+    Teacher[] findTeachers(int[] ids);
+
+    /**
+     * finds the {@link Homework}s at the given ids in a single query, without throwing or showing anything for missing ones
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Homework} at this id, or null if not existing
+     */
+    Homework[] findHomework(int[] ids);
+
+    /**
+     * finds the {@link Exam}s at the given ids in a single query, without throwing or showing anything for missing ones
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Exam} at this id, or null if not existing
+     */
+    Exam[] findExams(int[] ids);
+
+    /**
+     * finds the {@link Grade}s at the given ids in a single query, without throwing or showing anything for missing ones
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Grade} at this id, or null if not existing
+     */
+    Grade[] findGrades(int[] ids);
+
+    /**
+     * finds the {@link Period}s at the given ids in a single query, without throwing or showing anything for missing ones
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Period} at this id, or null if not existing
+     */
+    Period[] findPeriods(int[] ids);
+
+    /**
+     * finds the {@link Lesson}s at the given ids in a single query, without throwing or showing anything for missing ones
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Lesson} at this id, or null if not existing
+     */
+    Lesson[] findLessons(int[] ids);
+    //endregion
+
+    //region existsObjectAtId methods
+
+    /**
+     * checks whether there is a {@link Subject} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Subject} at the given id
+     */
+    boolean existsSubjectAtId(int id);
+
+    /**
+     * checks whether there is a {@link Teacher} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Teacher} at the given id
+     */
+    boolean existsTeacherAtId(int id);
+
+    /**
+     * checks whether there is a {@link Homework} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Homework} at the given id
+     */
+    boolean existsHomeworkAtId(int id);
+
+    /**
+     * checks whether there is a {@link Exam} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Exam} at the given id
+     */
+    boolean existsExamAtId(int id);
+
+    /**
+     * checks whether there is a {@link Grade} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Grade} at the given id
+     */
+    boolean existsGradeAtId(int id);
+
+    /**
+     * checks whether there is a {@link Period} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Period} at the given id
+     */
+    boolean existsPeriodAtId(int id);
+
+    /**
+     * checks whether there is a {@link Lesson} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Lesson} at the given id
+     */
+    boolean existsLessonAtId(int id);
+
+    /**
+     * checks whether there is a {@link Weekday} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Weekday} at the given id
+     */
+    boolean existsWeekdayAtId(int id);
+
+    /**
+     * checks whether there is a {@link Schedule} at a specific id, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Schedule} at the given id
+     */
+    boolean existsScheduleAtId(int id);
+    //endregion
+
+    //region getAllObjects methods
+
+    /**
+     * gets all {@link Subject}s from database, loaded together with their {@link Teacher}s in a single query
+     *
+     * @return all {@link Subject}s ordered by id, or an empty array if there are none
+     */
+    Subject[] getAllSubjects();
+
+    /**
+     * gets all {@link Teacher}s from database in a single query
+     *
+     * @return all {@link Teacher}s ordered by id, or an empty array if there are none
+     */
+    Teacher[] getAllTeachers();
+
+    /**
+     * gets all {@link Homework}s from database, loaded together with their {@link Subject}s and {@link Teacher}s in a single query
+     *
+     * @return all {@link Homework}s ordered by id, or an empty array if there are none
+     */
+    Homework[] getAllHomework();
+
+    /**
+     * gets all {@link Exam}s from database, loaded together with their {@link Subject}s and {@link Teacher}s in a single query
+     *
+     * @return all {@link Exam}s ordered by id, or an empty array if there are none
+     */
+    Exam[] getAllExams();
+
+    /**
+     * gets all {@link Grade}s from database, loaded together with their {@link Subject}s and {@link Teacher}s in a single query
+     *
+     * @return all {@link Grade}s ordered by id, or an empty array if there are none
+     */
+    Grade[] getAllGrades();
+
+    /**
+     * gets all {@link Period}s from database in a single query
+     *
+     * @return all {@link Period}s ordered by id, or an empty array if there are none
+     */
+    Period[] getAllPeriods();
+    //endregion
+
+    //region getObjectPage methods
+
+    /**
+     * gets the next page of {@link Homework}s ordered by deadline and id, using the last shown {@link Homework} as key
+     *
+     * @param done     true to page through done {@link Homework}s, false for the ones to do
+     * @param after    the last {@link Homework} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Homework}s in the page
+     * @return the {@link Homework}s of the page, less than pageSize if it is the last one
+     */
+    Homework[] getHomeworkPage(boolean done, Homework after, int pageSize);
+
+    /**
+     * gets the next page of {@link Exam}s ordered by deadline and id, using the last shown {@link Exam} as key
+     *
+     * @param after    the last {@link Exam} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Exam}s in the page
+     * @return the {@link Exam}s of the page, less than pageSize if it is the last one
+     */
+    Exam[] getExamPage(Exam after, int pageSize);
+
+    /**
+     * gets the next page of {@link Grade}s in a {@link Subject} ordered by name and id, using the last shown {@link Grade} as key
+     *
+     * @param subject  the {@link Subject} the {@link Grade}s are in
+     * @param after    the last {@link Grade} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Grade}s in the page
+     * @return the {@link Grade}s of the page, less than pageSize if it is the last one
+     */
+    Grade[] getGradePage(Subject subject, Grade after, int pageSize);
+
+    /**
+     * gets the next page of {@link Teacher}s ordered by name and id, using the last shown {@link Teacher} as key
+     *
+     * @param after    the last {@link Teacher} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Teacher}s in the page
+     * @return the {@link Teacher}s of the page, less than pageSize if it is the last one
+     */
+    Teacher[] getTeacherPage(Teacher after, int pageSize);
+    //endregion
+
+    //region getObjectsBetween methods
+
+    /**
+     * gets all {@link Homework}s with a deadline between two dates, both included
+     *
+     * @param from        the first day of the range
+     * @param to          the last day of the range
+     * @param includeDone true to also get done {@link Homework}s, false for only the ones to do
+     * @return the {@link Homework}s ordered by deadline, or an empty array if there are none
+     */
+    Homework[] getHomeworkDueBetween(Calendar from, Calendar to, boolean includeDone);
+
+    /**
+     * gets all {@link Exam}s with a date between two dates, both included
+     *
+     * @param from the first day of the range
+     * @param to   the last day of the range
+     * @return the {@link Exam}s ordered by date, or an empty array if there are none
+     */
+    Exam[] getExamsBetween(Calendar from, Calendar to);
+    //endregion
+
+    //region week agenda methods
+
+    /**
+     * moves the week agenda to the given week if it holds another one
+     * <br> </br>
+     * Note: this method writes, run it with {@link DatabaseExecutor#write(java.util.concurrent.Callable, DatabaseExecutor.Callback)}
+     * before the agenda is read
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     */
+    void moveWeekAgenda(Calendar firstDay, Calendar lastDay);
+
+    /**
+     * gets the {@link Homework}s to do in a week from the week agenda,
+     * see {@link DatabaseHelper#moveWeekAgenda(Calendar, Calendar)}
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     * @return the {@link Homework}s to do ordered by deadline, or an empty array if there are none
+     */
+    Homework[] getWeekAgendaHomework(Calendar firstDay, Calendar lastDay);
+
+    /**
+     * gets the {@link Exam}s of a week from the week agenda,
+     * see {@link DatabaseHelper#moveWeekAgenda(Calendar, Calendar)}
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     * @return the {@link Exam}s ordered by date, or an empty array if there are none
+     */
+    Exam[] getWeekAgendaExams(Calendar firstDay, Calendar lastDay);
+    //endregion
+
+    //region findObjects by criteria methods
+
+    /**
+     * finds the {@link Homework}s matching a {@link Criteria}
+     *
+     * @param criteria filter, order and limit of the {@link Homework}s
+     * @return the matching {@link Homework}s, or an empty array if there are none
+     * @throws IllegalArgumentException if the {@link Criteria} uses a filter or order {@link Homework}s don't have
+     */
+    Homework[] findHomework(Criteria criteria);
+
+    /**
+     * finds the {@link Exam}s matching a {@link Criteria}
+     *
+     * @param criteria filter, order and limit of the {@link Exam}s
+     * @return the matching {@link Exam}s, or an empty array if there are none
+     * @throws IllegalArgumentException if the {@link Criteria} uses a filter or order {@link Exam}s don't have
+     */
+    Exam[] findExams(Criteria criteria);
+
+    /**
+     * finds the {@link Grade}s matching a {@link Criteria}
+     *
+     * @param criteria filter, order and limit of the {@link Grade}s
+     * @return the matching {@link Grade}s, or an empty array if there are none
+     * @throws IllegalArgumentException if the {@link Criteria} uses a filter or order {@link Grade}s don't have
+     */
+    Grade[] findGrades(Criteria criteria);
+    //endregion
+
     //region updateObjectAtId
 
     /**
@@ -626,6 +1140,99 @@ public interface DatabaseHelper {
     int insertIntoDB(Schedule schedule);
     //endregion
 
+    //region insertOrUpdate methods
+
+    /**
+     * updates the {@link Subject} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param subject {@link Subject} to be updated or inserted
+     * @return the id of the {@link Subject} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Subject subject);
+
+    /**
+     * updates the {@link Teacher} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param teacher {@link Teacher} to be updated or inserted
+     * @return the id of the {@link Teacher} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Teacher teacher);
+
+    /**
+     * updates the {@link Homework} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param homework {@link Homework} to be updated or inserted
+     * @return the id of the {@link Homework} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Homework homework);
+
+    /**
+     * updates the {@link Exam} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param exam {@link Exam} to be updated or inserted
+     * @return the id of the {@link Exam} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Exam exam);
+
+    /**
+     * updates the {@link Grade} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param grade {@link Grade} to be updated or inserted
+     * @return the id of the {@link Grade} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Grade grade);
+
+    /**
+     * updates the {@link Period} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param period {@link Period} to be updated or inserted
+     * @return the id of the {@link Period} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Period period);
+
+    /**
+     * updates the {@link Lesson} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param lesson {@link Lesson} to be updated or inserted
+     * @return the id of the {@link Lesson} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Lesson lesson);
+
+    /**
+     * updates the {@link Weekday} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param weekday {@link Weekday} to be updated or inserted
+     * @return the id of the {@link Weekday} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Weekday weekday);
+
+    /**
+     * updates the {@link Schedule} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param schedule {@link Schedule} to be updated or inserted
+     * @return the id of the {@link Schedule} in the database or -1 if action could not be performed
+     */
+    int insertOrUpdate(Schedule schedule);
+    //endregion
+
     //region deleteObjectAtId methods
 
     /**
@@ -711,6 +1318,207 @@ public interface DatabaseHelper {
     //endregion
     //endregion
 
+    //region usage counter methods
+
+    /**
+     * gets how many homework, exams, grades and lessons use a {@link Subject}, read from the subject counter table
+     *
+     * @param subjectId id of the {@link Subject}
+     * @return the counts, all 0 if there is no {@link Subject} at the given id
+     */
+    UsageCounts getSubjectUsage(int subjectId);
+
+    /**
+     * gets how many homework, exams, grades and lessons use the {@link Subject}s of a {@link Teacher},
+     * summed up from the subject counter table
+     *
+     * @param teacherId id of the {@link Teacher}
+     * @return the counts, all 0 if there is no {@link Teacher} at the given id
+     */
+    UsageCounts getTeacherUsage(int teacherId);
+
+    /**
+     * checks whether the subject counter table matches the real count of rows in the counted tables
+     *
+     * @return true if every counter is right
+     */
+    boolean verifyUsageCounters();
+
+    /**
+     * recounts the subject counter table from the counted tables
+     */
+    void rebuildUsageCounters();
+    //endregion
+
+    //region tombstone methods
+
+    /**
+     * restores the {@link Subject}s and {@link Teacher}s of a cascading delete, which wasn't purged yet
+     *
+     * @param deletedAt the stamp of the delete
+     * @param callback  called on the main thread with the count of restored rows, may be null
+     */
+    void undoDelete(long deletedAt, DatabaseExecutor.Callback<Integer> callback);
+
+    /**
+     * physically deletes all tombstoned {@link Subject}s and {@link Teacher}s up to the given stamp
+     * together with everything depending on them, in the background
+     *
+     * @param upTo the newest stamp to purge
+     */
+    void purgeDeleted(long upTo);
+    //endregion
+
+    //region unit of work methods
+
+    /**
+     * writes all changes of a {@link ScheduleUnitOfWork} in one transaction
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param work the changes to write
+     * @return true if all changes were written, false if none were
+     */
+    boolean commit(ScheduleUnitOfWork work);
+    //endregion
+
+    //region bulk methods
+
+    /**
+     * inserts all given {@link Subject}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param subjects {@link Subject}s to be inserted
+     * @return the ids in the database the {@link Subject}s were inserted, ordered like the given {@link Subject}s.
+     * -1 for every {@link Subject} which could not be inserted
+     */
+    int[] insertAllIntoDB(Subject[] subjects);
+
+    /**
+     * inserts all given {@link Teacher}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param teachers {@link Teacher}s to be inserted
+     * @return the ids in the database the {@link Teacher}s were inserted, ordered like the given {@link Teacher}s.
+     * -1 for every {@link Teacher} which could not be inserted
+     */
+    int[] insertAllIntoDB(Teacher[] teachers);
+
+    /**
+     * inserts all given {@link Homework}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param homework {@link Homework}s to be inserted
+     * @return the ids in the database the {@link Homework}s were inserted, ordered like the given {@link Homework}s.
+     * -1 for every {@link Homework} which could not be inserted
+     */
+    int[] insertAllIntoDB(Homework[] homework);
+
+    /**
+     * inserts all given {@link Exam}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param exams {@link Exam}s to be inserted
+     * @return the ids in the database the {@link Exam}s were inserted, ordered like the given {@link Exam}s.
+     * -1 for every {@link Exam} which could not be inserted
+     */
+    int[] insertAllIntoDB(Exam[] exams);
+
+    /**
+     * inserts all given {@link Grade}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param grades {@link Grade}s to be inserted
+     * @return the ids in the database the {@link Grade}s were inserted, ordered like the given {@link Grade}s.
+     * -1 for every {@link Grade} which could not be inserted
+     */
+    int[] insertAllIntoDB(Grade[] grades);
+
+    /**
+     * inserts all given {@link Period}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param periods {@link Period}s to be inserted
+     * @return the ids in the database the {@link Period}s were inserted, ordered like the given {@link Period}s.
+     * -1 for every {@link Period} which could not be inserted
+     */
+    int[] insertAllIntoDB(Period[] periods);
+
+    /**
+     * updates all given {@link Subject}s in one transaction, each at the id it has
+     *
+     * @param newSubjects the updated {@link Subject}s
+     * @return for every {@link Subject}, ordered like the given ones, true if it was updated, false if there is no {@link Subject} at its id
+     */
+    boolean[] updateAll(Subject[] newSubjects);
+
+    /**
+     * updates all given {@link Teacher}s in one transaction, each at the id it has
+     *
+     * @param newTeachers the updated {@link Teacher}s
+     * @return for every {@link Teacher}, ordered like the given ones, true if it was updated, false if there is no {@link Teacher} at its id
+     */
+    boolean[] updateAll(Teacher[] newTeachers);
+
+    /**
+     * updates all given {@link Homework}s in one transaction, each at the id it has
+     *
+     * @param newHomework the updated {@link Homework}s
+     * @return for every {@link Homework}, ordered like the given ones, true if it was updated, false if there is no {@link Homework} at its id
+     */
+    boolean[] updateAll(Homework[] newHomework);
+
+    /**
+     * updates all given {@link Exam}s in one transaction, each at the id it has
+     *
+     * @param newExams the updated {@link Exam}s
+     * @return for every {@link Exam}, ordered like the given ones, true if it was updated, false if there is no {@link Exam} at its id
+     */
+    boolean[] updateAll(Exam[] newExams);
+
+    /**
+     * updates all given {@link Grade}s in one transaction, each at the id it has
+     *
+     * @param newGrades the updated {@link Grade}s
+     * @return for every {@link Grade}, ordered like the given ones, true if it was updated, false if there is no {@link Grade} at its id
+     */
+    boolean[] updateAll(Grade[] newGrades);
+
+    /**
+     * updates all given {@link Period}s in one transaction, each at the id it has
+     *
+     * @param newPeriods the updated {@link Period}s
+     * @return for every {@link Period}, ordered like the given ones, true if it was updated, false if there is no {@link Period} at its id
+     */
+    boolean[] updateAll(Period[] newPeriods);
+
+    /**
+     * deletes the {@link Homework}s at all given ids from database in one transaction
+     *
+     * @param ids the ids the {@link Homework}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Homework} was deleted, false if there was none at this id
+     */
+    boolean[] deleteAllHomeworkAtIds(int[] ids);
+
+    /**
+     * deletes the {@link Exam}s at all given ids from database in one transaction
+     *
+     * @param ids the ids the {@link Exam}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Exam} was deleted, false if there was none at this id
+     */
+    boolean[] deleteAllExamsAtIds(int[] ids);
+
+    /**
+     * deletes the {@link Grade}s at all given ids from database in one transaction
+     *
+     * @param ids the ids the {@link Grade}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Grade} was deleted, false if there was none at this id
+     */
+    boolean[] deleteAllGradesAtIds(int[] ids);
+
+    /**
+     * deletes the {@link Lesson}s at all given ids from database in one transaction
+     *
+     * @param ids the ids the {@link Lesson}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Lesson} was deleted, false if there was none at this id
+     */
+    boolean[] deleteAllLessonsAtIds(int[] ids);
+    //endregion
+
     //region OrThrow Methods
     //region getObjectAtIdOrThrow methods
 
@@ -955,6 +1763,90 @@ public interface DatabaseHelper {
     int insertIntoDBOrThrow(Schedule schedule) throws IllegalAccessException;
     //endregion
 
+    //region insertOrUpdateOrThrow methods
+
+    /**
+     * updates the {@link Subject} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param subject {@link Subject} to be updated or inserted
+     * @return the id of the {@link Subject} in the database
+     * @throws IllegalAccessException if the {@link Subject} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Subject subject) throws IllegalAccessException;
+
+    /**
+     * updates the {@link Teacher} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param teacher {@link Teacher} to be updated or inserted
+     * @return the id of the {@link Teacher} in the database
+     * @throws IllegalAccessException if the {@link Teacher} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Teacher teacher) throws IllegalAccessException;
+
+    /**
+     * updates the {@link Homework} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param homework {@link Homework} to be updated or inserted
+     * @return the id of the {@link Homework} in the database
+     * @throws IllegalAccessException if the {@link Homework} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Homework homework) throws IllegalAccessException;
+
+    /**
+     * updates the {@link Exam} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param exam {@link Exam} to be updated or inserted
+     * @return the id of the {@link Exam} in the database
+     * @throws IllegalAccessException if the {@link Exam} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Exam exam) throws IllegalAccessException;
+
+    /**
+     * updates the {@link Grade} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param grade {@link Grade} to be updated or inserted
+     * @return the id of the {@link Grade} in the database
+     * @throws IllegalAccessException if the {@link Grade} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Grade grade) throws IllegalAccessException;
+
+    /**
+     * updates the {@link Period} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param period {@link Period} to be updated or inserted
+     * @return the id of the {@link Period} in the database
+     * @throws IllegalAccessException if the {@link Period} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Period period) throws IllegalAccessException;
+
+    /**
+     * updates the {@link Lesson} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param lesson {@link Lesson} to be updated or inserted
+     * @return the id of the {@link Lesson} in the database
+     * @throws IllegalAccessException if the {@link Lesson} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Lesson lesson) throws IllegalAccessException;
+
+    /**
+     * updates the {@link Weekday} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param weekday {@link Weekday} to be updated or inserted
+     * @return the id of the {@link Weekday} in the database
+     * @throws IllegalAccessException if the {@link Weekday} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Weekday weekday) throws IllegalAccessException;
+
+    /**
+     * updates the {@link Schedule} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param schedule {@link Schedule} to be updated or inserted
+     * @return the id of the {@link Schedule} in the database
+     * @throws IllegalAccessException if the {@link Schedule} could neither be updated nor inserted
+     */
+    int insertOrUpdateOrThrow(Schedule schedule) throws IllegalAccessException;
+    //endregion
+
     //region deleteObjectAtIdOrThrow methods
 
     /**
@@ -1029,6 +1921,20 @@ public interface DatabaseHelper {
      */
     void deleteScheduleAtIdOrThrow(int id) throws NoSuchFieldException;
     //endregion
+
+    //region unit of work OrThrow methods
+
+    /**
+     * writes all changes of a {@link ScheduleUnitOfWork} in one transaction, the {@link Schedule} first,
+     * then the {@link Weekday}s and then the {@link Lesson}s, so new objects get their ids before they are referenced
+     * <br> </br>
+     * Note: the {@link Subject}s and {@link Period}s of the {@link Lesson}s have to be stored already
+     *
+     * @param work the changes to write
+     * @throws NoSuchFieldException if a changed object isn't in the Database anymore or couldn't be written, nothing is written then
+     */
+    void commitOrThrow(ScheduleUnitOfWork work) throws NoSuchFieldException;
+    //endregion
     //endregion
 
     /**
@@ -1067,4 +1973,12 @@ public interface DatabaseHelper {
      * resets the database
      */
     void resetDatabase();
+
+    /**
+     * resets the database off the main thread, without reading or dropping the stored tables
+     *
+     * @param progress gets the progress of the reset on the main thread, may be null
+     * @param callback gets true on the main thread if the reset succeeded, may be null
+     */
+    void resetDatabase(DatabaseExecutor.ProgressCallback progress, DatabaseExecutor.Callback<Boolean> callback);
 }
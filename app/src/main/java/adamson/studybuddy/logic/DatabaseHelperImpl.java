@@ -2,15 +2,18 @@ package adamson.studybuddy.logic;
 
 
 import android.app.Activity;
-import android.content.ContentProvider;
 import android.content.Context;
 import android.content.DialogInterface;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteException;
-import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.util.SparseArray;
 
 import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.IdentityHashMap;
+import java.util.concurrent.Callable;
 
 import adamson.studybuddy.gui.DatabaseCascadeDeleteConfirmDialog;
 import adamson.studybuddy.logic.objects.Exam;
@@ -26,17 +29,251 @@ import adamson.studybuddy.logic.objects.Weekday;
 /**
  * Implementation of DatabaseHelper interface to create and interact with the schoolPlanner SQLite Database.
  */
-public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelper {
+public class DatabaseHelperImpl implements DatabaseHelper {
+    //region statements
+    private static final String INSERT_SUBJECT = "INSERT INTO " + TABLE_SUBJECT + " (" +
+            SUBJECT_COLUMN_ID + ", " +
+            SUBJECT_COLUMN_TEACHER_ID + ", " +
+            SUBJECT_COLUMN_NAME + ", " +
+            SUBJECT_COLUMN_ROOM + ", " +
+            SUBJECT_COLUMN_COLOR +
+            ") VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_TEACHER = "INSERT INTO " + TABLE_TEACHER + " (" +
+            TEACHER_COLUMN_ID + ", " +
+            TEACHER_COLUMN_NAME + ", " +
+            TEACHER_COLUMN_ABBREVIATION + ", " +
+            TEACHER_COLUMN_GENDER +
+            ") VALUES (?, ?, ?, ?)";
+    private static final String INSERT_HOMEWORK = "INSERT INTO " + TABLE_HOMEWORK + " (" +
+            HOMEWORK_COLUMN_ID + ", " +
+            HOMEWORK_COLUMN_SUBJECT_ID + ", " +
+            HOMEWORK_COLUMN_DESCRIPTION + ", " +
+            HOMEWORK_COLUMN_DEADLINE + ", " +
+            HOMEWORK_COLUMN_DONE +
+            ") VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_EXAM = "INSERT INTO " + TABLE_EXAM + " (" +
+            EXAM_COLUMN_ID + ", " +
+            EXAM_COLUMN_SUBJECT_ID + ", " +
+            EXAM_COLUMN_DESCRIPTION + ", " +
+            EXAM_COLUMN_DEADLINE +
+            ") VALUES (?, ?, ?, ?)";
+    private static final String INSERT_GRADE = "INSERT INTO " + TABLE_GRADE + " (" +
+            GRADE_COLUMN_ID + ", " +
+            GRADE_COLUMN_SUBJECT_ID + ", " +
+            GRADE_COLUMN_NAME + ", " +
+            GRADE_COLUMN_GRADE +
+            ") VALUES (?, ?, ?, ?)";
+    private static final String INSERT_PERIOD = "INSERT INTO " + TABLE_PERIOD + " (" +
+            PERIOD_COLUMN_ID + ", " +
+            PERIOD_COLUMN_SCHOOL_HOUR_NO + ", " +
+            PERIOD_COLUMN_STARTTIME + ", " +
+            PERIOD_COLUMN_ENDTIME +
+            ") VALUES (?, ?, ?, ?)";
+    private static final String INSERT_LESSON = "INSERT INTO " + TABLE_LESSON + " (" +
+            LESSON_COLUMN_ID + ", " +
+            LESSON_COLUMN_SUBJECT_ID + ", " +
+            LESSON_COLUMN_PERIOD_ID +
+            ") VALUES (?, ?, ?)";
+    private static final String INSERT_WEEKDAY = "INSERT INTO " + TABLE_WEEKDAY + " (" +
+            WEEKDAY_COLUMN_ID + ", " +
+            WEEKDAY_COLUMN_NAME +
+            ") VALUES (?, ?)";
+    private static final String INSERT_SCHEDULE = "INSERT INTO " + TABLE_SCHEDULE + " (" +
+            SCHEDULE_COLUMN_ID + ", " +
+            SCHEDULE_COLUMN_NAME +
+            ") VALUES (?, ?)";
+
+    private static final String INSERT_LESSON_AT_WEEKDAY = "INSERT INTO " + TABLE_LESSON + " (" +
+            LESSON_COLUMN_ID + ", " +
+            LESSON_COLUMN_SUBJECT_ID + ", " +
+            LESSON_COLUMN_PERIOD_ID + ", " +
+            LESSON_COLUMN_WEEKDAY_ID +
+            ") VALUES (?, ?, ?, ?)";
+    private static final String INSERT_WEEKDAY_AT_SCHEDULE = "INSERT INTO " + TABLE_WEEKDAY + " (" +
+            WEEKDAY_COLUMN_ID + ", " +
+            WEEKDAY_COLUMN_SCHEDULE_ID + ", " +
+            WEEKDAY_COLUMN_NAME +
+            ") VALUES (?, ?, ?)";
+
+    /**
+     * condition of the updates which set a parent, ?1 has to be the id of the new parent, so nothing is moved to a tombstoned one
+     */
+    private static final String AND_TEACHER_IS_LIVE = " AND EXISTS (SELECT 1 FROM " + TABLE_TEACHER +
+            " WHERE " + TEACHER_COLUMN_ID + " = ?1 AND " + TEACHER_COLUMN_DELETED + " = 0)";
+    private static final String AND_SUBJECT_IS_LIVE = " AND EXISTS (SELECT 1 FROM " + TABLE_SUBJECT +
+            " WHERE " + SUBJECT_COLUMN_ID + " = ?1 AND " + SUBJECT_COLUMN_DELETED + " = 0)";
+
+    private static final String UPDATE_SUBJECT = "UPDATE " + TABLE_SUBJECT + " SET " +
+            SUBJECT_COLUMN_TEACHER_ID + " = ?, " +
+            SUBJECT_COLUMN_NAME + " = ?, " +
+            SUBJECT_COLUMN_ROOM + " = ?, " +
+            SUBJECT_COLUMN_COLOR + " = ?" +
+            " WHERE " + SUBJECT_COLUMN_ID + " = ? AND " + SUBJECT_COLUMN_DELETED + " = 0" + AND_TEACHER_IS_LIVE;
+    private static final String UPDATE_TEACHER = "UPDATE " + TABLE_TEACHER + " SET " +
+            TEACHER_COLUMN_NAME + " = ?, " +
+            TEACHER_COLUMN_ABBREVIATION + " = ?, " +
+            TEACHER_COLUMN_GENDER + " = ?" +
+            " WHERE " + TEACHER_COLUMN_ID + " = ? AND " + TEACHER_COLUMN_DELETED + " = 0";
+    private static final String UPDATE_HOMEWORK = "UPDATE " + TABLE_HOMEWORK + " SET " +
+            HOMEWORK_COLUMN_SUBJECT_ID + " = ?, " +
+            HOMEWORK_COLUMN_DESCRIPTION + " = ?, " +
+            HOMEWORK_COLUMN_DEADLINE + " = ?, " +
+            HOMEWORK_COLUMN_DONE + " = ?" +
+            " WHERE " + HOMEWORK_COLUMN_ID + " = ?" + AND_SUBJECT_IS_LIVE;
+    private static final String UPDATE_EXAM = "UPDATE " + TABLE_EXAM + " SET " +
+            EXAM_COLUMN_SUBJECT_ID + " = ?, " +
+            EXAM_COLUMN_DESCRIPTION + " = ?, " +
+            EXAM_COLUMN_DEADLINE + " = ?" +
+            " WHERE " + EXAM_COLUMN_ID + " = ?" + AND_SUBJECT_IS_LIVE;
+    private static final String UPDATE_GRADE = "UPDATE " + TABLE_GRADE + " SET " +
+            GRADE_COLUMN_SUBJECT_ID + " = ?, " +
+            GRADE_COLUMN_NAME + " = ?, " +
+            GRADE_COLUMN_GRADE + " = ?" +
+            " WHERE " + GRADE_COLUMN_ID + " = ?" + AND_SUBJECT_IS_LIVE;
+    private static final String UPDATE_PERIOD = "UPDATE " + TABLE_PERIOD + " SET " +
+            PERIOD_COLUMN_SCHOOL_HOUR_NO + " = ?, " +
+            PERIOD_COLUMN_STARTTIME + " = ?, " +
+            PERIOD_COLUMN_ENDTIME + " = ?" +
+            " WHERE " + PERIOD_COLUMN_ID + " = ?";
+    private static final String UPDATE_LESSON = "UPDATE " + TABLE_LESSON + " SET " +
+            LESSON_COLUMN_SUBJECT_ID + " = ?, " +
+            LESSON_COLUMN_PERIOD_ID + " = ?" +
+            " WHERE " + LESSON_COLUMN_ID + " = ?" + AND_SUBJECT_IS_LIVE;
+    private static final String UPDATE_WEEKDAY = "UPDATE " + TABLE_WEEKDAY + " SET " +
+            WEEKDAY_COLUMN_NAME + " = ?" +
+            " WHERE " + WEEKDAY_COLUMN_ID + " = ?";
+    private static final String UPDATE_SCHEDULE = "UPDATE " + TABLE_SCHEDULE + " SET " +
+            SCHEDULE_COLUMN_NAME + " = ?" +
+            " WHERE " + SCHEDULE_COLUMN_ID + " = ?";
+    private static final String UPDATE_LESSON_AT_WEEKDAY = "UPDATE " + TABLE_LESSON + " SET " +
+            LESSON_COLUMN_SUBJECT_ID + " = ?, " +
+            LESSON_COLUMN_PERIOD_ID + " = ?, " +
+            LESSON_COLUMN_WEEKDAY_ID + " = ?" +
+            " WHERE " + LESSON_COLUMN_ID + " = ?" + AND_SUBJECT_IS_LIVE;
+    private static final String UPDATE_WEEKDAY_AT_SCHEDULE = "UPDATE " + TABLE_WEEKDAY + " SET " +
+            WEEKDAY_COLUMN_SCHEDULE_ID + " = ?, " +
+            WEEKDAY_COLUMN_NAME + " = ?" +
+            " WHERE " + WEEKDAY_COLUMN_ID + " = ?";
+    private static final String UPDATE_LESSON_WEEKDAY_ID = "UPDATE " + TABLE_LESSON + " SET " + LESSON_COLUMN_WEEKDAY_ID + " = ?" +
+            " WHERE " + LESSON_COLUMN_ID + " = ?";
+    private static final String UPDATE_WEEKDAY_SCHEDULE_ID = "UPDATE " + TABLE_WEEKDAY + " SET " + WEEKDAY_COLUMN_SCHEDULE_ID + " = ?" +
+            " WHERE " + WEEKDAY_COLUMN_ID + " = ?";
+
+    private static final String DELETE_SUBJECT = "DELETE FROM " + TABLE_SUBJECT + " WHERE " + SUBJECT_COLUMN_ID + " = ?";
+    private static final String DELETE_TEACHER = "DELETE FROM " + TABLE_TEACHER + " WHERE " + TEACHER_COLUMN_ID + " = ?";
+    private static final String DELETE_HOMEWORK = "DELETE FROM " + TABLE_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_ID + " = ?";
+    private static final String DELETE_EXAM = "DELETE FROM " + TABLE_EXAM + " WHERE " + EXAM_COLUMN_ID + " = ?";
+    private static final String DELETE_GRADE = "DELETE FROM " + TABLE_GRADE + " WHERE " + GRADE_COLUMN_ID + " = ?";
+    private static final String DELETE_PERIOD = "DELETE FROM " + TABLE_PERIOD + " WHERE " + PERIOD_COLUMN_ID + " = ?";
+    private static final String DELETE_LESSON = "DELETE FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_ID + " = ?";
+    private static final String DELETE_WEEKDAY = "DELETE FROM " + TABLE_WEEKDAY + " WHERE " + WEEKDAY_COLUMN_ID + " = ?";
+    private static final String DELETE_SCHEDULE = "DELETE FROM " + TABLE_SCHEDULE + " WHERE " + SCHEDULE_COLUMN_ID + " = ?";
+    private static final String TOMBSTONE_SUBJECT = "UPDATE " + TABLE_SUBJECT + " SET " + SUBJECT_COLUMN_DELETED + " = ?1" +
+            " WHERE " + SUBJECT_COLUMN_ID + " = ?2 AND " + SUBJECT_COLUMN_DELETED + " = 0";
+    private static final String TOMBSTONE_SUBJECTS_OF_TEACHER = "UPDATE " + TABLE_SUBJECT + " SET " + SUBJECT_COLUMN_DELETED + " = ?1" +
+            " WHERE " + SUBJECT_COLUMN_TEACHER_ID + " = ?2 AND " + SUBJECT_COLUMN_DELETED + " = 0";
+    private static final String TOMBSTONE_TEACHER = "UPDATE " + TABLE_TEACHER + " SET " + TEACHER_COLUMN_DELETED + " = ?1" +
+            " WHERE " + TEACHER_COLUMN_ID + " = ?2 AND " + TEACHER_COLUMN_DELETED + " = 0";
+    private static final String UNDO_TOMBSTONE_SUBJECTS = "UPDATE " + TABLE_SUBJECT + " SET " + SUBJECT_COLUMN_DELETED + " = 0" +
+            " WHERE " + SUBJECT_COLUMN_DELETED + " = ?";
+    private static final String UNDO_TOMBSTONE_TEACHERS = "UPDATE " + TABLE_TEACHER + " SET " + TEACHER_COLUMN_DELETED + " = 0" +
+            " WHERE " + TEACHER_COLUMN_DELETED + " = ?";
+
+    /**
+     * purge statements in the order they have to run, children of tombstoned subjects first, so no single statement
+     * cascades through more than one batch. ?1 is the newest stamp to purge, ?2 the batch size
+     */
+    private static final String[] PURGE_TOMBSTONED = {
+            buildPurgeOfSubjectChildren(TABLE_HOMEWORK, HOMEWORK_COLUMN_ID, HOMEWORK_COLUMN_SUBJECT_ID),
+            buildPurgeOfSubjectChildren(TABLE_EXAM, EXAM_COLUMN_ID, EXAM_COLUMN_SUBJECT_ID),
+            buildPurgeOfSubjectChildren(TABLE_GRADE, GRADE_COLUMN_ID, GRADE_COLUMN_SUBJECT_ID),
+            buildPurgeOfSubjectChildren(TABLE_LESSON, LESSON_COLUMN_ID, LESSON_COLUMN_SUBJECT_ID),
+            "DELETE FROM " + TABLE_SUBJECT + " WHERE " + SUBJECT_COLUMN_ID + " IN (SELECT " + SUBJECT_COLUMN_ID + " FROM " + TABLE_SUBJECT +
+                    " WHERE " + SUBJECT_COLUMN_DELETED + " BETWEEN 1 AND ?1 LIMIT ?2)",
+            "DELETE FROM " + TABLE_TEACHER + " WHERE " + TEACHER_COLUMN_ID + " IN (SELECT " + TEACHER_COLUMN_ID + " FROM " + TABLE_TEACHER +
+                    " WHERE " + TEACHER_COLUMN_DELETED + " BETWEEN 1 AND ?1 LIMIT ?2)"
+    };
+    private static final int PURGE_BATCH_SIZE = 200;
+
+    private static final String EXISTS_SUBJECT = "SELECT EXISTS (SELECT 1 FROM " + TABLE_SUBJECT + " WHERE " + SUBJECT_COLUMN_ID + " = ? AND " + SUBJECT_COLUMN_DELETED + " = 0)";
+    private static final String EXISTS_TEACHER = "SELECT EXISTS (SELECT 1 FROM " + TABLE_TEACHER + " WHERE " + TEACHER_COLUMN_ID + " = ? AND " + TEACHER_COLUMN_DELETED + " = 0)";
+    private static final String EXISTS_HOMEWORK = "SELECT EXISTS (SELECT 1 FROM " + TABLE_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_ID + " = ?)";
+    private static final String EXISTS_EXAM = "SELECT EXISTS (SELECT 1 FROM " + TABLE_EXAM + " WHERE " + EXAM_COLUMN_ID + " = ?)";
+    private static final String EXISTS_GRADE = "SELECT EXISTS (SELECT 1 FROM " + TABLE_GRADE + " WHERE " + GRADE_COLUMN_ID + " = ?)";
+    private static final String EXISTS_PERIOD = "SELECT EXISTS (SELECT 1 FROM " + TABLE_PERIOD + " WHERE " + PERIOD_COLUMN_ID + " = ?)";
+    private static final String EXISTS_LESSON = "SELECT EXISTS (SELECT 1 FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_ID + " = ?)";
+    private static final String EXISTS_WEEKDAY = "SELECT EXISTS (SELECT 1 FROM " + TABLE_WEEKDAY + " WHERE " + WEEKDAY_COLUMN_ID + " = ?)";
+    private static final String EXISTS_SCHEDULE = "SELECT EXISTS (SELECT 1 FROM " + TABLE_SCHEDULE + " WHERE " + SCHEDULE_COLUMN_ID + " = ?)";
+    private static final String CASCADE_IMPACT_SUBJECT = "SELECT " +
+            "IFNULL(SUM(" + SUBJECT_COUNTER_COLUMN_HOMEWORK + "), 0) AS " + TABLE_HOMEWORK + ", " +
+            "IFNULL(SUM(" + SUBJECT_COUNTER_COLUMN_EXAMS + "), 0) AS " + TABLE_EXAM + ", " +
+            "IFNULL(SUM(" + SUBJECT_COUNTER_COLUMN_GRADES + "), 0) AS " + TABLE_GRADE + ", " +
+            "IFNULL(SUM(" + SUBJECT_COUNTER_COLUMN_LESSONS + "), 0) AS " + TABLE_LESSON +
+            " FROM " + TABLE_SUBJECT_COUNTER + " WHERE " + SUBJECT_COUNTER_COLUMN_SUBJECT_ID + " = ?1";
+    private static final String CASCADE_IMPACT_TEACHER = "SELECT " +
+            "COUNT(*) AS " + TABLE_SUBJECT + ", " +
+            "IFNULL(SUM(" + SUBJECT_COUNTER_COLUMN_HOMEWORK + "), 0) AS " + TABLE_HOMEWORK + ", " +
+            "IFNULL(SUM(" + SUBJECT_COUNTER_COLUMN_EXAMS + "), 0) AS " + TABLE_EXAM + ", " +
+            "IFNULL(SUM(" + SUBJECT_COUNTER_COLUMN_GRADES + "), 0) AS " + TABLE_GRADE + ", " +
+            "IFNULL(SUM(" + SUBJECT_COUNTER_COLUMN_LESSONS + "), 0) AS " + TABLE_LESSON +
+            " FROM " + TABLE_SUBJECT +
+            " LEFT JOIN " + TABLE_SUBJECT_COUNTER + " ON " + SUBJECT_COUNTER_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID +
+            " WHERE " + SUBJECT_COLUMN_TEACHER_ID + " = ?1 AND " + SUBJECT_COLUMN_DELETED + " = 0";
+    private static final String CASCADE_IMPACT_PERIOD = "SELECT " +
+            "(SELECT COUNT(*) FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_PERIOD_ID + " = ?1) AS " + TABLE_LESSON;
+    private static final String CASCADE_IMPACT_WEEKDAY = "SELECT " +
+            "(SELECT COUNT(*) FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_WEEKDAY_ID + " = ?1) AS " + TABLE_LESSON;
+    private static final String CASCADE_IMPACT_SCHEDULE = "SELECT " +
+            "(SELECT COUNT(*) FROM " + TABLE_WEEKDAY + " WHERE " + WEEKDAY_COLUMN_SCHEDULE_ID + " = ?1) AS " + TABLE_WEEKDAY + ", " +
+            "(SELECT COUNT(*) FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_WEEKDAY_ID + " IN (SELECT " + WEEKDAY_COLUMN_ID + " FROM " + TABLE_WEEKDAY + " WHERE " + WEEKDAY_COLUMN_SCHEDULE_ID + " = ?1)) AS " + TABLE_LESSON;
+
+    //every item of a bulk insert runs in a savepoint, so a failing item also rolls back the parents inserted for it.
+    //the rollback starts with ';', SQLiteDatabase takes a statement starting with ROLLBACK for the end of its transaction
+    private static final String SAVEPOINT_BULK_ITEM = "SAVEPOINT bulk_item";
+    private static final String ROLLBACK_TO_BULK_ITEM = ";ROLLBACK TO bulk_item";
+    private static final String RELEASE_BULK_ITEM = "RELEASE bulk_item";
+
+    private static final String HOLDS_WEEK_AGENDA_RANGE = "SELECT EXISTS (SELECT 1 FROM " + TABLE_WEEK_AGENDA_RANGE +
+            " WHERE " + WEEK_AGENDA_RANGE_COLUMN_FIRST_DAY + " = ? AND " + WEEK_AGENDA_RANGE_COLUMN_LAST_DAY + " = ?)";
+    private static final String AND_WEEK_AGENDA_HOLDS_RANGE = " AND EXISTS (SELECT 1 FROM " + TABLE_WEEK_AGENDA_RANGE +
+            " WHERE " + WEEK_AGENDA_RANGE_COLUMN_FIRST_DAY + " = ? AND " + WEEK_AGENDA_RANGE_COLUMN_LAST_DAY + " = ?)";
+
+    private static final String SELECT_TEACHERS = "SELECT * FROM " + TABLE_TEACHER + " WHERE " + TEACHER_COLUMN_DELETED + " = 0";
+    private static final String SELECT_SUBJECTS = "SELECT * FROM " + TABLE_SUBJECT +
+            " JOIN " + TABLE_TEACHER + " ON " + SUBJECT_COLUMN_TEACHER_ID + " = " + TEACHER_COLUMN_ID +
+            " AND " + SUBJECT_COLUMN_DELETED + " = 0 AND " + TEACHER_COLUMN_DELETED + " = 0";
+    private static final String SELECT_HOMEWORK = "SELECT * FROM " + TABLE_HOMEWORK +
+            " JOIN " + TABLE_SUBJECT + " ON " + HOMEWORK_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID + " AND " + SUBJECT_COLUMN_DELETED + " = 0" +
+            " JOIN " + TABLE_TEACHER + " ON " + SUBJECT_COLUMN_TEACHER_ID + " = " + TEACHER_COLUMN_ID;
+    private static final String SELECT_EXAMS = "SELECT * FROM " + TABLE_EXAM +
+            " JOIN " + TABLE_SUBJECT + " ON " + EXAM_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID + " AND " + SUBJECT_COLUMN_DELETED + " = 0" +
+            " JOIN " + TABLE_TEACHER + " ON " + SUBJECT_COLUMN_TEACHER_ID + " = " + TEACHER_COLUMN_ID;
+    private static final String SELECT_GRADES = "SELECT * FROM " + TABLE_GRADE +
+            " JOIN " + TABLE_SUBJECT + " ON " + GRADE_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID + " AND " + SUBJECT_COLUMN_DELETED + " = 0" +
+            " JOIN " + TABLE_TEACHER + " ON " + SUBJECT_COLUMN_TEACHER_ID + " = " + TEACHER_COLUMN_ID;
+    private static final String SELECT_LESSONS = "SELECT * FROM " + TABLE_LESSON +
+            " JOIN " + TABLE_SUBJECT + " ON " + LESSON_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID + " AND " + SUBJECT_COLUMN_DELETED + " = 0" +
+            " JOIN " + TABLE_TEACHER + " ON " + SUBJECT_COLUMN_TEACHER_ID + " = " + TEACHER_COLUMN_ID +
+            " JOIN " + TABLE_PERIOD + " ON " + LESSON_COLUMN_PERIOD_ID + " = " + PERIOD_COLUMN_ID;
+    //endregion
+
+    private static DatabaseHelperImpl instance;
+    private static long lastDeleteStamp = 0;
+    private static long undoableDelete = 0;
+
+    private final DatabaseOpenHelper openHelper;
     private final Context context;
     private Activity activity = null;
 
     /**
      * standard c'tor for DatabaseHelperImpl
+     * <br> </br>
+     * Note: every DatabaseHelperImpl uses the same process wide database connection, so creating one is cheap
      *
      * @param context context of the application
      */
     public DatabaseHelperImpl(Context context) {
-        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        this.openHelper = DatabaseOpenHelper.getInstance(context);
         this.context = context;
     }
 
@@ -48,62 +285,42 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @param activity activity which is using the Database
      */
     public DatabaseHelperImpl(Activity activity) {
-        super(activity, DATABASE_NAME, null, DATABASE_VERSION);
+        this.openHelper = DatabaseOpenHelper.getInstance(activity);
         this.context = activity;
         this.activity = activity;
     }
 
     /**
-     * method inherited from SQLiteOpenHelper to create and setup the schoolPlanner Database
-     *
-     * @param sqLiteDatabase the schoolPlanner Database
-     */
-    @Override
-    public void onCreate(SQLiteDatabase sqLiteDatabase) {
-        createTables(sqLiteDatabase);
-    }
-
-    /**
-     * Create and/or open a database that will be used for reading and writing with enabled foreign key support.
-     * The first time this is called, the database will be opened and
-     * {@link #onCreate}, {@link #onUpgrade} and/or {@link #onOpen} will be
-     * called.
-     * <p>
-     * <p>Once opened successfully, the database is cached, so you can
-     * call this method every time you need to write to the database.
-     * (Make sure to call {@link #close} when you no longer need the database.)
-     * Errors such as bad permissions or a full disk may cause this method
-     * to fail, but future attempts may succeed if the problem is fixed.</p>
-     * <p>
-     * <p class="caution">Database upgrade may take a long time, you
-     * should not call this method from the application main thread, including
-     * from {@link ContentProvider#onCreate ContentProvider.onCreate()}.
+     * gets the application wide DatabaseHelperImpl, which is bound to the application context.
+     * <br> </br>
+     * Note: use {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} instead if delete methods should show
+     * a {@link DatabaseCascadeDeleteConfirmDialog} or finish the {@link Activity}
      *
-     * @return a read/write database object valid until {@link #close} is called
-     * @throws SQLiteException if the database cannot be opened for writing
+     * @param context any context of the app
+     * @return the shared DatabaseHelperImpl
      */
-    @Override
-    public SQLiteDatabase getWritableDatabase() {
-        SQLiteDatabase database = super.getWritableDatabase();
-        database.setForeignKeyConstraintsEnabled(true);
-
-        return database;
+    public static synchronized DatabaseHelperImpl getInstance(Context context) {
+        if (instance == null) {
+            instance = new DatabaseHelperImpl(context.getApplicationContext());
+        }
+        return instance;
     }
 
     /**
-     * method inherited from SQLiteOpenHelper called to reset the schoolPlanner Database
-     *
-     * @param sqLiteDatabase the schoolPlanner Database
-     * @param i              old db version number
-     * @param i1             new db version number
+     * closes the shared database connection on the writer thread of {@link DatabaseExecutor}, call it when the app is finishing.
+     * the mutations queued before run first and the reader pool is drained, so nothing uses the connection while it is closed.
+     * the connection is opened again by the next access to the database
      */
-    @Override
-    public void onUpgrade(SQLiteDatabase sqLiteDatabase, int i, int i1) {
-        dropAllTables(sqLiteDatabase);
-        onCreate(sqLiteDatabase);
+    public static void closeDatabase() {
+        DatabaseExecutor.getInstance().writeExclusive(new Callable<Void>() {
+            @Override
+            public Void call() {
+                DatabaseOpenHelper.closeInstance();
+                return null;
+            }
+        }, null);
     }
 
-
     //region handling Methods
     //region getObjectAtId
 
@@ -117,12 +334,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Subject getSubjectAtId(int id) {
-        try {
-            return getSubjectAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Subject subject = findSubject(id);
+        if (subject == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Subject", context);
-            return null;
         }
+        return subject;
     }
 
     /**
@@ -135,12 +351,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Teacher getTeacherAtId(int id) {
-        try {
-            return getTeacherAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Teacher teacher = findTeacher(id);
+        if (teacher == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Teacher", context);
-            return null;
         }
+        return teacher;
     }
 
     /**
@@ -153,12 +368,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Homework getHomeworkAtId(int id) {
-        try {
-            return getHomeworkAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Homework homework = findHomework(id);
+        if (homework == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Homework", context);
-            return null;
         }
+        return homework;
     }
 
     /**
@@ -171,12 +385,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Exam getExamAtId(int id) {
-        try {
-            return getExamAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Exam exam = findExam(id);
+        if (exam == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Exam", context);
-            return null;
         }
+        return exam;
     }
 
     /**
@@ -189,12 +402,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Grade getGradeAtId(int id) {
-        try {
-            return getGradeAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Grade grade = findGrade(id);
+        if (grade == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Grade", context);
-            return null;
         }
+        return grade;
     }
 
     /**
@@ -207,12 +419,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Period getPeriodAtId(int id) {
-        try {
-            return getPeriodAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Period period = findPeriod(id);
+        if (period == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Period", context);
-            return null;
         }
+        return period;
     }
 
     /**
@@ -225,12 +436,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Lesson getLessonAtId(int id) {
-        try {
-            return getLessonAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Lesson lesson = findLesson(id);
+        if (lesson == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Lesson", context);
-            return null;
         }
+        return lesson;
     }
 
     /**
@@ -243,12 +453,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Weekday getWeekdayAtId(int id) {
-        try {
-            return getWeekdayAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Weekday weekday = findWeekday(id);
+        if (weekday == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Weekday", context);
-            return null;
         }
+        return weekday;
     }
 
     /**
@@ -261,494 +470,1800 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Schedule getScheduleAtId(int id) {
-        try {
-            return getScheduleAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
+        Schedule schedule = findSchedule(id);
+        if (schedule == null) {
             ExceptionHandler.handleDatabaseExceptionForGettingANotExistingObject("Schedule", context);
-            return null;
         }
+        return schedule;
     }
     //endregion
 
-    //region updateObjectAtId
+    //region findObject
 
     /**
-     * updates {@link Subject} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Subject} at a specific id, loaded together with its {@link Teacher} in a single query
      *
-     * @param newSubject the new {@link Subject}
+     * @param id id in database
+     * @return row with given id from db as {@link Subject}, or null if not existing
      */
     @Override
-    public void updateSubjectAtId(Subject newSubject) {
-        try {
-            updateSubjectAtIdOrThrow(newSubject);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Subject", context);
-        }
+    public Subject findSubject(int id) {
+        return firstOrNull(readSubjectsFromJoinedQuery(SELECT_SUBJECTS + " WHERE " + SUBJECT_COLUMN_ID + " = ?", toArgs(id)));
     }
 
     /**
-     * updates {@link Teacher} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Teacher} at a specific id
      *
-     * @param newTeacher the new {@link Teacher}
+     * @param id id in database
+     * @return row with given id from db as {@link Teacher}, or null if not existing
      */
     @Override
-    public void updateTeacherAtId(Teacher newTeacher) {
-        try {
-            updateTeacherAtIdOrThrow(newTeacher);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Teacher", context);
-        }
+    public Teacher findTeacher(int id) {
+        return firstOrNull(readTeachersFromJoinedQuery(SELECT_TEACHERS + " AND " + TEACHER_COLUMN_ID + " = ?", toArgs(id)));
     }
 
     /**
-     * updates {@link Homework} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Homework} at a specific id, loaded together with its {@link Subject} and {@link Teacher} in a single query
      *
-     * @param newHomework the new {@link Homework}
+     * @param id id in database
+     * @return row with given id from db as {@link Homework}, or null if not existing
      */
     @Override
-    public void updateHomeworkAtId(Homework newHomework) {
-        try {
-            updateHomeworkAtIdOrThrow(newHomework);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Homework", context);
-        }
+    public Homework findHomework(int id) {
+        return firstOrNull(readHomeworkFromJoinedQuery(SELECT_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_ID + " = ?", toArgs(id)));
     }
 
     /**
-     * updates {@link Exam} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Exam} at a specific id, loaded together with its {@link Subject} and {@link Teacher} in a single query
      *
-     * @param newExam the new {@link Exam}
+     * @param id id in database
+     * @return row with given id from db as {@link Exam}, or null if not existing
      */
     @Override
-    public void updateExamAtId(Exam newExam) {
-        try {
-            updateExamAtIdOrThrow(newExam);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Exam", context);
-        }
+    public Exam findExam(int id) {
+        return firstOrNull(readExamsFromJoinedQuery(SELECT_EXAMS + " WHERE " + EXAM_COLUMN_ID + " = ?", toArgs(id)));
     }
 
     /**
-     * updates {@link Grade} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Grade} at a specific id, loaded together with its {@link Subject} and {@link Teacher} in a single query
      *
-     * @param newGrade the new {@link Grade}
+     * @param id id in database
+     * @return row with given id from db as {@link Grade}, or null if not existing
      */
     @Override
-    public void updateGradeAtId(Grade newGrade) {
-        try {
-            updateGradeAtIdOrThrow(newGrade);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Grade", context);
-        }
+    public Grade findGrade(int id) {
+        return firstOrNull(readGradesFromJoinedQuery(SELECT_GRADES + " WHERE " + GRADE_COLUMN_ID + " = ?", toArgs(id)));
     }
 
     /**
-     * updates {@link Period} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Period} at a specific id
      *
-     * @param newPeriod the new {@link Period}
+     * @param id id in database
+     * @return row with given id from db as {@link Period}, or null if not existing
      */
     @Override
-    public void updatePeriodAtId(Period newPeriod) {
-        try {
-            updatePeriodAtIdOrThrow(newPeriod);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Period", context);
-        }
+    public Period findPeriod(int id) {
+        return firstOrNull(readPeriodsFromQuery(buildQueryToGetRowAtId(TABLE_PERIOD, PERIOD_COLUMN_ID), toArgs(id)));
     }
 
     /**
-     * updates {@link Lesson} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Lesson} at a specific id, loaded together with its {@link Subject}, {@link Teacher} and {@link Period} in a single query
      *
-     * @param newLesson the new {@link Lesson}
+     * @param id id in database
+     * @return row with given id from db as {@link Lesson}, or null if not existing
      */
     @Override
-    public void updateLessonAtId(Lesson newLesson) {
-        try {
-            updateLessonAtIdOrThrow(newLesson);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Lesson", context);
-        }
+    public Lesson findLesson(int id) {
+        return firstOrNull(readLessonsFromJoinedQuery(SELECT_LESSONS + " WHERE " + LESSON_COLUMN_ID + " = ?", toArgs(id)));
     }
 
     /**
-     * updates {@link Weekday} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Weekday} at a specific id, its {@link Lesson}s are loaded in a second single query
      *
-     * @param newWeekday the new {@link Weekday}
+     * @param id id in database
+     * @return row with given id from db as {@link Weekday}, or null if not existing
      */
     @Override
-    public void updateWeekdayAtId(Weekday newWeekday) {
-        try {
-            updateWeekdayAtIdOrThrow(newWeekday);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Weekday", context);
+    public Weekday findWeekday(int id) {
+        String name;
+        try (Cursor cursor = this.getReadableDatabase().rawQuery(buildQueryToGetRowAtId(TABLE_WEEKDAY, WEEKDAY_COLUMN_ID), toArgs(id))) {
+            if (!cursor.moveToFirst()) {
+                return null;
+            }
+            name = cursor.getString(cursor.getColumnIndexOrThrow(WEEKDAY_COLUMN_NAME));
         }
+
+        String query = SELECT_LESSONS + " WHERE " + LESSON_COLUMN_WEEKDAY_ID + " = ? ORDER BY " + LESSON_COLUMN_ID;
+
+        return new Weekday(id, name, readLessonsFromJoinedQuery(query, toArgs(id)));
     }
 
     /**
-     * updates {@link Schedule} at the given id in database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     * finds the {@link Schedule} at a specific id, loaded together with all its {@link Weekday}s, {@link Lesson}s,
+     * {@link Period}s, {@link Subject}s and {@link Teacher}s in a single query
      *
-     * @param newSchedule the new {@link Schedule}
+     * @param id id in database
+     * @return row with given id from db as {@link Schedule}, or null if not existing
      */
     @Override
-    public void updateScheduleAtId(Schedule newSchedule) {
-        try {
-            updateScheduleAtIdOrThrow(newSchedule);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Schedule", context);
+    public Schedule findSchedule(int id) {
+
+        String scheduleWithChildren = TABLE_SCHEDULE +
+                " LEFT JOIN " + TABLE_WEEKDAY + " ON " + WEEKDAY_COLUMN_SCHEDULE_ID + " = " + SCHEDULE_COLUMN_ID +
+                " LEFT JOIN " + TABLE_LESSON + " ON " + LESSON_COLUMN_WEEKDAY_ID + " = " + WEEKDAY_COLUMN_ID +
+                " AND " + LESSON_COLUMN_SUBJECT_ID + " NOT IN (SELECT " + SUBJECT_COLUMN_ID + " FROM " + TABLE_SUBJECT + " WHERE " + SUBJECT_COLUMN_DELETED + " != 0)" +
+                " LEFT JOIN " + TABLE_PERIOD + " ON " + LESSON_COLUMN_PERIOD_ID + " = " + PERIOD_COLUMN_ID +
+                " LEFT JOIN " + TABLE_SUBJECT + " ON " + LESSON_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID +
+                " LEFT JOIN " + TABLE_TEACHER + " ON " + SUBJECT_COLUMN_TEACHER_ID + " = " + TEACHER_COLUMN_ID;
+        String query = buildQueryToGetRowAtId(scheduleWithChildren, SCHEDULE_COLUMN_ID) +
+                " ORDER BY " + WEEKDAY_COLUMN_ID + ", " + PERIOD_COLUMN_SCHOOL_HOUR_NO;
+
+        try (Cursor cursor = this.getReadableDatabase().rawQuery(query, toArgs(id))) {
+            if (!cursor.moveToFirst()) {
+                return null;
+            }
+
+            int scheduleNameIndex = cursor.getColumnIndexOrThrow(SCHEDULE_COLUMN_NAME);
+            int weekdayIdIndex = cursor.getColumnIndexOrThrow(WEEKDAY_COLUMN_ID);
+            int weekdayNameIndex = cursor.getColumnIndexOrThrow(WEEKDAY_COLUMN_NAME);
+            RowMapper.LessonMapper lessonMapper = new RowMapper.LessonMapper(cursor);
+
+            String scheduleName = cursor.getString(scheduleNameIndex);
+
+            ArrayList<Weekday> weekdayArrayList = new ArrayList<>();
+            ArrayList<Lesson> lessonArrayList = new ArrayList<>();
+
+            //rows are ordered by weekday, so all lessons of a weekday are read before the next weekday starts
+            while (!cursor.isAfterLast() && !cursor.isNull(weekdayIdIndex)) {
+                int weekdayId = cursor.getInt(weekdayIdIndex);
+                String weekdayName = cursor.getString(weekdayNameIndex);
+                lessonArrayList.clear();
+
+                while (!cursor.isAfterLast() && cursor.getInt(weekdayIdIndex) == weekdayId) {
+                    if (lessonMapper.hasLesson(cursor)) {
+                        lessonArrayList.add(lessonMapper.map(cursor));
+                    }
+                    cursor.moveToNext();
+                }
+
+                weekdayArrayList.add(new Weekday(weekdayId, weekdayName, lessonArrayList.toArray(new Lesson[0])));
+            }
+
+            return new Schedule(
+                    id,
+                    scheduleName,
+                    weekdayArrayList.toArray(new Weekday[0])
+            );
         }
     }
-    //endregion
-
-    //region insertIntoDB
 
     /**
-     * inserts {@link Subject} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * finds the {@link Subject}s at the given ids in a single query
      *
-     * @param subject {@link Subject} to be inserted
-     * @return the id in the database the {@link Subject} was inserted or -1 if action could not be performed
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Subject} at this id, or null if not existing
      */
     @Override
-    public int insertIntoDB(Subject subject) {
-        try {
-            return insertIntoDBOrThrow(subject);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(subject, context);
-            return -1;
+    public Subject[] findSubjects(int[] ids) {
+        SparseArray<Subject> found = new SparseArray<>();
+        for (Subject subject : readSubjectsFromJoinedQuery(SELECT_SUBJECTS + " WHERE " + SUBJECT_COLUMN_ID + buildInList(ids), null)) {
+            found.put(subject.getId(), subject);
+        }
+
+        Subject[] subjects = new Subject[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            subjects[i] = found.get(ids[i]);
         }
+        return subjects;
     }
 
     /**
-     * inserts {@link Teacher} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * finds the {@link Teacher}s at the given ids in a single query
      *
-     * @param teacher {@link Teacher} to be inserted
-     * @return the id in the database the {@link Teacher} was inserted or -1 if action could not be performed
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Teacher} at this id, or null if not existing
      */
     @Override
-    public int insertIntoDB(Teacher teacher) {
-        try {
-            return insertIntoDBOrThrow(teacher);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(teacher, context);
-            return -1;
+    public Teacher[] findTeachers(int[] ids) {
+        SparseArray<Teacher> found = new SparseArray<>();
+        for (Teacher teacher : readTeachersFromJoinedQuery(SELECT_TEACHERS + " AND " + TEACHER_COLUMN_ID + buildInList(ids), null)) {
+            found.put(teacher.getId(), teacher);
         }
+
+        Teacher[] teachers = new Teacher[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            teachers[i] = found.get(ids[i]);
+        }
+        return teachers;
     }
 
     /**
-     * inserts {@link Homework} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * finds the {@link Homework}s at the given ids in a single query
      *
-     * @param homework {@link Homework} to be inserted
-     * @return the id in the database the {@link Homework} was inserted or -1 if action could not be performed
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Homework} at this id, or null if not existing
      */
     @Override
-    public int insertIntoDB(Homework homework) {
-        try {
-            return insertIntoDBOrThrow(homework);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(homework, context);
-            return -1;
+    public Homework[] findHomework(int[] ids) {
+        SparseArray<Homework> found = new SparseArray<>();
+        for (Homework homework : readHomeworkFromJoinedQuery(SELECT_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_ID + buildInList(ids), null)) {
+            found.put(homework.getId(), homework);
+        }
+
+        Homework[] homework = new Homework[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            homework[i] = found.get(ids[i]);
         }
+        return homework;
     }
 
     /**
-     * inserts {@link Exam} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * finds the {@link Exam}s at the given ids in a single query
      *
-     * @param exam {@link Exam} to be inserted
-     * @return the id in the database the {@link Exam} was inserted or -1 if action could not be performed
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Exam} at this id, or null if not existing
      */
     @Override
-    public int insertIntoDB(Exam exam) {
-        try {
-            return insertIntoDBOrThrow(exam);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(exam, context);
-            return -1;
+    public Exam[] findExams(int[] ids) {
+        SparseArray<Exam> found = new SparseArray<>();
+        for (Exam exam : readExamsFromJoinedQuery(SELECT_EXAMS + " WHERE " + EXAM_COLUMN_ID + buildInList(ids), null)) {
+            found.put(exam.getId(), exam);
+        }
+
+        Exam[] exams = new Exam[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            exams[i] = found.get(ids[i]);
         }
+        return exams;
     }
 
     /**
-     * inserts {@link Grade} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * finds the {@link Grade}s at the given ids in a single query
      *
-     * @param grade {@link Grade} to be inserted
-     * @return the id in the database the {@link Grade} was inserted or -1 if action could not be performed
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Grade} at this id, or null if not existing
      */
     @Override
-    public int insertIntoDB(Grade grade) {
-        try {
-            return insertIntoDBOrThrow(grade);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(grade, context);
-            return -1;
+    public Grade[] findGrades(int[] ids) {
+        SparseArray<Grade> found = new SparseArray<>();
+        for (Grade grade : readGradesFromJoinedQuery(SELECT_GRADES + " WHERE " + GRADE_COLUMN_ID + buildInList(ids), null)) {
+            found.put(grade.getId(), grade);
+        }
+
+        Grade[] grades = new Grade[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            grades[i] = found.get(ids[i]);
         }
+        return grades;
     }
 
     /**
-     * inserts {@link Period} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * finds the {@link Period}s at the given ids in a single query
      *
-     * @param period {@link Period} to be inserted
-     * @return the id in the database the {@link Period} was inserted or -1 if action could not be performed
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Period} at this id, or null if not existing
      */
     @Override
-    public int insertIntoDB(Period period) {
-        try {
-            return insertIntoDBOrThrow(period);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(period, context);
-            return -1;
+    public Period[] findPeriods(int[] ids) {
+        SparseArray<Period> found = new SparseArray<>();
+        for (Period period : readPeriodsFromQuery("SELECT * FROM " + TABLE_PERIOD + " WHERE " + PERIOD_COLUMN_ID + buildInList(ids), null)) {
+            found.put(period.getId(), period);
         }
+
+        Period[] periods = new Period[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            periods[i] = found.get(ids[i]);
+        }
+        return periods;
     }
 
     /**
-     * inserts {@link Lesson} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * finds the {@link Lesson}s at the given ids in a single query
      *
-     * @param lesson {@link Lesson} to be inserted
-     * @return the id in the database the {@link Lesson} was inserted or -1 if action could not be performed
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Lesson} at this id, or null if not existing
      */
     @Override
-    public int insertIntoDB(Lesson lesson) {
-        try {
-            return insertIntoDBOrThrow(lesson);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(lesson, context);
+    public Lesson[] findLessons(int[] ids) {
+        SparseArray<Lesson> found = new SparseArray<>();
+        for (Lesson lesson : readLessonsFromJoinedQuery(SELECT_LESSONS + " WHERE " + LESSON_COLUMN_ID + buildInList(ids), null)) {
+            found.put(lesson.getId(), lesson);
+        }
+
+        Lesson[] lessons = new Lesson[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            lessons[i] = found.get(ids[i]);
+        }
+        return lessons;
+    }
+    //endregion
+
+    //region existsObjectAtId
+
+    /**
+     * checks whether there is a {@link Subject} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Subject} at the given id, which isn't tombstoned
+     */
+    @Override
+    public boolean existsSubjectAtId(int id) {
+        return rowExists(EXISTS_SUBJECT, id);
+    }
+
+    /**
+     * checks whether there is a {@link Teacher} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Teacher} at the given id, which isn't tombstoned
+     */
+    @Override
+    public boolean existsTeacherAtId(int id) {
+        return rowExists(EXISTS_TEACHER, id);
+    }
+
+    /**
+     * checks whether there is a {@link Homework} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Homework} at the given id
+     */
+    @Override
+    public boolean existsHomeworkAtId(int id) {
+        return rowExists(EXISTS_HOMEWORK, id);
+    }
+
+    /**
+     * checks whether there is a {@link Exam} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Exam} at the given id
+     */
+    @Override
+    public boolean existsExamAtId(int id) {
+        return rowExists(EXISTS_EXAM, id);
+    }
+
+    /**
+     * checks whether there is a {@link Grade} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Grade} at the given id
+     */
+    @Override
+    public boolean existsGradeAtId(int id) {
+        return rowExists(EXISTS_GRADE, id);
+    }
+
+    /**
+     * checks whether there is a {@link Period} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Period} at the given id
+     */
+    @Override
+    public boolean existsPeriodAtId(int id) {
+        return rowExists(EXISTS_PERIOD, id);
+    }
+
+    /**
+     * checks whether there is a {@link Lesson} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Lesson} at the given id
+     */
+    @Override
+    public boolean existsLessonAtId(int id) {
+        return rowExists(EXISTS_LESSON, id);
+    }
+
+    /**
+     * checks whether there is a {@link Weekday} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Weekday} at the given id
+     */
+    @Override
+    public boolean existsWeekdayAtId(int id) {
+        return rowExists(EXISTS_WEEKDAY, id);
+    }
+
+    /**
+     * checks whether there is a {@link Schedule} at a specific id with a single indexed lookup, without loading it
+     *
+     * @param id id in database
+     * @return true if there is a {@link Schedule} at the given id
+     */
+    @Override
+    public boolean existsScheduleAtId(int id) {
+        return rowExists(EXISTS_SCHEDULE, id);
+    }
+    //endregion
+
+    //region getAllObjects
+
+    /**
+     * gets all {@link Subject}s from database, loaded together with their {@link Teacher}s in a single query
+     *
+     * @return all {@link Subject}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Subject[] getAllSubjects() {
+        String query = SELECT_SUBJECTS + " ORDER BY " + SUBJECT_COLUMN_ID;
+
+        return readSubjectsFromJoinedQuery(query, null);
+    }
+
+    /**
+     * gets all {@link Teacher}s from database in a single query
+     *
+     * @return all {@link Teacher}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Teacher[] getAllTeachers() {
+        String query = SELECT_TEACHERS + " ORDER BY " + TEACHER_COLUMN_ID;
+
+        return readTeachersFromJoinedQuery(query, null);
+    }
+
+    /**
+     * gets all {@link Homework}s from database, loaded together with their {@link Subject}s and {@link Teacher}s in a single query
+     *
+     * @return all {@link Homework}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Homework[] getAllHomework() {
+        String query = SELECT_HOMEWORK +
+                " ORDER BY " + HOMEWORK_COLUMN_ID;
+
+        return readHomeworkFromJoinedQuery(query, null);
+    }
+
+    /**
+     * gets all {@link Exam}s from database, loaded together with their {@link Subject}s and {@link Teacher}s in a single query
+     *
+     * @return all {@link Exam}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Exam[] getAllExams() {
+        String query = SELECT_EXAMS +
+                " ORDER BY " + EXAM_COLUMN_ID;
+
+        return readExamsFromJoinedQuery(query, null);
+    }
+
+    /**
+     * gets all {@link Grade}s from database, loaded together with their {@link Subject}s and {@link Teacher}s in a single query
+     *
+     * @return all {@link Grade}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Grade[] getAllGrades() {
+        String query = SELECT_GRADES +
+                " ORDER BY " + GRADE_COLUMN_ID;
+
+        return readGradesFromJoinedQuery(query, null);
+    }
+
+    /**
+     * gets all {@link Period}s from database in a single query
+     *
+     * @return all {@link Period}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Period[] getAllPeriods() {
+        String query = "SELECT * FROM " + TABLE_PERIOD + " ORDER BY " + PERIOD_COLUMN_ID;
+
+        return readPeriodsFromQuery(query, null);
+    }
+    //endregion
+
+    //region getObjectPage
+
+    /**
+     * gets the next page of {@link Homework}s ordered by deadline and id, using the last shown {@link Homework} as key
+     * instead of an offset, so every page costs the same no matter how far the list is scrolled
+     *
+     * @param done     true to page through done {@link Homework}s, false for the ones to do
+     * @param after    the last {@link Homework} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Homework}s in the page
+     * @return the {@link Homework}s of the page, less than pageSize if it is the last one
+     */
+    @Override
+    public Homework[] getHomeworkPage(boolean done, Homework after, int pageSize) {
+        return findHomework(new Criteria().whereDone(done).orderBy(Criteria.Order.DEADLINE).after(after).limit(pageSize));
+    }
+
+    /**
+     * gets the next page of {@link Exam}s ordered by deadline and id, using the last shown {@link Exam} as key
+     *
+     * @param after    the last {@link Exam} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Exam}s in the page
+     * @return the {@link Exam}s of the page, less than pageSize if it is the last one
+     */
+    @Override
+    public Exam[] getExamPage(Exam after, int pageSize) {
+        return findExams(new Criteria().orderBy(Criteria.Order.DEADLINE).after(after).limit(pageSize));
+    }
+
+    /**
+     * gets the next page of {@link Grade}s in a {@link Subject} ordered by name and id, using the last shown {@link Grade} as key
+     *
+     * @param subject  the {@link Subject} the {@link Grade}s are in
+     * @param after    the last {@link Grade} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Grade}s in the page
+     * @return the {@link Grade}s of the page, less than pageSize if it is the last one
+     */
+    @Override
+    public Grade[] getGradePage(Subject subject, Grade after, int pageSize) {
+        return findGrades(new Criteria().whereSubject(subject.getId()).orderBy(Criteria.Order.NAME).after(after).limit(pageSize));
+    }
+
+    /**
+     * gets the next page of {@link Teacher}s ordered by name and id, using the last shown {@link Teacher} as key
+     *
+     * @param after    the last {@link Teacher} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Teacher}s in the page
+     * @return the {@link Teacher}s of the page, less than pageSize if it is the last one
+     */
+    @Override
+    public Teacher[] getTeacherPage(Teacher after, int pageSize) {
+        String query = SELECT_TEACHERS;
+        if (after == null) {
+            query += " ORDER BY " + TEACHER_COLUMN_NAME + ", " + TEACHER_COLUMN_ID + " LIMIT " + pageSize;
+
+            return readTeachersFromJoinedQuery(query, null);
+        }
+
+        query += " AND " + buildKeysetCondition(TEACHER_COLUMN_NAME, TEACHER_COLUMN_ID) +
+                " ORDER BY " + TEACHER_COLUMN_NAME + ", " + TEACHER_COLUMN_ID + " LIMIT " + pageSize;
+
+        return readTeachersFromJoinedQuery(query, new String[]{after.getName(), after.getName(), String.valueOf(after.getId())});
+    }
+    //endregion
+
+    //region getObjectsBetween
+
+    /**
+     * gets all {@link Homework}s with a deadline between two dates, both included, with a range scan over the deadline index
+     *
+     * @param from        the first day of the range
+     * @param to          the last day of the range
+     * @param includeDone true to also get done {@link Homework}s, false for only the ones to do
+     * @return the {@link Homework}s ordered by deadline, or an empty array if there are none
+     */
+    @Override
+    public Homework[] getHomeworkDueBetween(Calendar from, Calendar to, boolean includeDone) {
+        Criteria criteria = new Criteria().whereDeadlineBetween(from, to).orderBy(Criteria.Order.DEADLINE);
+        if (!includeDone) {
+            criteria.whereDone(false);
+        }
+        return findHomework(criteria);
+    }
+
+    /**
+     * gets all {@link Exam}s with a date between two dates, both included, with a range scan over the deadline index
+     *
+     * @param from the first day of the range
+     * @param to   the last day of the range
+     * @return the {@link Exam}s ordered by date, or an empty array if there are none
+     */
+    @Override
+    public Exam[] getExamsBetween(Calendar from, Calendar to) {
+        return findExams(new Criteria().whereDeadlineBetween(from, to).orderBy(Criteria.Order.DEADLINE));
+    }
+    //endregion
+
+    //region week agenda
+
+    /**
+     * moves the week agenda to the given week if it holds another one. the range is checked with a compiled statement,
+     * only the first move to a new week writes
+     * <br> </br>
+     * Note: run it on the writer thread of {@link DatabaseExecutor}, the getters of the agenda only read
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     */
+    @Override
+    public void moveWeekAgenda(Calendar firstDay, Calendar lastDay) {
+        long first = EpochDays.fromCalendar(firstDay);
+        long last = EpochDays.fromCalendar(lastDay);
+
+        SQLiteStatement statement = compileStatement(HOLDS_WEEK_AGENDA_RANGE);
+        statement.bindLong(1, first);
+        statement.bindLong(2, last);
+        if (statement.simpleQueryForLong() == 0) {
+            DatabaseOpenHelper.moveWeekAgenda(getWritableDatabase(), first, last);
+        }
+    }
+
+    /**
+     * gets the {@link Homework}s to do in a week with primary key lookups of the few rows in the week agenda table,
+     * so the read doesn't grow with the count of all homework. see {@link DatabaseHelperImpl#moveWeekAgenda(Calendar, Calendar)}
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     * @return the {@link Homework}s to do ordered by deadline, or an empty array if there are none or the agenda holds another week
+     */
+    @Override
+    public Homework[] getWeekAgendaHomework(Calendar firstDay, Calendar lastDay) {
+        String query = SELECT_HOMEWORK +
+                " WHERE " + HOMEWORK_COLUMN_ID + " IN (SELECT " + WEEK_AGENDA_COLUMN_HOMEWORK_ID + " FROM " + TABLE_WEEK_AGENDA + ")" +
+                AND_WEEK_AGENDA_HOLDS_RANGE +
+                " ORDER BY " + HOMEWORK_COLUMN_DEADLINE + ", " + HOMEWORK_COLUMN_ID;
+
+        return readHomeworkFromJoinedQuery(query, toWeekAgendaRangeArgs(firstDay, lastDay));
+    }
+
+    /**
+     * gets the {@link Exam}s of a week with primary key lookups of the few rows in the week agenda table,
+     * so the read doesn't grow with the count of all exams. see {@link DatabaseHelperImpl#moveWeekAgenda(Calendar, Calendar)}
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     * @return the {@link Exam}s ordered by date, or an empty array if there are none or the agenda holds another week
+     */
+    @Override
+    public Exam[] getWeekAgendaExams(Calendar firstDay, Calendar lastDay) {
+        String query = SELECT_EXAMS +
+                " WHERE " + EXAM_COLUMN_ID + " IN (SELECT " + WEEK_AGENDA_COLUMN_EXAM_ID + " FROM " + TABLE_WEEK_AGENDA + ")" +
+                AND_WEEK_AGENDA_HOLDS_RANGE +
+                " ORDER BY " + EXAM_COLUMN_DEADLINE + ", " + EXAM_COLUMN_ID;
+
+        return readExamsFromJoinedQuery(query, toWeekAgendaRangeArgs(firstDay, lastDay));
+    }
+    //endregion
+
+    //region findObjects by criteria
+
+    /**
+     * finds the {@link Homework}s matching the {@link Criteria} in a single query, loaded together with their {@link Subject} and {@link Teacher}
+     *
+     * @param criteria filter, order and limit of the {@link Homework}s
+     * @return the matching {@link Homework}s, or an empty array if there are none
+     */
+    @Override
+    public Homework[] findHomework(Criteria criteria) {
+        ArrayList<String> args = new ArrayList<>();
+        String query = buildCriteriaQuery(SELECT_HOMEWORK, criteria, args, HOMEWORK_COLUMN_ID, HOMEWORK_COLUMN_SUBJECT_ID,
+                HOMEWORK_COLUMN_DONE, HOMEWORK_COLUMN_DEADLINE, null);
+
+        return readHomeworkFromJoinedQuery(query, args.toArray(new String[0]));
+    }
+
+    /**
+     * finds the {@link Exam}s matching the {@link Criteria} in a single query, loaded together with their {@link Subject} and {@link Teacher}
+     *
+     * @param criteria filter, order and limit of the {@link Exam}s
+     * @return the matching {@link Exam}s, or an empty array if there are none
+     */
+    @Override
+    public Exam[] findExams(Criteria criteria) {
+        ArrayList<String> args = new ArrayList<>();
+        String query = buildCriteriaQuery(SELECT_EXAMS, criteria, args, EXAM_COLUMN_ID, EXAM_COLUMN_SUBJECT_ID,
+                null, EXAM_COLUMN_DEADLINE, null);
+
+        return readExamsFromJoinedQuery(query, args.toArray(new String[0]));
+    }
+
+    /**
+     * finds the {@link Grade}s matching the {@link Criteria} in a single query, loaded together with their {@link Subject} and {@link Teacher}
+     *
+     * @param criteria filter, order and limit of the {@link Grade}s
+     * @return the matching {@link Grade}s, or an empty array if there are none
+     */
+    @Override
+    public Grade[] findGrades(Criteria criteria) {
+        ArrayList<String> args = new ArrayList<>();
+        String query = buildCriteriaQuery(SELECT_GRADES, criteria, args, GRADE_COLUMN_ID, GRADE_COLUMN_SUBJECT_ID,
+                null, null, GRADE_COLUMN_NAME);
+
+        return readGradesFromJoinedQuery(query, args.toArray(new String[0]));
+    }
+    //endregion
+
+    //region updateObjectAtId
+
+    /**
+     * updates {@link Subject} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newSubject the new {@link Subject}
+     */
+    @Override
+    public void updateSubjectAtId(Subject newSubject) {
+        try {
+            updateSubjectAtIdOrThrow(newSubject);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Subject", context);
+        }
+    }
+
+    /**
+     * updates {@link Teacher} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newTeacher the new {@link Teacher}
+     */
+    @Override
+    public void updateTeacherAtId(Teacher newTeacher) {
+        try {
+            updateTeacherAtIdOrThrow(newTeacher);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Teacher", context);
+        }
+    }
+
+    /**
+     * updates {@link Homework} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newHomework the new {@link Homework}
+     */
+    @Override
+    public void updateHomeworkAtId(Homework newHomework) {
+        try {
+            updateHomeworkAtIdOrThrow(newHomework);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Homework", context);
+        }
+    }
+
+    /**
+     * updates {@link Exam} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newExam the new {@link Exam}
+     */
+    @Override
+    public void updateExamAtId(Exam newExam) {
+        try {
+            updateExamAtIdOrThrow(newExam);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Exam", context);
+        }
+    }
+
+    /**
+     * updates {@link Grade} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newGrade the new {@link Grade}
+     */
+    @Override
+    public void updateGradeAtId(Grade newGrade) {
+        try {
+            updateGradeAtIdOrThrow(newGrade);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Grade", context);
+        }
+    }
+
+    /**
+     * updates {@link Period} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newPeriod the new {@link Period}
+     */
+    @Override
+    public void updatePeriodAtId(Period newPeriod) {
+        try {
+            updatePeriodAtIdOrThrow(newPeriod);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Period", context);
+        }
+    }
+
+    /**
+     * updates {@link Lesson} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newLesson the new {@link Lesson}
+     */
+    @Override
+    public void updateLessonAtId(Lesson newLesson) {
+        try {
+            updateLessonAtIdOrThrow(newLesson);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Lesson", context);
+        }
+    }
+
+    /**
+     * updates {@link Weekday} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newWeekday the new {@link Weekday}
+     */
+    @Override
+    public void updateWeekdayAtId(Weekday newWeekday) {
+        try {
+            updateWeekdayAtIdOrThrow(newWeekday);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Weekday", context);
+        }
+    }
+
+    /**
+     * updates {@link Schedule} at the given id in database
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param newSchedule the new {@link Schedule}
+     */
+    @Override
+    public void updateScheduleAtId(Schedule newSchedule) {
+        try {
+            updateScheduleAtIdOrThrow(newSchedule);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Schedule", context);
+        }
+    }
+    //endregion
+
+    //region insertIntoDB
+
+    /**
+     * inserts {@link Subject} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param subject {@link Subject} to be inserted
+     * @return the id in the database the {@link Subject} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Subject subject) {
+        try {
+            return insertIntoDBOrThrow(subject);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(subject, context);
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Teacher} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param teacher {@link Teacher} to be inserted
+     * @return the id in the database the {@link Teacher} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Teacher teacher) {
+        try {
+            return insertIntoDBOrThrow(teacher);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(teacher, context);
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Homework} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param homework {@link Homework} to be inserted
+     * @return the id in the database the {@link Homework} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Homework homework) {
+        try {
+            return insertIntoDBOrThrow(homework);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(homework, context);
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Exam} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param exam {@link Exam} to be inserted
+     * @return the id in the database the {@link Exam} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Exam exam) {
+        try {
+            return insertIntoDBOrThrow(exam);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(exam, context);
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Grade} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param grade {@link Grade} to be inserted
+     * @return the id in the database the {@link Grade} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Grade grade) {
+        try {
+            return insertIntoDBOrThrow(grade);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(grade, context);
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Period} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param period {@link Period} to be inserted
+     * @return the id in the database the {@link Period} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Period period) {
+        try {
+            return insertIntoDBOrThrow(period);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(period, context);
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Lesson} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param lesson {@link Lesson} to be inserted
+     * @return the id in the database the {@link Lesson} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Lesson lesson) {
+        try {
+            return insertIntoDBOrThrow(lesson);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(lesson, context);
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Weekday} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param weekday {@link Weekday} to be inserted
+     * @return the id in the database the {@link Weekday} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Weekday weekday) {
+        try {
+            return insertIntoDBOrThrow(weekday);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(weekday, context);
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Schedule} into database, use an ID <= 0 to insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param schedule {@link Schedule} to be inserted
+     * @return the id in the database the {@link Schedule} was inserted or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Schedule schedule) {
+        try {
+            return insertIntoDBOrThrow(schedule);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(schedule, context);
+            return -1;
+        }
+    }
+    //endregion
+
+    //region insertOrUpdate
+
+    /**
+     * updates the {@link Subject} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param subject {@link Subject} to be updated or inserted
+     * @return the id of the {@link Subject} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Subject subject) {
+        try {
+            return insertOrUpdateOrThrow(subject);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(subject, context);
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Teacher} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param teacher {@link Teacher} to be updated or inserted
+     * @return the id of the {@link Teacher} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Teacher teacher) {
+        try {
+            return insertOrUpdateOrThrow(teacher);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(teacher, context);
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Homework} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param homework {@link Homework} to be updated or inserted
+     * @return the id of the {@link Homework} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Homework homework) {
+        try {
+            return insertOrUpdateOrThrow(homework);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(homework, context);
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Exam} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param exam {@link Exam} to be updated or inserted
+     * @return the id of the {@link Exam} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Exam exam) {
+        try {
+            return insertOrUpdateOrThrow(exam);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(exam, context);
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Grade} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param grade {@link Grade} to be updated or inserted
+     * @return the id of the {@link Grade} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Grade grade) {
+        try {
+            return insertOrUpdateOrThrow(grade);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(grade, context);
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Period} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param period {@link Period} to be updated or inserted
+     * @return the id of the {@link Period} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Period period) {
+        try {
+            return insertOrUpdateOrThrow(period);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(period, context);
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Lesson} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param lesson {@link Lesson} to be updated or inserted
+     * @return the id of the {@link Lesson} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Lesson lesson) {
+        try {
+            return insertOrUpdateOrThrow(lesson);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(lesson, context);
             return -1;
         }
     }
 
     /**
-     * inserts {@link Weekday} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * updates the {@link Weekday} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param weekday {@link Weekday} to be updated or inserted
+     * @return the id of the {@link Weekday} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Weekday weekday) {
+        try {
+            return insertOrUpdateOrThrow(weekday);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(weekday, context);
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Schedule} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     *
+     * @param schedule {@link Schedule} to be updated or inserted
+     * @return the id of the {@link Schedule} in the database or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Schedule schedule) {
+        try {
+            return insertOrUpdateOrThrow(schedule);
+        } catch (IllegalAccessException e) {
+            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(schedule, context);
+            return -1;
+        }
+    }
+    //endregion
+
+    //region deleteObjectAtId
+
+    /**
+     * deletes the {@link Subject} at the given id from database,
+     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete.
+     * the affected rows are read on the reader pool and the delete runs on the writer thread of {@link DatabaseExecutor}
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Subject} to delete has
+     */
+    @Override
+    public void deleteSubjectAtId(int id) {
+        deleteOrConfirmOnExecutor(CASCADE_IMPACT_SUBJECT, DELETE_SUBJECT, id, TOMBSTONE_SUBJECT);
+    }
+
+    /**
+     * deletes the {@link Teacher} at the given id from database,
+     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete.
+     * the affected rows are read on the reader pool and the delete runs on the writer thread of {@link DatabaseExecutor}
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Teacher} to delete has
+     */
+    @Override
+    public void deleteTeacherAtId(int id) {
+        deleteOrConfirmOnExecutor(CASCADE_IMPACT_TEACHER, DELETE_TEACHER, id, TOMBSTONE_SUBJECTS_OF_TEACHER, TOMBSTONE_TEACHER);
+    }
+
+    /**
+     * deletes the {@link Homework} at the given id from database on the writer thread of {@link DatabaseExecutor}
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Homework} to delete has
+     */
+    @Override
+    public void deleteHomeworkAtId(int id) {
+        deleteRowAtIdOnWriter(DELETE_HOMEWORK, id);
+    }
+
+    /**
+     * deletes the {@link Exam} at the given id from database on the writer thread of {@link DatabaseExecutor}
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Exam} to delete has
+     */
+    @Override
+    public void deleteExamAtId(int id) {
+        deleteRowAtIdOnWriter(DELETE_EXAM, id);
+    }
+
+    /**
+     * deletes the {@link Grade} at the given id from database on the writer thread of {@link DatabaseExecutor}
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Grade} to delete has
+     */
+    @Override
+    public void deleteGradeAtId(int id) {
+        deleteRowAtIdOnWriter(DELETE_GRADE, id);
+    }
+
+    /**
+     * deletes the {@link Period} at the given id from database,
+     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Period} to delete has
+     */
+    @Override
+    public void deletePeriodAtId(int id) {
+        try {
+            deletePeriodAtIdOrThrow(id);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+        }
+    }
+
+    /**
+     * deletes the {@link Lesson} at the given id from database
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Lesson} to delete has
+     */
+    @Override
+    public void deleteLessonAtId(int id) {
+        try {
+            deleteLessonAtIdOrThrow(id);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+        }
+    }
+
+    /**
+     * deletes the {@link Weekday} at the given id from database,
+     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Weekday} to delete has
+     */
+    @Override
+    public void deleteWeekdayAtId(int id) {
+        try {
+            deleteWeekdayAtIdOrThrow(id);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+        }
+    }
+
+    /**
+     * deletes the {@link Schedule} at the given id from database,
+     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete
+     * <br> </br>
+     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     *
+     * @param id the id the {@link Schedule} to delete has
+     */
+    @Override
+    public void deleteScheduleAtId(int id) {
+        try {
+            deleteScheduleAtIdOrThrow(id);
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+        }
+    }
+    //endregion
+    //endregion
+
+    //region usage counters
+
+    /**
+     * gets how many homework, exams, grades and lessons use a {@link Subject} with a single primary key lookup
+     * in the subject counter table, instead of counting the rows
+     *
+     * @param subjectId id of the {@link Subject}
+     * @return the counts, all 0 if there is no {@link Subject} at the given id
+     */
+    @Override
+    public UsageCounts getSubjectUsage(int subjectId) {
+        String query = "SELECT * FROM " + TABLE_SUBJECT_COUNTER + " WHERE " + SUBJECT_COUNTER_COLUMN_SUBJECT_ID + " = ?";
+
+        return readUsageCounts(query, subjectId);
+    }
+
+    /**
+     * gets how many homework, exams, grades and lessons use the {@link Subject}s of a {@link Teacher},
+     * summed up from the subject counter rows of the {@link Teacher}'s {@link Subject}s
+     *
+     * @param teacherId id of the {@link Teacher}
+     * @return the counts, all 0 if there is no {@link Teacher} at the given id
+     */
+    @Override
+    public UsageCounts getTeacherUsage(int teacherId) {
+        String query = "SELECT " +
+                "TOTAL(" + SUBJECT_COUNTER_COLUMN_HOMEWORK + ") AS " + SUBJECT_COUNTER_COLUMN_HOMEWORK + ", " +
+                "TOTAL(" + SUBJECT_COUNTER_COLUMN_OPEN_HOMEWORK + ") AS " + SUBJECT_COUNTER_COLUMN_OPEN_HOMEWORK + ", " +
+                "TOTAL(" + SUBJECT_COUNTER_COLUMN_EXAMS + ") AS " + SUBJECT_COUNTER_COLUMN_EXAMS + ", " +
+                "TOTAL(" + SUBJECT_COUNTER_COLUMN_GRADES + ") AS " + SUBJECT_COUNTER_COLUMN_GRADES + ", " +
+                "TOTAL(" + SUBJECT_COUNTER_COLUMN_LESSONS + ") AS " + SUBJECT_COUNTER_COLUMN_LESSONS +
+                " FROM " + TABLE_SUBJECT_COUNTER +
+                " JOIN " + TABLE_SUBJECT + " ON " + SUBJECT_COUNTER_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID +
+                " WHERE " + SUBJECT_COLUMN_TEACHER_ID + " = ? AND " + SUBJECT_COLUMN_DELETED + " = 0";
+
+        return readUsageCounts(query, teacherId);
+    }
+
+    /**
+     * checks whether the subject counter table matches the real count of rows in the counted tables
+     *
+     * @return true if every counter is right
+     */
+    @Override
+    public boolean verifyUsageCounters() {
+        return DatabaseOpenHelper.verifySubjectCounters(getReadableDatabase());
+    }
+
+    /**
+     * recounts the subject counter table from the counted tables in one transaction
+     */
+    @Override
+    public void rebuildUsageCounters() {
+        DatabaseOpenHelper.rebuildSubjectCounters(getWritableDatabase());
+    }
+    //endregion
+
+    //region tombstones
+
+    /**
+     * takes the stamp of the last cascading delete, which can still be undone with {@link DatabaseHelperImpl#undoDelete(long, DatabaseExecutor.Callback)}.
+     * the stamp is only returned once, so only one screen offers the undo
+     *
+     * @return the stamp of the delete, 0 if there is none
+     */
+    public static synchronized long takeUndoableDelete() {
+        long stamp = undoableDelete;
+        undoableDelete = 0;
+        return stamp;
+    }
+
+    /**
+     * restores the {@link Subject}s and {@link Teacher}s of a cascading delete on the writer thread of {@link DatabaseExecutor},
+     * which works until they are purged
+     *
+     * @param deletedAt the stamp of the delete, from {@link DatabaseHelperImpl#takeUndoableDelete()}
+     * @param callback  called on the main thread with the count of restored rows, may be null
+     */
+    @Override
+    public void undoDelete(final long deletedAt, DatabaseExecutor.Callback<Integer> callback) {
+        DatabaseExecutor.getInstance().write(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                SQLiteDatabase db = getWritableDatabase();
+                int restored = 0;
+
+                db.beginTransaction();
+                try {
+                    restored += executeWithStamp(UNDO_TOMBSTONE_SUBJECTS, deletedAt);
+                    restored += executeWithStamp(UNDO_TOMBSTONE_TEACHERS, deletedAt);
+                    db.setTransactionSuccessful();
+                } finally {
+                    db.endTransaction();
+                }
+                return restored;
+            }
+        }, callback);
+    }
+
+    /**
+     * physically deletes all tombstoned {@link Subject}s and {@link Teacher}s up to the given stamp together with
+     * everything depending on them. runs on the writer thread of {@link DatabaseExecutor} in batches of PURGE_BATCH_SIZE rows,
+     * each batch is submitted after the one before committed, so other writes can run in between
+     *
+     * @param upTo the newest stamp to purge, Long.MAX_VALUE for all tombstoned rows
+     */
+    @Override
+    public void purgeDeleted(final long upTo) {
+        DatabaseExecutor.getInstance().write(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                for (String sql : PURGE_TOMBSTONED) {
+                    SQLiteStatement statement = compileStatement(sql);
+                    statement.bindLong(1, upTo);
+                    statement.bindLong(2, PURGE_BATCH_SIZE);
+
+                    int purged = statement.executeUpdateDelete();
+                    if (purged > 0) {
+                        return purged;
+                    }
+                }
+                return 0;
+            }
+        }, new DatabaseExecutor.Callback<Integer>() {
+            @Override
+            public void onResult(Integer result) {
+                if (result != null && result > 0) {
+                    purgeDeleted(upTo);
+                }
+            }
+        });
+    }
+    //endregion
+
+    //region unit of work
+
+    /**
+     * writes all changes of a {@link ScheduleUnitOfWork} in one transaction
+     * <br> </br>
+     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForUpdatingAnNotExistingObject(String, Context)} to handle exceptions
+     *
+     * @param work the changes to write
+     * @return true if all changes were written, false if none were
+     */
+    @Override
+    public boolean commit(ScheduleUnitOfWork work) {
+        try {
+            commitOrThrow(work);
+            return true;
+        } catch (NoSuchFieldException e) {
+            ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject("Schedule", context);
+            return false;
+        }
+    }
+    //endregion
+
+    //region bulk methods
+
+    /**
+     * inserts all given {@link Subject}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param subjects {@link Subject}s to be inserted
+     * @return the ids in the database the {@link Subject}s were inserted, ordered like the given {@link Subject}s.
+     * -1 for every {@link Subject} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Subject[] subjects) {
+        return insertAllInSavepoints(subjects, new BulkInsert<Subject>() {
+            @Override
+            public int insert(Subject item) throws IllegalAccessException {
+                return insertIntoDBOrThrow(item);
+            }
+        });
+    }
+
+    /**
+     * inserts all given {@link Teacher}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param teachers {@link Teacher}s to be inserted
+     * @return the ids in the database the {@link Teacher}s were inserted, ordered like the given {@link Teacher}s.
+     * -1 for every {@link Teacher} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Teacher[] teachers) {
+        return insertAllInSavepoints(teachers, new BulkInsert<Teacher>() {
+            @Override
+            public int insert(Teacher item) throws IllegalAccessException {
+                return insertIntoDBOrThrow(item);
+            }
+        });
+    }
+
+    /**
+     * inserts all given {@link Homework}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param homework {@link Homework}s to be inserted
+     * @return the ids in the database the {@link Homework}s were inserted, ordered like the given {@link Homework}s.
+     * -1 for every {@link Homework} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Homework[] homework) {
+        return insertAllInSavepoints(homework, new BulkInsert<Homework>() {
+            @Override
+            public int insert(Homework item) throws IllegalAccessException {
+                return insertIntoDBOrThrow(item);
+            }
+        });
+    }
+
+    /**
+     * inserts all given {@link Exam}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
      *
-     * @param weekday {@link Weekday} to be inserted
-     * @return the id in the database the {@link Weekday} was inserted or -1 if action could not be performed
+     * @param exams {@link Exam}s to be inserted
+     * @return the ids in the database the {@link Exam}s were inserted, ordered like the given {@link Exam}s.
+     * -1 for every {@link Exam} which could not be inserted
      */
     @Override
-    public int insertIntoDB(Weekday weekday) {
-        try {
-            return insertIntoDBOrThrow(weekday);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(weekday, context);
-            return -1;
-        }
+    public int[] insertAllIntoDB(Exam[] exams) {
+        return insertAllInSavepoints(exams, new BulkInsert<Exam>() {
+            @Override
+            public int insert(Exam item) throws IllegalAccessException {
+                return insertIntoDBOrThrow(item);
+            }
+        });
     }
 
     /**
-     * inserts {@link Schedule} into database, use an ID <= 0 to insert at next unoccupied ID
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForAddingAAlreadyExistingObject(Object, Context)} to handle exceptions
+     * inserts all given {@link Grade}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
      *
-     * @param schedule {@link Schedule} to be inserted
-     * @return the id in the database the {@link Schedule} was inserted or -1 if action could not be performed
+     * @param grades {@link Grade}s to be inserted
+     * @return the ids in the database the {@link Grade}s were inserted, ordered like the given {@link Grade}s.
+     * -1 for every {@link Grade} which could not be inserted
      */
     @Override
-    public int insertIntoDB(Schedule schedule) {
-        try {
-            return insertIntoDBOrThrow(schedule);
-        } catch (IllegalAccessException e) {
-            ExceptionHandler.handleDatabaseExceptionForAddingAAlreadyExistingObject(schedule, context);
-            return -1;
-        }
+    public int[] insertAllIntoDB(Grade[] grades) {
+        return insertAllInSavepoints(grades, new BulkInsert<Grade>() {
+            @Override
+            public int insert(Grade item) throws IllegalAccessException {
+                return insertIntoDBOrThrow(item);
+            }
+        });
     }
-    //endregion
 
-    //region deleteObjectAtId
+    /**
+     * inserts all given {@link Period}s into database in one transaction, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param periods {@link Period}s to be inserted
+     * @return the ids in the database the {@link Period}s were inserted, ordered like the given {@link Period}s.
+     * -1 for every {@link Period} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Period[] periods) {
+        return insertAllInSavepoints(periods, new BulkInsert<Period>() {
+            @Override
+            public int insert(Period item) throws IllegalAccessException {
+                return insertIntoDBOrThrow(item);
+            }
+        });
+    }
 
     /**
-     * deletes the {@link Subject} at the given id from database,
-     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete
-     * <br> </br>
-     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * updates all given {@link Subject}s in one transaction, each at the id it has
      *
-     * @param id the id the {@link Subject} to delete has
+     * @param newSubjects the updated {@link Subject}s
+     * @return for every {@link Subject}, ordered like the given ones, true if it was updated, false if there is no {@link Subject} at its id
      */
     @Override
-    public void deleteSubjectAtId(int id) {
+    public boolean[] updateAll(Subject[] newSubjects) {
+        boolean[] updated = new boolean[newSubjects.length];
+        SQLiteDatabase db = getWritableDatabase();
+
+        db.beginTransaction();
         try {
-            deleteSubjectAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+            for (int i = 0; i < newSubjects.length; i++) {
+                try {
+                    updateSubjectAtIdOrThrow(newSubjects[i]);
+                    updated[i] = true;
+                } catch (NoSuchFieldException | SQLiteException e) {
+                    updated[i] = false;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
+        return updated;
     }
 
     /**
-     * deletes the {@link Teacher} at the given id from database,
-     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete
-     * <br> </br>
-     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * updates all given {@link Teacher}s in one transaction, each at the id it has
      *
-     * @param id the id the {@link Teacher} to delete has
+     * @param newTeachers the updated {@link Teacher}s
+     * @return for every {@link Teacher}, ordered like the given ones, true if it was updated, false if there is no {@link Teacher} at its id
      */
     @Override
-    public void deleteTeacherAtId(int id) {
+    public boolean[] updateAll(Teacher[] newTeachers) {
+        boolean[] updated = new boolean[newTeachers.length];
+        SQLiteDatabase db = getWritableDatabase();
+
+        db.beginTransaction();
         try {
-            deleteTeacherAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+            for (int i = 0; i < newTeachers.length; i++) {
+                try {
+                    updateTeacherAtIdOrThrow(newTeachers[i]);
+                    updated[i] = true;
+                } catch (NoSuchFieldException | SQLiteException e) {
+                    updated[i] = false;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
+        return updated;
     }
 
     /**
-     * deletes the {@link Homework} at the given id from database
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * updates all given {@link Homework}s in one transaction, each at the id it has
      *
-     * @param id the id the {@link Homework} to delete has
+     * @param newHomework the updated {@link Homework}s
+     * @return for every {@link Homework}, ordered like the given ones, true if it was updated, false if there is no {@link Homework} at its id
      */
     @Override
-    public void deleteHomeworkAtId(int id) {
+    public boolean[] updateAll(Homework[] newHomework) {
+        boolean[] updated = new boolean[newHomework.length];
+        SQLiteDatabase db = getWritableDatabase();
+
+        db.beginTransaction();
         try {
-            deleteHomeworkAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+            for (int i = 0; i < newHomework.length; i++) {
+                try {
+                    updateHomeworkAtIdOrThrow(newHomework[i]);
+                    updated[i] = true;
+                } catch (NoSuchFieldException | SQLiteException e) {
+                    updated[i] = false;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
+        return updated;
     }
 
     /**
-     * deletes the {@link Exam} at the given id from database
-     * <br> </br>
-     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * updates all given {@link Exam}s in one transaction, each at the id it has
      *
-     * @param id the id the {@link Exam} to delete has
+     * @param newExams the updated {@link Exam}s
+     * @return for every {@link Exam}, ordered like the given ones, true if it was updated, false if there is no {@link Exam} at its id
      */
     @Override
-    public void deleteExamAtId(int id) {
+    public boolean[] updateAll(Exam[] newExams) {
+        boolean[] updated = new boolean[newExams.length];
+        SQLiteDatabase db = getWritableDatabase();
+
+        db.beginTransaction();
         try {
-            deleteExamAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+            for (int i = 0; i < newExams.length; i++) {
+                try {
+                    updateExamAtIdOrThrow(newExams[i]);
+                    updated[i] = true;
+                } catch (NoSuchFieldException | SQLiteException e) {
+                    updated[i] = false;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
+        return updated;
     }
 
     /**
-     * deletes the {@link Grade} at the given id from database
-     * <br> </br>
-     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * updates all given {@link Grade}s in one transaction, each at the id it has
      *
-     * @param id the id the {@link Grade} to delete has
+     * @param newGrades the updated {@link Grade}s
+     * @return for every {@link Grade}, ordered like the given ones, true if it was updated, false if there is no {@link Grade} at its id
      */
     @Override
-    public void deleteGradeAtId(int id) {
+    public boolean[] updateAll(Grade[] newGrades) {
+        boolean[] updated = new boolean[newGrades.length];
+        SQLiteDatabase db = getWritableDatabase();
+
+        db.beginTransaction();
         try {
-            deleteGradeAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+            for (int i = 0; i < newGrades.length; i++) {
+                try {
+                    updateGradeAtIdOrThrow(newGrades[i]);
+                    updated[i] = true;
+                } catch (NoSuchFieldException | SQLiteException e) {
+                    updated[i] = false;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
+        return updated;
     }
 
     /**
-     * deletes the {@link Period} at the given id from database,
-     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete
-     * <br> </br>
-     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * updates all given {@link Period}s in one transaction, each at the id it has
      *
-     * @param id the id the {@link Period} to delete has
+     * @param newPeriods the updated {@link Period}s
+     * @return for every {@link Period}, ordered like the given ones, true if it was updated, false if there is no {@link Period} at its id
      */
     @Override
-    public void deletePeriodAtId(int id) {
+    public boolean[] updateAll(Period[] newPeriods) {
+        boolean[] updated = new boolean[newPeriods.length];
+        SQLiteDatabase db = getWritableDatabase();
+
+        db.beginTransaction();
         try {
-            deletePeriodAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+            for (int i = 0; i < newPeriods.length; i++) {
+                try {
+                    updatePeriodAtIdOrThrow(newPeriods[i]);
+                    updated[i] = true;
+                } catch (NoSuchFieldException | SQLiteException e) {
+                    updated[i] = false;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
+        return updated;
     }
 
     /**
-     * deletes the {@link Lesson} at the given id from database
-     * <br> </br>
-     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * deletes the {@link Homework}s at all given ids from database in one transaction
      *
-     * @param id the id the {@link Lesson} to delete has
+     * @param ids the ids the {@link Homework}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Homework} was deleted, false if there was none at this id
      */
     @Override
-    public void deleteLessonAtId(int id) {
-        try {
-            deleteLessonAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
-        }
+    public boolean[] deleteAllHomeworkAtIds(int[] ids) {
+        return deleteRowsAtIds(DELETE_HOMEWORK, ids);
     }
 
     /**
-     * deletes the {@link Weekday} at the given id from database,
-     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete
-     * <br> </br>
-     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * deletes the {@link Exam}s at all given ids from database in one transaction
      *
-     * @param id the id the {@link Weekday} to delete has
+     * @param ids the ids the {@link Exam}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Exam} was deleted, false if there was none at this id
      */
     @Override
-    public void deleteWeekdayAtId(int id) {
-        try {
-            deleteWeekdayAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
-        }
+    public boolean[] deleteAllExamsAtIds(int[] ids) {
+        return deleteRowsAtIds(DELETE_EXAM, ids);
     }
 
     /**
-     * deletes the {@link Schedule} at the given id from database,
-     * uses {@link DatabaseCascadeDeleteConfirmDialog} for user confirmation if more than this object would be affected by the delete
-     * <br> </br>
-     * Note: if {@link DatabaseHelperImpl#DatabaseHelperImpl(Activity)} c'tor is used this methods will finish the {@link Activity} after successful delete
-     * <br> </br>
-     * Note: Method naturally uses {@link ExceptionHandler#handleDatabaseExceptionForDeletingAnNotExistingObject(int, Context)} to handle exceptions
+     * deletes the {@link Grade}s at all given ids from database in one transaction
      *
-     * @param id the id the {@link Schedule} to delete has
+     * @param ids the ids the {@link Grade}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Grade} was deleted, false if there was none at this id
      */
     @Override
-    public void deleteScheduleAtId(int id) {
-        try {
-            deleteScheduleAtIdOrThrow(id);
-        } catch (NoSuchFieldException e) {
-            ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
-        }
+    public boolean[] deleteAllGradesAtIds(int[] ids) {
+        return deleteRowsAtIds(DELETE_GRADE, ids);
+    }
+
+    /**
+     * deletes the {@link Lesson}s at all given ids from database in one transaction
+     *
+     * @param ids the ids the {@link Lesson}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Lesson} was deleted, false if there was none at this id
+     */
+    @Override
+    public boolean[] deleteAllLessonsAtIds(int[] ids) {
+        return deleteRowsAtIds(DELETE_LESSON, ids);
     }
-    //endregion
     //endregion
 
     //region orThrow Methods
@@ -763,22 +2278,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Subject getSubjectAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_SUBJECT, SUBJECT_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return new Subject(
-                    cursor.getInt(0),
-                    getTeacherAtIdOrThrow(cursor.getInt(1)),
-                    cursor.getString(2),
-                    cursor.getString(3),
-                    cursor.getString(4)
-            );
-        } catch (Exception e) {
+        Subject subject = findSubject(id);
+        if (subject == null) {
             throw new NoSuchFieldException();
         }
+        return subject;
     }
 
     /**
@@ -790,21 +2294,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Teacher getTeacherAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_TEACHER, TEACHER_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return new Teacher(
-                    cursor.getInt(0),
-                    cursor.getString(1),
-                    cursor.getString(2),
-                    cursor.getString(3).charAt(0)
-            );
-        } catch (Exception e) {
+        Teacher teacher = findTeacher(id);
+        if (teacher == null) {
             throw new NoSuchFieldException();
         }
+        return teacher;
     }
 
     /**
@@ -816,33 +2310,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Homework getHomeworkAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_HOMEWORK, HOMEWORK_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            if (cursor.getInt(4) == 0) {
-                return new Homework(
-                        cursor.getInt(0),
-                        getSubjectAtIdOrThrow(cursor.getInt(1)),
-                        cursor.getString(2),
-                        cursor.getString(3),
-                        false
-                );
-            } else {
-                return new Homework(
-                        cursor.getInt(0),
-                        getSubjectAtIdOrThrow(cursor.getInt(1)),
-                        cursor.getString(2),
-                        cursor.getString(3),
-                        true
-                );
-            }
-
-        } catch (Exception e) {
+        Homework homework = findHomework(id);
+        if (homework == null) {
             throw new NoSuchFieldException();
         }
+        return homework;
     }
 
     /**
@@ -854,21 +2326,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Exam getExamAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_EXAM, EXAM_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return new Exam(
-                    cursor.getInt(0),
-                    getSubjectAtIdOrThrow(cursor.getInt(1)),
-                    cursor.getString(2),
-                    cursor.getString(3)
-            );
-        } catch (Exception e) {
+        Exam exam = findExam(id);
+        if (exam == null) {
             throw new NoSuchFieldException();
         }
+        return exam;
     }
 
     /**
@@ -880,21 +2342,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Grade getGradeAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_GRADE, GRADE_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return new Grade(
-                    cursor.getInt(0),
-                    getSubjectAtIdOrThrow(cursor.getInt(1)),
-                    cursor.getString(2),
-                    cursor.getString(3)
-            );
-        } catch (Exception e) {
+        Grade grade = findGrade(id);
+        if (grade == null) {
             throw new NoSuchFieldException();
         }
+        return grade;
     }
 
     /**
@@ -906,21 +2358,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Period getPeriodAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_PERIOD, PERIOD_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return new Period(
-                    cursor.getInt(0),
-                    cursor.getInt(1),
-                    cursor.getString(2),
-                    cursor.getString(3)
-            );
-        } catch (Exception e) {
+        Period period = findPeriod(id);
+        if (period == null) {
             throw new NoSuchFieldException();
         }
+        return period;
     }
 
     /**
@@ -932,20 +2374,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Lesson getLessonAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_LESSON, LESSON_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return new Lesson(
-                    cursor.getInt(0),
-                    getSubjectAtIdOrThrow(cursor.getInt(1)),
-                    getPeriodAtIdOrThrow(cursor.getInt(2))
-            );
-        } catch (Exception e) {
+        Lesson lesson = findLesson(id);
+        if (lesson == null) {
             throw new NoSuchFieldException();
         }
+        return lesson;
     }
 
     /**
@@ -957,20 +2390,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Weekday getWeekdayAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_WEEKDAY, WEEKDAY_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return new Weekday(
-                    cursor.getInt(0),
-                    cursor.getString(2),
-                    getLessonsAtWeekday(id)
-            );
-        } catch (Exception e) {
+        Weekday weekday = findWeekday(id);
+        if (weekday == null) {
             throw new NoSuchFieldException();
         }
+        return weekday;
     }
 
     /**
@@ -982,25 +2406,19 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public Schedule getScheduleAtIdOrThrow(int id) throws NoSuchFieldException {
-
-        String query = buildQueryToGetRowAtId(TABLE_SCHEDULE, SCHEDULE_COLUMN_ID, id);
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return new Schedule(
-                    cursor.getInt(0),
-                    cursor.getString(1),
-                    getWeekdaysAtSchedule(id)
-            );
-        } catch (Exception e) {
+        Schedule schedule = findSchedule(id);
+        if (schedule == null) {
             throw new NoSuchFieldException();
         }
+        return schedule;
     }
     //endregion
 
     /**
-     * gets the {@link Lesson} at a specific {@link Weekday} and {@link Period} from database
+     * gets the {@link Lesson} at a specific {@link Weekday} and {@link Period} from database in a single query,
+     * a lookup in the unique weekday and period index
+     * <br> </br>
+     * Note: use a {@link LessonGrid} for repeated lookups in the same {@link Schedule}
      *
      * @param day    the {@link Weekday}
      * @param period the {@link Period}
@@ -1008,17 +2426,14 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @throws NoSuchFieldException if there is no such {@link Lesson} in the Database
      */
     public Lesson getLessonOrThrowAtDate(Weekday day, Period period) throws NoSuchFieldException {
+        String query = SELECT_LESSONS +
+                " WHERE " + LESSON_COLUMN_WEEKDAY_ID + " = ? AND " + LESSON_COLUMN_PERIOD_ID + " = ?";
 
-        String query = "SELECT " + LESSON_COLUMN_ID + " FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_WEEKDAY_ID + " = " + day.getId() +
-                " AND " + LESSON_COLUMN_PERIOD_ID + " = " + period.getId();
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
-
-            return getLessonAtIdOrThrow(cursor.getInt(0));
-        } catch (Exception e) {
+        Lesson lesson = firstOrNull(readLessonsFromJoinedQuery(query, toArgs(day.getId(), period.getId())));
+        if (lesson == null) {
             throw new NoSuchFieldException();
         }
+        return lesson;
     }
 
     //region updateObjectAtId
@@ -1027,21 +2442,18 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * updates {@link Subject} at the given id in database
      *
      * @param newSubject the new {@link Subject}
-     * @throws NoSuchFieldException if there is no {@link Subject} at the given id in the Database
+     * @throws NoSuchFieldException if there is no {@link Subject} at the given id in the Database or the {@link Teacher} is tombstoned
      */
     @Override
     public void updateSubjectAtIdOrThrow(Subject newSubject) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_SUBJECT + " SET " +
-                    SUBJECT_COLUMN_TEACHER_ID + " = " + newSubject.getTeacher().getId() + ", " +
-                    SUBJECT_COLUMN_NAME + " = \"" + newSubject.getName() + "\", " +
-                    SUBJECT_COLUMN_ROOM + " = \"" + newSubject.getRoom() + "\", " +
-                    SUBJECT_COLUMN_COLOR + " = \"" + newSubject.getColor() + "\" " +
-                    "WHERE " + SUBJECT_COLUMN_ID + " = " + newSubject.getId()
-            );
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
-        }
+        SQLiteStatement statement = compileStatement(UPDATE_SUBJECT);
+        statement.bindLong(1, newSubject.getTeacher().getId());
+        statement.bindString(2, newSubject.getName());
+        statement.bindString(3, newSubject.getRoom());
+        statement.bindString(4, newSubject.getColor());
+        statement.bindLong(5, newSubject.getId());
+
+        executeUpdateDeleteOrThrow(statement);
     }
 
     /**
@@ -1052,77 +2464,65 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public void updateTeacherAtIdOrThrow(Teacher newTeacher) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_TEACHER + " SET " +
-                    TEACHER_COLUMN_NAME + " = \"" + newTeacher.getName() + "\", " +
-                    TEACHER_COLUMN_ABBREVIATION + " = \"" + newTeacher.getAbbreviation() + "\", " +
-                    TEACHER_COLUMN_GENDER + " = \"" + newTeacher.getGender() + "\" " +
-                    "WHERE " + TEACHER_COLUMN_ID + " = " + newTeacher.getId()
-            );
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
-        }
+        SQLiteStatement statement = compileStatement(UPDATE_TEACHER);
+        statement.bindString(1, newTeacher.getName());
+        statement.bindString(2, String.valueOf(newTeacher.getAbbreviation()));
+        statement.bindString(3, String.valueOf(newTeacher.getGender()));
+        statement.bindLong(4, newTeacher.getId());
+
+        executeUpdateDeleteOrThrow(statement);
     }
 
     /**
      * updates {@link Homework} at the given id in database
      *
      * @param newHomework the new {@link Homework}
-     * @throws NoSuchFieldException if there is no {@link Homework} at the given id in the Database
+     * @throws NoSuchFieldException if there is no {@link Homework} at the given id in the Database or the {@link Subject} is tombstoned
      */
     @Override
     public void updateHomeworkAtIdOrThrow(Homework newHomework) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_HOMEWORK + " SET " +
-                    HOMEWORK_COLUMN_SUBJECT_ID + " = " + newHomework.getSubject().getId() + ", " +
-                    HOMEWORK_COLUMN_DESCRIPTION + " = \"" + newHomework.getDescription() + "\", " +
-                    HOMEWORK_COLUMN_DEADLINE + " = \"" + newHomework.getDeadlineAsDatabaseString() + "\", " +
-                    HOMEWORK_COLUMN_DONE + " = " + newHomework.getDone() + " " +
-                    "WHERE " + HOMEWORK_COLUMN_ID + " = " + newHomework.getId()
-            );
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
-        }
+        SQLiteStatement statement = compileStatement(UPDATE_HOMEWORK);
+        statement.bindLong(1, newHomework.getSubject().getId());
+        statement.bindString(2, newHomework.getDescription());
+        statement.bindLong(3, EpochDays.fromCalendar(newHomework.getDeadline()));
+        statement.bindLong(4, newHomework.getDone());
+        statement.bindLong(5, newHomework.getId());
+
+        executeUpdateDeleteOrThrow(statement);
     }
 
     /**
      * updates {@link Exam} at the given id in database
      *
      * @param newExam the new {@link Exam}
-     * @throws NoSuchFieldException if there is no {@link Exam} at the given id in the Database
+     * @throws NoSuchFieldException if there is no {@link Exam} at the given id in the Database or the {@link Subject} is tombstoned
      */
     @Override
     public void updateExamAtIdOrThrow(Exam newExam) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_EXAM + " SET " +
-                    EXAM_COLUMN_SUBJECT_ID + " = " + newExam.getSubject().getId() + ", " +
-                    EXAM_COLUMN_DESCRIPTION + " = \"" + newExam.getDescription() + "\", " +
-                    EXAM_COLUMN_DEADLINE + " = \"" + newExam.getDeadlineAsDatabaseString() + "\" " +
-                    "WHERE " + EXAM_COLUMN_ID + " = " + newExam.getId()
-            );
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
-        }
+        SQLiteStatement statement = compileStatement(UPDATE_EXAM);
+        statement.bindLong(1, newExam.getSubject().getId());
+        statement.bindString(2, newExam.getDescription());
+        statement.bindLong(3, EpochDays.fromCalendar(newExam.getDeadline()));
+        statement.bindLong(4, newExam.getId());
+
+        executeUpdateDeleteOrThrow(statement);
     }
 
     /**
      * updates {@link Grade} at the given id in database
      *
      * @param newGrade the new {@link Grade}
-     * @throws NoSuchFieldException if there is no {@link Grade} at the given id in the Database
+     * @throws NoSuchFieldException if there is no {@link Grade} at the given id in the Database or the {@link Subject} is tombstoned
      */
-    @Override
-    public void updateGradeAtIdOrThrow(Grade newGrade) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_GRADE + " SET " +
-                    GRADE_COLUMN_SUBJECT_ID + " = " + newGrade.getSubject().getId() + ", " +
-                    GRADE_COLUMN_NAME + " = \"" + newGrade.getName() + "\", " +
-                    GRADE_COLUMN_GRADE + " = \"" + newGrade.getGrade() + "\" " +
-                    "WHERE " + GRADE_COLUMN_ID + " = " + newGrade.getId()
-            );
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
-        }
+    @Override
+    public void updateGradeAtIdOrThrow(Grade newGrade) throws NoSuchFieldException {
+        SQLiteStatement statement = compileStatement(UPDATE_GRADE);
+        statement.bindLong(1, newGrade.getSubject().getId());
+        statement.bindString(2, newGrade.getName());
+        statement.bindString(3, newGrade.getGrade());
+        statement.bindLong(4, newGrade.getId());
+
+        executeUpdateDeleteOrThrow(statement);
     }
 
     /**
@@ -1133,35 +2533,29 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public void updatePeriodAtIdOrThrow(Period newPeriod) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_PERIOD + " SET " +
-                    PERIOD_COLUMN_SCHOOL_HOUR_NO + " = " + newPeriod.getSchoolHourNo() + ", " +
-                    PERIOD_COLUMN_STARTTIME + " = \"" + newPeriod.getStartTimeAsString() + "\", " +
-                    PERIOD_COLUMN_ENDTIME + " = \"" + newPeriod.getEndTimeAsString() + "\" " +
-                    "WHERE " + PERIOD_COLUMN_ID + " = " + newPeriod.getId()
-            );
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
-        }
+        SQLiteStatement statement = compileStatement(UPDATE_PERIOD);
+        statement.bindLong(1, newPeriod.getSchoolHourNo());
+        statement.bindString(2, newPeriod.getStartTimeAsString());
+        statement.bindString(3, newPeriod.getEndTimeAsString());
+        statement.bindLong(4, newPeriod.getId());
+
+        executeUpdateDeleteOrThrow(statement);
     }
 
     /**
      * updates {@link Lesson} at the given id in database
      *
      * @param newLesson the new {@link Lesson}
-     * @throws NoSuchFieldException if there is no {@link Lesson} at the given id in the Database
+     * @throws NoSuchFieldException if there is no {@link Lesson} at the given id in the Database or the {@link Subject} is tombstoned
      */
     @Override
     public void updateLessonAtIdOrThrow(Lesson newLesson) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_LESSON + " SET " +
-                    LESSON_COLUMN_SUBJECT_ID + " = " + newLesson.getSubject().getId() + ", " +
-                    LESSON_COLUMN_PERIOD_ID + " = " + newLesson.getPeriod().getId() + " " +
-                    "WHERE " + LESSON_COLUMN_ID + " = " + newLesson.getId()
-            );
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
-        }
+        SQLiteStatement statement = compileStatement(UPDATE_LESSON);
+        statement.bindLong(1, newLesson.getSubject().getId());
+        statement.bindLong(2, newLesson.getPeriod().getId());
+        statement.bindLong(3, newLesson.getId());
+
+        executeUpdateDeleteOrThrow(statement);
     }
 
     /**
@@ -1172,17 +2566,14 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public void updateWeekdayAtIdOrThrow(Weekday newWeekday) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_WEEKDAY + " SET " +
-                    WEEKDAY_COLUMN_NAME + " = \"" + newWeekday.getName() + "\" " +
-                    "WHERE " + WEEKDAY_COLUMN_ID + " = " + newWeekday.getId()
-            );
+        SQLiteStatement statement = compileStatement(UPDATE_WEEKDAY);
+        statement.bindString(1, newWeekday.getName());
+        statement.bindLong(2, newWeekday.getId());
 
-            for (Lesson lesson : newWeekday.getLessons()) {
-                updateLessonWeekdayIdAtId(lesson.getId(), newWeekday.getId());
-            }
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
+        executeUpdateDeleteOrThrow(statement);
+
+        for (Lesson lesson : newWeekday.getLessons()) {
+            updateLessonWeekdayIdAtId(lesson.getId(), newWeekday.getId());
         }
     }
 
@@ -1194,17 +2585,14 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public void updateScheduleAtIdOrThrow(Schedule newSchedule) throws NoSuchFieldException {
-        try (SQLiteDatabase db = this.getWritableDatabase()) {
-            db.execSQL("UPDATE " + TABLE_SCHEDULE + " SET " +
-                    SCHEDULE_COLUMN_NAME + " = \"" + newSchedule.getName() + "\" " +
-                    "WHERE " + SCHEDULE_COLUMN_ID + " = " + newSchedule.getId()
-            );
+        SQLiteStatement statement = compileStatement(UPDATE_SCHEDULE);
+        statement.bindString(1, newSchedule.getName());
+        statement.bindLong(2, newSchedule.getId());
 
-            for (Weekday weekday : newSchedule.getDays()) {
-                updateWeekdayScheduleIdAtId(weekday.getId(), newSchedule.getId());
-            }
-        } catch (Exception e) {
-            throw new NoSuchFieldException();
+        executeUpdateDeleteOrThrow(statement);
+
+        for (Weekday weekday : newSchedule.getDays()) {
+            updateWeekdayScheduleIdAtId(weekday.getId(), newSchedule.getId());
         }
     }
     //endregion
@@ -1216,32 +2604,30 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      *
      * @param subject {@link Subject} to be inserted
      * @return the id in the database the {@link Subject} was inserted
-     * @throws IllegalAccessException if the given ID is already occupied
+     * @throws IllegalAccessException if the given ID is already occupied or the {@link Teacher} is tombstoned
      */
     @Override
     public int insertIntoDBOrThrow(Subject subject) throws IllegalAccessException {
-        try {
-            getTeacherAtIdOrThrow(subject.getTeacher().getId());
-        } catch (NoSuchFieldException e) {
-            insertIntoDBOrThrow(subject.getTeacher());
+        int teacherId = subject.getTeacher().getId();
+        if (!existsTeacherAtId(teacherId)) {
+            teacherId = insertIntoDBOrThrow(subject.getTeacher());
         }
 
-        SQLiteDatabase db = this.getWritableDatabase();
-
         int subjectId;
-        if (subject.getId() <= 0) {
-            subjectId = getNewID(TABLE_SUBJECT, SUBJECT_COLUMN_ID);
-        } else {
-            subjectId = subject.getId();
-        }
-
-        String query = "INSERT INTO " + TABLE_SUBJECT + " VALUES ( " + subjectId + ", " + subject.getTeacher().getId() + ", \"" + subject.getName() + "\", \"" + subject.getRoom() + "\", \"" + subject.getColor() + "\" )";
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(INSERT_SUBJECT);
+            bindIdOrNull(statement, subject.getId());
+            statement.bindLong(2, teacherId);
+            statement.bindString(3, subject.getName());
+            statement.bindString(4, subject.getRoom());
+            statement.bindString(5, subject.getColor());
+            subjectId = (int) statement.executeInsert();
         } catch (Exception e) {
             throw new IllegalAccessException();
         }
+        if (subjectId <= 0) {
+            throw new IllegalAccessException();
+        }
         return subjectId;
     }
 
@@ -1254,22 +2640,20 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public int insertIntoDBOrThrow(Teacher teacher) throws IllegalAccessException {
-        SQLiteDatabase db = this.getWritableDatabase();
-
         int teacherId;
-        if (teacher.getId() <= 0) {
-            teacherId = getNewID(TABLE_TEACHER, TEACHER_COLUMN_ID);
-        } else {
-            teacherId = teacher.getId();
-        }
-
-        String query = "INSERT INTO " + TABLE_TEACHER + " VALUES ( " + teacherId + ", \"" + teacher.getName() + "\", \"" + teacher.getAbbreviation() + "\", \"" + teacher.getGender() + "\")";
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(INSERT_TEACHER);
+            bindIdOrNull(statement, teacher.getId());
+            statement.bindString(2, teacher.getName());
+            statement.bindString(3, String.valueOf(teacher.getAbbreviation()));
+            statement.bindString(4, String.valueOf(teacher.getGender()));
+            teacherId = (int) statement.executeInsert();
         } catch (Exception e) {
             throw new IllegalAccessException();
         }
+        if (teacherId <= 0) {
+            throw new IllegalAccessException();
+        }
         return teacherId;
     }
 
@@ -1278,32 +2662,30 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      *
      * @param homework {@link Homework} to be inserted
      * @return the id in the database the {@link Homework} was inserted
-     * @throws IllegalAccessException if the given ID is already occupied
+     * @throws IllegalAccessException if the given ID is already occupied or the {@link Subject} is tombstoned
      */
     @Override
     public int insertIntoDBOrThrow(Homework homework) throws IllegalAccessException {
-        try {
-            getSubjectAtIdOrThrow(homework.getSubject().getId());
-        } catch (NoSuchFieldException e) {
-            insertIntoDBOrThrow(homework.getSubject());
+        int subjectId = homework.getSubject().getId();
+        if (!existsSubjectAtId(subjectId)) {
+            subjectId = insertIntoDBOrThrow(homework.getSubject());
         }
 
-        SQLiteDatabase db = this.getWritableDatabase();
-
         int homeworkId;
-        if (homework.getId() <= 0) {
-            homeworkId = getNewID(TABLE_HOMEWORK, HOMEWORK_COLUMN_ID);
-        } else {
-            homeworkId = homework.getId();
-        }
-
-        String query = "INSERT INTO " + TABLE_HOMEWORK + " VALUES ( " + homeworkId + ", " + homework.getSubject().getId() + ", \"" + homework.getDescription() + "\", \"" + homework.getDeadlineAsDatabaseString() + "\", " + homework.getDone() + ")";
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(INSERT_HOMEWORK);
+            bindIdOrNull(statement, homework.getId());
+            statement.bindLong(2, subjectId);
+            statement.bindString(3, homework.getDescription());
+            statement.bindLong(4, EpochDays.fromCalendar(homework.getDeadline()));
+            statement.bindLong(5, homework.getDone());
+            homeworkId = (int) statement.executeInsert();
         } catch (Exception e) {
             throw new IllegalAccessException();
         }
+        if (homeworkId <= 0) {
+            throw new IllegalAccessException();
+        }
 
         return homeworkId;
     }
@@ -1313,32 +2695,29 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      *
      * @param exam {@link Exam} to be inserted
      * @return the id in the database the {@link Exam} was inserted
-     * @throws IllegalAccessException if the given ID is already occupied
+     * @throws IllegalAccessException if the given ID is already occupied or the {@link Subject} is tombstoned
      */
     @Override
     public int insertIntoDBOrThrow(Exam exam) throws IllegalAccessException {
-        try {
-            getSubjectAtIdOrThrow(exam.getSubject().getId());
-        } catch (NoSuchFieldException e) {
-            insertIntoDBOrThrow(exam.getSubject());
+        int subjectId = exam.getSubject().getId();
+        if (!existsSubjectAtId(subjectId)) {
+            subjectId = insertIntoDBOrThrow(exam.getSubject());
         }
 
-        SQLiteDatabase db = this.getWritableDatabase();
-
         int examId;
-        if (exam.getId() <= 0) {
-            examId = getNewID(TABLE_EXAM, EXAM_COLUMN_ID);
-        } else {
-            examId = exam.getId();
-        }
-
-        String query = "INSERT INTO " + TABLE_EXAM + " VALUES ( " + examId + ", " + exam.getSubject().getId() + ", \"" + exam.getDescription() + "\", \"" + exam.getDeadlineAsDatabaseString() + "\")";
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(INSERT_EXAM);
+            bindIdOrNull(statement, exam.getId());
+            statement.bindLong(2, subjectId);
+            statement.bindString(3, exam.getDescription());
+            statement.bindLong(4, EpochDays.fromCalendar(exam.getDeadline()));
+            examId = (int) statement.executeInsert();
         } catch (Exception e) {
             throw new IllegalAccessException();
         }
+        if (examId <= 0) {
+            throw new IllegalAccessException();
+        }
         return examId;
     }
 
@@ -1347,33 +2726,29 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      *
      * @param grade {@link Grade} to be inserted
      * @return the id in the database the {@link Grade} was inserted
-     * @throws IllegalAccessException if the given ID is already occupied
+     * @throws IllegalAccessException if the given ID is already occupied or the {@link Subject} is tombstoned
      */
     @Override
     public int insertIntoDBOrThrow(Grade grade) throws IllegalAccessException {
-        try {
-            getSubjectAtIdOrThrow(grade.getSubject().getId());
-        } catch (NoSuchFieldException e) {
-            insertIntoDBOrThrow(grade.getSubject());
+        int subjectId = grade.getSubject().getId();
+        if (!existsSubjectAtId(subjectId)) {
+            subjectId = insertIntoDBOrThrow(grade.getSubject());
         }
 
-        SQLiteDatabase db = this.getWritableDatabase();
-
         int gradeId;
-        if (grade.getId() <= 0) {
-            gradeId = getNewID(TABLE_GRADE, GRADE_COLUMN_ID);
-        } else {
-            gradeId = grade.getId();
-        }
-
-        String query = "INSERT INTO " + TABLE_GRADE + " VALUES ( " + gradeId + ", " + grade.getSubject().getId() + ", \"" + grade.getName() + "\", \"" + grade.getGrade() + "\")";
-
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(INSERT_GRADE);
+            bindIdOrNull(statement, grade.getId());
+            statement.bindLong(2, subjectId);
+            statement.bindString(3, grade.getName());
+            statement.bindString(4, grade.getGrade());
+            gradeId = (int) statement.executeInsert();
         } catch (Exception e) {
             throw new IllegalAccessException();
         }
+        if (gradeId <= 0) {
+            throw new IllegalAccessException();
+        }
         return gradeId;
     }
 
@@ -1386,22 +2761,20 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public int insertIntoDBOrThrow(Period period) throws IllegalAccessException {
-        SQLiteDatabase db = this.getWritableDatabase();
-
         int periodId;
-        if (period.getId() <= 0) {
-            periodId = getNewID(TABLE_PERIOD, PERIOD_COLUMN_ID);
-        } else {
-            periodId = period.getId();
-        }
-
-        String query = "INSERT INTO " + TABLE_PERIOD + " VALUES ( " + periodId + ", " + period.getSchoolHourNo() + ", \"" + period.getStartTimeAsString() + "\", \"" + period.getEndTimeAsString() + "\")";
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(INSERT_PERIOD);
+            bindIdOrNull(statement, period.getId());
+            statement.bindLong(2, period.getSchoolHourNo());
+            statement.bindString(3, period.getStartTimeAsString());
+            statement.bindString(4, period.getEndTimeAsString());
+            periodId = (int) statement.executeInsert();
         } catch (Exception e) {
             throw new IllegalAccessException();
         }
+        if (periodId <= 0) {
+            throw new IllegalAccessException();
+        }
         return periodId;
     }
 
@@ -1410,38 +2783,33 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      *
      * @param lesson {@link Lesson} to be inserted
      * @return the id in the database the {@link Lesson} was inserted
-     * @throws IllegalAccessException if the given ID is already occupied
+     * @throws IllegalAccessException if the given ID is already occupied or the {@link Subject} is tombstoned
      */
     @Override
     public int insertIntoDBOrThrow(Lesson lesson) throws IllegalAccessException {
-        try {
-            getSubjectAtIdOrThrow(lesson.getSubject().getId());
-        } catch (NoSuchFieldException e) {
-            insertIntoDBOrThrow(lesson.getSubject());
+        int subjectId = lesson.getSubject().getId();
+        if (!existsSubjectAtId(subjectId)) {
+            subjectId = insertIntoDBOrThrow(lesson.getSubject());
         }
 
-        try {
-            getPeriodAtIdOrThrow(lesson.getPeriod().getId());
-        } catch (NoSuchFieldException e) {
-            insertIntoDBOrThrow(lesson.getPeriod());
+        int periodId = lesson.getPeriod().getId();
+        if (!existsPeriodAtId(periodId)) {
+            periodId = insertIntoDBOrThrow(lesson.getPeriod());
         }
 
-        SQLiteDatabase db = this.getWritableDatabase();
-
         int lessonId;
-        if (lesson.getId() <= 0) {
-            lessonId = getNewID(TABLE_LESSON, LESSON_COLUMN_ID);
-        } else {
-            lessonId = lesson.getId();
-        }
-
-        String query = "INSERT INTO " + TABLE_LESSON + " VALUES ( " + lessonId + ", " + lesson.getSubject().getId() + ", " + lesson.getPeriod().getId() + ", NULL)";
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(INSERT_LESSON);
+            bindIdOrNull(statement, lesson.getId());
+            statement.bindLong(2, subjectId);
+            statement.bindLong(3, periodId);
+            lessonId = (int) statement.executeInsert();
         } catch (Exception e) {
             throw new IllegalAccessException();
         }
+        if (lessonId <= 0) {
+            throw new IllegalAccessException();
+        }
         return lessonId;
     }
 
@@ -1454,35 +2822,25 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public int insertIntoDBOrThrow(Weekday weekday) throws IllegalAccessException {
-        for (int i = 0; i < weekday.getLessons().length; i++) {
-            if (weekday.getLessons()[i] != null) {
-                try {
-                    if ((getLessonAtIdOrThrow(weekday.getLessons()[i].getId()).match(weekday.getLessons()[i]))) {
-                        updateLessonWeekdayIdAtId(weekday.getLessons()[i].getId(), weekday.getId());
-                    }
-                } catch (NoSuchFieldException e) {
-                    insertIntoDBOrThrow(weekday.getLessons()[i]);
-                    updateLessonWeekdayIdAtId(weekday.getLessons()[i].getId(), weekday.getId());
-                }
-            }
-        }
-
-        SQLiteDatabase db = this.getWritableDatabase();
-
         int weekdayId;
-        if (weekday.getId() <= 0) {
-            weekdayId = getNewID(TABLE_WEEKDAY, WEEKDAY_COLUMN_ID);
-        } else {
-            weekdayId = weekday.getId();
-        }
-
-        String query = "INSERT INTO " + TABLE_WEEKDAY + " VALUES ( " + weekdayId + ",NULL, \"" + weekday.getName() + "\")";
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(INSERT_WEEKDAY);
+            bindIdOrNull(statement, weekday.getId());
+            statement.bindString(2, weekday.getName());
+            weekdayId = (int) statement.executeInsert();
         } catch (Exception e) {
             throw new IllegalAccessException();
         }
+        if (weekdayId <= 0) {
+            throw new IllegalAccessException();
+        }
+
+        //lessons are linked after the weekday exists, so the foreign key is valid
+        for (Lesson lesson : weekday.getLessons()) {
+            if (lesson != null) {
+                updateLessonWeekdayIdAtId(insertOrUpdateOrThrow(lesson), weekdayId);
+            }
+        }
         return weekdayId;
     }
 
@@ -1495,36 +2853,218 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public int insertIntoDBOrThrow(Schedule schedule) throws IllegalAccessException {
-        for (int i = 0; i < schedule.getDays().length; i++) {
-            if (schedule.getDays()[i] != null) {
-                try {
-                    if ((getWeekdayAtIdOrThrow(schedule.getDays()[i].getId()).match(schedule.getDays()[i]))) {
-                        updateWeekdayScheduleIdAtId(schedule.getDays()[i].getId(), schedule.getId());
-                    }
-                } catch (NoSuchFieldException e) {
-                    insertIntoDBOrThrow(schedule.getDays()[i]);
-                    updateWeekdayScheduleIdAtId(schedule.getDays()[i].getId(), schedule.getId());
-                }
+        int scheduleId;
+        try {
+            SQLiteStatement statement = compileStatement(INSERT_SCHEDULE);
+            bindIdOrNull(statement, schedule.getId());
+            statement.bindString(2, schedule.getName());
+            scheduleId = (int) statement.executeInsert();
+        } catch (Exception e) {
+            throw new IllegalAccessException();
+        }
+        if (scheduleId <= 0) {
+            throw new IllegalAccessException();
+        }
+
+        //weekdays are linked after the schedule exists, so the foreign key is valid
+        for (Weekday weekday : schedule.getDays()) {
+            if (weekday != null) {
+                updateWeekdayScheduleIdAtId(insertOrUpdateOrThrow(weekday), scheduleId);
             }
         }
+        return scheduleId;
+    }
+    //endregion
 
-        SQLiteDatabase db = this.getWritableDatabase();
+    //region insertOrUpdate
 
-        int scheduleId;
-        if (schedule.getId() <= 0) {
-            scheduleId = getNewID(TABLE_SCHEDULE, SCHEDULE_COLUMN_ID);
-        } else {
-            scheduleId = schedule.getId();
+    /**
+     * updates the {@link Subject} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param subject {@link Subject} to be updated or inserted
+     * @return the id of the {@link Subject} in the database
+     * @throws IllegalAccessException if the {@link Subject} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Subject subject) throws IllegalAccessException {
+        if (!existsSubjectAtId(subject.getId())) {
+            return insertIntoDBOrThrow(subject);
         }
 
-        String query = "INSERT INTO " + TABLE_SCHEDULE + " VALUES ( " + scheduleId + ", \"" + schedule.getName() + "\")";
+        try {
+            updateSubjectAtIdOrThrow(subject);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return subject.getId();
+    }
+
+    /**
+     * updates the {@link Teacher} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param teacher {@link Teacher} to be updated or inserted
+     * @return the id of the {@link Teacher} in the database
+     * @throws IllegalAccessException if the {@link Teacher} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Teacher teacher) throws IllegalAccessException {
+        if (!existsTeacherAtId(teacher.getId())) {
+            return insertIntoDBOrThrow(teacher);
+        }
 
         try {
-            db.execSQL(query);
-        } catch (Exception e) {
+            updateTeacherAtIdOrThrow(teacher);
+        } catch (NoSuchFieldException e) {
             throw new IllegalAccessException();
         }
-        return scheduleId;
+        return teacher.getId();
+    }
+
+    /**
+     * updates the {@link Homework} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param homework {@link Homework} to be updated or inserted
+     * @return the id of the {@link Homework} in the database
+     * @throws IllegalAccessException if the {@link Homework} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Homework homework) throws IllegalAccessException {
+        if (!existsHomeworkAtId(homework.getId())) {
+            return insertIntoDBOrThrow(homework);
+        }
+
+        try {
+            updateHomeworkAtIdOrThrow(homework);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return homework.getId();
+    }
+
+    /**
+     * updates the {@link Exam} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param exam {@link Exam} to be updated or inserted
+     * @return the id of the {@link Exam} in the database
+     * @throws IllegalAccessException if the {@link Exam} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Exam exam) throws IllegalAccessException {
+        if (!existsExamAtId(exam.getId())) {
+            return insertIntoDBOrThrow(exam);
+        }
+
+        try {
+            updateExamAtIdOrThrow(exam);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return exam.getId();
+    }
+
+    /**
+     * updates the {@link Grade} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param grade {@link Grade} to be updated or inserted
+     * @return the id of the {@link Grade} in the database
+     * @throws IllegalAccessException if the {@link Grade} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Grade grade) throws IllegalAccessException {
+        if (!existsGradeAtId(grade.getId())) {
+            return insertIntoDBOrThrow(grade);
+        }
+
+        try {
+            updateGradeAtIdOrThrow(grade);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return grade.getId();
+    }
+
+    /**
+     * updates the {@link Period} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param period {@link Period} to be updated or inserted
+     * @return the id of the {@link Period} in the database
+     * @throws IllegalAccessException if the {@link Period} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Period period) throws IllegalAccessException {
+        if (!existsPeriodAtId(period.getId())) {
+            return insertIntoDBOrThrow(period);
+        }
+
+        try {
+            updatePeriodAtIdOrThrow(period);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return period.getId();
+    }
+
+    /**
+     * updates the {@link Lesson} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param lesson {@link Lesson} to be updated or inserted
+     * @return the id of the {@link Lesson} in the database
+     * @throws IllegalAccessException if the {@link Lesson} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Lesson lesson) throws IllegalAccessException {
+        if (!existsLessonAtId(lesson.getId())) {
+            return insertIntoDBOrThrow(lesson);
+        }
+
+        try {
+            updateLessonAtIdOrThrow(lesson);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return lesson.getId();
+    }
+
+    /**
+     * updates the {@link Weekday} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param weekday {@link Weekday} to be updated or inserted
+     * @return the id of the {@link Weekday} in the database
+     * @throws IllegalAccessException if the {@link Weekday} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Weekday weekday) throws IllegalAccessException {
+        if (!existsWeekdayAtId(weekday.getId())) {
+            return insertIntoDBOrThrow(weekday);
+        }
+
+        try {
+            updateWeekdayAtIdOrThrow(weekday);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return weekday.getId();
+    }
+
+    /**
+     * updates the {@link Schedule} at its id if there is one, otherwise inserts it, use an ID <= 0 to always insert at next unoccupied ID
+     *
+     * @param schedule {@link Schedule} to be updated or inserted
+     * @return the id of the {@link Schedule} in the database
+     * @throws IllegalAccessException if the {@link Schedule} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Schedule schedule) throws IllegalAccessException {
+        if (!existsScheduleAtId(schedule.getId())) {
+            return insertIntoDBOrThrow(schedule);
+        }
+
+        try {
+            updateScheduleAtIdOrThrow(schedule);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return schedule.getId();
     }
     //endregion
 
@@ -1540,28 +3080,23 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @throws NoSuchFieldException if there is no {@link Subject} at the given id in the Database
      */
     @Override
-    public void deleteSubjectAtIdOrThrow(int id) throws NoSuchFieldException {
-        final String query = "DELETE FROM " + TABLE_SUBJECT + " WHERE " + SUBJECT_COLUMN_ID + " = " + id;
-
+    public void deleteSubjectAtIdOrThrow(final int id) throws NoSuchFieldException {
         try {
-            if (getCountOfRowsWhichUseSubjectAsForeignKey(id) <= 0) {
-                SQLiteDatabase db = this.getWritableDatabase();
-                db.execSQL(query);
+            CascadeImpact impact = getCascadeImpact(CASCADE_IMPACT_SUBJECT, id);
+            if (impact.getTotal() <= 0) {
+                if (deleteRowAtId(DELETE_SUBJECT, id) <= 0) {
+                    throw new NoSuchFieldException();
+                }
 
                 if (activity != null) {
                     activity.finish();
                 }
             } else {
-                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, getCountOfRowsWhichUseSubjectAsForeignKey(id));
+                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, impact);
                 dialog.positiveButton(new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
-                        SQLiteDatabase db = new DatabaseHelperImpl(context).getWritableDatabase();
-                        db.execSQL(query);
-
-                        if (activity != null) {
-                            activity.finish();
-                        }
+                        tombstoneOnWriter(id, TOMBSTONE_SUBJECT);
                     }
                 });
                 dialog.show();
@@ -1581,28 +3116,23 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @throws NoSuchFieldException if there is no {@link Teacher} at the given id in the Database
      */
     @Override
-    public void deleteTeacherAtIdOrThrow(int id) throws NoSuchFieldException {
-        final String query = "DELETE FROM " + TABLE_TEACHER + " WHERE " + TEACHER_COLUMN_ID + " = " + id;
-
+    public void deleteTeacherAtIdOrThrow(final int id) throws NoSuchFieldException {
         try {
-            if (getCountOfRowsWhichUseTeacherAsForeignKey(id) <= 0) {
-                SQLiteDatabase db = this.getWritableDatabase();
-                db.execSQL(query);
+            CascadeImpact impact = getCascadeImpact(CASCADE_IMPACT_TEACHER, id);
+            if (impact.getTotal() <= 0) {
+                if (deleteRowAtId(DELETE_TEACHER, id) <= 0) {
+                    throw new NoSuchFieldException();
+                }
 
                 if (activity != null) {
                     activity.finish();
                 }
             } else {
-                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, getCountOfRowsWhichUseTeacherAsForeignKey(id));
+                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, impact);
                 dialog.positiveButton(new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
-                        SQLiteDatabase db = new DatabaseHelperImpl(context).getWritableDatabase();
-                        db.execSQL(query);
-
-                        if (activity != null) {
-                            activity.finish();
-                        }
+                        tombstoneOnWriter(id, TOMBSTONE_SUBJECTS_OF_TEACHER, TOMBSTONE_TEACHER);
                     }
                 });
                 dialog.show();
@@ -1622,18 +3152,13 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public void deleteHomeworkAtIdOrThrow(int id) throws NoSuchFieldException {
-        SQLiteDatabase db = this.getWritableDatabase();
-        String query = "DELETE FROM " + TABLE_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_ID + " = " + id;
-
-        try {
-            db.execSQL(query);
-
-            if (activity != null) {
-                activity.finish();
-            }
-        } catch (Exception e) {
+        if (deleteRowAtId(DELETE_HOMEWORK, id) <= 0) {
             throw new NoSuchFieldException();
         }
+
+        if (activity != null) {
+            activity.finish();
+        }
     }
 
     /**
@@ -1644,20 +3169,15 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @param id the id the {@link Exam} to delete has
      * @throws NoSuchFieldException if there is no {@link Exam} at the given id in the Database
      */
-    @Override
-    public void deleteExamAtIdOrThrow(int id) throws NoSuchFieldException {
-        SQLiteDatabase db = this.getWritableDatabase();
-        String query = "DELETE FROM " + TABLE_EXAM + " WHERE " + EXAM_COLUMN_ID + " = " + id;
-
-        try {
-            db.execSQL(query);
-
-            if (activity != null) {
-                activity.finish();
-            }
-        } catch (Exception e) {
+    @Override
+    public void deleteExamAtIdOrThrow(int id) throws NoSuchFieldException {
+        if (deleteRowAtId(DELETE_EXAM, id) <= 0) {
             throw new NoSuchFieldException();
         }
+
+        if (activity != null) {
+            activity.finish();
+        }
     }
 
     /**
@@ -1670,18 +3190,13 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public void deleteGradeAtIdOrThrow(int id) throws NoSuchFieldException {
-        SQLiteDatabase db = this.getWritableDatabase();
-        String query = "DELETE FROM " + TABLE_GRADE + " WHERE " + GRADE_COLUMN_ID + " = " + id;
-
-        try {
-            db.execSQL(query);
-
-            if (activity != null) {
-                activity.finish();
-            }
-        } catch (Exception e) {
+        if (deleteRowAtId(DELETE_GRADE, id) <= 0) {
             throw new NoSuchFieldException();
         }
+
+        if (activity != null) {
+            activity.finish();
+        }
     }
 
     /**
@@ -1694,28 +3209,23 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @throws NoSuchFieldException if there is no {@link Period} at the given id in the Database
      */
     @Override
-    public void deletePeriodAtIdOrThrow(int id) throws NoSuchFieldException {
-        final String query = "DELETE FROM " + TABLE_PERIOD + " WHERE " + PERIOD_COLUMN_ID + " = " + id;
-
+    public void deletePeriodAtIdOrThrow(final int id) throws NoSuchFieldException {
         try {
-            if (getCountOfRowsWhichUsePeriodAsForeignKey(id) <= 0) {
-                SQLiteDatabase db = this.getWritableDatabase();
-                db.execSQL(query);
+            CascadeImpact impact = getCascadeImpact(CASCADE_IMPACT_PERIOD, id);
+            if (impact.getTotal() <= 0) {
+                if (deleteRowAtId(DELETE_PERIOD, id) <= 0) {
+                    throw new NoSuchFieldException();
+                }
 
                 if (activity != null) {
                     activity.finish();
                 }
             } else {
-                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, getCountOfRowsWhichUsePeriodAsForeignKey(id));
+                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, impact);
                 dialog.positiveButton(new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
-                        SQLiteDatabase db = new DatabaseHelperImpl(context).getWritableDatabase();
-                        db.execSQL(query);
-
-                        if (activity != null) {
-                            activity.finish();
-                        }
+                        deleteRowAtIdOnWriter(DELETE_PERIOD, id);
                     }
                 });
                 dialog.show();
@@ -1735,18 +3245,13 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      */
     @Override
     public void deleteLessonAtIdOrThrow(int id) throws NoSuchFieldException {
-        SQLiteDatabase db = this.getWritableDatabase();
-        String query = "DELETE FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_ID + " = " + id;
-
-        try {
-            db.execSQL(query);
-
-            if (activity != null) {
-                activity.finish();
-            }
-        } catch (Exception e) {
+        if (deleteRowAtId(DELETE_LESSON, id) <= 0) {
             throw new NoSuchFieldException();
         }
+
+        if (activity != null) {
+            activity.finish();
+        }
     }
 
     /**
@@ -1759,28 +3264,23 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @throws NoSuchFieldException if there is no {@link Weekday} at the given id in the Database
      */
     @Override
-    public void deleteWeekdayAtIdOrThrow(int id) throws NoSuchFieldException {
-        final String query = "DELETE FROM " + TABLE_WEEKDAY + " WHERE " + WEEKDAY_COLUMN_ID + " = " + id;
-
+    public void deleteWeekdayAtIdOrThrow(final int id) throws NoSuchFieldException {
         try {
-            if (getCountOfRowsWhichUseWeekdayAsForeignKey(id) <= 0) {
-                SQLiteDatabase db = this.getWritableDatabase();
-                db.execSQL(query);
+            CascadeImpact impact = getCascadeImpact(CASCADE_IMPACT_WEEKDAY, id);
+            if (impact.getTotal() <= 0) {
+                if (deleteRowAtId(DELETE_WEEKDAY, id) <= 0) {
+                    throw new NoSuchFieldException();
+                }
 
                 if (activity != null) {
                     activity.finish();
                 }
             } else {
-                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, getCountOfRowsWhichUseWeekdayAsForeignKey(id));
+                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, impact);
                 dialog.positiveButton(new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
-                        SQLiteDatabase db = new DatabaseHelperImpl(context).getWritableDatabase();
-                        db.execSQL(query);
-
-                        if (activity != null) {
-                            activity.finish();
-                        }
+                        deleteRowAtIdOnWriter(DELETE_WEEKDAY, id);
                     }
                 });
                 dialog.show();
@@ -1800,28 +3300,23 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @throws NoSuchFieldException if there is no {@link Schedule} at the given id in the Database
      */
     @Override
-    public void deleteScheduleAtIdOrThrow(int id) throws NoSuchFieldException {
-        final String query = "DELETE FROM " + TABLE_SCHEDULE + " WHERE " + SCHEDULE_COLUMN_ID + " = " + id;
-
+    public void deleteScheduleAtIdOrThrow(final int id) throws NoSuchFieldException {
         try {
-            if (getCountOfRowsWhichUseScheduleAsForeignKey(id) <= 0) {
-                SQLiteDatabase db = this.getWritableDatabase();
-                db.execSQL(query);
+            CascadeImpact impact = getCascadeImpact(CASCADE_IMPACT_SCHEDULE, id);
+            if (impact.getTotal() <= 0) {
+                if (deleteRowAtId(DELETE_SCHEDULE, id) <= 0) {
+                    throw new NoSuchFieldException();
+                }
 
                 if (activity != null) {
                     activity.finish();
                 }
             } else {
-                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, getCountOfRowsWhichUseScheduleAsForeignKey(id));
+                DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, impact);
                 dialog.positiveButton(new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
-                        SQLiteDatabase db = new DatabaseHelperImpl(context).getWritableDatabase();
-                        db.execSQL(query);
-
-                        if (activity != null) {
-                            activity.finish();
-                        }
+                        deleteRowAtIdOnWriter(DELETE_SCHEDULE, id);
                     }
                 });
                 dialog.show();
@@ -1831,6 +3326,106 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
         }
     }
 
+    //endregion
+
+    //region unit of work
+
+    /**
+     * writes all changes of a {@link ScheduleUnitOfWork} in one transaction, the {@link Schedule} first,
+     * then the {@link Weekday}s and then the {@link Lesson}s, so new objects get their ids before they are referenced.
+     * every changed row is written with a single statement, which also sets its reference to the parent
+     * <br> </br>
+     * Note: the {@link Subject}s and {@link Period}s of the {@link Lesson}s have to be stored already
+     *
+     * @param work the changes to write
+     * @throws NoSuchFieldException if a changed object isn't in the Database anymore or couldn't be written, nothing is written then
+     */
+    @Override
+    public void commitOrThrow(ScheduleUnitOfWork work) throws NoSuchFieldException {
+        IdentityHashMap<Weekday, Integer> newWeekdayIds = new IdentityHashMap<>();
+        int[] lessonIds = new int[work.getDirtyLessons().size()];
+        if (work.isEmpty()) {
+            work.setCommitted(newWeekdayIds, lessonIds);
+            return;
+        }
+
+        int scheduleId = work.getSchedule().getId();
+        SQLiteDatabase db = getWritableDatabase();
+
+        db.beginTransaction();
+        try {
+            if (work.getNewScheduleName() != null) {
+                SQLiteStatement statement = compileStatement(UPDATE_SCHEDULE);
+                statement.bindString(1, work.getNewScheduleName());
+                statement.bindLong(2, scheduleId);
+                executeUpdateDeleteOrThrow(statement);
+            }
+
+            for (Lesson lesson : work.getRemovedLessons()) {
+                deleteRowAtId(DELETE_LESSON, lesson.getId());
+            }
+
+            for (Weekday weekday : work.getDirtyWeekdays()) {
+                SQLiteStatement statement;
+                if (weekday.getId() > 0) {
+                    statement = compileStatement(UPDATE_WEEKDAY_AT_SCHEDULE);
+                    statement.bindLong(1, scheduleId);
+                    statement.bindString(2, weekday.getName());
+                    statement.bindLong(3, weekday.getId());
+                    executeUpdateDeleteOrThrow(statement);
+                } else {
+                    statement = compileStatement(INSERT_WEEKDAY_AT_SCHEDULE);
+                    statement.bindNull(1);
+                    statement.bindLong(2, scheduleId);
+                    statement.bindString(3, weekday.getName());
+                    int weekdayId = (int) statement.executeInsert();
+                    if (weekdayId <= 0) {
+                        throw new NoSuchFieldException();
+                    }
+                    newWeekdayIds.put(weekday, weekdayId);
+                }
+            }
+
+            for (int i = 0; i < work.getDirtyLessons().size(); i++) {
+                Lesson lesson = work.getDirtyLessons().get(i);
+                Weekday weekday = work.getDirtyLessonWeekdays().get(i);
+                Integer weekdayId = weekday.getId() > 0 ? Integer.valueOf(weekday.getId()) : newWeekdayIds.get(weekday);
+                if (weekdayId == null) {
+                    throw new NoSuchFieldException();
+                }
+
+                SQLiteStatement statement;
+                if (lesson.getId() > 0) {
+                    statement = compileStatement(UPDATE_LESSON_AT_WEEKDAY);
+                    statement.bindLong(1, lesson.getSubject().getId());
+                    statement.bindLong(2, lesson.getPeriod().getId());
+                    statement.bindLong(3, weekdayId);
+                    statement.bindLong(4, lesson.getId());
+                    executeUpdateDeleteOrThrow(statement);
+                    lessonIds[i] = lesson.getId();
+                } else {
+                    if (!existsSubjectAtId(lesson.getSubject().getId())) {
+                        throw new NoSuchFieldException();
+                    }
+                    statement = compileStatement(INSERT_LESSON_AT_WEEKDAY);
+                    statement.bindNull(1);
+                    statement.bindLong(2, lesson.getSubject().getId());
+                    statement.bindLong(3, lesson.getPeriod().getId());
+                    statement.bindLong(4, weekdayId);
+                    lessonIds[i] = (int) statement.executeInsert();
+                    if (lessonIds[i] <= 0) {
+                        throw new NoSuchFieldException();
+                    }
+                }
+            }
+            db.setTransactionSuccessful();
+        } catch (SQLiteException e) {
+            throw new NoSuchFieldException();
+        } finally {
+            db.endTransaction();
+        }
+        work.setCommitted(newWeekdayIds, lessonIds);
+    }
     //endregion
     //endregion
 
@@ -1897,7 +3492,6 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
         int size = cursor.getInt(0);
 
         cursor.close();
-        db.close();
 
         return size;
     }
@@ -1922,8 +3516,6 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
         }
 
         cursor.close();
-        db.close();
-
 
         int[] returningArray = new int[arrayList.size()];
         for (int i = 0; i < returningArray.length; i++) {
@@ -1934,10 +3526,31 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
     }
 
     /**
-     * resets the database, onUpgrade can also called instead
+     * resets the database
      */
     public void resetDatabase() {
-        onUpgrade(this.getWritableDatabase(), 1, 1);
+        openHelper.resetDatabase();
+    }
+
+    /**
+     * resets the database on the writer thread of {@link DatabaseExecutor} by deleting the database files,
+     * so the time doesn't grow with the stored rows. the tables are created again on the next access.
+     * the reader pool is drained first, so no query uses the connection while it is closed
+     * <br> </br>
+     * Note: a pending undo of a delete is dropped, since its tombstones are deleted as well
+     *
+     * @param progress gets the count of finished steps on the main thread, may be null
+     * @param callback gets true on the main thread if the database files were deleted, may be null
+     */
+    @Override
+    public void resetDatabase(final DatabaseExecutor.ProgressCallback progress, DatabaseExecutor.Callback<Boolean> callback) {
+        DatabaseExecutor.getInstance().writeExclusive(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                takeUndoableDelete();
+                return openHelper.deleteDatabaseFiles(progress);
+            }
+        }, callback);
     }
 
     //todo remove
@@ -2021,257 +3634,491 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
     //region private methods
 
     /**
-     * deletes all tables from the schoolPlanner Database
+     * inserts a single item of a bulk insert
+     *
+     * @param <T> class of the inserted items
+     */
+    private interface BulkInsert<T> {
+        /**
+         * inserts the item, together with the parents it needs
+         *
+         * @param item the item to be inserted
+         * @return the id in the database the item was inserted
+         * @throws IllegalAccessException if the item could not be inserted
+         */
+        int insert(T item) throws IllegalAccessException;
+    }
+
+    /**
+     * inserts all given items in one transaction, every item in its own savepoint, so a failing item
+     * also rolls back the parents inserted for it and the other items are still inserted
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param items  the items to be inserted
+     * @param insert inserts a single item
+     * @param <T>    class of the inserted items
+     * @return the ids in the database the items were inserted, ordered like the given items. -1 for every item which could not be inserted
      */
-    private void dropAllTables(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.setForeignKeyConstraintsEnabled(false);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_SUBJECT);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_TEACHER);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_HOMEWORK);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_EXAM);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_GRADE);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_PERIOD);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_LESSON);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_WEEKDAY);
-        sqLiteDatabase.execSQL("DROP TABLE " + TABLE_SCHEDULE);
+    private <T> int[] insertAllInSavepoints(T[] items, BulkInsert<T> insert) {
+        int[] ids = new int[items.length];
+        SQLiteDatabase db = getWritableDatabase();
+
+        db.beginTransaction();
+        try {
+            for (int i = 0; i < items.length; i++) {
+                db.execSQL(SAVEPOINT_BULK_ITEM);
+                try {
+                    ids[i] = insert.insert(items[i]);
+                } catch (IllegalAccessException | SQLiteException e) {
+                    ids[i] = -1;
+                    db.execSQL(ROLLBACK_TO_BULK_ITEM);
+                }
+                db.execSQL(RELEASE_BULK_ITEM);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return ids;
     }
 
     /**
-     * create all tables in the schoolPlanner Database
+     * gets the first object of an array read from the database
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param objects the read objects
+     * @param <T>     type of the objects
+     * @return the first object, or null if the array is empty
      */
-    private void createTables(SQLiteDatabase sqLiteDatabase) {
-        createSubjectTable(sqLiteDatabase);
-        createTeacherTable(sqLiteDatabase);
-        createHomeworkTable(sqLiteDatabase);
-        createExamTable(sqLiteDatabase);
-        createGradeTable(sqLiteDatabase);
-        createPeriodTable(sqLiteDatabase);
-        createLessonTable(sqLiteDatabase);
-        createWeekdayTable(sqLiteDatabase);
-        createScheduleTable(sqLiteDatabase);
+    private static <T> T firstOrNull(T[] objects) {
+        return objects.length == 0 ? null : objects[0];
     }
 
-    //region table creation
+    /**
+     * builds the IN list to select the rows at the given ids.
+     * the ids are written into the SQL instead of being bound, so the list isn't limited by the maximum count of query arguments
+     *
+     * @param ids the ids to select
+     * @return the list, to be appended to an id column in a WHERE clause
+     */
+    private String buildInList(int[] ids) {
+        StringBuilder inList = new StringBuilder(" IN (");
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                inList.append(", ");
+            }
+            inList.append(ids[i]);
+        }
+        return inList.append(")").toString();
+    }
 
     /**
-     * create subject table in the schoolPlanner Database
+     * builds the condition to select the rows after a key in the order of (sortColumn, idColumn).
+     * the condition takes the sort value of the key twice and then its id as arguments
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param sortColumn the column the rows are ordered by
+     * @param idColumn   the id column, to order rows with the same sort value
+     * @return the condition, to be used in a WHERE clause
      */
-    private void createSubjectTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_SUBJECT + "(" +
-                SUBJECT_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                SUBJECT_COLUMN_TEACHER_ID + " INTEGER NOT NULL " +
-                "REFERENCES " + TABLE_TEACHER + "(" + TEACHER_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
-                SUBJECT_COLUMN_NAME + " VARCHAR NOT NULL, " +
-                SUBJECT_COLUMN_ROOM + " VARCHAR NOT NULL, " +
-                SUBJECT_COLUMN_COLOR + " VARCHAR NOT NULL )"
-        );
+    private String buildKeysetCondition(String sortColumn, String idColumn) {
+        return "(" + sortColumn + " > ? OR (" + sortColumn + " = ? AND " + idColumn + " > ?))";
     }
 
     /**
-     * create teacher table in the schoolPlanner Database
+     * compiles a {@link Criteria} to a parameterized query over the indexed columns of a table,
+     * a column passed as null means the table doesn't support the matching filter or order
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param select         the joined SELECT of the table, choose from the SELECT_XXX constants
+     * @param criteria       filter, order and limit to compile
+     * @param args           list the query arguments are added to, in the order of their placeholders
+     * @param idColumn       id column of the table
+     * @param subjectColumn  column of the table referencing the subject
+     * @param doneColumn     done column of the table, or null
+     * @param deadlineColumn deadline column of the table, or null
+     * @param nameColumn     name column of the table, or null
+     * @return the query
+     * @throws IllegalArgumentException if the {@link Criteria} uses a filter or order the table doesn't support
      */
-    private void createTeacherTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_TEACHER + "(" +
-                TEACHER_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                TEACHER_COLUMN_NAME + " VARCHAR NOT NULL, " +
-                TEACHER_COLUMN_ABBREVIATION + " VARCHAR UNIQUE, " +
-                TEACHER_COLUMN_GENDER + " CHAR NOT NULL )"
-        );
+    private String buildCriteriaQuery(String select, Criteria criteria, ArrayList<String> args, String idColumn, String subjectColumn,
+                                      String doneColumn, String deadlineColumn, String nameColumn) {
+        ArrayList<String> conditions = new ArrayList<>();
+
+        if (criteria.getSubjectId() >= 0) {
+            conditions.add(subjectColumn + " = ?");
+            args.add(String.valueOf(criteria.getSubjectId()));
+        }
+        if (criteria.getTeacherId() >= 0) {
+            conditions.add(SUBJECT_COLUMN_TEACHER_ID + " = ?");
+            args.add(String.valueOf(criteria.getTeacherId()));
+        }
+        if (criteria.getDone() != null) {
+            conditions.add(requireColumn(doneColumn, "done") + " = ?");
+            args.add(criteria.getDone() ? "1" : "0");
+        }
+        if (criteria.hasDeadlineRange()) {
+            conditions.add(requireColumn(deadlineColumn, "deadline") + " BETWEEN ? AND ?");
+            args.add(String.valueOf(criteria.getFromDay()));
+            args.add(String.valueOf(criteria.getToDay()));
+        }
+
+        String sortColumn = null;
+        if (criteria.getOrder() == Criteria.Order.DEADLINE) {
+            sortColumn = requireColumn(deadlineColumn, "deadline");
+        } else if (criteria.getOrder() == Criteria.Order.NAME) {
+            sortColumn = requireColumn(nameColumn, "name");
+        }
+
+        if (criteria.hasAfter()) {
+            if (sortColumn == null) {
+                conditions.add(idColumn + " > ?");
+            } else {
+                conditions.add(buildKeysetCondition(sortColumn, idColumn));
+                args.add(criteria.getAfterKey());
+                args.add(criteria.getAfterKey());
+            }
+            args.add(String.valueOf(criteria.getAfterId()));
+        }
+
+        StringBuilder query = new StringBuilder(select);
+        for (int i = 0; i < conditions.size(); i++) {
+            query.append(i == 0 ? " WHERE " : " AND ").append(conditions.get(i));
+        }
+        query.append(" ORDER BY ");
+        if (sortColumn != null) {
+            query.append(sortColumn).append(", ");
+        }
+        query.append(idColumn);
+        if (criteria.getLimit() >= 0) {
+            query.append(" LIMIT ").append(criteria.getLimit());
+        }
+        return query.toString();
     }
 
     /**
-     * create homework table in the schoolPlanner Database
+     * checks that a table supports a filter or order of a {@link Criteria}
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param column the column of the table, or null if there is none
+     * @param name   name of the filter or order for the exception message
+     * @return the column
+     * @throws IllegalArgumentException if the column is null
      */
-    private void createHomeworkTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_HOMEWORK + "(" +
-                HOMEWORK_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                HOMEWORK_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
-                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
-                HOMEWORK_COLUMN_DESCRIPTION + " TEXT NOT NULL, " +
-                HOMEWORK_COLUMN_DEADLINE + " DATE NOT NULL, " +
-                HOMEWORK_COLUMN_DONE + " INTEGER )"
-        );
+    private String requireColumn(String column, String name) {
+        if (column == null) {
+            throw new IllegalArgumentException("Criteria filters or orders by " + name + ", which the table doesn't have");
+        }
+        return column;
     }
 
     /**
-     * create exam table in the schoolPlanner Database
+     * binds the id of an object to the first argument of a compiled INSERT statement,
+     * an id <= 0 is bound as NULL, so SQLite assigns the next unoccupied rowid within the insert itself
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param statement the compiled INSERT statement, choose from the INSERT_XXX constants
+     * @param id        the id of the object to insert
      */
-    private void createExamTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_EXAM + "(" +
-                EXAM_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                EXAM_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
-                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
-                EXAM_COLUMN_DESCRIPTION + " TEXT NOT NULL, " +
-                EXAM_COLUMN_DEADLINE + " DATE NOT NULL)"
-        );
+    private void bindIdOrNull(SQLiteStatement statement, int id) {
+        if (id <= 0) {
+            statement.bindNull(1);
+        } else {
+            statement.bindLong(1, id);
+        }
     }
 
+
     /**
-     * create grade table in the schoolPlanner Database
+     * method to build a SQLite query to get a row in a specific table at a specific id from schoolPlaner database.
+     * the id is passed as the only argument of the query, so every call with the same table shares one SQL string
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param table         name of the table to get the row from as String, may be followed by joins
+     * @param tableColumnID name of the id column in the given table as String
+     * @return a SQLite query  as String
      */
-    private void createGradeTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_GRADE + "(" +
-                GRADE_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                GRADE_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
-                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
-                GRADE_COLUMN_NAME + " VARCHAR NOT NULL, " +
-                GRADE_COLUMN_GRADE + " VARCHAR NOT NULL )"
-        );
+    private String buildQueryToGetRowAtId(String table, String tableColumnID) {
+        return "SELECT * " +
+                "FROM " + table +
+                " WHERE " + tableColumnID +
+                " = ?";
     }
 
     /**
-     * create period table in the schoolPlanner Database
+     * converts the given values to the String array used as selection arguments of a query
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param values the values of the query arguments in order of their '?'
+     * @return the values as String array
      */
-    private void createPeriodTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_PERIOD + "(" +
-                PERIOD_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                PERIOD_COLUMN_SCHOOL_HOUR_NO + " INTEGER NOT NULL, " +
-                PERIOD_COLUMN_STARTTIME + " TIME NOT NULL, " +
-                PERIOD_COLUMN_ENDTIME + " TIME NOT NULL )"
-        );
+    private String[] toArgs(int... values) {
+        String[] args = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            args[i] = String.valueOf(values[i]);
+        }
+        return args;
     }
 
     /**
-     * create lesson table in the schoolPlanner Database
+     * converts the days of a week to the selection arguments of the week agenda range
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     * @return the epoch days of both days as selection arguments
      */
-    private void createLessonTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_LESSON + "(" +
-                LESSON_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                LESSON_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
-                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
-                LESSON_COLUMN_PERIOD_ID + " INTEGER NOT NULL " +
-                "REFERENCES " + TABLE_PERIOD + "(" + PERIOD_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
-                LESSON_COLUMN_WEEKDAY_ID + " INTEGER  " +
-                "REFERENCES " + TABLE_WEEKDAY + "(" + WEEKDAY_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE)"
-        );
+    private static String[] toWeekAgendaRangeArgs(Calendar firstDay, Calendar lastDay) {
+        return new String[]{String.valueOf(EpochDays.fromCalendar(firstDay)), String.valueOf(EpochDays.fromCalendar(lastDay))};
     }
 
     /**
-     * create weekday table in the schoolPlanner Database
+     * gets the compiled statement for the given SQL from the {@link StatementRegistry} of the shared connection
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @param sql the SQL of the statement, choose from the INSERT_XXX, UPDATE_XXX and DELETE_XXX constants
+     * @return the compiled statement, ready to be bound
      */
-    private void createWeekdayTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_WEEKDAY + "(" +
-                WEEKDAY_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                WEEKDAY_COLUMN_SCHEDULE_ID + " INTEGER " +
-                "REFERENCES " + TABLE_SCHEDULE + "(" + SCHEDULE_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
-                WEEKDAY_COLUMN_NAME + " VARCHAR NOT NULL )"
-        );
+    private SQLiteStatement compileStatement(String sql) {
+        return openHelper.compileStatement(sql);
     }
 
     /**
-     * create schedule table in the schoolPlanner Database
+     * gets the shared database connection for reading
      *
-     * @param sqLiteDatabase the schoolPlanner Database
+     * @return the open schoolPlanner Database
      */
-    private void createScheduleTable(SQLiteDatabase sqLiteDatabase) {
-        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_SCHEDULE + "(" +
-                SCHEDULE_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
-                SCHEDULE_COLUMN_NAME + " VARCHAR NOT NULL )"
-        );
+    private SQLiteDatabase getReadableDatabase() {
+        return openHelper.getReadableDatabase();
     }
-    //endregion
 
     /**
-     * returns the highest id in the given Table in the Database + 1
+     * gets the shared database connection for writing
      *
-     * @param tableName    name of the table, choose from the TABLE_XXX constants of {@link DatabaseHelper}
-     * @param idColumnName name of the column containing the id's, choose from the XXX_COLUMN_ID constants in {@link DatabaseHelper}
-     * @return the highest id in the Table + 1
+     * @return the open schoolPlanner Database
      */
-    private int getNewID(String tableName, String idColumnName) {
-        SQLiteDatabase db = this.getReadableDatabase();
-        String query = "SELECT MAX(" + idColumnName + ") FROM " + tableName;
+    private SQLiteDatabase getWritableDatabase() {
+        return openHelper.getWritableDatabase();
+    }
 
-        try (Cursor cursor = db.rawQuery(query, null)) {
-            cursor.moveToFirst();
+    /**
+     * executes the given bound UPDATE or DELETE statement
+     *
+     * @param statement the bound statement
+     * @throws NoSuchFieldException if the statement did not change any row or failed
+     */
+    private void executeUpdateDeleteOrThrow(SQLiteStatement statement) throws NoSuchFieldException {
+        int changedRows;
+        try {
+            changedRows = statement.executeUpdateDelete();
+        } catch (SQLiteException e) {
+            throw new NoSuchFieldException();
+        }
 
-            return cursor.getInt(0) + 1;
+        if (changedRows <= 0) {
+            throw new NoSuchFieldException();
         }
     }
 
     /**
-     * gets the {@link Lesson}s as array at a specific {@link Weekday}
+     * checks whether a row exists with the given compiled EXISTS statement, which always returns exactly one row.
+     * the insertOrUpdate methods use it instead of an UPSERT, which the SQLite versions of older Android releases don't support
      *
-     * @param weekdayID id of the {@link Weekday}
-     * @return Periods at the given Weekday as Array
-     * @throws Exception if an error occurs
+     * @param sql the SQL of the statement, choose from the EXISTS_XXX constants
+     * @param id  id of the row to look for
+     * @return true if there is a row at the given id
      */
-    private Lesson[] getLessonsAtWeekday(int weekdayID) throws Exception {
-        SQLiteDatabase db = this.getReadableDatabase();
+    private boolean rowExists(String sql, int id) {
+        SQLiteStatement statement = compileStatement(sql);
+        statement.bindLong(1, id);
 
-        String query = buildQueryToGetRowAtId(TABLE_LESSON, LESSON_COLUMN_WEEKDAY_ID, weekdayID);
+        return statement.simpleQueryForLong() != 0;
+    }
 
-        ArrayList<Lesson> lessonArrayList = new ArrayList<>();
-        Cursor cursor = db.rawQuery(query, null);
+    /**
+     * deletes the row at the given id with the given compiled DELETE statement
+     *
+     * @param sql the SQL of the statement, choose from the DELETE_XXX constants
+     * @param id  id of the row to delete
+     * @return count of deleted rows, 0 if there was no row at the given id
+     */
+    private int deleteRowAtId(String sql, int id) {
+        SQLiteStatement statement = compileStatement(sql);
+        statement.bindLong(1, id);
 
-        for (cursor.moveToFirst(); !cursor.isAfterLast(); cursor.moveToNext()) {
-            lessonArrayList.add(getLessonAtIdOrThrow(cursor.getInt(0)));
-        }
+        return statement.executeUpdateDelete();
+    }
 
-        cursor.close();
-        db.close();
+    /**
+     * deletes the rows at all given ids with the given compiled DELETE statement in one transaction
+     *
+     * @param sql the SQL of the statement, choose from the DELETE_XXX constants
+     * @param ids ids of the rows to delete
+     * @return for every id, ordered like the given ones, true if a row was deleted, false if there was none at this id
+     */
+    private boolean[] deleteRowsAtIds(String sql, int[] ids) {
+        boolean[] deleted = new boolean[ids.length];
+        SQLiteDatabase db = getWritableDatabase();
 
-        return lessonArrayList.toArray(new Lesson[0]);
+        db.beginTransaction();
+        try {
+            for (int i = 0; i < ids.length; i++) {
+                try {
+                    deleted[i] = deleteRowAtId(sql, ids[i]) > 0;
+                } catch (SQLiteException e) {
+                    deleted[i] = false;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return deleted;
     }
 
+    /**
+     * deletes the row at the given id on the writer thread of {@link DatabaseExecutor},
+     * so a cascading delete doesn't block the main thread while it commits.
+     * finishes the {@link Activity}, if set, after the delete
+     *
+     * @param sql the SQL of the statement, choose from the DELETE_XXX constants
+     * @param id  id of the row to delete
+     */
+    private void deleteRowAtIdOnWriter(final String sql, final int id) {
+        DatabaseExecutor.getInstance().write(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return deleteRowAtId(sql, id);
+            }
+        }, new DatabaseExecutor.Callback<Integer>() {
+            @Override
+            public void onResult(Integer result) {
+                if (result == null || result <= 0) {
+                    ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+                } else if (activity != null) {
+                    activity.finish();
+                }
+            }
+        });
+    }
 
     /**
-     * gets the {@link Weekday}s as array at a specific {@link Schedule}
+     * reads the rows a delete would also affect on the reader pool of {@link DatabaseExecutor}, then deletes the row at the given id
+     * on the writer thread if there are none, otherwise asks for confirmation with {@link DatabaseCascadeDeleteConfirmDialog}
+     * and tombstones the row and its dependents
      *
-     * @param scheduleID id of the {@link Schedule}
-     * @return Weekdays at the given schedule as Array
+     * @param impactQuery   the cascade impact query, choose from the CASCADE_IMPACT_XXX constants
+     * @param deleteSql     the SQL of the delete, choose from the DELETE_XXX constants
+     * @param id            id of the row to delete
+     * @param tombstoneSqls the SQL of the tombstone statements, choose from the TOMBSTONE_XXX constants
      */
-    private Weekday[] getWeekdaysAtSchedule(int scheduleID) {
-        SQLiteDatabase db = this.getReadableDatabase();
+    private void deleteOrConfirmOnExecutor(final String impactQuery, final String deleteSql, final int id, final String... tombstoneSqls) {
+        DatabaseExecutor.getInstance().read(new Callable<CascadeImpact>() {
+            @Override
+            public CascadeImpact call() {
+                return getCascadeImpact(impactQuery, id);
+            }
+        }, new DatabaseExecutor.Callback<CascadeImpact>() {
+            @Override
+            public void onResult(CascadeImpact impact) {
+                if (impact == null) {
+                    ExceptionHandler.handleDatabaseExceptionForDeletingAnNotExistingObject(id, context);
+                } else if (impact.getTotal() <= 0) {
+                    deleteRowAtIdOnWriter(deleteSql, id);
+                } else {
+                    DatabaseCascadeDeleteConfirmDialog dialog = new DatabaseCascadeDeleteConfirmDialog(context, impact);
+                    dialog.positiveButton(new DialogInterface.OnClickListener() {
+                        @Override
+                        public void onClick(DialogInterface dialog, int which) {
+                            tombstoneOnWriter(id, tombstoneSqls);
+                        }
+                    });
+                    dialog.show();
+                }
+            }
+        });
+    }
+
+    /**
+     * tombstones the row at the given id and its dependents on the writer thread of {@link DatabaseExecutor} in one transaction,
+     * so they disappear from all reads at once while the physical delete is left to {@link DatabaseHelperImpl#purgeDeleted(long)}.
+     * keeps the stamp for {@link DatabaseHelperImpl#takeUndoableDelete()} and finishes the {@link Activity}, if set, after the update
+     *
+     * @param id   id of the row to tombstone
+     * @param sqls the SQL of the statements with the stamp as ?1 and the id as ?2, choose from the TOMBSTONE_XXX constants
+     */
+    private void tombstoneOnWriter(final int id, final String... sqls) {
+        final long stamp = nextDeleteStamp();
 
-        String query = buildQueryToGetRowAtId(TABLE_WEEKDAY, WEEKDAY_COLUMN_SCHEDULE_ID, scheduleID);
+        DatabaseExecutor.getInstance().write(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                SQLiteDatabase db = getWritableDatabase();
+                int tombstoned = 0;
 
-        ArrayList<Weekday> weekdayArrayList = new ArrayList<>();
-        Cursor cursor = db.rawQuery(query, null);
+                db.beginTransaction();
+                try {
+                    for (String sql : sqls) {
+                        SQLiteStatement statement = compileStatement(sql);
+                        statement.bindLong(1, stamp);
+                        statement.bindLong(2, id);
+                        tombstoned += statement.executeUpdateDelete();
+                    }
+                    db.setTransactionSuccessful();
+                } finally {
+                    db.endTransaction();
+                }
+                return tombstoned;
+            }
+        }, new DatabaseExecutor.Callback<Integer>() {
+            @Override
+            public void onResult(Integer result) {
+                if (result != null && result > 0) {
+                    setUndoableDelete(stamp);
+                }
+                if (activity != null) {
+                    activity.finish();
+                }
+            }
+        });
+    }
 
-        for (cursor.moveToFirst(); !cursor.isAfterLast(); cursor.moveToNext()) {
-            weekdayArrayList.add(getWeekdayAtId(cursor.getInt(0)));
-        }
+    /**
+     * executes a compiled statement with a delete stamp as its only argument
+     *
+     * @param sql   the SQL of the statement, choose from the UNDO_TOMBSTONE_XXX constants
+     * @param stamp the stamp of the delete
+     * @return count of changed rows
+     */
+    private int executeWithStamp(String sql, long stamp) {
+        SQLiteStatement statement = compileStatement(sql);
+        statement.bindLong(1, stamp);
 
-        cursor.close();
-        db.close();
+        return statement.executeUpdateDelete();
+    }
 
-        return weekdayArrayList.toArray(new Weekday[0]);
+    /**
+     * builds the statement, which deletes one batch of rows belonging to tombstoned {@link Subject}s
+     *
+     * @param table           name of the table, choose from the TABLE_XXX constants
+     * @param idColumn        id column of the table
+     * @param subjectIdColumn column of the table referencing the subject
+     * @return the DELETE statement with the newest stamp as ?1 and the batch size as ?2
+     */
+    private static String buildPurgeOfSubjectChildren(String table, String idColumn, String subjectIdColumn) {
+        return "DELETE FROM " + table + " WHERE " + idColumn + " IN (SELECT " + idColumn + " FROM " + table +
+                " JOIN " + TABLE_SUBJECT + " ON " + subjectIdColumn + " = " + SUBJECT_COLUMN_ID +
+                " WHERE " + SUBJECT_COLUMN_DELETED + " BETWEEN 1 AND ?1 LIMIT ?2)";
     }
 
     /**
-     * method to build a SQLite query to get a row in a specific table at a specific id from schoolPlaner database
+     * gets a new delete stamp, the current time in milliseconds but always greater than the one before,
+     * so two deletes never share a stamp and undo only restores its own rows
      *
-     * @param table         name of the table to get the row from as String
-     * @param tableColumnID name of the id column in the given table as String
-     * @param id            id of the row to get
-     * @return a SQLite query  as String
+     * @return the new stamp
      */
-    private String buildQueryToGetRowAtId(String table, String tableColumnID, int id) {
-        return "SELECT * " +
-                "FROM " + table +
-                " WHERE " + tableColumnID +
-                " = " + id;
+    private static synchronized long nextDeleteStamp() {
+        lastDeleteStamp = Math.max(System.currentTimeMillis(), lastDeleteStamp + 1);
+        return lastDeleteStamp;
+    }
+
+    /**
+     * keeps the stamp of a delete for {@link DatabaseHelperImpl#takeUndoableDelete()}
+     *
+     * @param stamp the stamp of the delete
+     */
+    private static synchronized void setUndoableDelete(long stamp) {
+        undoableDelete = stamp;
     }
 
     /**
@@ -2281,13 +4128,11 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @param scheduleId id of the new schedule
      */
     private void updateWeekdayScheduleIdAtId(int id, int scheduleId) {
-        SQLiteDatabase db = this.getWritableDatabase();
-        db.setForeignKeyConstraintsEnabled(false);
-
-        String query = "UPDATE " + TABLE_WEEKDAY + " SET " + WEEKDAY_COLUMN_SCHEDULE_ID + " = " + scheduleId + " WHERE " + WEEKDAY_COLUMN_ID + " = " + id;
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(UPDATE_WEEKDAY_SCHEDULE_ID);
+            statement.bindLong(1, scheduleId);
+            statement.bindLong(2, id);
+            statement.executeUpdateDelete();
         } catch (Exception e) {
             ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject(WEEKDAY_COLUMN_SCHEDULE_ID + " in WEEKDAY", context);
         }
@@ -2300,159 +4145,152 @@ public class DatabaseHelperImpl extends SQLiteOpenHelper implements DatabaseHelp
      * @param weekdayId id of the new schedule
      */
     private void updateLessonWeekdayIdAtId(int id, int weekdayId) {
-        SQLiteDatabase db = this.getWritableDatabase();
-        db.setForeignKeyConstraintsEnabled(false);
-
-        String query = "UPDATE " + TABLE_LESSON + " SET " + LESSON_COLUMN_WEEKDAY_ID + " = " + weekdayId + " WHERE " + LESSON_COLUMN_ID + " = " + id;
-
         try {
-            db.execSQL(query);
+            SQLiteStatement statement = compileStatement(UPDATE_LESSON_WEEKDAY_ID);
+            statement.bindLong(1, weekdayId);
+            statement.bindLong(2, id);
+            statement.executeUpdateDelete();
         } catch (Exception e) {
             ExceptionHandler.handleDatabaseExceptionForUpdatingAnNotExistingObject(WEEKDAY_COLUMN_SCHEDULE_ID + " in WEEKDAY", context);
         }
     }
 
-    //region getCountOfRowsWhichUseObjectAsForeignKey
-
     /**
-     * method to read the count of objects from database which contains a specific {@link Subject} at the given id
+     * reads all rows a query returns with the mapper of a class, which resolves the column indices once for the whole cursor
      *
-     * @param id the id of the {@link Subject}
-     * @return count of objects from database which contains a specific {@link Subject} at the given id
+     * @param query   the query, selecting all columns the mapper needs
+     * @param args    the arguments of the query, may be null
+     * @param factory the mapper of the class, choose from the constants of {@link RowMapper}
+     * @param <T>     the mapped class
+     * @return the mapped objects in the order of the query
      */
-    private int getCountOfRowsWhichUseSubjectAsForeignKey(int id) {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor cursor = null;
-
-        String queryExam = "SELECT COUNT(*) FROM (SELECT * FROM " + TABLE_EXAM + " WHERE " + EXAM_COLUMN_SUBJECT_ID + " = " + id + " )";
-        String queryHomework = "SELECT COUNT(*) FROM (SELECT * FROM " + TABLE_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_SUBJECT_ID + " = " + id + " )";
-        String queryGrade = "SELECT COUNT(*) FROM (SELECT * FROM " + TABLE_GRADE + " WHERE " + GRADE_COLUMN_SUBJECT_ID + " = " + id + " )";
-        String queryLesson = "SELECT COUNT(*) FROM (SELECT * FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_SUBJECT_ID + " = " + id + " )";
-
-        int usingElementsCount = 0;
-
-        try {
-            cursor = db.rawQuery(queryExam, null);
-            cursor.moveToFirst();
-            usingElementsCount += cursor.getInt(0);
-
-            cursor = db.rawQuery(queryHomework, null);
-            cursor.moveToFirst();
-            usingElementsCount += cursor.getInt(0);
-
-            cursor = db.rawQuery(queryGrade, null);
-            cursor.moveToFirst();
-            usingElementsCount += cursor.getInt(0);
-
-            cursor = db.rawQuery(queryLesson, null);
-            cursor.moveToFirst();
-            usingElementsCount += cursor.getInt(0);
+    private <T> ArrayList<T> readAll(String query, String[] args, RowMapper.Factory<T> factory) {
+        ArrayList<T> objects = new ArrayList<>();
 
-        } finally {
-            if (cursor != null) {
-                cursor.close();
+        try (Cursor cursor = this.getReadableDatabase().rawQuery(query, args)) {
+            RowMapper<T> mapper = factory.forCursor(cursor);
+            for (cursor.moveToFirst(); !cursor.isAfterLast(); cursor.moveToNext()) {
+                objects.add(mapper.map(cursor));
             }
-            db.close();
         }
-        return usingElementsCount;
+
+        return objects;
     }
 
     /**
-     * method to read the count of objects from database which contains a specific {@link Teacher} at the given id
+     * reads all {@link Subject}s a query over the subject table returns, joined with their referenced tables
      *
-     * @param id the id of the {@link Teacher}
-     * @return count of objects from database which contains a specific {@link Teacher} at the given id
+     * @param query the query, selecting all columns of the subject table and its joined tables
+     * @param args  the arguments of the query, may be null
+     * @return the {@link Subject}s in the order of the query
      */
-    private int getCountOfRowsWhichUseTeacherAsForeignKey(int id) {
-        SQLiteDatabase db = this.getReadableDatabase();
-        Cursor cursor = null;
-
-        String querySubject = "SELECT COUNT(*) FROM (SELECT * FROM " + TABLE_SUBJECT + " WHERE " + SUBJECT_COLUMN_TEACHER_ID + " = " + id + " )";
-        String querySubjectIDs = "SELECT " + SUBJECT_COLUMN_ID + " FROM (SELECT * FROM " + TABLE_SUBJECT + " WHERE " + SUBJECT_COLUMN_TEACHER_ID + " = " + id + " )";
-
-        int usingElementsCount = 0;
-
-        try {
-            //teacher using subjects count
-            cursor = db.rawQuery(querySubject, null);
-            cursor.moveToFirst();
-            usingElementsCount += cursor.getInt(0);
-
-            //things which use teacher using subjects count
-            cursor = db.rawQuery(querySubjectIDs, null);
-            for (cursor.moveToFirst(); !cursor.isAfterLast(); cursor.moveToNext()) {
-                usingElementsCount += getCountOfRowsWhichUseSubjectAsForeignKey(cursor.getInt(0));
-            }
-
-        } finally {
-            if (cursor != null) {
-                cursor.close();
-            }
-            db.close();
-        }
-        return usingElementsCount;
+    private Subject[] readSubjectsFromJoinedQuery(String query, String[] args) {
+        return readAll(query, args, RowMapper.SUBJECT).toArray(new Subject[0]);
     }
 
     /**
-     * method to read the count of objects from database which contains a specific {@link Period} at the given id
+     * reads all {@link Teacher}s a query over the teacher table returns, joined with their referenced tables
      *
-     * @param id the id of the {@link Period}
-     * @return count of objects from database which contains a specific {@link Period} at the given id
+     * @param query the query, selecting all columns of the teacher table and its joined tables
+     * @param args  the arguments of the query, may be null
+     * @return the {@link Teacher}s in the order of the query
      */
-    private int getCountOfRowsWhichUsePeriodAsForeignKey(int id) {
-
-        String queryLesson = "SELECT COUNT(*) FROM (SELECT * FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_PERIOD_ID + " = " + id + " )";
-
-        int usingElementsCount = 0;
+    private Teacher[] readTeachersFromJoinedQuery(String query, String[] args) {
+        return readAll(query, args, RowMapper.TEACHER).toArray(new Teacher[0]);
+    }
 
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(queryLesson, null)) {
-            cursor.moveToFirst();
-            usingElementsCount += cursor.getInt(0);
+    /**
+     * reads all {@link Homework}s a query over the homework table returns, joined with their referenced tables
+     *
+     * @param query the query, selecting all columns of the homework table and its joined tables
+     * @param args  the arguments of the query, may be null
+     * @return the {@link Homework}s in the order of the query
+     */
+    private Homework[] readHomeworkFromJoinedQuery(String query, String[] args) {
+        return readAll(query, args, RowMapper.HOMEWORK).toArray(new Homework[0]);
+    }
 
-        }
-        return usingElementsCount;
+    /**
+     * reads all {@link Exam}s a query over the exam table returns, joined with their referenced tables
+     *
+     * @param query the query, selecting all columns of the exam table and its joined tables
+     * @param args  the arguments of the query, may be null
+     * @return the {@link Exam}s in the order of the query
+     */
+    private Exam[] readExamsFromJoinedQuery(String query, String[] args) {
+        return readAll(query, args, RowMapper.EXAM).toArray(new Exam[0]);
     }
 
     /**
-     * method to read the count of objects from database which contains a specific {@link Weekday} at the given id
+     * reads all {@link Grade}s a query over the grade table returns, joined with their referenced tables
      *
-     * @param id the id of the {@link Weekday}
-     * @return count of objects from database which contains a specific {@link Weekday} at the given id
+     * @param query the query, selecting all columns of the grade table and its joined tables
+     * @param args  the arguments of the query, may be null
+     * @return the {@link Grade}s in the order of the query
      */
-    private int getCountOfRowsWhichUseWeekdayAsForeignKey(int id) {
+    private Grade[] readGradesFromJoinedQuery(String query, String[] args) {
+        return readAll(query, args, RowMapper.GRADE).toArray(new Grade[0]);
+    }
 
-        String queryLesson = "SELECT COUNT(*) FROM (SELECT * FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_WEEKDAY_ID + " = " + id + " )";
+    /**
+     * reads all {@link Period}s a query over the period table returns
+     *
+     * @param query the query, selecting all columns of the period table
+     * @param args  the arguments of the query, may be null
+     * @return the {@link Period}s in the order of the query
+     */
+    private Period[] readPeriodsFromQuery(String query, String[] args) {
+        return readAll(query, args, RowMapper.PERIOD).toArray(new Period[0]);
+    }
 
-        int usingElementsCount = 0;
+    /**
+     * reads all {@link Lesson}s a query over the lesson table returns, joined with their referenced tables
+     *
+     * @param query the query, selecting all columns of the lesson table and its joined tables
+     * @param args  the arguments of the query, may be null
+     * @return the {@link Lesson}s in the order of the query
+     */
+    private Lesson[] readLessonsFromJoinedQuery(String query, String[] args) {
+        return readAll(query, args, RowMapper.LESSON).toArray(new Lesson[0]);
+    }
 
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(queryLesson, null)) {
-            cursor.moveToFirst();
-            usingElementsCount += cursor.getInt(0);
+    /**
+     * reads the usage counts a query over the subject counter table returns
+     *
+     * @param query the query, selecting the count columns of the subject counter table by their names
+     * @param id    the only argument of the query
+     * @return the counts of the first row, all 0 if there is none
+     */
+    private UsageCounts readUsageCounts(String query, int id) {
+        try (Cursor cursor = this.getReadableDatabase().rawQuery(query, toArgs(id))) {
+            if (!cursor.moveToFirst()) {
+                return new UsageCounts(0, 0, 0, 0, 0);
+            }
 
+            return new UsageCounts(
+                    cursor.getInt(cursor.getColumnIndexOrThrow(SUBJECT_COUNTER_COLUMN_HOMEWORK)),
+                    cursor.getInt(cursor.getColumnIndexOrThrow(SUBJECT_COUNTER_COLUMN_OPEN_HOMEWORK)),
+                    cursor.getInt(cursor.getColumnIndexOrThrow(SUBJECT_COUNTER_COLUMN_EXAMS)),
+                    cursor.getInt(cursor.getColumnIndexOrThrow(SUBJECT_COUNTER_COLUMN_GRADES)),
+                    cursor.getInt(cursor.getColumnIndexOrThrow(SUBJECT_COUNTER_COLUMN_LESSONS))
+            );
         }
-        return usingElementsCount;
     }
 
     /**
-     * method to read the count of objects from database which contains a specific {@link Schedule} at the given id
+     * reads how many rows of which table would also be deleted by ON DELETE CASCADE, in a single query
      *
-     * @param id the id of the {@link Schedule}
-     * @return count of objects from database which contains a specific {@link Schedule} at the given id
+     * @param query the cascade impact query, choose from the CASCADE_IMPACT_XXX constants
+     * @param id    the id of the object to delete
+     * @return the affected rows per table
      */
-    private int getCountOfRowsWhichUseScheduleAsForeignKey(int id) {
-
-        String queryWeekday = "SELECT COUNT(*) FROM (SELECT * FROM " + TABLE_WEEKDAY + " WHERE " + WEEKDAY_COLUMN_SCHEDULE_ID + " = " + id + " )";
-
-        int usingElementsCount = 0;
-
-        try (SQLiteDatabase db = this.getReadableDatabase(); Cursor cursor = db.rawQuery(queryWeekday, null)) {
+    private CascadeImpact getCascadeImpact(String query, int id) {
+        try (Cursor cursor = this.getReadableDatabase().rawQuery(query, toArgs(id))) {
             cursor.moveToFirst();
-            usingElementsCount += cursor.getInt(0);
 
+            return new CascadeImpact(cursor);
         }
-        return usingElementsCount;
     }
-    //endregion
 
     //endregion
 
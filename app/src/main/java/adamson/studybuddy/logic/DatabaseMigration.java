@@ -0,0 +1,60 @@
+package adamson.studybuddy.logic;
+
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * one step of the schema migration of the schoolPlanner Database, which upgrades the database from the version before
+ * to {@link DatabaseMigration#getVersion()}.
+ * {@link DatabaseOpenHelper} runs all needed steps in ascending order inside the upgrade transaction
+ * <br> </br>
+ * Note: a step has to keep all stored data, use ALTER TABLE, CREATE INDEX
+ * or {@link DatabaseMigration#copyAndSwapTable(SQLiteDatabase, String, String, String, String)}
+ */
+abstract class DatabaseMigration {
+    private final int version;
+
+    /**
+     * c'tor for a migration step
+     *
+     * @param version the database version the step upgrades to
+     */
+    DatabaseMigration(int version) {
+        this.version = version;
+    }
+
+    /**
+     * gets the database version the step upgrades to
+     *
+     * @return the version after the step
+     */
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * upgrades the database from the version before to {@link DatabaseMigration#getVersion()}
+     *
+     * @param db the schoolPlanner Database, already in a transaction
+     */
+    abstract void migrate(SQLiteDatabase db);
+
+    /**
+     * rebuilds a table with a new definition and copies its rows into it,
+     * for changes ALTER TABLE can't do like changing a column type or a constraint
+     * <br> </br>
+     * Note: the old table is dropped, so this must not be used for tables other tables reference with ON DELETE CASCADE,
+     * their rows would be deleted as well
+     *
+     * @param db          the schoolPlanner Database, already in a transaction
+     * @param table       name of the table to rebuild, choose from the TABLE_XXX constants of {@link DatabaseHelper}
+     * @param createTable CREATE TABLE statement of the new definition, with table + "_new" as its name
+     * @param columns     comma separated columns of the new definition to fill
+     * @param values      comma separated expressions over the old table, one for each of the columns
+     */
+    static void copyAndSwapTable(SQLiteDatabase db, String table, String createTable, String columns, String values) {
+        db.execSQL(createTable);
+        db.execSQL("INSERT INTO " + table + "_new (" + columns + ") SELECT " + values + " FROM " + table);
+        db.execSQL("DROP TABLE " + table);
+        db.execSQL("ALTER TABLE " + table + "_new RENAME TO " + table);
+    }
+}
@@ -0,0 +1,813 @@
+package adamson.studybuddy.logic;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.io.File;
+import java.util.Locale;
+
+import static adamson.studybuddy.logic.DatabaseHelper.*;
+
+/**
+ * {@link SQLiteOpenHelper} to create, configure and open the schoolPlanner SQLite Database.
+ * <br> </br>
+ * There is only one instance per process, so every {@link DatabaseHelperImpl} shares the same long-lived database
+ * and its compiled statements. the database uses write-ahead logging, so {@link DatabaseExecutor} can read on several threads
+ * while one thread writes
+ */
+class DatabaseOpenHelper extends SQLiteOpenHelper {
+    private static final String TAG = "DatabaseOpenHelper";
+
+    /**
+     * all migration steps, ordered by the version they upgrade to.
+     * add a step for every increase of {@link DatabaseHelper#DATABASE_VERSION}
+     * and never change a step once it is released
+     */
+    private static final DatabaseMigration[] MIGRATIONS = {
+            new DatabaseMigration(2) {
+                @Override
+                void migrate(SQLiteDatabase db) {
+                    createIndex(db, TABLE_SUBJECT, SUBJECT_COLUMN_TEACHER_ID);
+                    createIndex(db, TABLE_HOMEWORK, HOMEWORK_COLUMN_SUBJECT_ID);
+                    createIndex(db, TABLE_EXAM, EXAM_COLUMN_SUBJECT_ID);
+                    createIndex(db, TABLE_GRADE, GRADE_COLUMN_SUBJECT_ID);
+                    createIndex(db, TABLE_LESSON, LESSON_COLUMN_SUBJECT_ID);
+                    createIndex(db, TABLE_LESSON, LESSON_COLUMN_PERIOD_ID);
+                    createIndex(db, TABLE_LESSON, LESSON_COLUMN_WEEKDAY_ID, LESSON_COLUMN_PERIOD_ID);
+                    createIndex(db, TABLE_WEEKDAY, WEEKDAY_COLUMN_SCHEDULE_ID);
+                    createIndex(db, TABLE_HOMEWORK, HOMEWORK_COLUMN_DEADLINE, HOMEWORK_COLUMN_DONE, HOMEWORK_COLUMN_SUBJECT_ID);
+                    createIndex(db, TABLE_EXAM, EXAM_COLUMN_DEADLINE, EXAM_COLUMN_SUBJECT_ID);
+                    createIndex(db, TABLE_PERIOD, PERIOD_COLUMN_SCHOOL_HOUR_NO, PERIOD_COLUMN_STARTTIME, PERIOD_COLUMN_ENDTIME);
+                }
+            },
+            new DatabaseMigration(3) {
+                @Override
+                void migrate(SQLiteDatabase db) {
+                    copyAndSwapTable(db, TABLE_HOMEWORK,
+                            "CREATE TABLE " + TABLE_HOMEWORK + "_new (" +
+                                    HOMEWORK_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                                    HOMEWORK_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                                    "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                                    HOMEWORK_COLUMN_DESCRIPTION + " TEXT NOT NULL, " +
+                                    HOMEWORK_COLUMN_DEADLINE + " INTEGER NOT NULL, " +
+                                    HOMEWORK_COLUMN_DONE + " INTEGER )",
+                            HOMEWORK_COLUMN_ID + ", " + HOMEWORK_COLUMN_SUBJECT_ID + ", " + HOMEWORK_COLUMN_DESCRIPTION + ", " +
+                                    HOMEWORK_COLUMN_DEADLINE + ", " + HOMEWORK_COLUMN_DONE,
+                            HOMEWORK_COLUMN_ID + ", " + HOMEWORK_COLUMN_SUBJECT_ID + ", " + HOMEWORK_COLUMN_DESCRIPTION + ", " +
+                                    toEpochDay(HOMEWORK_COLUMN_DEADLINE) + ", " + HOMEWORK_COLUMN_DONE);
+                    createIndex(db, TABLE_HOMEWORK, HOMEWORK_COLUMN_SUBJECT_ID);
+                    createIndex(db, TABLE_HOMEWORK, HOMEWORK_COLUMN_DEADLINE, HOMEWORK_COLUMN_DONE, HOMEWORK_COLUMN_SUBJECT_ID);
+
+                    copyAndSwapTable(db, TABLE_EXAM,
+                            "CREATE TABLE " + TABLE_EXAM + "_new (" +
+                                    EXAM_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                                    EXAM_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                                    "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                                    EXAM_COLUMN_DESCRIPTION + " TEXT NOT NULL, " +
+                                    EXAM_COLUMN_DEADLINE + " INTEGER NOT NULL)",
+                            EXAM_COLUMN_ID + ", " + EXAM_COLUMN_SUBJECT_ID + ", " + EXAM_COLUMN_DESCRIPTION + ", " + EXAM_COLUMN_DEADLINE,
+                            EXAM_COLUMN_ID + ", " + EXAM_COLUMN_SUBJECT_ID + ", " + EXAM_COLUMN_DESCRIPTION + ", " + toEpochDay(EXAM_COLUMN_DEADLINE));
+                    createIndex(db, TABLE_EXAM, EXAM_COLUMN_SUBJECT_ID);
+                    createIndex(db, TABLE_EXAM, EXAM_COLUMN_DEADLINE, EXAM_COLUMN_SUBJECT_ID);
+                }
+
+                /**
+                 * builds the SQL expression to convert a YYYY-M-D date column to days since 1970-01-01
+                 * <br> </br>
+                 * Note: julianday() only reads zero padded dates, so year, month and day are cut at the '-' and padded first
+                 *
+                 * @param dateColumn name of the date column
+                 * @return the SQL expression
+                 */
+                private String toEpochDay(String dateColumn) {
+                    String afterYear = "substr(" + dateColumn + ", instr(" + dateColumn + ", '-') + 1)";
+                    String day = "substr(" + dateColumn + ", instr(" + dateColumn + ", '-') + 1 + instr(" + afterYear + ", '-'))";
+                    return "CAST(julianday(printf('%04d-%02d-%02d', CAST(" + dateColumn + " AS INTEGER), CAST(" + afterYear + " AS INTEGER), " +
+                            "CAST(" + day + " AS INTEGER))) - 2440587.5 AS INTEGER)";
+                }
+            },
+            new DatabaseMigration(4) {
+                @Override
+                void migrate(SQLiteDatabase db) {
+                    createSubjectCounterTable(db);
+                    createSubjectCounterTriggers(db);
+                    rebuildSubjectCounters(db);
+                }
+            },
+            new DatabaseMigration(5) {
+                @Override
+                void migrate(SQLiteDatabase db) {
+                    db.execSQL("ALTER TABLE " + TABLE_SUBJECT + " ADD COLUMN " + SUBJECT_COLUMN_DELETED + " INTEGER NOT NULL DEFAULT 0");
+                    db.execSQL("ALTER TABLE " + TABLE_TEACHER + " ADD COLUMN " + TEACHER_COLUMN_DELETED + " INTEGER NOT NULL DEFAULT 0");
+                }
+            },
+            new DatabaseMigration(6) {
+                @Override
+                void migrate(SQLiteDatabase db) {
+                    // keep the newest lesson of every weekday and period, the older ones were hidden by it anyway
+                    db.execSQL("DELETE FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_ID + " NOT IN (" +
+                            "SELECT MAX(" + LESSON_COLUMN_ID + ") FROM " + TABLE_LESSON +
+                            " GROUP BY " + LESSON_COLUMN_WEEKDAY_ID + ", " + LESSON_COLUMN_PERIOD_ID + ")");
+                    db.execSQL("DROP INDEX IF EXISTS " + buildIndexName(TABLE_LESSON, LESSON_COLUMN_WEEKDAY_ID, LESSON_COLUMN_PERIOD_ID));
+                    createUniqueIndex(db, TABLE_LESSON, LESSON_COLUMN_WEEKDAY_ID, LESSON_COLUMN_PERIOD_ID);
+                }
+            },
+            new DatabaseMigration(7) {
+                @Override
+                void migrate(SQLiteDatabase db) {
+                    createWeekAgendaTables(db);
+                    createWeekAgendaTriggers(db);
+                }
+            },
+            new DatabaseMigration(8) {
+                @Override
+                void migrate(SQLiteDatabase db) {
+                    createTombstonePurgeTriggers(db);
+                }
+            }
+    };
+
+    /**
+     * selects the real usage counts of every subject, in the column order of the subject counter table
+     */
+    private static final String COUNT_SUBJECT_USAGE = "SELECT " + SUBJECT_COLUMN_ID + ", " +
+            "(SELECT COUNT(*) FROM " + TABLE_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID + "), " +
+            "(SELECT COUNT(*) FROM " + TABLE_HOMEWORK + " WHERE " + HOMEWORK_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID +
+            " AND IFNULL(" + HOMEWORK_COLUMN_DONE + ", 0) = 0), " +
+            "(SELECT COUNT(*) FROM " + TABLE_EXAM + " WHERE " + EXAM_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID + "), " +
+            "(SELECT COUNT(*) FROM " + TABLE_GRADE + " WHERE " + GRADE_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID + "), " +
+            "(SELECT COUNT(*) FROM " + TABLE_LESSON + " WHERE " + LESSON_COLUMN_SUBJECT_ID + " = " + SUBJECT_COLUMN_ID + ") " +
+            "FROM " + TABLE_SUBJECT;
+    /**
+     * SQL condition whether a row of the homework or exam table belongs into the week agenda,
+     * use %1$s for the NEW row and %2$s for the deadline column
+     */
+    private static final String IN_WEEK_AGENDA_RANGE = "%1$s.%2$s BETWEEN " +
+            "(SELECT " + WEEK_AGENDA_RANGE_COLUMN_FIRST_DAY + " FROM " + TABLE_WEEK_AGENDA_RANGE + ") AND " +
+            "(SELECT " + WEEK_AGENDA_RANGE_COLUMN_LAST_DAY + " FROM " + TABLE_WEEK_AGENDA_RANGE + ")";
+    private static final String SUBJECT_COUNTER_COLUMNS = SUBJECT_COUNTER_COLUMN_SUBJECT_ID + ", " +
+            SUBJECT_COUNTER_COLUMN_HOMEWORK + ", " +
+            SUBJECT_COUNTER_COLUMN_OPEN_HOMEWORK + ", " +
+            SUBJECT_COUNTER_COLUMN_EXAMS + ", " +
+            SUBJECT_COUNTER_COLUMN_GRADES + ", " +
+            SUBJECT_COUNTER_COLUMN_LESSONS;
+
+    private static DatabaseOpenHelper instance;
+
+    private final StatementRegistry statements = new StatementRegistry();
+    private final Context context;
+
+    /**
+     * c'tor for the DatabaseOpenHelper, use {@link DatabaseOpenHelper#getInstance(Context)} to get the shared instance.
+     * the database is opened in write-ahead logging mode, so reads don't wait for a running write to commit
+     *
+     * @param context context of the application
+     */
+    private DatabaseOpenHelper(Context context) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        this.context = context;
+        setWriteAheadLoggingEnabled(true);
+    }
+
+    /**
+     * gets the process wide DatabaseOpenHelper, creates it if it doesn't exist yet
+     *
+     * @param context any context of the app, only its application context is kept
+     * @return the shared DatabaseOpenHelper
+     */
+    static synchronized DatabaseOpenHelper getInstance(Context context) {
+        if (instance == null) {
+            instance = new DatabaseOpenHelper(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * closes the connection of the shared DatabaseOpenHelper, if there is one.
+     * the next access to the database opens it again
+     */
+    static synchronized void closeInstance() {
+        if (instance != null) {
+            instance.close();
+        }
+    }
+
+    /**
+     * method inherited from SQLiteOpenHelper called once every time the connection is opened, before it is created or upgraded.
+     * enables the foreign key support of the connection and applies the {@link DatabaseTuning} profile chosen in {@link Settings}
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    @Override
+    public void onConfigure(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.setForeignKeyConstraintsEnabled(true);
+
+        DatabaseTuning tuning = DatabaseTuning.forName(Settings.getInstance(context).getDatabaseTuning());
+        tuning.apply(sqLiteDatabase);
+        Log.i(TAG, "applied database tuning profile " + tuning.getName());
+    }
+
+    /**
+     * method inherited from SQLiteOpenHelper to create and setup the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    @Override
+    public void onCreate(SQLiteDatabase sqLiteDatabase) {
+        createTables(sqLiteDatabase);
+    }
+
+    /**
+     * method inherited from SQLiteOpenHelper called to upgrade the schoolPlanner Database to the current version.
+     * runs every step of MIGRATIONS between both versions in ascending order and logs how long each step took,
+     * keeps all stored data
+     * <br> </br>
+     * Note: SQLiteOpenHelper calls this method inside a transaction, so a failing step rolls back the whole upgrade
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     * @param i              old db version number
+     * @param i1             new db version number
+     */
+    @Override
+    public void onUpgrade(SQLiteDatabase sqLiteDatabase, int i, int i1) {
+        for (DatabaseMigration migration : MIGRATIONS) {
+            if (migration.getVersion() > i && migration.getVersion() <= i1) {
+                long start = SystemClock.elapsedRealtime();
+                migration.migrate(sqLiteDatabase);
+                Log.i(TAG, "migration to version " + migration.getVersion() + " took " + (SystemClock.elapsedRealtime() - start) + " ms");
+            }
+        }
+    }
+
+    /**
+     * invalidates all compiled statements and closes the open database connection
+     */
+    @Override
+    public synchronized void close() {
+        statements.clear();
+        super.close();
+    }
+
+    /**
+     * gets the compiled statement for the given SQL on the shared connection
+     *
+     * @param sql the SQL of the statement, use '?' for arguments
+     * @return the compiled statement, ready to be bound
+     */
+    SQLiteStatement compileStatement(String sql) {
+        return statements.get(getWritableDatabase(), sql);
+    }
+
+    /**
+     * drops and recreates all tables of the schoolPlanner Database in one transaction
+     */
+    void resetDatabase() {
+        SQLiteDatabase db = getWritableDatabase();
+        statements.clear();
+
+        db.beginTransaction();
+        try {
+            dropAllTables(db);
+            createTables(db);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * closes the connection and deletes the database file together with its journals and write-ahead log,
+     * instead of dropping every table. the tables are created by {@link DatabaseOpenHelper#onCreate(SQLiteDatabase)}
+     * the next time the database is opened
+     * <br> </br>
+     * Note: SQLiteOpenHelper opens the database while holding the lock of this helper,
+     * so no other thread can open the files while they are deleted. queries which already hold the database
+     * aren't stopped by the lock, run this method with {@link DatabaseExecutor#writeExclusive(java.util.concurrent.Callable, DatabaseExecutor.Callback)}
+     *
+     * @param progress gets the count of finished steps after closing and after deleting, may be null
+     * @return true if the database file is gone
+     */
+    synchronized boolean deleteDatabaseFiles(DatabaseExecutor.ProgressCallback progress) {
+        close();
+        DatabaseExecutor.getInstance().postProgress(progress, 1, 2);
+
+        File database = context.getDatabasePath(DATABASE_NAME);
+        //also deletes the journal, the write-ahead log, its index and all master journals
+        SQLiteDatabase.deleteDatabase(database);
+        DatabaseExecutor.getInstance().postProgress(progress, 2, 2);
+
+        if (database.exists()) {
+            Log.e(TAG, "could not delete " + database);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * recounts the subject counter table from the counted tables
+     *
+     * @param db the schoolPlanner Database
+     */
+    static void rebuildSubjectCounters(SQLiteDatabase db) {
+        db.beginTransaction();
+        try {
+            db.execSQL("DELETE FROM " + TABLE_SUBJECT_COUNTER);
+            db.execSQL("INSERT INTO " + TABLE_SUBJECT_COUNTER + " (" + SUBJECT_COUNTER_COLUMNS + ") " + COUNT_SUBJECT_USAGE);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * compares the subject counter table with the real usage counts of every subject in a single query
+     *
+     * @param db the schoolPlanner Database
+     * @return true if there is a counter row for every subject and all counts are right
+     */
+    static boolean verifySubjectCounters(SQLiteDatabase db) {
+        String counters = "SELECT " + SUBJECT_COUNTER_COLUMNS + " FROM " + TABLE_SUBJECT_COUNTER;
+        String query = "SELECT COUNT(*) FROM (" +
+                "SELECT * FROM (" + COUNT_SUBJECT_USAGE + " EXCEPT " + counters + ") " +
+                "UNION ALL " +
+                "SELECT * FROM (" + counters + " EXCEPT " + COUNT_SUBJECT_USAGE + "))";
+
+        try (Cursor cursor = db.rawQuery(query, null)) {
+            cursor.moveToFirst();
+            return cursor.getInt(0) == 0;
+        }
+    }
+
+    /**
+     * moves the week agenda to another week in one transaction, the rows of the new week are read with range scans
+     * over the deadline indexes. does nothing if the agenda already holds the week
+     *
+     * @param db       the schoolPlanner Database
+     * @param firstDay the first day of the week as epoch day
+     * @param lastDay  the last day of the week as epoch day
+     */
+    static void moveWeekAgenda(SQLiteDatabase db, long firstDay, long lastDay) {
+        String[] range = {String.valueOf(firstDay), String.valueOf(lastDay)};
+
+        db.beginTransaction();
+        try {
+            //checked inside the transaction, another thread may have moved the agenda already
+            if (!holdsWeekAgendaRange(db, range)) {
+                db.execSQL("UPDATE " + TABLE_WEEK_AGENDA_RANGE + " SET " +
+                        WEEK_AGENDA_RANGE_COLUMN_FIRST_DAY + " = ?, " + WEEK_AGENDA_RANGE_COLUMN_LAST_DAY + " = ?", range);
+                db.execSQL("DELETE FROM " + TABLE_WEEK_AGENDA);
+                db.execSQL("INSERT INTO " + TABLE_WEEK_AGENDA + " (" + WEEK_AGENDA_COLUMN_HOMEWORK_ID + ") " +
+                        "SELECT " + HOMEWORK_COLUMN_ID + " FROM " + TABLE_HOMEWORK +
+                        " WHERE " + HOMEWORK_COLUMN_DEADLINE + " BETWEEN ? AND ? AND IFNULL(" + HOMEWORK_COLUMN_DONE + ", 0) = 0", range);
+                db.execSQL("INSERT INTO " + TABLE_WEEK_AGENDA + " (" + WEEK_AGENDA_COLUMN_EXAM_ID + ") " +
+                        "SELECT " + EXAM_COLUMN_ID + " FROM " + TABLE_EXAM +
+                        " WHERE " + EXAM_COLUMN_DEADLINE + " BETWEEN ? AND ?", range);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    //region private methods
+
+    /**
+     * checks whether the week agenda holds the given week
+     *
+     * @param db    the schoolPlanner Database
+     * @param range the first and the last day of the week as epoch days
+     * @return true if the week agenda range is the given week
+     */
+    private static boolean holdsWeekAgendaRange(SQLiteDatabase db, String[] range) {
+        String query = "SELECT COUNT(*) FROM " + TABLE_WEEK_AGENDA_RANGE +
+                " WHERE " + WEEK_AGENDA_RANGE_COLUMN_FIRST_DAY + " = ? AND " + WEEK_AGENDA_RANGE_COLUMN_LAST_DAY + " = ?";
+
+        try (Cursor cursor = db.rawQuery(query, range)) {
+            cursor.moveToFirst();
+            return cursor.getInt(0) != 0;
+        }
+    }
+
+    /**
+     * deletes all tables from the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void dropAllTables(SQLiteDatabase sqLiteDatabase) {
+        //referencing tables first, so no foreign key has to be switched off while dropping
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_WEEK_AGENDA_RANGE);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_WEEK_AGENDA);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_SUBJECT_COUNTER);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_LESSON);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_WEEKDAY);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_SCHEDULE);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_HOMEWORK);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_EXAM);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_GRADE);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_PERIOD);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_SUBJECT);
+        sqLiteDatabase.execSQL("DROP TABLE IF EXISTS " + TABLE_TEACHER);
+    }
+
+    /**
+     * create all tables in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createTables(SQLiteDatabase sqLiteDatabase) {
+        createSubjectTable(sqLiteDatabase);
+        createTeacherTable(sqLiteDatabase);
+        createHomeworkTable(sqLiteDatabase);
+        createExamTable(sqLiteDatabase);
+        createGradeTable(sqLiteDatabase);
+        createPeriodTable(sqLiteDatabase);
+        createLessonTable(sqLiteDatabase);
+        createWeekdayTable(sqLiteDatabase);
+        createScheduleTable(sqLiteDatabase);
+        createSubjectCounterTable(sqLiteDatabase);
+        createWeekAgendaTables(sqLiteDatabase);
+
+        createIndexes(sqLiteDatabase);
+        createSubjectCounterTriggers(sqLiteDatabase);
+        createWeekAgendaTriggers(sqLiteDatabase);
+        createTombstonePurgeTriggers(sqLiteDatabase);
+    }
+
+    /**
+     * creates the indexes of the schoolPlanner Database, if they don't exist yet.
+     * every foreign key column gets an index, so lookups by parent and ON DELETE CASCADE don't scan the whole table
+     * <br> </br>
+     * Note: the deadline indexes also hold the columns the lists filter on,
+     * so these filters can be answered from the index without reading the rows
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createIndexes(SQLiteDatabase sqLiteDatabase) {
+        createIndex(sqLiteDatabase, TABLE_SUBJECT, SUBJECT_COLUMN_TEACHER_ID);
+        createIndex(sqLiteDatabase, TABLE_HOMEWORK, HOMEWORK_COLUMN_SUBJECT_ID);
+        createIndex(sqLiteDatabase, TABLE_EXAM, EXAM_COLUMN_SUBJECT_ID);
+        createIndex(sqLiteDatabase, TABLE_GRADE, GRADE_COLUMN_SUBJECT_ID);
+        createIndex(sqLiteDatabase, TABLE_LESSON, LESSON_COLUMN_SUBJECT_ID);
+        createIndex(sqLiteDatabase, TABLE_LESSON, LESSON_COLUMN_PERIOD_ID);
+        createUniqueIndex(sqLiteDatabase, TABLE_LESSON, LESSON_COLUMN_WEEKDAY_ID, LESSON_COLUMN_PERIOD_ID);
+        createIndex(sqLiteDatabase, TABLE_WEEKDAY, WEEKDAY_COLUMN_SCHEDULE_ID);
+
+        //covering indexes
+        createIndex(sqLiteDatabase, TABLE_HOMEWORK, HOMEWORK_COLUMN_DEADLINE, HOMEWORK_COLUMN_DONE, HOMEWORK_COLUMN_SUBJECT_ID);
+        createIndex(sqLiteDatabase, TABLE_EXAM, EXAM_COLUMN_DEADLINE, EXAM_COLUMN_SUBJECT_ID);
+        createIndex(sqLiteDatabase, TABLE_PERIOD, PERIOD_COLUMN_SCHOOL_HOUR_NO, PERIOD_COLUMN_STARTTIME, PERIOD_COLUMN_ENDTIME);
+    }
+
+    /**
+     * creates an index over the given columns of a table, if it doesn't exist yet.
+     * the index is named index_ followed by the table name and the column names
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     * @param table          name of the table, choose from the TABLE_XXX constants of {@link DatabaseHelper}
+     * @param columns        the indexed columns, in index order
+     */
+    static void createIndex(SQLiteDatabase sqLiteDatabase, String table, String... columns) {
+        sqLiteDatabase.execSQL("CREATE INDEX IF NOT EXISTS " + buildIndexName(table, columns) + " ON " + table + "(" + buildColumnList(columns) + ")");
+    }
+
+    /**
+     * creates a unique index over the given columns of a table, if it doesn't exist yet, so no two rows can share their values.
+     * the index is named like the ones of {@link DatabaseOpenHelper#createIndex(SQLiteDatabase, String, String...)}
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     * @param table          name of the table, choose from the TABLE_XXX constants of {@link DatabaseHelper}
+     * @param columns        the indexed columns, in index order
+     */
+    static void createUniqueIndex(SQLiteDatabase sqLiteDatabase, String table, String... columns) {
+        sqLiteDatabase.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS " + buildIndexName(table, columns) + " ON " + table + "(" + buildColumnList(columns) + ")");
+    }
+
+    /**
+     * builds the name of an index, index_ followed by the table name and the column names
+     *
+     * @param table   name of the table
+     * @param columns the indexed columns, in index order
+     * @return the name of the index
+     */
+    private static String buildIndexName(String table, String... columns) {
+        StringBuilder name = new StringBuilder("index_" + table);
+        for (String column : columns) {
+            name.append("_").append(column);
+        }
+        return name.toString();
+    }
+
+    /**
+     * builds the comma separated column list of an index
+     *
+     * @param columns the indexed columns, in index order
+     * @return the column list
+     */
+    private static String buildColumnList(String... columns) {
+        StringBuilder columnList = new StringBuilder();
+        for (String column : columns) {
+            if (columnList.length() > 0) {
+                columnList.append(", ");
+            }
+            columnList.append(column);
+        }
+        return columnList.toString();
+    }
+
+    /**
+     * creates the triggers which keep the subject counter table up to date on every insert, update and delete
+     * of a homework, exam, grade, lesson or subject
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private static void createSubjectCounterTriggers(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TRIGGER IF NOT EXISTS trigger_" + TABLE_SUBJECT_COUNTER + "_insert" +
+                " AFTER INSERT ON " + TABLE_SUBJECT + " BEGIN" +
+                " INSERT INTO " + TABLE_SUBJECT_COUNTER + " (" + SUBJECT_COUNTER_COLUMN_SUBJECT_ID + ") VALUES (NEW." + SUBJECT_COLUMN_ID + ");" +
+                " END");
+
+        createCounterTriggers(sqLiteDatabase, TABLE_HOMEWORK, HOMEWORK_COLUMN_SUBJECT_ID, SUBJECT_COUNTER_COLUMN_HOMEWORK,
+                HOMEWORK_COLUMN_SUBJECT_ID, "1");
+        createCounterTriggers(sqLiteDatabase, TABLE_HOMEWORK, HOMEWORK_COLUMN_SUBJECT_ID, SUBJECT_COUNTER_COLUMN_OPEN_HOMEWORK,
+                HOMEWORK_COLUMN_SUBJECT_ID + ", " + HOMEWORK_COLUMN_DONE, "IFNULL(%1$s." + HOMEWORK_COLUMN_DONE + ", 0) = 0");
+        createCounterTriggers(sqLiteDatabase, TABLE_EXAM, EXAM_COLUMN_SUBJECT_ID, SUBJECT_COUNTER_COLUMN_EXAMS,
+                EXAM_COLUMN_SUBJECT_ID, "1");
+        createCounterTriggers(sqLiteDatabase, TABLE_GRADE, GRADE_COLUMN_SUBJECT_ID, SUBJECT_COUNTER_COLUMN_GRADES,
+                GRADE_COLUMN_SUBJECT_ID, "1");
+        createCounterTriggers(sqLiteDatabase, TABLE_LESSON, LESSON_COLUMN_SUBJECT_ID, SUBJECT_COUNTER_COLUMN_LESSONS,
+                LESSON_COLUMN_SUBJECT_ID, "1");
+    }
+
+    /**
+     * creates the insert, update and delete triggers of a table for one column of the subject counter table
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     * @param table          name of the counted table, choose from the TABLE_XXX constants of {@link DatabaseHelper}
+     * @param subjectColumn  name of the subject id column of the counted table
+     * @param counterColumn  name of the column in the subject counter table
+     * @param watchedColumns comma separated columns of the counted table an update has to change to be counted again
+     * @param counted        SQL condition whether a row is counted, use %1$s for the NEW or OLD row, or "1" to count every row
+     */
+    private static void createCounterTriggers(SQLiteDatabase sqLiteDatabase, String table, String subjectColumn,
+                                              String counterColumn, String watchedColumns, String counted) {
+        String add = "UPDATE " + TABLE_SUBJECT_COUNTER + " SET " + counterColumn + " = " + counterColumn + " + (" +
+                String.format(Locale.ROOT, counted, "NEW") + ") WHERE " + SUBJECT_COUNTER_COLUMN_SUBJECT_ID + " = NEW." + subjectColumn + ";";
+        String remove = "UPDATE " + TABLE_SUBJECT_COUNTER + " SET " + counterColumn + " = " + counterColumn + " - (" +
+                String.format(Locale.ROOT, counted, "OLD") + ") WHERE " + SUBJECT_COUNTER_COLUMN_SUBJECT_ID + " = OLD." + subjectColumn + ";";
+        String trigger = "CREATE TRIGGER IF NOT EXISTS trigger_" + counterColumn;
+
+        sqLiteDatabase.execSQL(trigger + "_insert AFTER INSERT ON " + table + " BEGIN " + add + " END");
+        sqLiteDatabase.execSQL(trigger + "_delete AFTER DELETE ON " + table + " BEGIN " + remove + " END");
+        sqLiteDatabase.execSQL(trigger + "_update AFTER UPDATE OF " + watchedColumns + " ON " + table + " BEGIN " + remove + " " + add + " END");
+    }
+
+    /**
+     * creates the triggers which keep the week agenda table up to date on every insert and update of a homework or exam.
+     * deleted homework and exams leave the agenda by the ON DELETE CASCADE of its foreign keys
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private static void createWeekAgendaTriggers(SQLiteDatabase sqLiteDatabase) {
+        createWeekAgendaTriggers(sqLiteDatabase, TABLE_HOMEWORK, HOMEWORK_COLUMN_ID, WEEK_AGENDA_COLUMN_HOMEWORK_ID,
+                HOMEWORK_COLUMN_DEADLINE + ", " + HOMEWORK_COLUMN_DONE,
+                String.format(Locale.ROOT, IN_WEEK_AGENDA_RANGE, "NEW", HOMEWORK_COLUMN_DEADLINE) +
+                        " AND IFNULL(NEW." + HOMEWORK_COLUMN_DONE + ", 0) = 0");
+        createWeekAgendaTriggers(sqLiteDatabase, TABLE_EXAM, EXAM_COLUMN_ID, WEEK_AGENDA_COLUMN_EXAM_ID,
+                EXAM_COLUMN_DEADLINE,
+                String.format(Locale.ROOT, IN_WEEK_AGENDA_RANGE, "NEW", EXAM_COLUMN_DEADLINE));
+    }
+
+    /**
+     * creates the insert and update triggers of a table for its column in the week agenda table
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     * @param table          name of the table, choose from the TABLE_XXX constants of {@link DatabaseHelper}
+     * @param idColumn       name of the id column of the table
+     * @param agendaColumn   name of the column in the week agenda table
+     * @param watchedColumns comma separated columns of the table an update has to change to be sorted in again
+     * @param inAgenda       SQL condition whether the NEW row belongs into the week agenda
+     */
+    private static void createWeekAgendaTriggers(SQLiteDatabase sqLiteDatabase, String table, String idColumn,
+                                                 String agendaColumn, String watchedColumns, String inAgenda) {
+        String add = "INSERT INTO " + TABLE_WEEK_AGENDA + " (" + agendaColumn + ") SELECT NEW." + idColumn + " WHERE " + inAgenda + ";";
+        String remove = "DELETE FROM " + TABLE_WEEK_AGENDA + " WHERE " + agendaColumn + " = OLD." + idColumn + ";";
+        String trigger = "CREATE TRIGGER IF NOT EXISTS trigger_" + agendaColumn;
+
+        sqLiteDatabase.execSQL(trigger + "_insert AFTER INSERT ON " + table + " BEGIN " + add + " END");
+        sqLiteDatabase.execSQL(trigger + "_update AFTER UPDATE OF " + watchedColumns + " ON " + table + " BEGIN " + remove + " " + add + " END");
+    }
+
+    /**
+     * creates the triggers which physically delete a tombstoned row before a new row takes its unique value,
+     * the tombstoned {@link adamson.studybuddy.logic.objects.Teacher} with the same abbreviation and the lesson of a tombstoned
+     * {@link adamson.studybuddy.logic.objects.Subject} at the same weekday and period. lessons have no tombstone of their own,
+     * so the slot can't be freed by a partial index
+     * <br> </br>
+     * Note: a purged row can't be restored by an undo any more, the new row took its place
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private static void createTombstonePurgeTriggers(SQLiteDatabase sqLiteDatabase) {
+        String purgeTeacher = "DELETE FROM " + TABLE_TEACHER +
+                " WHERE " + TEACHER_COLUMN_ABBREVIATION + " = NEW." + TEACHER_COLUMN_ABBREVIATION +
+                " AND " + TEACHER_COLUMN_DELETED + " != 0 AND " + TEACHER_COLUMN_ID + " IS NOT NEW." + TEACHER_COLUMN_ID + ";";
+        String purgeLesson = "DELETE FROM " + TABLE_LESSON +
+                " WHERE " + LESSON_COLUMN_WEEKDAY_ID + " = NEW." + LESSON_COLUMN_WEEKDAY_ID +
+                " AND " + LESSON_COLUMN_PERIOD_ID + " = NEW." + LESSON_COLUMN_PERIOD_ID +
+                " AND " + LESSON_COLUMN_ID + " IS NOT NEW." + LESSON_COLUMN_ID +
+                " AND " + LESSON_COLUMN_SUBJECT_ID + " IN (SELECT " + SUBJECT_COLUMN_ID + " FROM " + TABLE_SUBJECT +
+                " WHERE " + SUBJECT_COLUMN_DELETED + " != 0);";
+
+        sqLiteDatabase.execSQL("CREATE TRIGGER IF NOT EXISTS trigger_" + TEACHER_COLUMN_ABBREVIATION + "_insert" +
+                " BEFORE INSERT ON " + TABLE_TEACHER + " BEGIN " + purgeTeacher + " END");
+        sqLiteDatabase.execSQL("CREATE TRIGGER IF NOT EXISTS trigger_" + TEACHER_COLUMN_ABBREVIATION + "_update" +
+                " BEFORE UPDATE OF " + TEACHER_COLUMN_ABBREVIATION + " ON " + TABLE_TEACHER + " BEGIN " + purgeTeacher + " END");
+        sqLiteDatabase.execSQL("CREATE TRIGGER IF NOT EXISTS trigger_" + TABLE_LESSON + "_slot_insert" +
+                " BEFORE INSERT ON " + TABLE_LESSON + " BEGIN " + purgeLesson + " END");
+        sqLiteDatabase.execSQL("CREATE TRIGGER IF NOT EXISTS trigger_" + TABLE_LESSON + "_slot_update" +
+                " BEFORE UPDATE OF " + LESSON_COLUMN_WEEKDAY_ID + ", " + LESSON_COLUMN_PERIOD_ID + " ON " + TABLE_LESSON +
+                " BEGIN " + purgeLesson + " END");
+    }
+
+    //region table creation
+
+    /**
+     * create subject table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createSubjectTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_SUBJECT + "(" +
+                SUBJECT_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                SUBJECT_COLUMN_TEACHER_ID + " INTEGER NOT NULL " +
+                "REFERENCES " + TABLE_TEACHER + "(" + TEACHER_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                SUBJECT_COLUMN_NAME + " VARCHAR NOT NULL, " +
+                SUBJECT_COLUMN_ROOM + " VARCHAR NOT NULL, " +
+                SUBJECT_COLUMN_COLOR + " VARCHAR NOT NULL, " +
+                SUBJECT_COLUMN_DELETED + " INTEGER NOT NULL DEFAULT 0 )"
+        );
+    }
+
+    /**
+     * create teacher table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createTeacherTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_TEACHER + "(" +
+                TEACHER_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                TEACHER_COLUMN_NAME + " VARCHAR NOT NULL, " +
+                TEACHER_COLUMN_ABBREVIATION + " VARCHAR UNIQUE, " +
+                TEACHER_COLUMN_GENDER + " CHAR NOT NULL, " +
+                TEACHER_COLUMN_DELETED + " INTEGER NOT NULL DEFAULT 0 )"
+        );
+    }
+
+    /**
+     * create homework table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createHomeworkTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_HOMEWORK + "(" +
+                HOMEWORK_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                HOMEWORK_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                HOMEWORK_COLUMN_DESCRIPTION + " TEXT NOT NULL, " +
+                HOMEWORK_COLUMN_DEADLINE + " INTEGER NOT NULL, " +
+                HOMEWORK_COLUMN_DONE + " INTEGER )"
+        );
+    }
+
+    /**
+     * create exam table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createExamTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_EXAM + "(" +
+                EXAM_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                EXAM_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                EXAM_COLUMN_DESCRIPTION + " TEXT NOT NULL, " +
+                EXAM_COLUMN_DEADLINE + " INTEGER NOT NULL)"
+        );
+    }
+
+    /**
+     * create grade table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createGradeTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_GRADE + "(" +
+                GRADE_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                GRADE_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                GRADE_COLUMN_NAME + " VARCHAR NOT NULL, " +
+                GRADE_COLUMN_GRADE + " VARCHAR NOT NULL )"
+        );
+    }
+
+    /**
+     * create period table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createPeriodTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_PERIOD + "(" +
+                PERIOD_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                PERIOD_COLUMN_SCHOOL_HOUR_NO + " INTEGER NOT NULL, " +
+                PERIOD_COLUMN_STARTTIME + " TIME NOT NULL, " +
+                PERIOD_COLUMN_ENDTIME + " TIME NOT NULL )"
+        );
+    }
+
+    /**
+     * create lesson table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createLessonTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_LESSON + "(" +
+                LESSON_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                LESSON_COLUMN_SUBJECT_ID + " INTEGER NOT NULL " +
+                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                LESSON_COLUMN_PERIOD_ID + " INTEGER NOT NULL " +
+                "REFERENCES " + TABLE_PERIOD + "(" + PERIOD_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                LESSON_COLUMN_WEEKDAY_ID + " INTEGER  " +
+                "REFERENCES " + TABLE_WEEKDAY + "(" + WEEKDAY_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE)"
+        );
+    }
+
+    /**
+     * create weekday table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createWeekdayTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_WEEKDAY + "(" +
+                WEEKDAY_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                WEEKDAY_COLUMN_SCHEDULE_ID + " INTEGER " +
+                "REFERENCES " + TABLE_SCHEDULE + "(" + SCHEDULE_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                WEEKDAY_COLUMN_NAME + " VARCHAR NOT NULL )"
+        );
+    }
+
+    /**
+     * create schedule table in the schoolPlanner Database
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private void createScheduleTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE " + TABLE_SCHEDULE + "(" +
+                SCHEDULE_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                SCHEDULE_COLUMN_NAME + " VARCHAR NOT NULL )"
+        );
+    }
+
+    /**
+     * create subject counter table in the schoolPlanner Database, its rows are deleted together with their subject
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private static void createSubjectCounterTable(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE IF NOT EXISTS " + TABLE_SUBJECT_COUNTER + "(" +
+                SUBJECT_COUNTER_COLUMN_SUBJECT_ID + " INTEGER PRIMARY KEY NOT NULL " +
+                "REFERENCES " + TABLE_SUBJECT + "(" + SUBJECT_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                SUBJECT_COUNTER_COLUMN_HOMEWORK + " INTEGER NOT NULL DEFAULT 0, " +
+                SUBJECT_COUNTER_COLUMN_OPEN_HOMEWORK + " INTEGER NOT NULL DEFAULT 0, " +
+                SUBJECT_COUNTER_COLUMN_EXAMS + " INTEGER NOT NULL DEFAULT 0, " +
+                SUBJECT_COUNTER_COLUMN_GRADES + " INTEGER NOT NULL DEFAULT 0, " +
+                SUBJECT_COUNTER_COLUMN_LESSONS + " INTEGER NOT NULL DEFAULT 0)"
+        );
+    }
+
+    /**
+     * create week agenda table and week agenda range table in the schoolPlanner Database.
+     * the range starts empty, so the first read of the agenda moves it to its week
+     *
+     * @param sqLiteDatabase the schoolPlanner Database
+     */
+    private static void createWeekAgendaTables(SQLiteDatabase sqLiteDatabase) {
+        sqLiteDatabase.execSQL("CREATE TABLE IF NOT EXISTS " + TABLE_WEEK_AGENDA + "(" +
+                WEEK_AGENDA_COLUMN_ID + " INTEGER PRIMARY KEY NOT NULL, " +
+                WEEK_AGENDA_COLUMN_HOMEWORK_ID + " INTEGER " +
+                "REFERENCES " + TABLE_HOMEWORK + "(" + HOMEWORK_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE, " +
+                WEEK_AGENDA_COLUMN_EXAM_ID + " INTEGER " +
+                "REFERENCES " + TABLE_EXAM + "(" + EXAM_COLUMN_ID + ") ON DELETE CASCADE ON UPDATE CASCADE)"
+        );
+        sqLiteDatabase.execSQL("CREATE TABLE IF NOT EXISTS " + TABLE_WEEK_AGENDA_RANGE + "(" +
+                WEEK_AGENDA_RANGE_COLUMN_FIRST_DAY + " INTEGER NOT NULL, " +
+                WEEK_AGENDA_RANGE_COLUMN_LAST_DAY + " INTEGER NOT NULL)"
+        );
+        sqLiteDatabase.execSQL("INSERT INTO " + TABLE_WEEK_AGENDA_RANGE + " VALUES (1, 0)");
+    }
+    //endregion
+    //endregion
+}
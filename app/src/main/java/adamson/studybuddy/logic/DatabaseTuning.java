@@ -0,0 +1,138 @@
+package adamson.studybuddy.logic;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * tuning profile of the schoolPlanner Database, the size of the compiled statement cache, syncing
+ * and the size and checkpoints of the write-ahead log. {@link DatabaseOpenHelper} applies the profile chosen in {@link Settings}
+ * every time the database is opened
+ * <br> </br>
+ * Note: the profile only holds settings which reach every connection of the pool. the statement cache size is part of
+ * the configuration SQLiteDatabase passes to every pooled connection. synchronous, journal_size_limit and wal_autocheckpoint
+ * are PRAGMAs of the primary connection, they still cover the whole database since SQLiteDatabase runs every write
+ * and so every commit and checkpoint on the primary connection. PRAGMAs of reading connections like cache_size,
+ * mmap_size and temp_store can't be applied to the reader connections of the pool, so they aren't part of a profile.
+ * a profile change takes effect the next time the database is opened, see {@link DatabaseOpenHelper#closeInstance()}
+ */
+public class DatabaseTuning {
+    /**
+     * name of the profile which keeps all SQLite defaults
+     */
+    public static final String PROFILE_DEFAULT = "default";
+    /**
+     * name of the profile for devices with little memory, a small statement cache and a small write-ahead log
+     */
+    public static final String PROFILE_LOW_MEMORY = "lowMemory";
+    /**
+     * name of the profile with a medium statement cache and write-ahead log
+     */
+    public static final String PROFILE_BALANCED = "balanced";
+    /**
+     * name of the profile which keeps every compiled statement and checkpoints the write-ahead log rarely
+     */
+    public static final String PROFILE_FAST = "fast";
+
+    /**
+     * value to keep the SQLite default of a setting
+     */
+    private static final int UNCHANGED = -1;
+    private static final int SYNCHRONOUS_NORMAL = 1;
+
+    private static final DatabaseTuning DEFAULT = new DatabaseTuning(PROFILE_DEFAULT, UNCHANGED, UNCHANGED, UNCHANGED, UNCHANGED);
+    private static final DatabaseTuning LOW_MEMORY = new DatabaseTuning(PROFILE_LOW_MEMORY,
+            10, SYNCHRONOUS_NORMAL, 512 * 1024, 250);
+    private static final DatabaseTuning BALANCED = new DatabaseTuning(PROFILE_BALANCED,
+            50, SYNCHRONOUS_NORMAL, 1024 * 1024, 1000);
+    private static final DatabaseTuning FAST = new DatabaseTuning(PROFILE_FAST,
+            SQLiteDatabase.MAX_SQL_CACHE_SIZE, SYNCHRONOUS_NORMAL, 4 * 1024 * 1024, 4000);
+
+    private final String name;
+    private final int statementCacheSize;
+    private final int synchronous;
+    private final int journalSizeLimit;
+    private final int walAutoCheckpoint;
+
+    /**
+     * c'tor for a profile, use -1 for every setting which keeps its SQLite default
+     *
+     * @param name               name of the profile
+     * @param statementCacheSize count of compiled statements each connection keeps, at most 100
+     * @param synchronous        how often the file is synced, 0 for OFF, 1 for NORMAL, 2 for FULL
+     * @param journalSizeLimit   size in bytes the write-ahead log is truncated to after a checkpoint
+     * @param walAutoCheckpoint  count of pages in the write-ahead log which starts a checkpoint after a commit
+     */
+    private DatabaseTuning(String name, int statementCacheSize, int synchronous, int journalSizeLimit, int walAutoCheckpoint) {
+        this.name = name;
+        this.statementCacheSize = statementCacheSize;
+        this.synchronous = synchronous;
+        this.journalSizeLimit = journalSizeLimit;
+        this.walAutoCheckpoint = walAutoCheckpoint;
+    }
+
+    /**
+     * gets the profile with the given name
+     *
+     * @param name one of {@link DatabaseTuning#PROFILE_DEFAULT}, {@link DatabaseTuning#PROFILE_LOW_MEMORY},
+     *             {@link DatabaseTuning#PROFILE_BALANCED}, {@link DatabaseTuning#PROFILE_FAST}
+     * @return the profile, the default one if there is no profile with the given name
+     */
+    public static DatabaseTuning forName(String name) {
+        switch (name) {
+            case PROFILE_LOW_MEMORY:
+                return LOW_MEMORY;
+            case PROFILE_BALANCED:
+                return BALANCED;
+            case PROFILE_FAST:
+                return FAST;
+            default:
+                return DEFAULT;
+        }
+    }
+
+    /**
+     * gets the name of the profile
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * applies the profile to the database, the statement cache size to every pooled connection
+     * and the PRAGMAs to the primary connection, which runs all writes
+     *
+     * @param db the schoolPlanner Database, not in a transaction
+     */
+    void apply(SQLiteDatabase db) {
+        if (statementCacheSize != UNCHANGED) {
+            db.setMaxSqlCacheSize(statementCacheSize);
+        }
+        if (synchronous != UNCHANGED) {
+            pragma(db, "synchronous", synchronous);
+        }
+        if (journalSizeLimit != UNCHANGED) {
+            pragma(db, "journal_size_limit", journalSizeLimit);
+        }
+        if (walAutoCheckpoint != UNCHANGED) {
+            pragma(db, "wal_autocheckpoint", walAutoCheckpoint);
+        }
+    }
+
+    //region private methods
+
+    /**
+     * sets a PRAGMA with a query, since some PRAGMAs return their new value and execSQL doesn't allow results
+     *
+     * @param db    the schoolPlanner Database
+     * @param name  name of the PRAGMA
+     * @param value the new value
+     */
+    private static void pragma(SQLiteDatabase db, String name, int value) {
+        try (Cursor cursor = db.rawQuery("PRAGMA " + name + " = " + value, null)) {
+            cursor.moveToFirst();
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,45 @@
+package adamson.studybuddy.logic;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * converts dates to and from the count of days since 1970-01-01, the format deadlines are stored in the schoolPlanner Database
+ * <br> </br>
+ * Note: only the day, month and year of a date are used, so a date is always the same epoch day, no matter the time zone
+ */
+final class EpochDays {
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private EpochDays() {
+    }
+
+    /**
+     * converts a date to its epoch day
+     *
+     * @param date the date
+     * @return count of days from 1970-01-01 to the date
+     */
+    static long fromCalendar(Calendar date) {
+        GregorianCalendar utc = new GregorianCalendar(UTC);
+        utc.clear();
+        utc.set(date.get(Calendar.YEAR), date.get(Calendar.MONTH), date.get(Calendar.DAY_OF_MONTH));
+
+        return Math.round((double) utc.getTimeInMillis() / MILLIS_PER_DAY);
+    }
+
+    /**
+     * converts an epoch day to a date in the default time zone
+     *
+     * @param epochDay count of days from 1970-01-01
+     * @return the date at the epoch day
+     */
+    static GregorianCalendar toCalendar(long epochDay) {
+        GregorianCalendar utc = new GregorianCalendar(UTC);
+        utc.setTimeInMillis(epochDay * MILLIS_PER_DAY);
+
+        return new GregorianCalendar(utc.get(Calendar.YEAR), utc.get(Calendar.MONTH), utc.get(Calendar.DAY_OF_MONTH));
+    }
+}
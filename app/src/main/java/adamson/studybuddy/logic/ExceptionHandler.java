@@ -2,6 +2,8 @@ package adamson.studybuddy.logic;
 
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.widget.Toast;
 
 /**
@@ -18,7 +20,7 @@ class ExceptionHandler {
      * @param context        the context of the app
      */
     static void handleDatabaseExceptionForGettingANotExistingObject(String objectTypeName, Context context) {
-        Toast.makeText(context, "Could not get " + objectTypeName + " from Database. Maybe you have not created this" + objectTypeName + " before.", Toast.LENGTH_LONG).show();
+        showToast(context, "Could not get " + objectTypeName + " from Database. Maybe you have not created this" + objectTypeName + " before.");
     }
 
     /**
@@ -30,7 +32,7 @@ class ExceptionHandler {
      * @param context   the context of the app
      */
     static void handleDatabaseExceptionForAddingAAlreadyExistingObject(Object newObject, Context context) {
-        Toast.makeText(context, "Could not add \n" + newObject.toString() + "\nto Database. Maybe you are trying to add an already existing Object", Toast.LENGTH_LONG).show();
+        showToast(context, "Could not add \n" + newObject.toString() + "\nto Database. Maybe you are trying to add an already existing Object");
     }
 
     /**
@@ -42,7 +44,7 @@ class ExceptionHandler {
      * @param context        the context of the app
      */
     static void handleDatabaseExceptionForUpdatingAnNotExistingObject(String objectTypeName, Context context) {
-        Toast.makeText(context, "Could not update " + objectTypeName + " in Database. Maybe you have not created this " + objectTypeName + " before.", Toast.LENGTH_LONG).show();
+        showToast(context, "Could not update " + objectTypeName + " in Database. Maybe you have not created this " + objectTypeName + " before.");
     }
 
     /**
@@ -54,7 +56,25 @@ class ExceptionHandler {
      * @param context  the context of the app
      */
     static void handleDatabaseExceptionForDeletingAnNotExistingObject(int objectId, Context context) {
-        Toast.makeText(context, "Could not delete " + objectId + " in Database. Maybe you have not created this " + objectId + " before.", Toast.LENGTH_LONG).show();
+        showToast(context, "Could not delete " + objectId + " in Database. Maybe you have not created this " + objectId + " before.");
     }
 
+    /**
+     * shows a long Toast with the given text on the main thread, also if called from a thread of {@link DatabaseExecutor}
+     *
+     * @param context the context of the app
+     * @param text    the text to show
+     */
+    private static void showToast(final Context context, final String text) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            Toast.makeText(context, text, Toast.LENGTH_LONG).show();
+        } else {
+            new Handler(Looper.getMainLooper()).post(new Runnable() {
+                @Override
+                public void run() {
+                    Toast.makeText(context, text, Toast.LENGTH_LONG).show();
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package adamson.studybuddy.logic;
+
+/**
+ * backend of {@link RecordStore} which keeps the records as objects in an {@link IntObjectMap}, so a lookup neither reads nor allocates.
+ * it is the default backend of the {@link InMemoryDatabaseHelper}
+ * <br> </br>
+ * Note: the records are gone when the store is closed, the store is not thread-safe
+ *
+ * @param <T> the stored class
+ */
+public class HeapRecordStore<T> implements RecordStore<T> {
+
+    /**
+     * factory for HeapRecordStores, it ignores the codecs
+     */
+    public static final Factory FACTORY = new Factory() {
+        @Override
+        public <T> RecordStore<T> open(String tableName, RecordCodec<T> codec) {
+            return new HeapRecordStore<T>(16);
+        }
+    };
+
+    private final IntObjectMap<T> records;
+
+    /**
+     * c'tor for an empty store
+     *
+     * @param expectedSize count of records the store should hold without growing
+     */
+    public HeapRecordStore(int expectedSize) {
+        records = new IntObjectMap<>(expectedSize);
+    }
+
+    /**
+     * gets the record at the given id with a single lookup
+     *
+     * @param id id of the record
+     * @return the record, null if there is none at the given id
+     */
+    @Override
+    public T get(int id) {
+        return records.get(id);
+    }
+
+    /**
+     * indicates whether there is a record at the given id
+     *
+     * @param id id of the record
+     * @return true if there is a record at the given id
+     */
+    @Override
+    public boolean contains(int id) {
+        return records.containsKey(id);
+    }
+
+    /**
+     * stores the record at the given id, replacing the one before
+     *
+     * @param id     id of the record, has to be > 0
+     * @param record the record, not null
+     * @throws IllegalArgumentException if the id is <= 0
+     */
+    @Override
+    public void put(int id, T record) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("id has to be > 0");
+        }
+        records.put(id, record);
+    }
+
+    /**
+     * deletes the record at the given id
+     *
+     * @param id id of the record
+     * @return true if a record was deleted, false if there was none at the given id
+     */
+    @Override
+    public boolean delete(int id) {
+        return records.remove(id) != null;
+    }
+
+    /**
+     * gets the count of stored records
+     *
+     * @return the count
+     */
+    @Override
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * gets the greatest id of the stored records
+     *
+     * @return the greatest id, 0 if the store is empty
+     */
+    @Override
+    public int maxId() {
+        return records.maxKey();
+    }
+
+    /**
+     * gets the ids of all stored records
+     *
+     * @return the ids in ascending order
+     */
+    @Override
+    public int[] ids() {
+        return records.keys();
+    }
+
+    /**
+     * deletes all records
+     */
+    @Override
+    public void clear() {
+        records.clear();
+    }
+
+    /**
+     * deletes all records, there is nothing to write through
+     */
+    @Override
+    public void close() {
+        records.clear();
+    }
+}
@@ -0,0 +1,3378 @@
+package adamson.studybuddy.logic;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Schedule;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+import adamson.studybuddy.logic.objects.Weekday;
+
+/**
+ * Implementation of DatabaseHelper interface which keeps its indexes in memory, to run the logic on a plain JVM without Android.
+ * every table is a {@link RecordStore} from the id to its row, every foreign key has a secondary index from the parent id
+ * to the ids of its children, so finding and deleting the children of a row never scans a table.
+ * the rows are stored together with their current parents, an update of a parent is written through to its children,
+ * so with the default {@link HeapRecordStore}s reading a row is a single lookup which doesn't allocate
+ * <br> </br>
+ * Note: deletes cascade like the foreign keys of the SQLite schema, but immediately, there is neither a confirm dialog nor a tombstone.
+ * without a Context the methods which aren't OrThrow don't show a Toast, they only return null, -1 or false.
+ * the secondary indexes and the foreign keys of lessons and weekdays are only kept on the heap, so the helper clears the stores it opens.
+ * the helper is not thread-safe
+ */
+public class InMemoryDatabaseHelper implements DatabaseHelper {
+    private final RecordStore<Teacher> teachers;
+    private final RecordStore<Subject> subjects;
+    private final RecordStore<Homework> homework;
+    private final RecordStore<Exam> exams;
+    private final RecordStore<Grade> grades;
+    private final RecordStore<Period> periods;
+    private final RecordStore<Lesson> lessons;
+    private final RecordStore<String> weekdayNames;
+    private final RecordStore<String> scheduleNames;
+
+    //foreign keys which may be NULL, from the id of the row to the id of its parent
+    private final IntOffsetIndex weekdayOfLesson = new IntOffsetIndex(64);
+    private final IntOffsetIndex scheduleOfWeekday = new IntOffsetIndex(16);
+
+    private final ChildIndex subjectsOfTeacher = new ChildIndex();
+    private final ChildIndex homeworkOfSubject = new ChildIndex();
+    private final ChildIndex examsOfSubject = new ChildIndex();
+    private final ChildIndex gradesOfSubject = new ChildIndex();
+    private final ChildIndex lessonsOfSubject = new ChildIndex();
+    private final ChildIndex lessonsOfPeriod = new ChildIndex();
+    private final ChildIndex lessonsOfWeekday = new ChildIndex();
+    private final ChildIndex weekdaysOfSchedule = new ChildIndex();
+
+    /**
+     * c'tor for a helper which keeps its rows in {@link HeapRecordStore}s
+     */
+    public InMemoryDatabaseHelper() {
+        this(HeapRecordStore.FACTORY);
+    }
+
+    /**
+     * c'tor for a helper which keeps its rows in the {@link RecordStore}s of the given backend
+     *
+     * @param factory the backend, like {@link MappedRecordStore#factory(java.io.File)}
+     * @throws IllegalStateException if a store can't be opened
+     */
+    public InMemoryDatabaseHelper(RecordStore.Factory factory) {
+        teachers = factory.open(TABLE_TEACHER, RecordCodec.TEACHER);
+        subjects = factory.open(TABLE_SUBJECT, RecordCodec.subject(teachers));
+        homework = factory.open(TABLE_HOMEWORK, RecordCodec.homework(subjects));
+        exams = factory.open(TABLE_EXAM, RecordCodec.exam(subjects));
+        grades = factory.open(TABLE_GRADE, RecordCodec.grade(subjects));
+        periods = factory.open(TABLE_PERIOD, RecordCodec.PERIOD);
+        lessons = factory.open(TABLE_LESSON, RecordCodec.lesson(subjects, periods));
+        weekdayNames = factory.open(TABLE_WEEKDAY, RecordCodec.NAME);
+        scheduleNames = factory.open(TABLE_SCHEDULE, RecordCodec.NAME);
+        resetDatabase();
+    }
+
+    /**
+     * closes the {@link RecordStore}s, the helper can't be used afterwards
+     *
+     * @throws IOException if a store can't be written
+     */
+    public void close() throws IOException {
+        for (RecordStore<?> table : new RecordStore<?>[]{teachers, subjects, homework, exams, grades, periods, lessons, weekdayNames, scheduleNames}) {
+            table.close();
+        }
+    }
+
+    //region handling Methods
+    //region getObjectAtId
+
+    /**
+     * gets the {@link Subject} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Subject}, or null if not existing
+     */
+    @Override
+    public Subject getSubjectAtId(int id) {
+        return findSubject(id);
+    }
+
+    /**
+     * gets the {@link Teacher} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Teacher}, or null if not existing
+     */
+    @Override
+    public Teacher getTeacherAtId(int id) {
+        return findTeacher(id);
+    }
+
+    /**
+     * gets the {@link Homework} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Homework}, or null if not existing
+     */
+    @Override
+    public Homework getHomeworkAtId(int id) {
+        return findHomework(id);
+    }
+
+    /**
+     * gets the {@link Exam} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Exam}, or null if not existing
+     */
+    @Override
+    public Exam getExamAtId(int id) {
+        return findExam(id);
+    }
+
+    /**
+     * gets the {@link Grade} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Grade}, or null if not existing
+     */
+    @Override
+    public Grade getGradeAtId(int id) {
+        return findGrade(id);
+    }
+
+    /**
+     * gets the {@link Period} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Period}, or null if not existing
+     */
+    @Override
+    public Period getPeriodAtId(int id) {
+        return findPeriod(id);
+    }
+
+    /**
+     * gets the {@link Lesson} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Lesson}, or null if not existing
+     */
+    @Override
+    public Lesson getLessonAtId(int id) {
+        return findLesson(id);
+    }
+
+    /**
+     * gets the {@link Weekday} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Weekday}, or null if not existing
+     */
+    @Override
+    public Weekday getWeekdayAtId(int id) {
+        return findWeekday(id);
+    }
+
+    /**
+     * gets the {@link Schedule} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Schedule}, or null if not existing
+     */
+    @Override
+    public Schedule getScheduleAtId(int id) {
+        return findSchedule(id);
+    }
+    //endregion
+
+    //region findObject
+
+    /**
+     * finds the {@link Subject} at a specific id with a single lookup
+     *
+     * @param id id in database
+     * @return the {@link Subject}, or null if not existing
+     */
+    @Override
+    public Subject findSubject(int id) {
+        return subjects.get(id);
+    }
+
+    /**
+     * finds the {@link Teacher} at a specific id with a single lookup
+     *
+     * @param id id in database
+     * @return the {@link Teacher}, or null if not existing
+     */
+    @Override
+    public Teacher findTeacher(int id) {
+        return teachers.get(id);
+    }
+
+    /**
+     * finds the {@link Homework} at a specific id with a single lookup
+     *
+     * @param id id in database
+     * @return the {@link Homework}, or null if not existing
+     */
+    @Override
+    public Homework findHomework(int id) {
+        return homework.get(id);
+    }
+
+    /**
+     * finds the {@link Exam} at a specific id with a single lookup
+     *
+     * @param id id in database
+     * @return the {@link Exam}, or null if not existing
+     */
+    @Override
+    public Exam findExam(int id) {
+        return exams.get(id);
+    }
+
+    /**
+     * finds the {@link Grade} at a specific id with a single lookup
+     *
+     * @param id id in database
+     * @return the {@link Grade}, or null if not existing
+     */
+    @Override
+    public Grade findGrade(int id) {
+        return grades.get(id);
+    }
+
+    /**
+     * finds the {@link Period} at a specific id with a single lookup
+     *
+     * @param id id in database
+     * @return the {@link Period}, or null if not existing
+     */
+    @Override
+    public Period findPeriod(int id) {
+        return periods.get(id);
+    }
+
+    /**
+     * finds the {@link Lesson} at a specific id with a single lookup
+     *
+     * @param id id in database
+     * @return the {@link Lesson}, or null if not existing
+     */
+    @Override
+    public Lesson findLesson(int id) {
+        return lessons.get(id);
+    }
+
+    /**
+     * finds the {@link Weekday} at a specific id together with its {@link Lesson}s ordered by id
+     *
+     * @param id id in database
+     * @return the {@link Weekday}, or null if not existing
+     */
+    @Override
+    public Weekday findWeekday(int id) {
+        String name = weekdayNames.get(id);
+        if (name == null) {
+            return null;
+        }
+        return new Weekday(id, name, getLessonsOfWeekday(id));
+    }
+
+    /**
+     * finds the {@link Schedule} at a specific id together with its {@link Weekday}s ordered by id,
+     * the {@link Lesson}s of every {@link Weekday} are ordered by school hour
+     *
+     * @param id id in database
+     * @return the {@link Schedule}, or null if not existing
+     */
+    @Override
+    public Schedule findSchedule(int id) {
+        String name = scheduleNames.get(id);
+        if (name == null) {
+            return null;
+        }
+
+        int[] weekdayIds = weekdaysOfSchedule.get(id);
+        Weekday[] days = new Weekday[weekdayIds.length];
+        for (int i = 0; i < weekdayIds.length; i++) {
+            Lesson[] lessonsOfDay = getLessonsOfWeekday(weekdayIds[i]);
+            Arrays.sort(lessonsOfDay);
+            days[i] = new Weekday(weekdayIds[i], weekdayNames.get(weekdayIds[i]), lessonsOfDay);
+        }
+        return new Schedule(id, name, days);
+    }
+
+    /**
+     * finds the {@link Subject}s at the given ids
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Subject} at this id, or null if not existing
+     */
+    @Override
+    public Subject[] findSubjects(int[] ids) {
+        Subject[] found = new Subject[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            found[i] = subjects.get(ids[i]);
+        }
+        return found;
+    }
+
+    /**
+     * finds the {@link Teacher}s at the given ids
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Teacher} at this id, or null if not existing
+     */
+    @Override
+    public Teacher[] findTeachers(int[] ids) {
+        Teacher[] found = new Teacher[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            found[i] = teachers.get(ids[i]);
+        }
+        return found;
+    }
+
+    /**
+     * finds the {@link Homework}s at the given ids
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Homework} at this id, or null if not existing
+     */
+    @Override
+    public Homework[] findHomework(int[] ids) {
+        Homework[] found = new Homework[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            found[i] = homework.get(ids[i]);
+        }
+        return found;
+    }
+
+    /**
+     * finds the {@link Exam}s at the given ids
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Exam} at this id, or null if not existing
+     */
+    @Override
+    public Exam[] findExams(int[] ids) {
+        Exam[] found = new Exam[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            found[i] = exams.get(ids[i]);
+        }
+        return found;
+    }
+
+    /**
+     * finds the {@link Grade}s at the given ids
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Grade} at this id, or null if not existing
+     */
+    @Override
+    public Grade[] findGrades(int[] ids) {
+        Grade[] found = new Grade[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            found[i] = grades.get(ids[i]);
+        }
+        return found;
+    }
+
+    /**
+     * finds the {@link Period}s at the given ids
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Period} at this id, or null if not existing
+     */
+    @Override
+    public Period[] findPeriods(int[] ids) {
+        Period[] found = new Period[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            found[i] = periods.get(ids[i]);
+        }
+        return found;
+    }
+
+    /**
+     * finds the {@link Lesson}s at the given ids
+     *
+     * @param ids ids in database
+     * @return for every id, ordered like the given ones, the {@link Lesson} at this id, or null if not existing
+     */
+    @Override
+    public Lesson[] findLessons(int[] ids) {
+        Lesson[] found = new Lesson[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            found[i] = lessons.get(ids[i]);
+        }
+        return found;
+    }
+    //endregion
+
+    //region existsObjectAtId
+
+    /**
+     * checks whether there is a {@link Subject} at the given id
+     *
+     * @param id id in database
+     * @return true if there is a {@link Subject} at the given id
+     */
+    @Override
+    public boolean existsSubjectAtId(int id) {
+        return subjects.contains(id);
+    }
+
+    /**
+     * checks whether there is a {@link Teacher} at the given id
+     *
+     * @param id id in database
+     * @return true if there is a {@link Teacher} at the given id
+     */
+    @Override
+    public boolean existsTeacherAtId(int id) {
+        return teachers.contains(id);
+    }
+
+    /**
+     * checks whether there is a {@link Homework} at the given id
+     *
+     * @param id id in database
+     * @return true if there is a {@link Homework} at the given id
+     */
+    @Override
+    public boolean existsHomeworkAtId(int id) {
+        return homework.contains(id);
+    }
+
+    /**
+     * checks whether there is an {@link Exam} at the given id
+     *
+     * @param id id in database
+     * @return true if there is an {@link Exam} at the given id
+     */
+    @Override
+    public boolean existsExamAtId(int id) {
+        return exams.contains(id);
+    }
+
+    /**
+     * checks whether there is a {@link Grade} at the given id
+     *
+     * @param id id in database
+     * @return true if there is a {@link Grade} at the given id
+     */
+    @Override
+    public boolean existsGradeAtId(int id) {
+        return grades.contains(id);
+    }
+
+    /**
+     * checks whether there is a {@link Period} at the given id
+     *
+     * @param id id in database
+     * @return true if there is a {@link Period} at the given id
+     */
+    @Override
+    public boolean existsPeriodAtId(int id) {
+        return periods.contains(id);
+    }
+
+    /**
+     * checks whether there is a {@link Lesson} at the given id
+     *
+     * @param id id in database
+     * @return true if there is a {@link Lesson} at the given id
+     */
+    @Override
+    public boolean existsLessonAtId(int id) {
+        return lessons.contains(id);
+    }
+
+    /**
+     * checks whether there is a {@link Weekday} at the given id
+     *
+     * @param id id in database
+     * @return true if there is a {@link Weekday} at the given id
+     */
+    @Override
+    public boolean existsWeekdayAtId(int id) {
+        return weekdayNames.contains(id);
+    }
+
+    /**
+     * checks whether there is a {@link Schedule} at the given id
+     *
+     * @param id id in database
+     * @return true if there is a {@link Schedule} at the given id
+     */
+    @Override
+    public boolean existsScheduleAtId(int id) {
+        return scheduleNames.contains(id);
+    }
+    //endregion
+
+    //region getAllObjects
+
+    /**
+     * gets all {@link Subject}s
+     *
+     * @return all {@link Subject}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Subject[] getAllSubjects() {
+        return findSubjects(subjects.ids());
+    }
+
+    /**
+     * gets all {@link Teacher}s
+     *
+     * @return all {@link Teacher}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Teacher[] getAllTeachers() {
+        return findTeachers(teachers.ids());
+    }
+
+    /**
+     * gets all {@link Homework}s
+     *
+     * @return all {@link Homework}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Homework[] getAllHomework() {
+        return findHomework(homework.ids());
+    }
+
+    /**
+     * gets all {@link Exam}s
+     *
+     * @return all {@link Exam}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Exam[] getAllExams() {
+        return findExams(exams.ids());
+    }
+
+    /**
+     * gets all {@link Grade}s
+     *
+     * @return all {@link Grade}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Grade[] getAllGrades() {
+        return findGrades(grades.ids());
+    }
+
+    /**
+     * gets all {@link Period}s
+     *
+     * @return all {@link Period}s ordered by id, or an empty array if there are none
+     */
+    @Override
+    public Period[] getAllPeriods() {
+        return findPeriods(periods.ids());
+    }
+    //endregion
+
+    //region getObjectPage
+
+    /**
+     * gets the next page of {@link Homework}s ordered by deadline and id, using the last shown {@link Homework} as key
+     *
+     * @param done     true to page through done {@link Homework}s, false for the ones to do
+     * @param after    the last {@link Homework} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Homework}s in the page
+     * @return the {@link Homework}s of the page, less than pageSize if it is the last one
+     */
+    @Override
+    public Homework[] getHomeworkPage(boolean done, Homework after, int pageSize) {
+        return findHomework(new Criteria().whereDone(done).orderBy(Criteria.Order.DEADLINE).after(after).limit(pageSize));
+    }
+
+    /**
+     * gets the next page of {@link Exam}s ordered by deadline and id, using the last shown {@link Exam} as key
+     *
+     * @param after    the last {@link Exam} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Exam}s in the page
+     * @return the {@link Exam}s of the page, less than pageSize if it is the last one
+     */
+    @Override
+    public Exam[] getExamPage(Exam after, int pageSize) {
+        return findExams(new Criteria().orderBy(Criteria.Order.DEADLINE).after(after).limit(pageSize));
+    }
+
+    /**
+     * gets the next page of {@link Grade}s in a {@link Subject} ordered by name and id, using the last shown {@link Grade} as key
+     *
+     * @param subject  the {@link Subject} the {@link Grade}s are in
+     * @param after    the last {@link Grade} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Grade}s in the page
+     * @return the {@link Grade}s of the page, less than pageSize if it is the last one
+     */
+    @Override
+    public Grade[] getGradePage(Subject subject, Grade after, int pageSize) {
+        return findGrades(new Criteria().whereSubject(subject.getId()).orderBy(Criteria.Order.NAME).after(after).limit(pageSize));
+    }
+
+    /**
+     * gets the next page of {@link Teacher}s ordered by name and id, using the last shown {@link Teacher} as key
+     *
+     * @param after    the last {@link Teacher} of the previous page, null for the first page
+     * @param pageSize maximum count of {@link Teacher}s in the page
+     * @return the {@link Teacher}s of the page, less than pageSize if it is the last one
+     */
+    @Override
+    public Teacher[] getTeacherPage(Teacher after, int pageSize) {
+        ArrayList<Match<Teacher>> matches = new ArrayList<>();
+        for (int id : teachers.ids()) {
+            Teacher teacher = teachers.get(id);
+            matches.add(new Match<>(teacher, id, 0, teacher.getName()));
+        }
+
+        Match<Teacher> afterKey = after == null ? null : new Match<Teacher>(null, after.getId(), 0, after.getName());
+        return orderAndPage(matches, Criteria.Order.NAME, afterKey, pageSize).toArray(new Teacher[0]);
+    }
+    //endregion
+
+    //region getObjectsBetween
+
+    /**
+     * gets all {@link Homework}s with a deadline between two dates, both included
+     *
+     * @param from        the first day of the range
+     * @param to          the last day of the range
+     * @param includeDone true to also get done {@link Homework}s, false for only the ones to do
+     * @return the {@link Homework}s ordered by deadline, or an empty array if there are none
+     */
+    @Override
+    public Homework[] getHomeworkDueBetween(Calendar from, Calendar to, boolean includeDone) {
+        Criteria criteria = new Criteria().whereDeadlineBetween(from, to).orderBy(Criteria.Order.DEADLINE);
+        if (!includeDone) {
+            criteria.whereDone(false);
+        }
+        return findHomework(criteria);
+    }
+
+    /**
+     * gets all {@link Exam}s with a date between two dates, both included
+     *
+     * @param from the first day of the range
+     * @param to   the last day of the range
+     * @return the {@link Exam}s ordered by date, or an empty array if there are none
+     */
+    @Override
+    public Exam[] getExamsBetween(Calendar from, Calendar to) {
+        return findExams(new Criteria().whereDeadlineBetween(from, to).orderBy(Criteria.Order.DEADLINE));
+    }
+    //endregion
+
+    //region week agenda
+
+    /**
+     * does nothing, there is no agenda to keep
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     */
+    @Override
+    public void moveWeekAgenda(Calendar firstDay, Calendar lastDay) {
+    }
+
+    /**
+     * gets the {@link Homework}s to do in a week, there is no agenda to keep, so they are filtered like
+     * {@link InMemoryDatabaseHelper#getHomeworkDueBetween(Calendar, Calendar, boolean)}
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     * @return the {@link Homework}s to do ordered by deadline, or an empty array if there are none
+     */
+    @Override
+    public Homework[] getWeekAgendaHomework(Calendar firstDay, Calendar lastDay) {
+        return getHomeworkDueBetween(firstDay, lastDay, false);
+    }
+
+    /**
+     * gets the {@link Exam}s of a week, there is no agenda to keep, so they are filtered like
+     * {@link InMemoryDatabaseHelper#getExamsBetween(Calendar, Calendar)}
+     *
+     * @param firstDay the first day of the week
+     * @param lastDay  the last day of the week
+     * @return the {@link Exam}s ordered by date, or an empty array if there are none
+     */
+    @Override
+    public Exam[] getWeekAgendaExams(Calendar firstDay, Calendar lastDay) {
+        return getExamsBetween(firstDay, lastDay);
+    }
+    //endregion
+
+    //region findObjects by criteria
+
+    /**
+     * finds the {@link Homework}s matching the {@link Criteria}, a filter by {@link Subject} or {@link Teacher}
+     * only visits the {@link Homework}s of the matching {@link Subject}s
+     *
+     * @param criteria filter, order and limit of the {@link Homework}s
+     * @return the matching {@link Homework}s, or an empty array if there are none
+     */
+    @Override
+    public Homework[] findHomework(Criteria criteria) {
+        requireSupport(criteria, true, true, false);
+
+        ArrayList<Match<Homework>> matches = new ArrayList<>();
+        for (int id : getCandidateIds(criteria, homework, homeworkOfSubject)) {
+            Homework found = homework.get(id);
+            if ((criteria.getDone() == null || criteria.getDone() == found.isDone())
+                    && matchesTeacher(criteria, found.getSubject())) {
+                long day = EpochDays.fromCalendar(found.getDeadline());
+                if (matchesDeadline(criteria, day)) {
+                    matches.add(new Match<>(found, id, day, null));
+                }
+            }
+        }
+        return orderAndPage(matches, criteria).toArray(new Homework[0]);
+    }
+
+    /**
+     * finds the {@link Exam}s matching the {@link Criteria}, a filter by {@link Subject} or {@link Teacher}
+     * only visits the {@link Exam}s of the matching {@link Subject}s
+     *
+     * @param criteria filter, order and limit of the {@link Exam}s
+     * @return the matching {@link Exam}s, or an empty array if there are none
+     */
+    @Override
+    public Exam[] findExams(Criteria criteria) {
+        requireSupport(criteria, false, true, false);
+
+        ArrayList<Match<Exam>> matches = new ArrayList<>();
+        for (int id : getCandidateIds(criteria, exams, examsOfSubject)) {
+            Exam found = exams.get(id);
+            if (matchesTeacher(criteria, found.getSubject())) {
+                long day = EpochDays.fromCalendar(found.getDeadline());
+                if (matchesDeadline(criteria, day)) {
+                    matches.add(new Match<>(found, id, day, null));
+                }
+            }
+        }
+        return orderAndPage(matches, criteria).toArray(new Exam[0]);
+    }
+
+    /**
+     * finds the {@link Grade}s matching the {@link Criteria}, a filter by {@link Subject} or {@link Teacher}
+     * only visits the {@link Grade}s of the matching {@link Subject}s
+     *
+     * @param criteria filter, order and limit of the {@link Grade}s
+     * @return the matching {@link Grade}s, or an empty array if there are none
+     */
+    @Override
+    public Grade[] findGrades(Criteria criteria) {
+        requireSupport(criteria, false, false, true);
+
+        ArrayList<Match<Grade>> matches = new ArrayList<>();
+        for (int id : getCandidateIds(criteria, grades, gradesOfSubject)) {
+            Grade found = grades.get(id);
+            if (matchesTeacher(criteria, found.getSubject())) {
+                matches.add(new Match<>(found, id, 0, found.getName()));
+            }
+        }
+        return orderAndPage(matches, criteria).toArray(new Grade[0]);
+    }
+    //endregion
+
+    //region updateObjectAtId
+
+    /**
+     * updates {@link Subject} at the given id
+     *
+     * @param newSubject the new {@link Subject}
+     */
+    @Override
+    public void updateSubjectAtId(Subject newSubject) {
+        try {
+            updateSubjectAtIdOrThrow(newSubject);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+
+    /**
+     * updates {@link Teacher} at the given id
+     *
+     * @param newTeacher the new {@link Teacher}
+     */
+    @Override
+    public void updateTeacherAtId(Teacher newTeacher) {
+        try {
+            updateTeacherAtIdOrThrow(newTeacher);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+
+    /**
+     * updates {@link Homework} at the given id
+     *
+     * @param newHomework the new {@link Homework}
+     */
+    @Override
+    public void updateHomeworkAtId(Homework newHomework) {
+        try {
+            updateHomeworkAtIdOrThrow(newHomework);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+
+    /**
+     * updates {@link Exam} at the given id
+     *
+     * @param newExam the new {@link Exam}
+     */
+    @Override
+    public void updateExamAtId(Exam newExam) {
+        try {
+            updateExamAtIdOrThrow(newExam);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+
+    /**
+     * updates {@link Grade} at the given id
+     *
+     * @param newGrade the new {@link Grade}
+     */
+    @Override
+    public void updateGradeAtId(Grade newGrade) {
+        try {
+            updateGradeAtIdOrThrow(newGrade);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+
+    /**
+     * updates {@link Lesson} at the given id
+     *
+     * @param newLesson the new {@link Lesson}
+     */
+    @Override
+    public void updateLessonAtId(Lesson newLesson) {
+        try {
+            updateLessonAtIdOrThrow(newLesson);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+
+    /**
+     * updates {@link Period} at the given id
+     *
+     * @param newPeriod the new {@link Period}
+     */
+    @Override
+    public void updatePeriodAtId(Period newPeriod) {
+        try {
+            updatePeriodAtIdOrThrow(newPeriod);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+
+    /**
+     * updates {@link Weekday} at the given id
+     *
+     * @param newWeekday the new {@link Weekday}
+     */
+    @Override
+    public void updateWeekdayAtId(Weekday newWeekday) {
+        try {
+            updateWeekdayAtIdOrThrow(newWeekday);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+
+    /**
+     * updates {@link Schedule} at the given id
+     *
+     * @param newSchedule the new {@link Schedule}
+     */
+    @Override
+    public void updateScheduleAtId(Schedule newSchedule) {
+        try {
+            updateScheduleAtIdOrThrow(newSchedule);
+        } catch (NoSuchFieldException ignored) {
+        }
+    }
+    //endregion
+
+    //region insertIntoDB
+
+    /**
+     * inserts {@link Subject}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param subject {@link Subject} to be inserted
+     * @return the id the {@link Subject} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Subject subject) {
+        try {
+            return insertIntoDBOrThrow(subject);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Teacher}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param teacher {@link Teacher} to be inserted
+     * @return the id the {@link Teacher} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Teacher teacher) {
+        try {
+            return insertIntoDBOrThrow(teacher);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Homework}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param homework {@link Homework} to be inserted
+     * @return the id the {@link Homework} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Homework homework) {
+        try {
+            return insertIntoDBOrThrow(homework);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Exam}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param exam {@link Exam} to be inserted
+     * @return the id the {@link Exam} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Exam exam) {
+        try {
+            return insertIntoDBOrThrow(exam);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Grade}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param grade {@link Grade} to be inserted
+     * @return the id the {@link Grade} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Grade grade) {
+        try {
+            return insertIntoDBOrThrow(grade);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Period}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param period {@link Period} to be inserted
+     * @return the id the {@link Period} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Period period) {
+        try {
+            return insertIntoDBOrThrow(period);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Lesson}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param lesson {@link Lesson} to be inserted
+     * @return the id the {@link Lesson} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Lesson lesson) {
+        try {
+            return insertIntoDBOrThrow(lesson);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Weekday}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param weekday {@link Weekday} to be inserted
+     * @return the id the {@link Weekday} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Weekday weekday) {
+        try {
+            return insertIntoDBOrThrow(weekday);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * inserts {@link Schedule}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param schedule {@link Schedule} to be inserted
+     * @return the id the {@link Schedule} was inserted at or -1 if action could not be performed
+     */
+    @Override
+    public int insertIntoDB(Schedule schedule) {
+        try {
+            return insertIntoDBOrThrow(schedule);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+    //endregion
+
+    //region insertOrUpdate
+
+    /**
+     * updates the {@link Subject} at its id if there is one, otherwise inserts it
+     *
+     * @param subject {@link Subject} to be updated or inserted
+     * @return the id of the {@link Subject} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Subject subject) {
+        try {
+            return insertOrUpdateOrThrow(subject);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Teacher} at its id if there is one, otherwise inserts it
+     *
+     * @param teacher {@link Teacher} to be updated or inserted
+     * @return the id of the {@link Teacher} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Teacher teacher) {
+        try {
+            return insertOrUpdateOrThrow(teacher);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Homework} at its id if there is one, otherwise inserts it
+     *
+     * @param homework {@link Homework} to be updated or inserted
+     * @return the id of the {@link Homework} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Homework homework) {
+        try {
+            return insertOrUpdateOrThrow(homework);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Exam} at its id if there is one, otherwise inserts it
+     *
+     * @param exam {@link Exam} to be updated or inserted
+     * @return the id of the {@link Exam} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Exam exam) {
+        try {
+            return insertOrUpdateOrThrow(exam);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Grade} at its id if there is one, otherwise inserts it
+     *
+     * @param grade {@link Grade} to be updated or inserted
+     * @return the id of the {@link Grade} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Grade grade) {
+        try {
+            return insertOrUpdateOrThrow(grade);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Period} at its id if there is one, otherwise inserts it
+     *
+     * @param period {@link Period} to be updated or inserted
+     * @return the id of the {@link Period} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Period period) {
+        try {
+            return insertOrUpdateOrThrow(period);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Lesson} at its id if there is one, otherwise inserts it
+     *
+     * @param lesson {@link Lesson} to be updated or inserted
+     * @return the id of the {@link Lesson} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Lesson lesson) {
+        try {
+            return insertOrUpdateOrThrow(lesson);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Weekday} at its id if there is one, otherwise inserts it
+     *
+     * @param weekday {@link Weekday} to be updated or inserted
+     * @return the id of the {@link Weekday} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Weekday weekday) {
+        try {
+            return insertOrUpdateOrThrow(weekday);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * updates the {@link Schedule} at its id if there is one, otherwise inserts it
+     *
+     * @param schedule {@link Schedule} to be updated or inserted
+     * @return the id of the {@link Schedule} or -1 if action could not be performed
+     */
+    @Override
+    public int insertOrUpdate(Schedule schedule) {
+        try {
+            return insertOrUpdateOrThrow(schedule);
+        } catch (IllegalAccessException e) {
+            return -1;
+        }
+    }
+    //endregion
+
+    //region deleteObjectAtId
+
+    /**
+     * deletes the {@link Subject} at the given id together with its {@link Homework}s, {@link Exam}s, {@link Grade}s and {@link Lesson}s
+     *
+     * @param id the id the {@link Subject} to delete has
+     */
+    @Override
+    public void deleteSubjectAtId(int id) {
+        removeSubject(id);
+    }
+
+    /**
+     * deletes the {@link Teacher} at the given id together with its {@link Subject}s and everything depending on them
+     *
+     * @param id the id the {@link Teacher} to delete has
+     */
+    @Override
+    public void deleteTeacherAtId(int id) {
+        removeTeacher(id);
+    }
+
+    /**
+     * deletes the {@link Homework} at the given id
+     *
+     * @param id the id the {@link Homework} to delete has
+     */
+    @Override
+    public void deleteHomeworkAtId(int id) {
+        removeHomework(id);
+    }
+
+    /**
+     * deletes the {@link Exam} at the given id
+     *
+     * @param id the id the {@link Exam} to delete has
+     */
+    @Override
+    public void deleteExamAtId(int id) {
+        removeExam(id);
+    }
+
+    /**
+     * deletes the {@link Grade} at the given id
+     *
+     * @param id the id the {@link Grade} to delete has
+     */
+    @Override
+    public void deleteGradeAtId(int id) {
+        removeGrade(id);
+    }
+
+    /**
+     * deletes the {@link Period} at the given id together with its {@link Lesson}s
+     *
+     * @param id the id the {@link Period} to delete has
+     */
+    @Override
+    public void deletePeriodAtId(int id) {
+        removePeriod(id);
+    }
+
+    /**
+     * deletes the {@link Lesson} at the given id
+     *
+     * @param id the id the {@link Lesson} to delete has
+     */
+    @Override
+    public void deleteLessonAtId(int id) {
+        removeLesson(id);
+    }
+
+    /**
+     * deletes the {@link Weekday} at the given id together with its {@link Lesson}s
+     *
+     * @param id the id the {@link Weekday} to delete has
+     */
+    @Override
+    public void deleteWeekdayAtId(int id) {
+        removeWeekday(id);
+    }
+
+    /**
+     * deletes the {@link Schedule} at the given id together with its {@link Weekday}s and their {@link Lesson}s
+     *
+     * @param id the id the {@link Schedule} to delete has
+     */
+    @Override
+    public void deleteScheduleAtId(int id) {
+        removeSchedule(id);
+    }
+    //endregion
+    //endregion
+
+    //region usage counter methods
+
+    /**
+     * counts how many homework, exams, grades and lessons use a {@link Subject} from the sizes of its secondary indexes
+     *
+     * @param subjectId id of the {@link Subject}
+     * @return the counts, all 0 if there is no {@link Subject} at the given id
+     */
+    @Override
+    public UsageCounts getSubjectUsage(int subjectId) {
+        return new UsageCounts(
+                homeworkOfSubject.count(subjectId),
+                countOpenHomework(subjectId),
+                examsOfSubject.count(subjectId),
+                gradesOfSubject.count(subjectId),
+                lessonsOfSubject.count(subjectId)
+        );
+    }
+
+    /**
+     * counts how many homework, exams, grades and lessons use the {@link Subject}s of a {@link Teacher}
+     *
+     * @param teacherId id of the {@link Teacher}
+     * @return the counts, all 0 if there is no {@link Teacher} at the given id
+     */
+    @Override
+    public UsageCounts getTeacherUsage(int teacherId) {
+        int homeworkCount = 0;
+        int openHomeworkCount = 0;
+        int examCount = 0;
+        int gradeCount = 0;
+        int lessonCount = 0;
+        for (int subjectId : subjectsOfTeacher.get(teacherId)) {
+            homeworkCount += homeworkOfSubject.count(subjectId);
+            openHomeworkCount += countOpenHomework(subjectId);
+            examCount += examsOfSubject.count(subjectId);
+            gradeCount += gradesOfSubject.count(subjectId);
+            lessonCount += lessonsOfSubject.count(subjectId);
+        }
+        return new UsageCounts(homeworkCount, openHomeworkCount, examCount, gradeCount, lessonCount);
+    }
+
+    /**
+     * checks the usage counters, which are always right, since they are counted from the secondary indexes
+     *
+     * @return true
+     */
+    @Override
+    public boolean verifyUsageCounters() {
+        return true;
+    }
+
+    /**
+     * does nothing, there are no stored usage counters to rebuild
+     */
+    @Override
+    public void rebuildUsageCounters() {
+    }
+    //endregion
+
+    //region tombstone methods
+
+    /**
+     * restores nothing, deletes cascade immediately and don't leave tombstones
+     *
+     * @param deletedAt the stamp of the delete
+     * @param callback  called right away with 0, may be null
+     */
+    @Override
+    public void undoDelete(long deletedAt, DatabaseExecutor.Callback<Integer> callback) {
+        if (callback != null) {
+            callback.onResult(0);
+        }
+    }
+
+    /**
+     * does nothing, deletes cascade immediately and don't leave tombstones
+     *
+     * @param upTo the newest stamp to purge
+     */
+    @Override
+    public void purgeDeleted(long upTo) {
+    }
+    //endregion
+
+    //region unit of work methods
+
+    /**
+     * writes all changes of a {@link ScheduleUnitOfWork}
+     *
+     * @param work the changes to write
+     * @return true if all changes were written, false if none were
+     */
+    @Override
+    public boolean commit(ScheduleUnitOfWork work) {
+        try {
+            commitOrThrow(work);
+            return true;
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+    }
+    //endregion
+
+    //region bulk methods
+
+    /**
+     * inserts all given {@link Subject}s, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param subjects {@link Subject}s to be inserted
+     * @return the ids the {@link Subject}s were inserted at, ordered like the given {@link Subject}s.
+     * -1 for every {@link Subject} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Subject[] subjects) {
+        int[] ids = new int[subjects.length];
+        for (int i = 0; i < subjects.length; i++) {
+            ids[i] = insertIntoDB(subjects[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * inserts all given {@link Teacher}s, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param teachers {@link Teacher}s to be inserted
+     * @return the ids the {@link Teacher}s were inserted at, ordered like the given {@link Teacher}s.
+     * -1 for every {@link Teacher} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Teacher[] teachers) {
+        int[] ids = new int[teachers.length];
+        for (int i = 0; i < teachers.length; i++) {
+            ids[i] = insertIntoDB(teachers[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * inserts all given {@link Homework}s, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param homework {@link Homework}s to be inserted
+     * @return the ids the {@link Homework}s were inserted at, ordered like the given {@link Homework}s.
+     * -1 for every {@link Homework} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Homework[] homework) {
+        int[] ids = new int[homework.length];
+        for (int i = 0; i < homework.length; i++) {
+            ids[i] = insertIntoDB(homework[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * inserts all given {@link Exam}s, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param exams {@link Exam}s to be inserted
+     * @return the ids the {@link Exam}s were inserted at, ordered like the given {@link Exam}s.
+     * -1 for every {@link Exam} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Exam[] exams) {
+        int[] ids = new int[exams.length];
+        for (int i = 0; i < exams.length; i++) {
+            ids[i] = insertIntoDB(exams[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * inserts all given {@link Grade}s, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param grades {@link Grade}s to be inserted
+     * @return the ids the {@link Grade}s were inserted at, ordered like the given {@link Grade}s.
+     * -1 for every {@link Grade} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Grade[] grades) {
+        int[] ids = new int[grades.length];
+        for (int i = 0; i < grades.length; i++) {
+            ids[i] = insertIntoDB(grades[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * inserts all given {@link Period}s, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param periods {@link Period}s to be inserted
+     * @return the ids the {@link Period}s were inserted at, ordered like the given {@link Period}s.
+     * -1 for every {@link Period} which could not be inserted
+     */
+    @Override
+    public int[] insertAllIntoDB(Period[] periods) {
+        int[] ids = new int[periods.length];
+        for (int i = 0; i < periods.length; i++) {
+            ids[i] = insertIntoDB(periods[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * updates all given {@link Subject}s, each at the id it has
+     *
+     * @param newSubjects the updated {@link Subject}s
+     * @return for every {@link Subject}, ordered like the given ones, true if it was updated, false if there is no {@link Subject} at its id
+     */
+    @Override
+    public boolean[] updateAll(Subject[] newSubjects) {
+        boolean[] updated = new boolean[newSubjects.length];
+        for (int i = 0; i < newSubjects.length; i++) {
+            try {
+                updateSubjectAtIdOrThrow(newSubjects[i]);
+                updated[i] = true;
+            } catch (NoSuchFieldException e) {
+                updated[i] = false;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * updates all given {@link Teacher}s, each at the id it has
+     *
+     * @param newTeachers the updated {@link Teacher}s
+     * @return for every {@link Teacher}, ordered like the given ones, true if it was updated, false if there is no {@link Teacher} at its id
+     */
+    @Override
+    public boolean[] updateAll(Teacher[] newTeachers) {
+        boolean[] updated = new boolean[newTeachers.length];
+        for (int i = 0; i < newTeachers.length; i++) {
+            try {
+                updateTeacherAtIdOrThrow(newTeachers[i]);
+                updated[i] = true;
+            } catch (NoSuchFieldException e) {
+                updated[i] = false;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * updates all given {@link Homework}s, each at the id it has
+     *
+     * @param newHomework the updated {@link Homework}s
+     * @return for every {@link Homework}, ordered like the given ones, true if it was updated, false if there is no {@link Homework} at its id
+     */
+    @Override
+    public boolean[] updateAll(Homework[] newHomework) {
+        boolean[] updated = new boolean[newHomework.length];
+        for (int i = 0; i < newHomework.length; i++) {
+            try {
+                updateHomeworkAtIdOrThrow(newHomework[i]);
+                updated[i] = true;
+            } catch (NoSuchFieldException e) {
+                updated[i] = false;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * updates all given {@link Exam}s, each at the id it has
+     *
+     * @param newExams the updated {@link Exam}s
+     * @return for every {@link Exam}, ordered like the given ones, true if it was updated, false if there is no {@link Exam} at its id
+     */
+    @Override
+    public boolean[] updateAll(Exam[] newExams) {
+        boolean[] updated = new boolean[newExams.length];
+        for (int i = 0; i < newExams.length; i++) {
+            try {
+                updateExamAtIdOrThrow(newExams[i]);
+                updated[i] = true;
+            } catch (NoSuchFieldException e) {
+                updated[i] = false;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * updates all given {@link Grade}s, each at the id it has
+     *
+     * @param newGrades the updated {@link Grade}s
+     * @return for every {@link Grade}, ordered like the given ones, true if it was updated, false if there is no {@link Grade} at its id
+     */
+    @Override
+    public boolean[] updateAll(Grade[] newGrades) {
+        boolean[] updated = new boolean[newGrades.length];
+        for (int i = 0; i < newGrades.length; i++) {
+            try {
+                updateGradeAtIdOrThrow(newGrades[i]);
+                updated[i] = true;
+            } catch (NoSuchFieldException e) {
+                updated[i] = false;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * updates all given {@link Period}s, each at the id it has
+     *
+     * @param newPeriods the updated {@link Period}s
+     * @return for every {@link Period}, ordered like the given ones, true if it was updated, false if there is no {@link Period} at its id
+     */
+    @Override
+    public boolean[] updateAll(Period[] newPeriods) {
+        boolean[] updated = new boolean[newPeriods.length];
+        for (int i = 0; i < newPeriods.length; i++) {
+            try {
+                updatePeriodAtIdOrThrow(newPeriods[i]);
+                updated[i] = true;
+            } catch (NoSuchFieldException e) {
+                updated[i] = false;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * deletes the {@link Homework}s at all given ids
+     *
+     * @param ids the ids the {@link Homework}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Homework} was deleted, false if there was none at this id
+     */
+    @Override
+    public boolean[] deleteAllHomeworkAtIds(int[] ids) {
+        boolean[] deleted = new boolean[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            deleted[i] = removeHomework(ids[i]);
+        }
+        return deleted;
+    }
+
+    /**
+     * deletes the {@link Exam}s at all given ids
+     *
+     * @param ids the ids the {@link Exam}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Exam} was deleted, false if there was none at this id
+     */
+    @Override
+    public boolean[] deleteAllExamsAtIds(int[] ids) {
+        boolean[] deleted = new boolean[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            deleted[i] = removeExam(ids[i]);
+        }
+        return deleted;
+    }
+
+    /**
+     * deletes the {@link Grade}s at all given ids
+     *
+     * @param ids the ids the {@link Grade}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Grade} was deleted, false if there was none at this id
+     */
+    @Override
+    public boolean[] deleteAllGradesAtIds(int[] ids) {
+        boolean[] deleted = new boolean[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            deleted[i] = removeGrade(ids[i]);
+        }
+        return deleted;
+    }
+
+    /**
+     * deletes the {@link Lesson}s at all given ids
+     *
+     * @param ids the ids the {@link Lesson}s to delete have
+     * @return for every id, ordered like the given ones, true if the {@link Lesson} was deleted, false if there was none at this id
+     */
+    @Override
+    public boolean[] deleteAllLessonsAtIds(int[] ids) {
+        boolean[] deleted = new boolean[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            deleted[i] = removeLesson(ids[i]);
+        }
+        return deleted;
+    }
+    //endregion
+
+    //region orThrow Methods
+    //region getObjectAtId
+
+    /**
+     * gets the {@link Subject} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Subject}
+     * @throws NoSuchFieldException if there is no {@link Subject} at the given id
+     */
+    @Override
+    public Subject getSubjectAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(subjects.get(id));
+    }
+
+    /**
+     * gets the {@link Teacher} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Teacher}
+     * @throws NoSuchFieldException if there is no {@link Teacher} at the given id
+     */
+    @Override
+    public Teacher getTeacherAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(teachers.get(id));
+    }
+
+    /**
+     * gets the {@link Homework} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Homework}
+     * @throws NoSuchFieldException if there is no {@link Homework} at the given id
+     */
+    @Override
+    public Homework getHomeworkAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(homework.get(id));
+    }
+
+    /**
+     * gets the {@link Exam} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Exam}
+     * @throws NoSuchFieldException if there is no {@link Exam} at the given id
+     */
+    @Override
+    public Exam getExamAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(exams.get(id));
+    }
+
+    /**
+     * gets the {@link Grade} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Grade}
+     * @throws NoSuchFieldException if there is no {@link Grade} at the given id
+     */
+    @Override
+    public Grade getGradeAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(grades.get(id));
+    }
+
+    /**
+     * gets the {@link Period} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Period}
+     * @throws NoSuchFieldException if there is no {@link Period} at the given id
+     */
+    @Override
+    public Period getPeriodAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(periods.get(id));
+    }
+
+    /**
+     * gets the {@link Lesson} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Lesson}
+     * @throws NoSuchFieldException if there is no {@link Lesson} at the given id
+     */
+    @Override
+    public Lesson getLessonAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(lessons.get(id));
+    }
+
+    /**
+     * gets the {@link Weekday} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Weekday}
+     * @throws NoSuchFieldException if there is no {@link Weekday} at the given id
+     */
+    @Override
+    public Weekday getWeekdayAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(findWeekday(id));
+    }
+
+    /**
+     * gets the {@link Schedule} at a specific id
+     *
+     * @param id id in database
+     * @return the {@link Schedule}
+     * @throws NoSuchFieldException if there is no {@link Schedule} at the given id
+     */
+    @Override
+    public Schedule getScheduleAtIdOrThrow(int id) throws NoSuchFieldException {
+        return requireFound(findSchedule(id));
+    }
+    //endregion
+
+    //region updateObjectAtId
+
+    /**
+     * updates {@link Subject} at the given id, its {@link Homework}s, {@link Exam}s, {@link Grade}s and {@link Lesson}s are stored again with it
+     *
+     * @param newSubject the new {@link Subject}
+     * @throws NoSuchFieldException if there is no {@link Subject} at the given id or no {@link Teacher} at the id of its {@link Teacher}
+     */
+    @Override
+    public void updateSubjectAtIdOrThrow(Subject newSubject) throws NoSuchFieldException {
+        Subject oldSubject = requireFound(subjects.get(newSubject.getId()));
+        Teacher teacher = requireFound(teachers.get(newSubject.getTeacher().getId()));
+
+        subjectsOfTeacher.move(oldSubject.getTeacher().getId(), teacher.getId(), newSubject.getId());
+        storeSubject(newSubject.getId(), teacher, newSubject);
+    }
+
+    /**
+     * updates {@link Teacher} at the given id, its {@link Subject}s are stored again with it
+     *
+     * @param newTeacher the new {@link Teacher}
+     * @throws NoSuchFieldException if there is no {@link Teacher} at the given id or another {@link Teacher} has its abbreviation
+     */
+    @Override
+    public void updateTeacherAtIdOrThrow(Teacher newTeacher) throws NoSuchFieldException {
+        requireFound(teachers.get(newTeacher.getId()));
+        if (isAbbreviationTaken(newTeacher.getAbbreviation(), newTeacher.getId())) {
+            throw new NoSuchFieldException();
+        }
+
+        teachers.put(newTeacher.getId(), newTeacher);
+        for (int subjectId : subjectsOfTeacher.get(newTeacher.getId())) {
+            storeSubject(subjectId, newTeacher, subjects.get(subjectId));
+        }
+    }
+
+    /**
+     * updates {@link Homework} at the given id
+     *
+     * @param newHomework the new {@link Homework}
+     * @throws NoSuchFieldException if there is no {@link Homework} at the given id or no {@link Subject} at the id of its {@link Subject}
+     */
+    @Override
+    public void updateHomeworkAtIdOrThrow(Homework newHomework) throws NoSuchFieldException {
+        Homework oldHomework = requireFound(homework.get(newHomework.getId()));
+        Subject subject = requireFound(subjects.get(newHomework.getSubject().getId()));
+
+        homeworkOfSubject.move(oldHomework.getSubject().getId(), subject.getId(), newHomework.getId());
+        storeHomework(newHomework.getId(), subject, newHomework);
+    }
+
+    /**
+     * updates {@link Exam} at the given id
+     *
+     * @param newExam the new {@link Exam}
+     * @throws NoSuchFieldException if there is no {@link Exam} at the given id or no {@link Subject} at the id of its {@link Subject}
+     */
+    @Override
+    public void updateExamAtIdOrThrow(Exam newExam) throws NoSuchFieldException {
+        Exam oldExam = requireFound(exams.get(newExam.getId()));
+        Subject subject = requireFound(subjects.get(newExam.getSubject().getId()));
+
+        examsOfSubject.move(oldExam.getSubject().getId(), subject.getId(), newExam.getId());
+        storeExam(newExam.getId(), subject, newExam);
+    }
+
+    /**
+     * updates {@link Grade} at the given id
+     *
+     * @param newGrade the new {@link Grade}
+     * @throws NoSuchFieldException if there is no {@link Grade} at the given id or no {@link Subject} at the id of its {@link Subject}
+     */
+    @Override
+    public void updateGradeAtIdOrThrow(Grade newGrade) throws NoSuchFieldException {
+        Grade oldGrade = requireFound(grades.get(newGrade.getId()));
+        Subject subject = requireFound(subjects.get(newGrade.getSubject().getId()));
+
+        gradesOfSubject.move(oldGrade.getSubject().getId(), subject.getId(), newGrade.getId());
+        storeGrade(newGrade.getId(), subject, newGrade);
+    }
+
+    /**
+     * updates {@link Period} at the given id, its {@link Lesson}s are stored again with it
+     *
+     * @param newPeriod the new {@link Period}
+     * @throws NoSuchFieldException if there is no {@link Period} at the given id
+     */
+    @Override
+    public void updatePeriodAtIdOrThrow(Period newPeriod) throws NoSuchFieldException {
+        requireFound(periods.get(newPeriod.getId()));
+
+        periods.put(newPeriod.getId(), newPeriod);
+        for (int lessonId : lessonsOfPeriod.get(newPeriod.getId())) {
+            Lesson lesson = lessons.get(lessonId);
+            lessons.put(lessonId, new Lesson(lessonId, lesson.getSubject(), newPeriod));
+        }
+    }
+
+    /**
+     * updates {@link Lesson} at the given id, it stays at its {@link Weekday}
+     *
+     * @param newLesson the new {@link Lesson}
+     * @throws NoSuchFieldException if there is no {@link Lesson} at the given id, its {@link Subject} or {@link Period} don't exist
+     *                              or its {@link Weekday} already has a {@link Lesson} in the new {@link Period}
+     */
+    @Override
+    public void updateLessonAtIdOrThrow(Lesson newLesson) throws NoSuchFieldException {
+        Lesson oldLesson = requireFound(lessons.get(newLesson.getId()));
+        Subject subject = requireFound(subjects.get(newLesson.getSubject().getId()));
+        Period period = requireFound(periods.get(newLesson.getPeriod().getId()));
+
+        int weekdayId = weekdayOfLesson.get(newLesson.getId());
+        if (weekdayId > 0 && isSlotTaken(weekdayId, period.getId(), newLesson.getId())) {
+            throw new NoSuchFieldException();
+        }
+
+        lessonsOfSubject.move(oldLesson.getSubject().getId(), subject.getId(), newLesson.getId());
+        lessonsOfPeriod.move(oldLesson.getPeriod().getId(), period.getId(), newLesson.getId());
+        lessons.put(newLesson.getId(), new Lesson(newLesson.getId(), subject, period));
+    }
+
+    /**
+     * updates {@link Weekday} at the given id and moves its {@link Lesson}s to it
+     *
+     * @param newWeekday the new {@link Weekday}
+     * @throws NoSuchFieldException if there is no {@link Weekday} at the given id
+     */
+    @Override
+    public void updateWeekdayAtIdOrThrow(Weekday newWeekday) throws NoSuchFieldException {
+        requireFound(weekdayNames.get(newWeekday.getId()));
+
+        weekdayNames.put(newWeekday.getId(), newWeekday.getName());
+        for (Lesson lesson : newWeekday.getLessons()) {
+            linkLessonToWeekday(lesson.getId(), newWeekday.getId());
+        }
+    }
+
+    /**
+     * updates {@link Schedule} at the given id and moves its {@link Weekday}s to it
+     *
+     * @param newSchedule the new {@link Schedule}
+     * @throws NoSuchFieldException if there is no {@link Schedule} at the given id
+     */
+    @Override
+    public void updateScheduleAtIdOrThrow(Schedule newSchedule) throws NoSuchFieldException {
+        requireFound(scheduleNames.get(newSchedule.getId()));
+
+        scheduleNames.put(newSchedule.getId(), newSchedule.getName());
+        for (Weekday weekday : newSchedule.getDays()) {
+            linkWeekdayToSchedule(weekday.getId(), newSchedule.getId());
+        }
+    }
+    //endregion
+
+    //region insertIntoDB
+
+    /**
+     * inserts {@link Subject} at a given id, use an ID <= 0 to insert at next unoccupied ID,
+     * its {@link Teacher} is inserted first if it doesn't exist
+     *
+     * @param subject {@link Subject} to be inserted
+     * @return the id the {@link Subject} was inserted at
+     * @throws IllegalAccessException if the given ID is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Subject subject) throws IllegalAccessException {
+        int teacherId = subject.getTeacher().getId();
+        if (!teachers.contains(teacherId)) {
+            teacherId = insertIntoDBOrThrow(subject.getTeacher());
+        }
+
+        int subjectId = nextId(subjects, subject.getId());
+        subjectsOfTeacher.add(teacherId, subjectId);
+        storeSubject(subjectId, teachers.get(teacherId), subject);
+        return subjectId;
+    }
+
+    /**
+     * inserts {@link Teacher}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param teacher {@link Teacher} to be inserted
+     * @return the id the {@link Teacher} was inserted at
+     * @throws IllegalAccessException if the given ID or the abbreviation is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Teacher teacher) throws IllegalAccessException {
+        int teacherId = nextId(teachers, teacher.getId());
+        if (isAbbreviationTaken(teacher.getAbbreviation(), teacherId)) {
+            throw new IllegalAccessException();
+        }
+
+        teachers.put(teacherId, teacherId == teacher.getId() ? teacher
+                : new Teacher(teacherId, teacher.getName(), teacher.getAbbreviation(), teacher.getGender()));
+        return teacherId;
+    }
+
+    /**
+     * inserts {@link Homework}, use an ID <= 0 to insert at next unoccupied ID,
+     * its {@link Subject} is inserted first if it doesn't exist
+     *
+     * @param homework {@link Homework} to be inserted
+     * @return the id the {@link Homework} was inserted at
+     * @throws IllegalAccessException if the given ID is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Homework homework) throws IllegalAccessException {
+        Subject subject = requireSubject(homework.getSubject());
+
+        int homeworkId = nextId(this.homework, homework.getId());
+        homeworkOfSubject.add(subject.getId(), homeworkId);
+        storeHomework(homeworkId, subject, homework);
+        return homeworkId;
+    }
+
+    /**
+     * inserts {@link Exam}, use an ID <= 0 to insert at next unoccupied ID,
+     * its {@link Subject} is inserted first if it doesn't exist
+     *
+     * @param exam {@link Exam} to be inserted
+     * @return the id the {@link Exam} was inserted at
+     * @throws IllegalAccessException if the given ID is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Exam exam) throws IllegalAccessException {
+        Subject subject = requireSubject(exam.getSubject());
+
+        int examId = nextId(exams, exam.getId());
+        examsOfSubject.add(subject.getId(), examId);
+        storeExam(examId, subject, exam);
+        return examId;
+    }
+
+    /**
+     * inserts {@link Grade}, use an ID <= 0 to insert at next unoccupied ID,
+     * its {@link Subject} is inserted first if it doesn't exist
+     *
+     * @param grade {@link Grade} to be inserted
+     * @return the id the {@link Grade} was inserted at
+     * @throws IllegalAccessException if the given ID is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Grade grade) throws IllegalAccessException {
+        Subject subject = requireSubject(grade.getSubject());
+
+        int gradeId = nextId(grades, grade.getId());
+        gradesOfSubject.add(subject.getId(), gradeId);
+        storeGrade(gradeId, subject, grade);
+        return gradeId;
+    }
+
+    /**
+     * inserts {@link Period}, use an ID <= 0 to insert at next unoccupied ID
+     *
+     * @param period {@link Period} to be inserted
+     * @return the id the {@link Period} was inserted at
+     * @throws IllegalAccessException if the given ID is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Period period) throws IllegalAccessException {
+        int periodId = nextId(periods, period.getId());
+
+        periods.put(periodId, periodId == period.getId() ? period
+                : new Period(periodId, period.getSchoolHourNo(), period.getStartTimeAsString(), period.getEndTimeAsString()));
+        return periodId;
+    }
+
+    /**
+     * inserts {@link Lesson} without a {@link Weekday}, use an ID <= 0 to insert at next unoccupied ID,
+     * its {@link Subject} and {@link Period} are inserted first if they don't exist
+     *
+     * @param lesson {@link Lesson} to be inserted
+     * @return the id the {@link Lesson} was inserted at
+     * @throws IllegalAccessException if the given ID is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Lesson lesson) throws IllegalAccessException {
+        Subject subject = requireSubject(lesson.getSubject());
+        int periodId = lesson.getPeriod().getId();
+        if (!periods.contains(periodId)) {
+            periodId = insertIntoDBOrThrow(lesson.getPeriod());
+        }
+
+        int lessonId = nextId(lessons, lesson.getId());
+        lessonsOfSubject.add(subject.getId(), lessonId);
+        lessonsOfPeriod.add(periodId, lessonId);
+        lessons.put(lessonId, new Lesson(lessonId, subject, periods.get(periodId)));
+        return lessonId;
+    }
+
+    /**
+     * inserts {@link Weekday}, use an ID <= 0 to insert at next unoccupied ID,
+     * its {@link Lesson}s are inserted or updated and moved to it afterwards
+     *
+     * @param weekday {@link Weekday} to be inserted
+     * @return the id the {@link Weekday} was inserted at
+     * @throws IllegalAccessException if the given ID is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Weekday weekday) throws IllegalAccessException {
+        int weekdayId = nextId(weekdayNames, weekday.getId());
+        weekdayNames.put(weekdayId, weekday.getName());
+
+        for (Lesson lesson : weekday.getLessons()) {
+            if (lesson != null) {
+                linkLessonToWeekday(insertOrUpdateOrThrow(lesson), weekdayId);
+            }
+        }
+        return weekdayId;
+    }
+
+    /**
+     * inserts {@link Schedule}, use an ID <= 0 to insert at next unoccupied ID,
+     * its {@link Weekday}s are inserted or updated and moved to it afterwards
+     *
+     * @param schedule {@link Schedule} to be inserted
+     * @return the id the {@link Schedule} was inserted at
+     * @throws IllegalAccessException if the given ID is already occupied
+     */
+    @Override
+    public int insertIntoDBOrThrow(Schedule schedule) throws IllegalAccessException {
+        int scheduleId = nextId(scheduleNames, schedule.getId());
+        scheduleNames.put(scheduleId, schedule.getName());
+
+        for (Weekday weekday : schedule.getDays()) {
+            if (weekday != null) {
+                linkWeekdayToSchedule(insertOrUpdateOrThrow(weekday), scheduleId);
+            }
+        }
+        return scheduleId;
+    }
+    //endregion
+
+    //region insertOrUpdate
+
+    /**
+     * updates the {@link Subject} at its id if there is one, otherwise inserts it
+     *
+     * @param subject {@link Subject} to be updated or inserted
+     * @return the id of the {@link Subject}
+     * @throws IllegalAccessException if the {@link Subject} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Subject subject) throws IllegalAccessException {
+        if (!subjects.contains(subject.getId())) {
+            return insertIntoDBOrThrow(subject);
+        }
+
+        try {
+            updateSubjectAtIdOrThrow(subject);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return subject.getId();
+    }
+
+    /**
+     * updates the {@link Teacher} at its id if there is one, otherwise inserts it
+     *
+     * @param teacher {@link Teacher} to be updated or inserted
+     * @return the id of the {@link Teacher}
+     * @throws IllegalAccessException if the {@link Teacher} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Teacher teacher) throws IllegalAccessException {
+        if (!teachers.contains(teacher.getId())) {
+            return insertIntoDBOrThrow(teacher);
+        }
+
+        try {
+            updateTeacherAtIdOrThrow(teacher);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return teacher.getId();
+    }
+
+    /**
+     * updates the {@link Homework} at its id if there is one, otherwise inserts it
+     *
+     * @param homework {@link Homework} to be updated or inserted
+     * @return the id of the {@link Homework}
+     * @throws IllegalAccessException if the {@link Homework} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Homework homework) throws IllegalAccessException {
+        if (!this.homework.contains(homework.getId())) {
+            return insertIntoDBOrThrow(homework);
+        }
+
+        try {
+            updateHomeworkAtIdOrThrow(homework);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return homework.getId();
+    }
+
+    /**
+     * updates the {@link Exam} at its id if there is one, otherwise inserts it
+     *
+     * @param exam {@link Exam} to be updated or inserted
+     * @return the id of the {@link Exam}
+     * @throws IllegalAccessException if the {@link Exam} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Exam exam) throws IllegalAccessException {
+        if (!exams.contains(exam.getId())) {
+            return insertIntoDBOrThrow(exam);
+        }
+
+        try {
+            updateExamAtIdOrThrow(exam);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return exam.getId();
+    }
+
+    /**
+     * updates the {@link Grade} at its id if there is one, otherwise inserts it
+     *
+     * @param grade {@link Grade} to be updated or inserted
+     * @return the id of the {@link Grade}
+     * @throws IllegalAccessException if the {@link Grade} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Grade grade) throws IllegalAccessException {
+        if (!grades.contains(grade.getId())) {
+            return insertIntoDBOrThrow(grade);
+        }
+
+        try {
+            updateGradeAtIdOrThrow(grade);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return grade.getId();
+    }
+
+    /**
+     * updates the {@link Period} at its id if there is one, otherwise inserts it
+     *
+     * @param period {@link Period} to be updated or inserted
+     * @return the id of the {@link Period}
+     * @throws IllegalAccessException if the {@link Period} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Period period) throws IllegalAccessException {
+        if (!periods.contains(period.getId())) {
+            return insertIntoDBOrThrow(period);
+        }
+
+        try {
+            updatePeriodAtIdOrThrow(period);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return period.getId();
+    }
+
+    /**
+     * updates the {@link Lesson} at its id if there is one, otherwise inserts it
+     *
+     * @param lesson {@link Lesson} to be updated or inserted
+     * @return the id of the {@link Lesson}
+     * @throws IllegalAccessException if the {@link Lesson} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Lesson lesson) throws IllegalAccessException {
+        if (!lessons.contains(lesson.getId())) {
+            return insertIntoDBOrThrow(lesson);
+        }
+
+        try {
+            updateLessonAtIdOrThrow(lesson);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return lesson.getId();
+    }
+
+    /**
+     * updates the {@link Weekday} at its id if there is one, otherwise inserts it
+     *
+     * @param weekday {@link Weekday} to be updated or inserted
+     * @return the id of the {@link Weekday}
+     * @throws IllegalAccessException if the {@link Weekday} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Weekday weekday) throws IllegalAccessException {
+        if (!weekdayNames.contains(weekday.getId())) {
+            return insertIntoDBOrThrow(weekday);
+        }
+
+        try {
+            updateWeekdayAtIdOrThrow(weekday);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return weekday.getId();
+    }
+
+    /**
+     * updates the {@link Schedule} at its id if there is one, otherwise inserts it
+     *
+     * @param schedule {@link Schedule} to be updated or inserted
+     * @return the id of the {@link Schedule}
+     * @throws IllegalAccessException if the {@link Schedule} could neither be updated nor inserted
+     */
+    @Override
+    public int insertOrUpdateOrThrow(Schedule schedule) throws IllegalAccessException {
+        if (!scheduleNames.contains(schedule.getId())) {
+            return insertIntoDBOrThrow(schedule);
+        }
+
+        try {
+            updateScheduleAtIdOrThrow(schedule);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalAccessException();
+        }
+        return schedule.getId();
+    }
+    //endregion
+
+    //region deleteObjectAtId
+
+    /**
+     * deletes the {@link Subject} at the given id together with its {@link Homework}s, {@link Exam}s, {@link Grade}s and {@link Lesson}s
+     *
+     * @param id the id the {@link Subject} to delete has
+     * @throws NoSuchFieldException if there is no {@link Subject} at the given id
+     */
+    @Override
+    public void deleteSubjectAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removeSubject(id));
+    }
+
+    /**
+     * deletes the {@link Teacher} at the given id together with its {@link Subject}s and everything depending on them
+     *
+     * @param id the id the {@link Teacher} to delete has
+     * @throws NoSuchFieldException if there is no {@link Teacher} at the given id
+     */
+    @Override
+    public void deleteTeacherAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removeTeacher(id));
+    }
+
+    /**
+     * deletes the {@link Homework} at the given id
+     *
+     * @param id the id the {@link Homework} to delete has
+     * @throws NoSuchFieldException if there is no {@link Homework} at the given id
+     */
+    @Override
+    public void deleteHomeworkAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removeHomework(id));
+    }
+
+    /**
+     * deletes the {@link Exam} at the given id
+     *
+     * @param id the id the {@link Exam} to delete has
+     * @throws NoSuchFieldException if there is no {@link Exam} at the given id
+     */
+    @Override
+    public void deleteExamAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removeExam(id));
+    }
+
+    /**
+     * deletes the {@link Grade} at the given id
+     *
+     * @param id the id the {@link Grade} to delete has
+     * @throws NoSuchFieldException if there is no {@link Grade} at the given id
+     */
+    @Override
+    public void deleteGradeAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removeGrade(id));
+    }
+
+    /**
+     * deletes the {@link Period} at the given id together with its {@link Lesson}s
+     *
+     * @param id the id the {@link Period} to delete has
+     * @throws NoSuchFieldException if there is no {@link Period} at the given id
+     */
+    @Override
+    public void deletePeriodAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removePeriod(id));
+    }
+
+    /**
+     * deletes the {@link Lesson} at the given id
+     *
+     * @param id the id the {@link Lesson} to delete has
+     * @throws NoSuchFieldException if there is no {@link Lesson} at the given id
+     */
+    @Override
+    public void deleteLessonAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removeLesson(id));
+    }
+
+    /**
+     * deletes the {@link Weekday} at the given id together with its {@link Lesson}s
+     *
+     * @param id the id the {@link Weekday} to delete has
+     * @throws NoSuchFieldException if there is no {@link Weekday} at the given id
+     */
+    @Override
+    public void deleteWeekdayAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removeWeekday(id));
+    }
+
+    /**
+     * deletes the {@link Schedule} at the given id together with its {@link Weekday}s and their {@link Lesson}s
+     *
+     * @param id the id the {@link Schedule} to delete has
+     * @throws NoSuchFieldException if there is no {@link Schedule} at the given id
+     */
+    @Override
+    public void deleteScheduleAtIdOrThrow(int id) throws NoSuchFieldException {
+        requireDeleted(removeSchedule(id));
+    }
+    //endregion
+
+    //region unit of work
+
+    /**
+     * writes all changes of a {@link ScheduleUnitOfWork}, the {@link Schedule} first, then the {@link Weekday}s and then the {@link Lesson}s.
+     * all changes are checked before the first one is written, since there is no transaction to roll back
+     * <br> </br>
+     * Note: the {@link Subject}s and {@link Period}s of the {@link Lesson}s have to be stored already
+     *
+     * @param work the changes to write
+     * @throws NoSuchFieldException if a changed object isn't stored anymore or two {@link Lesson}s would share a {@link Weekday} and {@link Period},
+     *                              nothing is written then
+     */
+    @Override
+    public void commitOrThrow(ScheduleUnitOfWork work) throws NoSuchFieldException {
+        IdentityHashMap<Weekday, Integer> newWeekdayIds = new IdentityHashMap<>();
+        int[] lessonIds = new int[work.getDirtyLessons().size()];
+        if (work.isEmpty()) {
+            work.setCommitted(newWeekdayIds, lessonIds);
+            return;
+        }
+
+        int scheduleId = work.getSchedule().getId();
+        requireFound(scheduleNames.get(scheduleId));
+        checkUnitOfWork(work);
+
+        if (work.getNewScheduleName() != null) {
+            scheduleNames.put(scheduleId, work.getNewScheduleName());
+        }
+
+        for (Lesson lesson : work.getRemovedLessons()) {
+            removeLesson(lesson.getId());
+        }
+
+        for (Weekday weekday : work.getDirtyWeekdays()) {
+            int weekdayId = weekday.getId();
+            if (weekdayId <= 0) {
+                weekdayId = weekdayNames.maxId() + 1;
+                newWeekdayIds.put(weekday, weekdayId);
+            }
+            weekdayNames.put(weekdayId, weekday.getName());
+            linkWeekdayToSchedule(weekdayId, scheduleId);
+        }
+
+        //the lessons are unlinked first, so a lesson can take the period another moved lesson leaves
+        for (Lesson lesson : work.getDirtyLessons()) {
+            unlinkLessonFromWeekday(lesson.getId());
+        }
+        for (int i = 0; i < work.getDirtyLessons().size(); i++) {
+            Lesson lesson = work.getDirtyLessons().get(i);
+            Weekday weekday = work.getDirtyLessonWeekdays().get(i);
+            int weekdayId = weekday.getId() > 0 ? weekday.getId() : newWeekdayIds.get(weekday);
+
+            int lessonId = lesson.getId();
+            if (lessonId > 0) {
+                Lesson oldLesson = lessons.get(lessonId);
+                lessonsOfSubject.move(oldLesson.getSubject().getId(), lesson.getSubject().getId(), lessonId);
+                lessonsOfPeriod.move(oldLesson.getPeriod().getId(), lesson.getPeriod().getId(), lessonId);
+            } else {
+                lessonId = lessons.maxId() + 1;
+                lessonsOfSubject.add(lesson.getSubject().getId(), lessonId);
+                lessonsOfPeriod.add(lesson.getPeriod().getId(), lessonId);
+            }
+            lessons.put(lessonId, new Lesson(lessonId, subjects.get(lesson.getSubject().getId()), periods.get(lesson.getPeriod().getId())));
+            linkLessonToWeekday(lessonId, weekdayId);
+            lessonIds[i] = lessonId;
+        }
+        work.setCommitted(newWeekdayIds, lessonIds);
+    }
+    //endregion
+    //endregion
+
+    /**
+     * represents the whole database to a String
+     *
+     * @return database as String
+     */
+    @Override
+    public String toString() {
+        return toString(TABLE_SUBJECT) + "\n \n" +
+                toString(TABLE_TEACHER) + "\n \n" +
+                toString(TABLE_HOMEWORK) + "\n \n" +
+                toString(TABLE_EXAM) + "\n \n" +
+                toString(TABLE_GRADE) + "\n \n" +
+                toString(TABLE_PERIOD) + "\n \n" +
+                toString(TABLE_LESSON) + "\n \n" +
+                toString(TABLE_WEEKDAY) + "\n \n" +
+                toString(TABLE_SCHEDULE);
+    }
+
+    /**
+     * represents the given Table as String, with the same columns and values as the SQLite table
+     *
+     * @param tableName name of the table to convert to String, choose from the TABLE_XXX constants in {@link DatabaseHelper}
+     * @return table as String
+     */
+    @Override
+    public String toString(String tableName) {
+        StringBuilder returnString = new StringBuilder("############################### \n" + tableName + "\n-------------------------------\n");
+
+        for (int id : getIndices(tableName)) {
+            switch (tableName) {
+                case TABLE_SUBJECT:
+                    Subject subject = subjects.get(id);
+                    appendRow(returnString, new String[]{SUBJECT_COLUMN_ID, SUBJECT_COLUMN_TEACHER_ID, SUBJECT_COLUMN_NAME, SUBJECT_COLUMN_ROOM, SUBJECT_COLUMN_COLOR},
+                            id, subject.getTeacher().getId(), subject.getName(), subject.getRoom(), subject.getColor());
+                    break;
+                case TABLE_TEACHER:
+                    Teacher teacher = teachers.get(id);
+                    appendRow(returnString, new String[]{TEACHER_COLUMN_ID, TEACHER_COLUMN_NAME, TEACHER_COLUMN_ABBREVIATION, TEACHER_COLUMN_GENDER},
+                            id, teacher.getName(), teacher.getAbbreviation(), teacher.getGender());
+                    break;
+                case TABLE_HOMEWORK:
+                    Homework homework = this.homework.get(id);
+                    appendRow(returnString, new String[]{HOMEWORK_COLUMN_ID, HOMEWORK_COLUMN_SUBJECT_ID, HOMEWORK_COLUMN_DESCRIPTION, HOMEWORK_COLUMN_DEADLINE, HOMEWORK_COLUMN_DONE},
+                            id, homework.getSubject().getId(), homework.getDescription(), EpochDays.fromCalendar(homework.getDeadline()), homework.getDone());
+                    break;
+                case TABLE_EXAM:
+                    Exam exam = exams.get(id);
+                    appendRow(returnString, new String[]{EXAM_COLUMN_ID, EXAM_COLUMN_SUBJECT_ID, EXAM_COLUMN_DESCRIPTION, EXAM_COLUMN_DEADLINE},
+                            id, exam.getSubject().getId(), exam.getDescription(), EpochDays.fromCalendar(exam.getDeadline()));
+                    break;
+                case TABLE_GRADE:
+                    Grade grade = grades.get(id);
+                    appendRow(returnString, new String[]{GRADE_COLUMN_ID, GRADE_COLUMN_SUBJECT_ID, GRADE_COLUMN_NAME, GRADE_COLUMN_GRADE},
+                            id, grade.getSubject().getId(), grade.getName(), grade.getGrade());
+                    break;
+                case TABLE_PERIOD:
+                    Period period = periods.get(id);
+                    appendRow(returnString, new String[]{PERIOD_COLUMN_ID, PERIOD_COLUMN_SCHOOL_HOUR_NO, PERIOD_COLUMN_STARTTIME, PERIOD_COLUMN_ENDTIME},
+                            id, period.getSchoolHourNo(), period.getStartTimeAsString(), period.getEndTimeAsString());
+                    break;
+                case TABLE_LESSON:
+                    Lesson lesson = lessons.get(id);
+                    int weekdayId = weekdayOfLesson.get(id);
+                    appendRow(returnString, new String[]{LESSON_COLUMN_ID, LESSON_COLUMN_SUBJECT_ID, LESSON_COLUMN_PERIOD_ID, LESSON_COLUMN_WEEKDAY_ID},
+                            id, lesson.getSubject().getId(), lesson.getPeriod().getId(), weekdayId > 0 ? weekdayId : null);
+                    break;
+                case TABLE_WEEKDAY:
+                    int scheduleId = scheduleOfWeekday.get(id);
+                    appendRow(returnString, new String[]{WEEKDAY_COLUMN_ID, WEEKDAY_COLUMN_SCHEDULE_ID, WEEKDAY_COLUMN_NAME},
+                            id, scheduleId > 0 ? scheduleId : null, weekdayNames.get(id));
+                    break;
+                default:
+                    appendRow(returnString, new String[]{SCHEDULE_COLUMN_ID, SCHEDULE_COLUMN_NAME}, id, scheduleNames.get(id));
+                    break;
+            }
+        }
+        returnString.append("############################### ");
+
+        return returnString.toString();
+    }
+
+    /**
+     * returns the size of the given Table
+     *
+     * @param tableName name of the table, choose from the TABLE_XXX constants in {@link DatabaseHelper}
+     * @return the size of the table. 0 if table has no elements, 1 if table has one element and so on
+     */
+    @Override
+    public int size(String tableName) {
+        return getTable(tableName).size();
+    }
+
+    /**
+     * returns all indices of the given Table
+     *
+     * @param tableName name of the table, choose from the TABLE_XXX constants in {@link DatabaseHelper}
+     * @return all indices of the given Table in ascending order
+     */
+    @Override
+    public int[] getIndices(String tableName) {
+        return getTable(tableName).ids();
+    }
+
+    /**
+     * deletes all rows of all tables
+     */
+    @Override
+    public void resetDatabase() {
+        teachers.clear();
+        subjects.clear();
+        homework.clear();
+        exams.clear();
+        grades.clear();
+        periods.clear();
+        lessons.clear();
+        weekdayNames.clear();
+        scheduleNames.clear();
+        weekdayOfLesson.clear();
+        scheduleOfWeekday.clear();
+        subjectsOfTeacher.clear();
+        homeworkOfSubject.clear();
+        examsOfSubject.clear();
+        gradesOfSubject.clear();
+        lessonsOfSubject.clear();
+        lessonsOfPeriod.clear();
+        lessonsOfWeekday.clear();
+        weekdaysOfSchedule.clear();
+    }
+
+    /**
+     * deletes all rows of all tables right away, which is a single step
+     *
+     * @param progress called right away with one of one steps, may be null
+     * @param callback called right away with true, may be null
+     */
+    @Override
+    public void resetDatabase(DatabaseExecutor.ProgressCallback progress, DatabaseExecutor.Callback<Boolean> callback) {
+        resetDatabase();
+        if (progress != null) {
+            progress.onProgress(1, 1);
+        }
+        if (callback != null) {
+            callback.onResult(true);
+        }
+    }
+
+    //region private methods
+
+    /**
+     * gets the id to insert a row at, like an INTEGER PRIMARY KEY without AUTOINCREMENT
+     *
+     * @param table the table of the row
+     * @param id    the id of the row, <= 0 for the next unoccupied id
+     * @return the given id, or the greatest id of the table + 1 if the given id is <= 0
+     * @throws IllegalAccessException if the given id is already occupied
+     */
+    private static int nextId(RecordStore<?> table, int id) throws IllegalAccessException {
+        if (id <= 0) {
+            return table.maxId() + 1;
+        }
+        if (table.contains(id)) {
+            throw new IllegalAccessException();
+        }
+        return id;
+    }
+
+    /**
+     * gets the stored {@link Subject} of a child, inserting the {@link Subject} first if it doesn't exist
+     *
+     * @param subject the {@link Subject} of the child
+     * @return the stored {@link Subject}
+     * @throws IllegalAccessException if the {@link Subject} couldn't be inserted
+     */
+    private Subject requireSubject(Subject subject) throws IllegalAccessException {
+        int subjectId = subject.getId();
+        if (!subjects.contains(subjectId)) {
+            subjectId = insertIntoDBOrThrow(subject);
+        }
+        return subjects.get(subjectId);
+    }
+
+    /**
+     * checks that a row was found
+     *
+     * @param found the row, may be null
+     * @param <T>   the class of the row
+     * @return the row
+     * @throws NoSuchFieldException if the row is null
+     */
+    private static <T> T requireFound(T found) throws NoSuchFieldException {
+        if (found == null) {
+            throw new NoSuchFieldException();
+        }
+        return found;
+    }
+
+    /**
+     * checks that a row was deleted
+     *
+     * @param deleted true if the row was deleted
+     * @throws NoSuchFieldException if the row wasn't deleted
+     */
+    private static void requireDeleted(boolean deleted) throws NoSuchFieldException {
+        if (!deleted) {
+            throw new NoSuchFieldException();
+        }
+    }
+
+    /**
+     * checks the unique abbreviation of the teacher table, NULL abbreviations never collide
+     *
+     * @param abbreviation the abbreviation, may be null
+     * @param teacherId    id of the {@link Teacher} the abbreviation is for, which may keep it
+     * @return true if another {@link Teacher} has the abbreviation
+     */
+    private boolean isAbbreviationTaken(String abbreviation, int teacherId) {
+        if (abbreviation == null) {
+            return false;
+        }
+        for (int id : teachers.ids()) {
+            if (id != teacherId && abbreviation.equals(teachers.get(id).getAbbreviation())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * checks the unique weekday and period index of the lesson table
+     *
+     * @param weekdayId id of the {@link Weekday}
+     * @param periodId  id of the {@link Period}
+     * @param lessonId  id of the {@link Lesson} which wants the slot, which may keep it
+     * @return true if another {@link Lesson} is at the {@link Weekday} and {@link Period}
+     */
+    private boolean isSlotTaken(int weekdayId, int periodId, int lessonId) {
+        for (int id : lessonsOfWeekday.get(weekdayId)) {
+            if (id != lessonId && lessons.get(id).getPeriod().getId() == periodId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * stores a {@link Subject} with its current {@link Teacher}, and stores its children again with it
+     *
+     * @param subjectId id of the {@link Subject}
+     * @param teacher   the stored {@link Teacher} of the {@link Subject}
+     * @param subject   the {@link Subject} with the values to store
+     */
+    private void storeSubject(int subjectId, Teacher teacher, Subject subject) {
+        Subject stored = new Subject(subjectId, teacher, subject.getName(), subject.getRoom(), subject.getColor());
+        subjects.put(subjectId, stored);
+
+        for (int id : homeworkOfSubject.get(subjectId)) {
+            storeHomework(id, stored, homework.get(id));
+        }
+        for (int id : examsOfSubject.get(subjectId)) {
+            storeExam(id, stored, exams.get(id));
+        }
+        for (int id : gradesOfSubject.get(subjectId)) {
+            storeGrade(id, stored, grades.get(id));
+        }
+        for (int id : lessonsOfSubject.get(subjectId)) {
+            lessons.put(id, new Lesson(id, stored, lessons.get(id).getPeriod()));
+        }
+    }
+
+    /**
+     * stores a {@link Homework} with its current {@link Subject}
+     *
+     * @param homeworkId id of the {@link Homework}
+     * @param subject    the stored {@link Subject} of the {@link Homework}
+     * @param homework   the {@link Homework} with the values to store
+     */
+    private void storeHomework(int homeworkId, Subject subject, Homework homework) {
+        this.homework.put(homeworkId, new Homework(homeworkId, subject, homework.getDescription(), homework.getDeadline(), homework.isDone()));
+    }
+
+    /**
+     * stores an {@link Exam} with its current {@link Subject}
+     *
+     * @param examId  id of the {@link Exam}
+     * @param subject the stored {@link Subject} of the {@link Exam}
+     * @param exam    the {@link Exam} with the values to store
+     */
+    private void storeExam(int examId, Subject subject, Exam exam) {
+        exams.put(examId, new Exam(examId, subject, exam.getDescription(), exam.getDeadline()));
+    }
+
+    /**
+     * stores a {@link Grade} with its current {@link Subject}
+     *
+     * @param gradeId id of the {@link Grade}
+     * @param subject the stored {@link Subject} of the {@link Grade}
+     * @param grade   the {@link Grade} with the values to store
+     */
+    private void storeGrade(int gradeId, Subject subject, Grade grade) {
+        grades.put(gradeId, new Grade(gradeId, subject, grade.getName(), grade.getGrade()));
+    }
+
+    /**
+     * moves a {@link Lesson} to a {@link Weekday}, like the update of the weekday column in the lesson table it does nothing
+     * if the {@link Lesson} or {@link Weekday} don't exist or the {@link Weekday} already has a {@link Lesson} in the {@link Period}
+     *
+     * @param lessonId  id of the {@link Lesson}
+     * @param weekdayId id of the {@link Weekday}
+     */
+    private void linkLessonToWeekday(int lessonId, int weekdayId) {
+        Lesson lesson = lessons.get(lessonId);
+        if (lesson == null || !weekdayNames.contains(weekdayId) || isSlotTaken(weekdayId, lesson.getPeriod().getId(), lessonId)) {
+            return;
+        }
+
+        unlinkLessonFromWeekday(lessonId);
+        weekdayOfLesson.put(lessonId, weekdayId);
+        lessonsOfWeekday.add(weekdayId, lessonId);
+    }
+
+    /**
+     * sets the weekday of a {@link Lesson} to NULL
+     *
+     * @param lessonId id of the {@link Lesson}
+     */
+    private void unlinkLessonFromWeekday(int lessonId) {
+        int weekdayId = weekdayOfLesson.remove(lessonId);
+        if (weekdayId > 0) {
+            lessonsOfWeekday.remove(weekdayId, lessonId);
+        }
+    }
+
+    /**
+     * moves a {@link Weekday} to a {@link Schedule}, like the update of the schedule column in the weekday table it does nothing
+     * if the {@link Weekday} or {@link Schedule} don't exist
+     *
+     * @param weekdayId  id of the {@link Weekday}
+     * @param scheduleId id of the {@link Schedule}
+     */
+    private void linkWeekdayToSchedule(int weekdayId, int scheduleId) {
+        if (!weekdayNames.contains(weekdayId) || !scheduleNames.contains(scheduleId)) {
+            return;
+        }
+
+        int oldScheduleId = scheduleOfWeekday.get(weekdayId);
+        if (oldScheduleId > 0) {
+            weekdaysOfSchedule.remove(oldScheduleId, weekdayId);
+        }
+        scheduleOfWeekday.put(weekdayId, scheduleId);
+        weekdaysOfSchedule.add(scheduleId, weekdayId);
+    }
+
+    /**
+     * gets the {@link Lesson}s of a {@link Weekday}
+     *
+     * @param weekdayId id of the {@link Weekday}
+     * @return the {@link Lesson}s ordered by id
+     */
+    private Lesson[] getLessonsOfWeekday(int weekdayId) {
+        return findLessons(lessonsOfWeekday.get(weekdayId));
+    }
+
+    /**
+     * checks all changes of a {@link ScheduleUnitOfWork} against the stored rows, including the unique weekday and period index
+     * for the {@link Weekday}s and {@link Period}s the {@link Lesson}s will have after the commit
+     *
+     * @param work the changes to check
+     * @throws NoSuchFieldException if a change couldn't be written
+     */
+    private void checkUnitOfWork(ScheduleUnitOfWork work) throws NoSuchFieldException {
+        IdentityHashMap<Weekday, Integer> newWeekdayKeys = new IdentityHashMap<>();
+        for (Weekday weekday : work.getDirtyWeekdays()) {
+            if (weekday.getId() > 0) {
+                requireFound(weekdayNames.get(weekday.getId()));
+            } else {
+                //new weekdays get negative keys, so their slots can't collide with the ones of stored weekdays
+                newWeekdayKeys.put(weekday, -(newWeekdayKeys.size() + 1));
+            }
+        }
+
+        HashSet<Integer> movedLessonIds = new HashSet<>();
+        for (Lesson lesson : work.getRemovedLessons()) {
+            movedLessonIds.add(lesson.getId());
+        }
+        for (Lesson lesson : work.getDirtyLessons()) {
+            if (lesson.getId() > 0) {
+                requireFound(lessons.get(lesson.getId()));
+                movedLessonIds.add(lesson.getId());
+            }
+            requireFound(subjects.get(lesson.getSubject().getId()));
+            requireFound(periods.get(lesson.getPeriod().getId()));
+        }
+
+        HashSet<Long> slots = new HashSet<>();
+        HashSet<Integer> checkedWeekdayIds = new HashSet<>();
+        for (int i = 0; i < work.getDirtyLessons().size(); i++) {
+            Weekday weekday = work.getDirtyLessonWeekdays().get(i);
+            int weekdayKey;
+            if (weekday.getId() > 0) {
+                weekdayKey = weekday.getId();
+                requireFound(weekdayNames.get(weekdayKey));
+                if (checkedWeekdayIds.add(weekdayKey)) {
+                    //the stored lessons which stay at the weekday keep their slots
+                    for (int lessonId : lessonsOfWeekday.get(weekdayKey)) {
+                        if (!movedLessonIds.contains(lessonId)) {
+                            slots.add(toSlot(weekdayKey, lessons.get(lessonId).getPeriod().getId()));
+                        }
+                    }
+                }
+            } else {
+                weekdayKey = requireFound(newWeekdayKeys.get(weekday));
+            }
+
+            if (!slots.add(toSlot(weekdayKey, work.getDirtyLessons().get(i).getPeriod().getId()))) {
+                throw new NoSuchFieldException();
+            }
+        }
+    }
+
+    /**
+     * combines a {@link Weekday} and a {@link Period} to the key of their slot
+     *
+     * @param weekdayKey id of the {@link Weekday}, or a negative key for a new one
+     * @param periodId   id of the {@link Period}
+     * @return the key of the slot
+     */
+    private static long toSlot(int weekdayKey, int periodId) {
+        return ((long) weekdayKey << 32) | (periodId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * deletes a {@link Teacher} together with its {@link Subject}s, like ON DELETE CASCADE
+     *
+     * @param id id of the {@link Teacher}
+     * @return true if the {@link Teacher} was deleted, false if there was none at the given id
+     */
+    private boolean removeTeacher(int id) {
+        if (!teachers.contains(id)) {
+            return false;
+        }
+
+        for (int subjectId : subjectsOfTeacher.get(id)) {
+            removeSubject(subjectId);
+        }
+        teachers.delete(id);
+        return true;
+    }
+
+    /**
+     * deletes a {@link Subject} together with its {@link Homework}s, {@link Exam}s, {@link Grade}s and {@link Lesson}s, like ON DELETE CASCADE
+     *
+     * @param id id of the {@link Subject}
+     * @return true if the {@link Subject} was deleted, false if there was none at the given id
+     */
+    private boolean removeSubject(int id) {
+        Subject subject = subjects.get(id);
+        if (subject == null) {
+            return false;
+        }
+
+        //the children are deleted before the row, so a store which reads their parent by id still finds it
+        subjectsOfTeacher.remove(subject.getTeacher().getId(), id);
+        for (int childId : homeworkOfSubject.get(id)) {
+            removeHomework(childId);
+        }
+        for (int childId : examsOfSubject.get(id)) {
+            removeExam(childId);
+        }
+        for (int childId : gradesOfSubject.get(id)) {
+            removeGrade(childId);
+        }
+        for (int childId : lessonsOfSubject.get(id)) {
+            removeLesson(childId);
+        }
+        subjects.delete(id);
+        return true;
+    }
+
+    /**
+     * deletes a {@link Homework}
+     *
+     * @param id id of the {@link Homework}
+     * @return true if the {@link Homework} was deleted, false if there was none at the given id
+     */
+    private boolean removeHomework(int id) {
+        Homework removed = homework.get(id);
+        if (removed == null) {
+            return false;
+        }
+        homework.delete(id);
+
+        homeworkOfSubject.remove(removed.getSubject().getId(), id);
+        return true;
+    }
+
+    /**
+     * deletes an {@link Exam}
+     *
+     * @param id id of the {@link Exam}
+     * @return true if the {@link Exam} was deleted, false if there was none at the given id
+     */
+    private boolean removeExam(int id) {
+        Exam removed = exams.get(id);
+        if (removed == null) {
+            return false;
+        }
+        exams.delete(id);
+
+        examsOfSubject.remove(removed.getSubject().getId(), id);
+        return true;
+    }
+
+    /**
+     * deletes a {@link Grade}
+     *
+     * @param id id of the {@link Grade}
+     * @return true if the {@link Grade} was deleted, false if there was none at the given id
+     */
+    private boolean removeGrade(int id) {
+        Grade removed = grades.get(id);
+        if (removed == null) {
+            return false;
+        }
+        grades.delete(id);
+
+        gradesOfSubject.remove(removed.getSubject().getId(), id);
+        return true;
+    }
+
+    /**
+     * deletes a {@link Period} together with its {@link Lesson}s, like ON DELETE CASCADE
+     *
+     * @param id id of the {@link Period}
+     * @return true if the {@link Period} was deleted, false if there was none at the given id
+     */
+    private boolean removePeriod(int id) {
+        if (!periods.contains(id)) {
+            return false;
+        }
+
+        for (int lessonId : lessonsOfPeriod.get(id)) {
+            removeLesson(lessonId);
+        }
+        periods.delete(id);
+        return true;
+    }
+
+    /**
+     * deletes a {@link Lesson}
+     *
+     * @param id id of the {@link Lesson}
+     * @return true if the {@link Lesson} was deleted, false if there was none at the given id
+     */
+    private boolean removeLesson(int id) {
+        Lesson removed = lessons.get(id);
+        if (removed == null) {
+            return false;
+        }
+        lessons.delete(id);
+
+        lessonsOfSubject.remove(removed.getSubject().getId(), id);
+        lessonsOfPeriod.remove(removed.getPeriod().getId(), id);
+        unlinkLessonFromWeekday(id);
+        return true;
+    }
+
+    /**
+     * deletes a {@link Weekday} together with its {@link Lesson}s, like ON DELETE CASCADE
+     *
+     * @param id id of the {@link Weekday}
+     * @return true if the {@link Weekday} was deleted, false if there was none at the given id
+     */
+    private boolean removeWeekday(int id) {
+        if (!weekdayNames.delete(id)) {
+            return false;
+        }
+
+        for (int lessonId : lessonsOfWeekday.get(id)) {
+            removeLesson(lessonId);
+        }
+        int scheduleId = scheduleOfWeekday.remove(id);
+        if (scheduleId > 0) {
+            weekdaysOfSchedule.remove(scheduleId, id);
+        }
+        return true;
+    }
+
+    /**
+     * deletes a {@link Schedule} together with its {@link Weekday}s, like ON DELETE CASCADE
+     *
+     * @param id id of the {@link Schedule}
+     * @return true if the {@link Schedule} was deleted, false if there was none at the given id
+     */
+    private boolean removeSchedule(int id) {
+        if (!scheduleNames.delete(id)) {
+            return false;
+        }
+
+        for (int weekdayId : weekdaysOfSchedule.get(id)) {
+            removeWeekday(weekdayId);
+        }
+        return true;
+    }
+
+    /**
+     * counts the {@link Homework}s of a {@link Subject} which aren't done
+     *
+     * @param subjectId id of the {@link Subject}
+     * @return the count
+     */
+    private int countOpenHomework(int subjectId) {
+        int count = 0;
+        for (int id : homeworkOfSubject.get(subjectId)) {
+            if (!homework.get(id).isDone()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * gets the table of the given name
+     *
+     * @param tableName name of the table, choose from the TABLE_XXX constants in {@link DatabaseHelper}
+     * @return the table
+     * @throws IllegalArgumentException if there is no table with the given name
+     */
+    private RecordStore<?> getTable(String tableName) {
+        switch (tableName) {
+            case TABLE_SUBJECT:
+                return subjects;
+            case TABLE_TEACHER:
+                return teachers;
+            case TABLE_HOMEWORK:
+                return homework;
+            case TABLE_EXAM:
+                return exams;
+            case TABLE_GRADE:
+                return grades;
+            case TABLE_PERIOD:
+                return periods;
+            case TABLE_LESSON:
+                return lessons;
+            case TABLE_WEEKDAY:
+                return weekdayNames;
+            case TABLE_SCHEDULE:
+                return scheduleNames;
+            default:
+                throw new IllegalArgumentException("no such table: " + tableName);
+        }
+    }
+
+    /**
+     * appends a row in the format of {@link DatabaseHelperImpl#toString(String)}
+     *
+     * @param builder the builder to append to
+     * @param columns names of the columns
+     * @param values  values of the columns, ordered like the columns
+     */
+    private static void appendRow(StringBuilder builder, String[] columns, Object... values) {
+        for (int i = 0; i < columns.length; i++) {
+            builder.append(columns[i]).append(": \t").append(values[i]).append(" || ");
+        }
+        builder.append("\n");
+    }
+
+    /**
+     * checks that the table supports the filters and the order of a {@link Criteria}
+     *
+     * @param criteria    the {@link Criteria}
+     * @param hasDone     true if the table has a done column
+     * @param hasDeadline true if the table has a deadline column
+     * @param hasName     true if the table has a name column
+     * @throws IllegalArgumentException if the {@link Criteria} uses a filter or order the table doesn't have
+     */
+    private static void requireSupport(Criteria criteria, boolean hasDone, boolean hasDeadline, boolean hasName) {
+        String missing = null;
+        if (criteria.getDone() != null && !hasDone) {
+            missing = "done";
+        } else if ((criteria.hasDeadlineRange() || criteria.getOrder() == Criteria.Order.DEADLINE) && !hasDeadline) {
+            missing = "deadline";
+        } else if (criteria.getOrder() == Criteria.Order.NAME && !hasName) {
+            missing = "name";
+        }
+
+        if (missing != null) {
+            throw new IllegalArgumentException("Criteria filters or orders by " + missing + ", which the table doesn't have");
+        }
+    }
+
+    /**
+     * gets the ids of the rows which may match a {@link Criteria}, only the children of the matching {@link Subject}s
+     * if the {@link Criteria} filters by {@link Subject} or {@link Teacher}
+     *
+     * @param criteria        the {@link Criteria}
+     * @param table           the table of the rows
+     * @param childrenOfSubject the secondary index of the table from {@link Subject} to its rows
+     * @return the ids of the candidates
+     */
+    private int[] getCandidateIds(Criteria criteria, RecordStore<?> table, ChildIndex childrenOfSubject) {
+        if (criteria.getSubjectId() >= 0) {
+            return childrenOfSubject.get(criteria.getSubjectId());
+        }
+        if (criteria.getTeacherId() < 0) {
+            return table.ids();
+        }
+
+        int[] subjectIds = subjectsOfTeacher.get(criteria.getTeacherId());
+        int count = 0;
+        for (int subjectId : subjectIds) {
+            count += childrenOfSubject.count(subjectId);
+        }
+
+        int[] ids = new int[count];
+        int i = 0;
+        for (int subjectId : subjectIds) {
+            for (int id : childrenOfSubject.get(subjectId)) {
+                ids[i++] = id;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * checks the {@link Teacher} filter of a {@link Criteria}
+     *
+     * @param criteria the {@link Criteria}
+     * @param subject  the {@link Subject} of the row
+     * @return true if no {@link Teacher} is filtered or the {@link Subject} is of the filtered one
+     */
+    private static boolean matchesTeacher(Criteria criteria, Subject subject) {
+        return criteria.getTeacherId() < 0 || subject.getTeacher().getId() == criteria.getTeacherId();
+    }
+
+    /**
+     * checks the deadline filter of a {@link Criteria}
+     *
+     * @param criteria the {@link Criteria}
+     * @param day      the deadline of the row as epoch day
+     * @return true if no deadline range is set or the deadline is in it
+     */
+    private static boolean matchesDeadline(Criteria criteria, long day) {
+        return !criteria.hasDeadlineRange() || (day >= criteria.getFromDay() && day <= criteria.getToDay());
+    }
+
+    /**
+     * sorts the matches by the order of a {@link Criteria} and cuts out the page after its key
+     *
+     * @param matches  the rows matching the filters of the {@link Criteria}
+     * @param criteria the {@link Criteria}
+     * @param <T>      the class of the rows
+     * @return the rows of the page
+     */
+    private static <T> ArrayList<T> orderAndPage(ArrayList<Match<T>> matches, Criteria criteria) {
+        Match<T> after = null;
+        if (criteria.hasAfter()) {
+            after = new Match<>(null, criteria.getAfterId(),
+                    criteria.getOrder() == Criteria.Order.DEADLINE ? Long.parseLong(criteria.getAfterKey()) : 0, criteria.getAfterKey());
+        }
+        return orderAndPage(matches, criteria.getOrder(), after, criteria.getLimit());
+    }
+
+    /**
+     * sorts the matches and cuts out the page after a key, ties are ordered by id
+     *
+     * @param matches the rows to page through
+     * @param order   the order of the rows
+     * @param after   the key of the last row of the previous page, null for the first page
+     * @param limit   maximum count of rows in the page, -1 for no limit
+     * @param <T>     the class of the rows
+     * @return the rows of the page
+     */
+    private static <T> ArrayList<T> orderAndPage(ArrayList<Match<T>> matches, final Criteria.Order order, Match<T> after, int limit) {
+        Comparator<Match<T>> comparator = new Comparator<Match<T>>() {
+            @Override
+            public int compare(Match<T> first, Match<T> second) {
+                int result = 0;
+                if (order == Criteria.Order.DEADLINE) {
+                    result = first.day < second.day ? -1 : (first.day == second.day ? 0 : 1);
+                } else if (order == Criteria.Order.NAME) {
+                    result = first.name.compareTo(second.name);
+                }
+                return result != 0 ? result : (first.id < second.id ? -1 : (first.id == second.id ? 0 : 1));
+            }
+        };
+        Collections.sort(matches, comparator);
+
+        int maxSize = limit < 0 ? Integer.MAX_VALUE : limit;
+        ArrayList<T> page = new ArrayList<>();
+        for (int i = 0; i < matches.size() && page.size() < maxSize; i++) {
+            if (after == null || comparator.compare(matches.get(i), after) > 0) {
+                page.add(matches.get(i).item);
+            }
+        }
+        return page;
+    }
+    //endregion
+
+    /**
+     * a row matching the filters of a {@link Criteria}, together with the values it is ordered by
+     *
+     * @param <T> the class of the row
+     */
+    private static final class Match<T> {
+        private final T item;
+        private final int id;
+        private final long day;
+        private final String name;
+
+        /**
+         * c'tor for a match
+         *
+         * @param item the row
+         * @param id   id of the row
+         * @param day  the deadline as epoch day, 0 if the row has none
+         * @param name the name, null if the row has none
+         */
+        private Match(T item, int id, long day, String name) {
+            this.item = item;
+            this.id = id;
+            this.day = day;
+            this.name = name;
+        }
+    }
+
+    /**
+     * secondary index of a foreign key, from the id of the parent row to the ids of its children
+     */
+    private static final class ChildIndex {
+        private final IntObjectMap<IntOffsetIndex> children = new IntObjectMap<>(16);
+
+        /**
+         * adds a child to a parent
+         *
+         * @param parentId id of the parent
+         * @param childId  id of the child
+         */
+        private void add(int parentId, int childId) {
+            IntOffsetIndex childIds = children.get(parentId);
+            if (childIds == null) {
+                childIds = new IntOffsetIndex(8);
+                children.put(parentId, childIds);
+            }
+            childIds.put(childId, 0);
+        }
+
+        /**
+         * removes a child from a parent
+         *
+         * @param parentId id of the parent
+         * @param childId  id of the child
+         */
+        private void remove(int parentId, int childId) {
+            IntOffsetIndex childIds = children.get(parentId);
+            if (childIds != null) {
+                childIds.remove(childId);
+                if (childIds.size() == 0) {
+                    children.remove(parentId);
+                }
+            }
+        }
+
+        /**
+         * moves a child from one parent to another
+         *
+         * @param oldParentId id of the parent before
+         * @param newParentId id of the parent after
+         * @param childId     id of the child
+         */
+        private void move(int oldParentId, int newParentId, int childId) {
+            if (oldParentId != newParentId) {
+                remove(oldParentId, childId);
+                add(newParentId, childId);
+            }
+        }
+
+        /**
+         * gets the children of a parent
+         *
+         * @param parentId id of the parent
+         * @return the ids of the children in ascending order
+         */
+        private int[] get(int parentId) {
+            IntOffsetIndex childIds = children.get(parentId);
+            return childIds == null ? new int[0] : childIds.keys();
+        }
+
+        /**
+         * counts the children of a parent
+         *
+         * @param parentId id of the parent
+         * @return the count
+         */
+        private int count(int parentId) {
+            IntOffsetIndex childIds = children.get(parentId);
+            return childIds == null ? 0 : childIds.size();
+        }
+
+        /**
+         * removes all children of all parents
+         */
+        private void clear() {
+            children.clear();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package adamson.studybuddy.logic;
+
+import java.util.Arrays;
+
+/**
+ * primitive hash map from an int key to an object, with open addressing and linear probing like {@link IntOffsetIndex},
+ * so looking up a row by its id doesn't box the id or allocate an entry
+ * <br> </br>
+ * Note: keys have to be > 0, 0 marks an empty slot
+ *
+ * @param <V> the class of the values
+ */
+class IntObjectMap<V> {
+    private int[] keys;
+    private Object[] values;
+    private int size = 0;
+    private int maxKey = 0;
+    private boolean maxKeyStale = false;
+
+    /**
+     * c'tor for an empty map
+     *
+     * @param expectedSize count of keys the map should hold without growing
+     */
+    IntObjectMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * gets the value of a key
+     *
+     * @param key the key
+     * @return the value, null if the key isn't in the map
+     */
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * indicates whether a key is in the map
+     *
+     * @param key the key
+     * @return true if the key is in the map
+     */
+    boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * puts the value of a key, replacing the one before
+     *
+     * @param key   the key, has to be > 0
+     * @param value the value, not null
+     */
+    void put(int key, V value) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            size++;
+            if (key > maxKey) {
+                maxKey = key;
+            }
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * removes a key, the following keys of its probe sequence are shifted back, so no tombstones are needed
+     *
+     * @param key the key
+     * @return the value of the removed key, null if the key isn't in the map
+     */
+    @SuppressWarnings("unchecked")
+    V remove(int key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != key) {
+            if (keys[slot] == 0) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        V value = (V) values[slot];
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            // move the key into the gap if the gap lies on its probe sequence from home to next
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+        size--;
+        if (key == maxKey) {
+            maxKeyStale = true;
+        }
+        return value;
+    }
+
+    /**
+     * gets the count of keys
+     *
+     * @return the count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * gets the greatest key, which is only searched again after it was removed
+     *
+     * @return the greatest key, 0 if the map is empty
+     */
+    int maxKey() {
+        if (maxKeyStale) {
+            maxKey = 0;
+            for (int key : keys) {
+                if (key > maxKey) {
+                    maxKey = key;
+                }
+            }
+            maxKeyStale = false;
+        }
+        return maxKey;
+    }
+
+    /**
+     * gets all keys
+     *
+     * @return the keys in ascending order
+     */
+    int[] keys() {
+        int[] result = new int[size];
+        int i = 0;
+        for (int key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * removes all keys
+     */
+    void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+        maxKey = 0;
+        maxKeyStale = false;
+    }
+
+    //region private methods
+
+    /**
+     * spreads the bits of a key, so consecutive ids don't fill consecutive slots
+     *
+     * @param key the key
+     * @return the hash
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * doubles the capacity and puts all keys again
+     */
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+    //endregion
+}
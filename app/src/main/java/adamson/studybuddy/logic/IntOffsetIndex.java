@@ -0,0 +1,167 @@
+package adamson.studybuddy.logic;
+
+import java.util.Arrays;
+
+/**
+ * primitive hash index from an int key to an int offset, with open addressing and linear probing,
+ * so looking up a record doesn't box its id or allocate an entry
+ * <br> </br>
+ * Note: keys have to be > 0, 0 marks an empty slot
+ */
+class IntOffsetIndex {
+    private static final int MISSING = -1;
+
+    private int[] keys;
+    private int[] offsets;
+    private int size = 0;
+
+    /**
+     * c'tor for an empty index
+     *
+     * @param expectedSize count of keys the index should hold without growing
+     */
+    IntOffsetIndex(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        offsets = new int[capacity];
+    }
+
+    /**
+     * gets the offset of a key
+     *
+     * @param key the key
+     * @return the offset, -1 if the key isn't in the index
+     */
+    int get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return offsets[slot];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * puts the offset of a key, replacing the one before
+     *
+     * @param key    the key, has to be > 0
+     * @param offset the offset, has to be >= 0
+     */
+    void put(int key, int offset) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            size++;
+        }
+        offsets[slot] = offset;
+    }
+
+    /**
+     * removes a key, the following keys of its probe sequence are shifted back, so no tombstones are needed
+     *
+     * @param key the key
+     * @return the offset of the removed key, -1 if the key isn't in the index
+     */
+    int remove(int key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != key) {
+            if (keys[slot] == 0) {
+                return MISSING;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int offset = offsets[slot];
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            // move the key into the gap if the gap lies on its probe sequence from home to next
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                offsets[gap] = offsets[next];
+                gap = next;
+            }
+        }
+        keys[gap] = 0;
+        size--;
+        return offset;
+    }
+
+    /**
+     * gets the count of keys
+     *
+     * @return the count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * gets all keys
+     *
+     * @return the keys in ascending order
+     */
+    int[] keys() {
+        int[] result = new int[size];
+        int i = 0;
+        for (int key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * removes all keys
+     */
+    void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+    }
+
+    //region private methods
+
+    /**
+     * spreads the bits of a key, so consecutive ids don't fill consecutive slots
+     *
+     * @param key the key
+     * @return the hash
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * doubles the capacity and puts all keys again
+     */
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldOffsets = offsets;
+        keys = new int[oldKeys.length * 2];
+        offsets = new int[oldOffsets.length * 2];
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i], oldOffsets[i]);
+            }
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,197 @@
+package adamson.studybuddy.logic;
+
+import java.util.Arrays;
+
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Schedule;
+import adamson.studybuddy.logic.objects.Weekday;
+
+/**
+ * dense in-memory grid of the {@link Lesson}s of a {@link Schedule}, indexed by {@link Weekday} and school hour,
+ * together with the {@link Period}s indexed by school hour. looking up a cell or checking it for a conflict is an array read
+ * <br> </br>
+ * Note: the database allows only one {@link Lesson} per {@link Weekday} and {@link Period}, so every cell holds at most one.
+ * apply every written change with {@link LessonGrid#apply(ScheduleUnitOfWork)}, {@link LessonGrid#putLesson(String, Lesson)}
+ * or {@link LessonGrid#removeLesson(String, int)} to keep it in sync with the database
+ */
+public class LessonGrid {
+    /**
+     * the names of the {@link Weekday}s in the order of the grid rows
+     */
+    public static final String[] WEEKDAYS = {
+            Weekday.MONDAY, Weekday.TUESDAY, Weekday.WEDNESDAY, Weekday.THURSDAY, Weekday.FRIDAY, Weekday.SATURDAY
+    };
+
+    private Lesson[][] lessons = new Lesson[WEEKDAYS.length][1];
+    private Period[] periods = new Period[1];
+
+    /**
+     * c'tor for the grid of a {@link Schedule}
+     *
+     * @param schedule the {@link Schedule} as it is in the database
+     * @param periods  all {@link Period}s in the database
+     */
+    public LessonGrid(Schedule schedule, Period[] periods) {
+        for (Period period : periods) {
+            putPeriod(period);
+        }
+        for (Weekday day : schedule.getDays()) {
+            if (day == null) {
+                continue;
+            }
+            for (Lesson lesson : day.getLessons()) {
+                putLesson(day.getName(), lesson);
+            }
+        }
+    }
+
+    /**
+     * gets the {@link Lesson} at a {@link Weekday} and school hour
+     *
+     * @param weekdayName  name of the {@link Weekday}, one of {@link LessonGrid#WEEKDAYS}
+     * @param schoolHourNo the school hour of the {@link Period}
+     * @return the {@link Lesson}, null if the cell is empty
+     */
+    public Lesson getLesson(String weekdayName, int schoolHourNo) {
+        int day = indexOf(weekdayName);
+        if (day < 0 || schoolHourNo < 0 || schoolHourNo >= lessons[day].length) {
+            return null;
+        }
+        return lessons[day][schoolHourNo];
+    }
+
+    /**
+     * gets the {@link Period} of a school hour
+     *
+     * @param schoolHourNo the school hour
+     * @return the {@link Period}, null if it isn't initialised
+     */
+    public Period getPeriod(int schoolHourNo) {
+        if (schoolHourNo < 0 || schoolHourNo >= periods.length) {
+            return null;
+        }
+        return periods[schoolHourNo];
+    }
+
+    /**
+     * indicates whether there is a {@link Lesson} at a {@link Weekday} and school hour
+     *
+     * @param weekdayName  name of the {@link Weekday}, one of {@link LessonGrid#WEEKDAYS}
+     * @param schoolHourNo the school hour of the {@link Period}
+     * @return true if the cell is occupied
+     */
+    public boolean isOccupied(String weekdayName, int schoolHourNo) {
+        return getLesson(weekdayName, schoolHourNo) != null;
+    }
+
+    /**
+     * puts a written {@link Lesson} into its cell, replacing the one before
+     *
+     * @param weekdayName name of the {@link Weekday} the {@link Lesson} is on, one of {@link LessonGrid#WEEKDAYS}
+     * @param lesson      the {@link Lesson}
+     * @throws IllegalArgumentException if the weekday name isn't one of {@link LessonGrid#WEEKDAYS}
+     */
+    public void putLesson(String weekdayName, Lesson lesson) {
+        int day = indexOf(weekdayName);
+        if (day < 0) {
+            throw new IllegalArgumentException("no weekday " + weekdayName + " in the grid");
+        }
+
+        int schoolHourNo = lesson.getPeriod().getSchoolHourNo();
+        ensureSchoolHours(schoolHourNo + 1);
+        lessons[day][schoolHourNo] = lesson;
+    }
+
+    /**
+     * clears the cell of a deleted {@link Lesson}
+     *
+     * @param weekdayName  name of the {@link Weekday}, one of {@link LessonGrid#WEEKDAYS}
+     * @param schoolHourNo the school hour of the {@link Period}
+     */
+    public void removeLesson(String weekdayName, int schoolHourNo) {
+        int day = indexOf(weekdayName);
+        if (day >= 0 && schoolHourNo >= 0 && schoolHourNo < lessons[day].length) {
+            lessons[day][schoolHourNo] = null;
+        }
+    }
+
+    /**
+     * applies the changes of a committed {@link ScheduleUnitOfWork}, a moved {@link Lesson} leaves its cell before it is put into the new one
+     *
+     * @param work the committed unit of work
+     * @throws IllegalStateException if the unit of work wasn't committed
+     */
+    public void apply(ScheduleUnitOfWork work) {
+        Lesson[] committedLessons = work.getCommittedLessons();
+
+        for (Lesson lesson : work.getRemovedLessons()) {
+            clearLesson(lesson.getId());
+        }
+        for (Lesson lesson : committedLessons) {
+            clearLesson(lesson.getId());
+        }
+        for (int i = 0; i < committedLessons.length; i++) {
+            putLesson(work.getDirtyLessonWeekdays().get(i).getName(), committedLessons[i]);
+        }
+    }
+
+    /**
+     * puts a written {@link Period} at its school hour, replacing the one before
+     *
+     * @param period the {@link Period}
+     */
+    public void putPeriod(Period period) {
+        ensureSchoolHours(period.getSchoolHourNo() + 1);
+        periods[period.getSchoolHourNo()] = period;
+    }
+
+    /**
+     * gets the row of a {@link Weekday} in the grid
+     *
+     * @param weekdayName name of the {@link Weekday}
+     * @return the row, -1 if the name isn't one of {@link LessonGrid#WEEKDAYS}
+     */
+    public static int indexOf(String weekdayName) {
+        for (int i = 0; i < WEEKDAYS.length; i++) {
+            if (WEEKDAYS[i].equals(weekdayName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //region private methods
+
+    /**
+     * clears the cell holding the {@link Lesson} with the given id
+     *
+     * @param lessonId id of the {@link Lesson}
+     */
+    private void clearLesson(int lessonId) {
+        for (Lesson[] day : lessons) {
+            for (int schoolHourNo = 0; schoolHourNo < day.length; schoolHourNo++) {
+                if (day[schoolHourNo] != null && day[schoolHourNo].getId() == lessonId) {
+                    day[schoolHourNo] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * grows the grid, so it has a column for every school hour below the given count
+     *
+     * @param count the needed count of school hour columns
+     */
+    private void ensureSchoolHours(int count) {
+        if (count <= periods.length) {
+            return;
+        }
+
+        periods = Arrays.copyOf(periods, count);
+        for (int i = 0; i < lessons.length; i++) {
+            lessons[i] = Arrays.copyOf(lessons[i], count);
+        }
+    }
+    //endregion
+}
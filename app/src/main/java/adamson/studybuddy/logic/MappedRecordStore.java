@@ -0,0 +1,311 @@
+package adamson.studybuddy.logic;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * pure Java backend of {@link RecordStore}, which keeps the fixed-width records of one entity table in a memory-mapped file.
+ * the file is a header followed by slots of the same size, each holding a used flag, the id and the record of its {@link RecordCodec}.
+ * an {@link IntOffsetIndex} from id to slot offset is rebuilt from the file when it is opened, deleted slots are reused
+ * <br> </br>
+ * Note: the store is not thread-safe and a file must only be opened by one store at a time.
+ * a record is decoded on every read, so unlike the {@link HeapRecordStore} two reads of the same id return two objects
+ *
+ * @param <T> the stored class
+ */
+public class MappedRecordStore<T> implements RecordStore<T> {
+    private static final int MAGIC = 0x53425253;
+    private static final int HEADER_SIZE = 16;
+    private static final int INITIAL_SLOTS = 64;
+    private static final byte FREE = 0;
+    private static final byte USED = 1;
+
+    private final RecordCodec<T> codec;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final int slotSize;
+    private final IntOffsetIndex index;
+    private int[] freeOffsets = new int[16];
+    private int freeCount = 0;
+    private int slotCount;
+    private int maxId = 0;
+    private boolean maxIdStale = true;
+    private MappedByteBuffer buffer;
+
+    /**
+     * creates a factory for MappedRecordStores, which keeps the file of every table in the given directory
+     *
+     * @param directory the directory of the files, has to exist
+     * @return the factory
+     */
+    public static Factory factory(final File directory) {
+        return new Factory() {
+            @Override
+            public <T> RecordStore<T> open(String tableName, RecordCodec<T> codec) {
+                File path = new File(directory, tableName + ".records");
+                try {
+                    return new MappedRecordStore<T>(path, codec);
+                } catch (IOException e) {
+                    throw new IllegalStateException("can't open " + path, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * c'tor for a store in the given file, which is created if it doesn't exist
+     *
+     * @param path  the file of the store
+     * @param codec the codec of the stored class
+     * @throws IOException if the file can't be opened or was written with another codec
+     */
+    public MappedRecordStore(File path, RecordCodec<T> codec) throws IOException {
+        this.codec = codec;
+        this.slotSize = 1 + 4 + codec.getRecordSize();
+        this.file = new RandomAccessFile(path, "rw");
+        this.channel = file.getChannel();
+
+        boolean isNew = channel.size() < HEADER_SIZE;
+        map(Math.max(channel.size(), HEADER_SIZE + (long) INITIAL_SLOTS * slotSize));
+
+        if (isNew) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, slotSize);
+            buffer.putInt(8, 0);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != slotSize) {
+            channel.close();
+            file.close();
+            throw new IOException(path + " is no record store of this codec");
+        }
+
+        slotCount = buffer.getInt(8);
+        index = new IntOffsetIndex(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            int offset = HEADER_SIZE + slot * slotSize;
+            if (buffer.get(offset) == USED) {
+                index.put(buffer.getInt(offset + 1), offset);
+            } else {
+                pushFree(offset);
+            }
+        }
+    }
+
+    /**
+     * gets the record at the given id with a lookup in the index and a read of its slot
+     *
+     * @param id id of the record
+     * @return the record, null if there is none at the given id
+     */
+    @Override
+    public T get(int id) {
+        int offset = index.get(id);
+        if (offset < 0) {
+            return null;
+        }
+        return codec.read(recordAt(offset), id);
+    }
+
+    /**
+     * indicates whether there is a record at the given id with a lookup in the index, the slot isn't read
+     *
+     * @param id id of the record
+     * @return true if there is a record at the given id
+     */
+    @Override
+    public boolean contains(int id) {
+        return index.get(id) >= 0;
+    }
+
+    /**
+     * stores the record at the given id in its slot, or in a free or new one if the id isn't stored yet
+     *
+     * @param id     id of the record, has to be > 0
+     * @param record the record, not null
+     * @throws IllegalStateException    if the file can't be grown
+     * @throws IllegalArgumentException if the id is <= 0 or the record doesn't fit into a slot
+     */
+    @Override
+    public void put(int id, T record) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("id has to be > 0");
+        }
+
+        int offset = index.get(id);
+        boolean isNew = offset < 0;
+        if (isNew) {
+            offset = freeCount > 0 ? freeOffsets[--freeCount] : appendSlot();
+        }
+
+        try {
+            codec.write(recordAt(offset), record);
+        } catch (RuntimeException e) {
+            if (isNew) {
+                pushFree(offset);
+            }
+            throw e;
+        }
+        buffer.putInt(offset + 1, id);
+        buffer.put(offset, USED);
+        if (isNew) {
+            index.put(id, offset);
+            if (id > maxId) {
+                maxId = id;
+            }
+        }
+    }
+
+    /**
+     * marks the slot of the record as free, so the next new record reuses it
+     *
+     * @param id id of the record
+     * @return true if a record was deleted, false if there was none at the given id
+     */
+    @Override
+    public boolean delete(int id) {
+        int offset = index.remove(id);
+        if (offset < 0) {
+            return false;
+        }
+
+        buffer.put(offset, FREE);
+        pushFree(offset);
+        if (id == maxId) {
+            maxIdStale = true;
+        }
+        return true;
+    }
+
+    /**
+     * gets the count of stored records
+     *
+     * @return the count
+     */
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * gets the greatest id of the stored records, which is only searched again after it was deleted
+     *
+     * @return the greatest id, 0 if the store is empty
+     */
+    @Override
+    public int maxId() {
+        if (maxIdStale) {
+            maxId = 0;
+            for (int id : index.keys()) {
+                if (id > maxId) {
+                    maxId = id;
+                }
+            }
+            maxIdStale = false;
+        }
+        return maxId;
+    }
+
+    /**
+     * gets the ids of all stored records
+     *
+     * @return the ids in ascending order
+     */
+    @Override
+    public int[] ids() {
+        return index.keys();
+    }
+
+    /**
+     * deletes all records by truncating the slots to none, the file keeps its size and the slots are written again from its start
+     */
+    @Override
+    public void clear() {
+        slotCount = 0;
+        buffer.putInt(8, 0);
+        index.clear();
+        freeCount = 0;
+        maxId = 0;
+        maxIdStale = false;
+    }
+
+    /**
+     * forces the mapped file to the disk and closes it
+     *
+     * @throws IOException if the file can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+        file.close();
+    }
+
+    //region private methods
+
+    /**
+     * maps the file with the given size, the file is grown if it is smaller
+     *
+     * @param size size of the mapping in bytes
+     * @throws IOException if the file can't be mapped
+     */
+    private void map(long size) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * gets a view of the record part of a slot, positioned at its start and limited to its end
+     *
+     * @param offset offset of the slot
+     * @return the view
+     */
+    private ByteBuffer recordAt(int offset) {
+        ByteBuffer record = buffer.duplicate();
+        record.position(offset + 5);
+        record.limit(offset + slotSize);
+        return record.slice();
+    }
+
+    /**
+     * adds a slot at the end of the file, the mapping is doubled if it is full
+     *
+     * @return offset of the new slot
+     * @throws IllegalStateException if the file can't be grown
+     */
+    private int appendSlot() {
+        long end = HEADER_SIZE + (long) (slotCount + 1) * slotSize;
+        if (end > Integer.MAX_VALUE) {
+            throw new IllegalStateException("record store is full");
+        }
+        if (end > buffer.capacity()) {
+            buffer.force();
+            try {
+                map(Math.min(Integer.MAX_VALUE, Math.max(end, 2L * buffer.capacity())));
+            } catch (IOException e) {
+                throw new IllegalStateException("record store can't be grown", e);
+            }
+        }
+
+        int offset = HEADER_SIZE + slotCount * slotSize;
+        slotCount++;
+        buffer.putInt(8, slotCount);
+        return offset;
+    }
+
+    /**
+     * remembers a free slot for reuse
+     *
+     * @param offset offset of the slot
+     */
+    private void pushFree(int offset) {
+        if (freeCount == freeOffsets.length) {
+            int[] grown = new int[freeOffsets.length * 2];
+            System.arraycopy(freeOffsets, 0, grown, 0, freeCount);
+            freeOffsets = grown;
+        }
+        freeOffsets[freeCount++] = offset;
+    }
+    //endregion
+}
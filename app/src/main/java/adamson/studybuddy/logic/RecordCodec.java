@@ -0,0 +1,325 @@
+package adamson.studybuddy.logic;
+
+import java.nio.ByteBuffer;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+/**
+ * encodes one of the logic.objects classes into a fixed-width record and back, for record stores like {@link MappedRecordStore}.
+ * Strings are stored with their length and padded to a maximum count of chars, so every record of a class has the same size.
+ * a parent is stored as its id and read from the store of its table, so an update of the parent is seen by its children
+ * <br> </br>
+ * Note: the id isn't part of the record, the store keeps it next to the record. a deadline is stored as its epoch day
+ *
+ * @param <T> the encoded class
+ */
+public abstract class RecordCodec<T> {
+    private static final int MAX_NAME_CHARS = 64;
+    private static final int MAX_SHORT_CHARS = 16;
+    private static final int MAX_TIME_CHARS = 8;
+    private static final int MAX_TEXT_CHARS = 512;
+    private static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    /**
+     * codec for the names of weekdays and schedules, which are stored without their children
+     */
+    public static final RecordCodec<String> NAME = new RecordCodec<String>() {
+        @Override
+        public int getRecordSize() {
+            return stringSize(MAX_NAME_CHARS);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, String name) {
+            writeString(buffer, name, MAX_NAME_CHARS);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int id) {
+            return readString(buffer, MAX_NAME_CHARS);
+        }
+    };
+
+    /**
+     * codec for {@link Teacher}s
+     */
+    public static final RecordCodec<Teacher> TEACHER = new RecordCodec<Teacher>() {
+        @Override
+        public int getRecordSize() {
+            return stringSize(MAX_NAME_CHARS) + stringSize(MAX_SHORT_CHARS) + 2;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Teacher teacher) {
+            writeString(buffer, teacher.getName(), MAX_NAME_CHARS);
+            writeString(buffer, teacher.getAbbreviation(), MAX_SHORT_CHARS);
+            buffer.putChar(teacher.getGender());
+        }
+
+        @Override
+        public Teacher read(ByteBuffer buffer, int id) {
+            return new Teacher(id, readString(buffer, MAX_NAME_CHARS), readString(buffer, MAX_SHORT_CHARS), buffer.getChar());
+        }
+    };
+
+    /**
+     * codec for {@link Period}s
+     */
+    public static final RecordCodec<Period> PERIOD = new RecordCodec<Period>() {
+        @Override
+        public int getRecordSize() {
+            return 4 + 2 * stringSize(MAX_TIME_CHARS);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Period period) {
+            buffer.putInt(period.getSchoolHourNo());
+            writeString(buffer, period.getStartTimeAsString(), MAX_TIME_CHARS);
+            writeString(buffer, period.getEndTimeAsString(), MAX_TIME_CHARS);
+        }
+
+        @Override
+        public Period read(ByteBuffer buffer, int id) {
+            return new Period(id, buffer.getInt(), readString(buffer, MAX_TIME_CHARS), readString(buffer, MAX_TIME_CHARS));
+        }
+    };
+
+    /**
+     * creates a codec for {@link Subject}s, which stores the id of the {@link Teacher} and reads it from the given store
+     *
+     * @param teachers the store of the {@link Teacher}s
+     * @return the codec
+     */
+    public static RecordCodec<Subject> subject(final RecordStore<Teacher> teachers) {
+        return new RecordCodec<Subject>() {
+            @Override
+            public int getRecordSize() {
+                return 4 + 2 * stringSize(MAX_NAME_CHARS) + stringSize(MAX_SHORT_CHARS);
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Subject subject) {
+                buffer.putInt(subject.getTeacher() == null ? 0 : subject.getTeacher().getId());
+                writeString(buffer, subject.getName(), MAX_NAME_CHARS);
+                writeString(buffer, subject.getRoom(), MAX_NAME_CHARS);
+                writeString(buffer, subject.getColor(), MAX_SHORT_CHARS);
+            }
+
+            @Override
+            public Subject read(ByteBuffer buffer, int id) {
+                Teacher teacher = teachers.get(buffer.getInt());
+                return new Subject(id, teacher, readString(buffer, MAX_NAME_CHARS), readString(buffer, MAX_NAME_CHARS),
+                        readString(buffer, MAX_SHORT_CHARS));
+            }
+        };
+    }
+
+    /**
+     * creates a codec for {@link Homework}s, which stores the id of the {@link Subject} and reads it from the given store
+     *
+     * @param subjects the store of the {@link Subject}s
+     * @return the codec
+     */
+    public static RecordCodec<Homework> homework(final RecordStore<Subject> subjects) {
+        return new RecordCodec<Homework>() {
+            @Override
+            public int getRecordSize() {
+                return 4 + stringSize(MAX_TEXT_CHARS) + 8 + 1;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Homework homework) {
+                buffer.putInt(homework.getSubject().getId());
+                writeString(buffer, homework.getDescription(), MAX_TEXT_CHARS);
+                buffer.putLong(homework.getDeadline() == null ? NO_DEADLINE : EpochDays.fromCalendar(homework.getDeadline()));
+                buffer.put((byte) homework.getDone());
+            }
+
+            @Override
+            public Homework read(ByteBuffer buffer, int id) {
+                Subject subject = subjects.get(buffer.getInt());
+                String description = readString(buffer, MAX_TEXT_CHARS);
+                long deadline = buffer.getLong();
+                return new Homework(id, subject, description, deadline == NO_DEADLINE ? null : EpochDays.toCalendar(deadline), buffer.get() != 0);
+            }
+        };
+    }
+
+    /**
+     * creates a codec for {@link Exam}s, which stores the id of the {@link Subject} and reads it from the given store
+     *
+     * @param subjects the store of the {@link Subject}s
+     * @return the codec
+     */
+    public static RecordCodec<Exam> exam(final RecordStore<Subject> subjects) {
+        return new RecordCodec<Exam>() {
+            @Override
+            public int getRecordSize() {
+                return 4 + stringSize(MAX_TEXT_CHARS) + 8;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Exam exam) {
+                buffer.putInt(exam.getSubject().getId());
+                writeString(buffer, exam.getDescription(), MAX_TEXT_CHARS);
+                buffer.putLong(exam.getDeadline() == null ? NO_DEADLINE : EpochDays.fromCalendar(exam.getDeadline()));
+            }
+
+            @Override
+            public Exam read(ByteBuffer buffer, int id) {
+                Subject subject = subjects.get(buffer.getInt());
+                String description = readString(buffer, MAX_TEXT_CHARS);
+                long deadline = buffer.getLong();
+                return new Exam(id, subject, description, deadline == NO_DEADLINE ? null : EpochDays.toCalendar(deadline));
+            }
+        };
+    }
+
+    /**
+     * creates a codec for {@link Grade}s, which stores the id of the {@link Subject} and reads it from the given store
+     *
+     * @param subjects the store of the {@link Subject}s
+     * @return the codec
+     */
+    public static RecordCodec<Grade> grade(final RecordStore<Subject> subjects) {
+        return new RecordCodec<Grade>() {
+            @Override
+            public int getRecordSize() {
+                return 4 + stringSize(MAX_NAME_CHARS) + stringSize(MAX_SHORT_CHARS);
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Grade grade) {
+                buffer.putInt(grade.getSubject().getId());
+                writeString(buffer, grade.getName(), MAX_NAME_CHARS);
+                writeString(buffer, grade.getGrade(), MAX_SHORT_CHARS);
+            }
+
+            @Override
+            public Grade read(ByteBuffer buffer, int id) {
+                Subject subject = subjects.get(buffer.getInt());
+                return new Grade(id, subject, readString(buffer, MAX_NAME_CHARS), readString(buffer, MAX_SHORT_CHARS));
+            }
+        };
+    }
+
+    /**
+     * creates a codec for {@link Lesson}s, which stores the ids of the {@link Subject} and the {@link Period} and reads them from the given stores
+     *
+     * @param subjects the store of the {@link Subject}s
+     * @param periods  the store of the {@link Period}s
+     * @return the codec
+     */
+    public static RecordCodec<Lesson> lesson(final RecordStore<Subject> subjects, final RecordStore<Period> periods) {
+        return new RecordCodec<Lesson>() {
+            @Override
+            public int getRecordSize() {
+                return 4 + 4;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Lesson lesson) {
+                buffer.putInt(lesson.getSubject().getId());
+                buffer.putInt(lesson.getPeriod().getId());
+            }
+
+            @Override
+            public Lesson read(ByteBuffer buffer, int id) {
+                Subject subject = subjects.get(buffer.getInt());
+                return new Lesson(id, subject, periods.get(buffer.getInt()));
+            }
+        };
+    }
+
+    /**
+     * gets the size every record of the class takes
+     *
+     * @return the size in bytes
+     */
+    public abstract int getRecordSize();
+
+    /**
+     * writes a record at the position of the buffer
+     *
+     * @param buffer the buffer, with at least {@link RecordCodec#getRecordSize()} bytes remaining
+     * @param record the record to write
+     * @throws IllegalArgumentException if a String of the record is longer than its maximum count of chars
+     */
+    public abstract void write(ByteBuffer buffer, T record);
+
+    /**
+     * reads a record at the position of the buffer
+     *
+     * @param buffer the buffer, with at least {@link RecordCodec#getRecordSize()} bytes remaining
+     * @param id     id of the record
+     * @return the record
+     */
+    public abstract T read(ByteBuffer buffer, int id);
+
+    //region protected methods
+
+    /**
+     * gets the size of a String field
+     *
+     * @param maxChars maximum count of chars of the String
+     * @return the size in bytes
+     */
+    protected static int stringSize(int maxChars) {
+        return 2 + 2 * maxChars;
+    }
+
+    /**
+     * writes a String field, its length followed by its chars padded to the maximum count, a null String has the length -1
+     *
+     * @param buffer   the buffer to write to
+     * @param value    the String, may be null
+     * @param maxChars maximum count of chars of the String
+     * @throws IllegalArgumentException if the String is longer than maxChars
+     */
+    protected static void writeString(ByteBuffer buffer, String value, int maxChars) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+            buffer.position(buffer.position() + 2 * maxChars);
+            return;
+        }
+        if (value.length() > maxChars) {
+            throw new IllegalArgumentException("\"" + value + "\" is longer than " + maxChars + " chars");
+        }
+
+        buffer.putShort((short) value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.putChar(value.charAt(i));
+        }
+        buffer.position(buffer.position() + 2 * (maxChars - value.length()));
+    }
+
+    /**
+     * reads a String field written by {@link RecordCodec#writeString(ByteBuffer, String, int)}
+     *
+     * @param buffer   the buffer to read from
+     * @param maxChars maximum count of chars of the String
+     * @return the String, may be null
+     */
+    protected static String readString(ByteBuffer buffer, int maxChars) {
+        int length = buffer.getShort();
+        int end = buffer.position() + 2 * maxChars;
+        if (length < 0) {
+            buffer.position(end);
+            return null;
+        }
+
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar();
+        }
+        buffer.position(end);
+        return new String(chars);
+    }
+    //endregion
+}
@@ -0,0 +1,98 @@
+package adamson.studybuddy.logic;
+
+import java.io.IOException;
+
+/**
+ * storage SPI for the rows of one entity table, keyed by their id.
+ * a backend only has to store and find whole records, the relations between the tables are resolved by the {@link RecordCodec}s
+ * and the secondary indexes of the {@link InMemoryDatabaseHelper}, which keeps every table in a RecordStore
+ * <br> </br>
+ * Note: unlike {@link DatabaseHelper} a RecordStore doesn't depend on Android, so a backend can be measured and tuned on a plain JVM.
+ * a backend which can't read or write its medium throws an {@link IllegalStateException}, only {@link RecordStore#close()} throws an IOException
+ *
+ * @param <T> the stored class, one of the logic.objects classes or String
+ */
+public interface RecordStore<T> {
+
+    /**
+     * gets the record at the given id
+     *
+     * @param id id of the record
+     * @return the record, null if there is none at the given id
+     */
+    T get(int id);
+
+    /**
+     * indicates whether there is a record at the given id, without reading it
+     *
+     * @param id id of the record
+     * @return true if there is a record at the given id
+     */
+    boolean contains(int id);
+
+    /**
+     * stores the record at the given id, replacing the one before
+     *
+     * @param id     id of the record, has to be > 0
+     * @param record the record, not null
+     */
+    void put(int id, T record);
+
+    /**
+     * deletes the record at the given id
+     *
+     * @param id id of the record
+     * @return true if a record was deleted, false if there was none at the given id
+     */
+    boolean delete(int id);
+
+    /**
+     * gets the count of stored records
+     *
+     * @return the count
+     */
+    int size();
+
+    /**
+     * gets the greatest id of the stored records
+     *
+     * @return the greatest id, 0 if the store is empty
+     */
+    int maxId();
+
+    /**
+     * gets the ids of all stored records
+     *
+     * @return the ids in ascending order
+     */
+    int[] ids();
+
+    /**
+     * deletes all records
+     */
+    void clear();
+
+    /**
+     * writes all changes through and releases the backend
+     *
+     * @throws IOException if the backend can't be written
+     */
+    void close() throws IOException;
+
+    /**
+     * opens the RecordStores of a backend, one for every table
+     */
+    interface Factory {
+
+        /**
+         * opens the store of a table
+         *
+         * @param tableName name of the table, choose from the TABLE_XXX constants in {@link DatabaseHelper}
+         * @param codec     the codec of the stored class, a backend which keeps the records as objects may ignore it
+         * @param <T>       the stored class
+         * @return the store
+         * @throws IllegalStateException if the store can't be opened
+         */
+        <T> RecordStore<T> open(String tableName, RecordCodec<T> codec);
+    }
+}
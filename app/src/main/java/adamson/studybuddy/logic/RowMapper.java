@@ -0,0 +1,355 @@
+package adamson.studybuddy.logic;
+
+import android.database.Cursor;
+import android.util.SparseArray;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static adamson.studybuddy.logic.DatabaseHelper.*;
+
+/**
+ * maps the rows of a cursor to one of the logic.objects classes. a mapper is created for one cursor and resolves
+ * all column indices once in its c'tor, so mapping a row only reads the columns.
+ * {@link Teacher}s, {@link Subject}s and {@link Period}s are cached by id, so every row of the cursor with the same one
+ * shares a single instance
+ * <br> </br>
+ * Note: the mappers look the columns up by name, so they work on every query which selects the columns of their table,
+ * the column names are unique over all tables
+ *
+ * @param <T> the mapped class
+ */
+abstract class RowMapper<T> {
+
+    /**
+     * creates the mapper of a class for a cursor
+     *
+     * @param <T> the mapped class
+     */
+    interface Factory<T> {
+        /**
+         * creates a mapper which resolved the column indices of the given cursor
+         *
+         * @param cursor the cursor to map
+         * @return the mapper
+         */
+        RowMapper<T> forCursor(Cursor cursor);
+    }
+
+    static final Factory<Teacher> TEACHER = new Factory<Teacher>() {
+        @Override
+        public RowMapper<Teacher> forCursor(Cursor cursor) {
+            return new TeacherMapper(cursor);
+        }
+    };
+    static final Factory<Subject> SUBJECT = new Factory<Subject>() {
+        @Override
+        public RowMapper<Subject> forCursor(Cursor cursor) {
+            return new SubjectMapper(cursor);
+        }
+    };
+    static final Factory<Homework> HOMEWORK = new Factory<Homework>() {
+        @Override
+        public RowMapper<Homework> forCursor(Cursor cursor) {
+            return new HomeworkMapper(cursor);
+        }
+    };
+    static final Factory<Exam> EXAM = new Factory<Exam>() {
+        @Override
+        public RowMapper<Exam> forCursor(Cursor cursor) {
+            return new ExamMapper(cursor);
+        }
+    };
+    static final Factory<Grade> GRADE = new Factory<Grade>() {
+        @Override
+        public RowMapper<Grade> forCursor(Cursor cursor) {
+            return new GradeMapper(cursor);
+        }
+    };
+    static final Factory<Period> PERIOD = new Factory<Period>() {
+        @Override
+        public RowMapper<Period> forCursor(Cursor cursor) {
+            return new PeriodMapper(cursor);
+        }
+    };
+    static final Factory<Lesson> LESSON = new Factory<Lesson>() {
+        @Override
+        public RowMapper<Lesson> forCursor(Cursor cursor) {
+            return new LessonMapper(cursor);
+        }
+    };
+
+    /**
+     * maps the current row of the cursor
+     *
+     * @param cursor the cursor the mapper was created for, positioned at the row to map
+     * @return the mapped object
+     */
+    abstract T map(Cursor cursor);
+
+    /**
+     * maps the teacher columns
+     */
+    static final class TeacherMapper extends RowMapper<Teacher> {
+        private final SparseArray<Teacher> cache = new SparseArray<>();
+        private final int idIndex;
+        private final int nameIndex;
+        private final int abbreviationIndex;
+        private final int genderIndex;
+
+        /**
+         * c'tor for the mapper of a cursor
+         *
+         * @param cursor the cursor to map
+         */
+        TeacherMapper(Cursor cursor) {
+            idIndex = cursor.getColumnIndexOrThrow(TEACHER_COLUMN_ID);
+            nameIndex = cursor.getColumnIndexOrThrow(TEACHER_COLUMN_NAME);
+            abbreviationIndex = cursor.getColumnIndexOrThrow(TEACHER_COLUMN_ABBREVIATION);
+            genderIndex = cursor.getColumnIndexOrThrow(TEACHER_COLUMN_GENDER);
+        }
+
+        @Override
+        Teacher map(Cursor cursor) {
+            int id = cursor.getInt(idIndex);
+            Teacher teacher = cache.get(id);
+
+            if (teacher == null) {
+                teacher = new Teacher(
+                        id,
+                        cursor.getString(nameIndex),
+                        cursor.getString(abbreviationIndex),
+                        cursor.getString(genderIndex).charAt(0)
+                );
+                cache.put(id, teacher);
+            }
+            return teacher;
+        }
+    }
+
+    /**
+     * maps the subject columns together with the teacher columns
+     */
+    static final class SubjectMapper extends RowMapper<Subject> {
+        private final SparseArray<Subject> cache = new SparseArray<>();
+        private final TeacherMapper teacherMapper;
+        private final int idIndex;
+        private final int nameIndex;
+        private final int roomIndex;
+        private final int colorIndex;
+
+        /**
+         * c'tor for the mapper of a cursor
+         *
+         * @param cursor the cursor to map
+         */
+        SubjectMapper(Cursor cursor) {
+            teacherMapper = new TeacherMapper(cursor);
+            idIndex = cursor.getColumnIndexOrThrow(SUBJECT_COLUMN_ID);
+            nameIndex = cursor.getColumnIndexOrThrow(SUBJECT_COLUMN_NAME);
+            roomIndex = cursor.getColumnIndexOrThrow(SUBJECT_COLUMN_ROOM);
+            colorIndex = cursor.getColumnIndexOrThrow(SUBJECT_COLUMN_COLOR);
+        }
+
+        @Override
+        Subject map(Cursor cursor) {
+            int id = cursor.getInt(idIndex);
+            Subject subject = cache.get(id);
+
+            if (subject == null) {
+                subject = new Subject(
+                        id,
+                        teacherMapper.map(cursor),
+                        cursor.getString(nameIndex),
+                        cursor.getString(roomIndex),
+                        cursor.getString(colorIndex)
+                );
+                cache.put(id, subject);
+            }
+            return subject;
+        }
+    }
+
+    /**
+     * maps the homework columns together with the subject and teacher columns
+     */
+    static final class HomeworkMapper extends RowMapper<Homework> {
+        private final SubjectMapper subjectMapper;
+        private final int idIndex;
+        private final int descriptionIndex;
+        private final int deadlineIndex;
+        private final int doneIndex;
+
+        /**
+         * c'tor for the mapper of a cursor
+         *
+         * @param cursor the cursor to map
+         */
+        HomeworkMapper(Cursor cursor) {
+            subjectMapper = new SubjectMapper(cursor);
+            idIndex = cursor.getColumnIndexOrThrow(HOMEWORK_COLUMN_ID);
+            descriptionIndex = cursor.getColumnIndexOrThrow(HOMEWORK_COLUMN_DESCRIPTION);
+            deadlineIndex = cursor.getColumnIndexOrThrow(HOMEWORK_COLUMN_DEADLINE);
+            doneIndex = cursor.getColumnIndexOrThrow(HOMEWORK_COLUMN_DONE);
+        }
+
+        @Override
+        Homework map(Cursor cursor) {
+            return new Homework(
+                    cursor.getInt(idIndex),
+                    subjectMapper.map(cursor),
+                    cursor.getString(descriptionIndex),
+                    EpochDays.toCalendar(cursor.getLong(deadlineIndex)),
+                    cursor.getInt(doneIndex) != 0
+            );
+        }
+    }
+
+    /**
+     * maps the exam columns together with the subject and teacher columns
+     */
+    static final class ExamMapper extends RowMapper<Exam> {
+        private final SubjectMapper subjectMapper;
+        private final int idIndex;
+        private final int descriptionIndex;
+        private final int deadlineIndex;
+
+        /**
+         * c'tor for the mapper of a cursor
+         *
+         * @param cursor the cursor to map
+         */
+        ExamMapper(Cursor cursor) {
+            subjectMapper = new SubjectMapper(cursor);
+            idIndex = cursor.getColumnIndexOrThrow(EXAM_COLUMN_ID);
+            descriptionIndex = cursor.getColumnIndexOrThrow(EXAM_COLUMN_DESCRIPTION);
+            deadlineIndex = cursor.getColumnIndexOrThrow(EXAM_COLUMN_DEADLINE);
+        }
+
+        @Override
+        Exam map(Cursor cursor) {
+            return new Exam(
+                    cursor.getInt(idIndex),
+                    subjectMapper.map(cursor),
+                    cursor.getString(descriptionIndex),
+                    EpochDays.toCalendar(cursor.getLong(deadlineIndex))
+            );
+        }
+    }
+
+    /**
+     * maps the grade columns together with the subject and teacher columns
+     */
+    static final class GradeMapper extends RowMapper<Grade> {
+        private final SubjectMapper subjectMapper;
+        private final int idIndex;
+        private final int nameIndex;
+        private final int gradeIndex;
+
+        /**
+         * c'tor for the mapper of a cursor
+         *
+         * @param cursor the cursor to map
+         */
+        GradeMapper(Cursor cursor) {
+            subjectMapper = new SubjectMapper(cursor);
+            idIndex = cursor.getColumnIndexOrThrow(GRADE_COLUMN_ID);
+            nameIndex = cursor.getColumnIndexOrThrow(GRADE_COLUMN_NAME);
+            gradeIndex = cursor.getColumnIndexOrThrow(GRADE_COLUMN_GRADE);
+        }
+
+        @Override
+        Grade map(Cursor cursor) {
+            return new Grade(
+                    cursor.getInt(idIndex),
+                    subjectMapper.map(cursor),
+                    cursor.getString(nameIndex),
+                    cursor.getString(gradeIndex)
+            );
+        }
+    }
+
+    /**
+     * maps the period columns
+     */
+    static final class PeriodMapper extends RowMapper<Period> {
+        private final SparseArray<Period> cache = new SparseArray<>();
+        private final int idIndex;
+        private final int schoolHourIndex;
+        private final int startIndex;
+        private final int endIndex;
+
+        /**
+         * c'tor for the mapper of a cursor
+         *
+         * @param cursor the cursor to map
+         */
+        PeriodMapper(Cursor cursor) {
+            idIndex = cursor.getColumnIndexOrThrow(PERIOD_COLUMN_ID);
+            schoolHourIndex = cursor.getColumnIndexOrThrow(PERIOD_COLUMN_SCHOOL_HOUR_NO);
+            startIndex = cursor.getColumnIndexOrThrow(PERIOD_COLUMN_STARTTIME);
+            endIndex = cursor.getColumnIndexOrThrow(PERIOD_COLUMN_ENDTIME);
+        }
+
+        @Override
+        Period map(Cursor cursor) {
+            int id = cursor.getInt(idIndex);
+            Period period = cache.get(id);
+
+            if (period == null) {
+                period = new Period(
+                        id,
+                        cursor.getInt(schoolHourIndex),
+                        cursor.getString(startIndex),
+                        cursor.getString(endIndex)
+                );
+                cache.put(id, period);
+            }
+            return period;
+        }
+    }
+
+    /**
+     * maps the lesson columns together with the subject, teacher and period columns
+     */
+    static final class LessonMapper extends RowMapper<Lesson> {
+        private final SubjectMapper subjectMapper;
+        private final PeriodMapper periodMapper;
+        private final int idIndex;
+
+        /**
+         * c'tor for the mapper of a cursor
+         *
+         * @param cursor the cursor to map
+         */
+        LessonMapper(Cursor cursor) {
+            subjectMapper = new SubjectMapper(cursor);
+            periodMapper = new PeriodMapper(cursor);
+            idIndex = cursor.getColumnIndexOrThrow(LESSON_COLUMN_ID);
+        }
+
+        /**
+         * indicates whether the current row has a lesson, which is not the case for the empty side of a LEFT JOIN
+         *
+         * @param cursor the cursor the mapper was created for, positioned at the row to check
+         * @return true if the lesson columns are set
+         */
+        boolean hasLesson(Cursor cursor) {
+            return !cursor.isNull(idIndex);
+        }
+
+        @Override
+        Lesson map(Cursor cursor) {
+            return new Lesson(
+                    cursor.getInt(idIndex),
+                    subjectMapper.map(cursor),
+                    periodMapper.map(cursor)
+            );
+        }
+    }
+}
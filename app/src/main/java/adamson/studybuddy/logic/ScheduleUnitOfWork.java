@@ -0,0 +1,329 @@
+package adamson.studybuddy.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Schedule;
+import adamson.studybuddy.logic.objects.Weekday;
+
+/**
+ * collects the changes to a {@link Schedule} and its {@link Weekday}s and {@link Lesson}s,
+ * so {@link DatabaseHelper#commit(ScheduleUnitOfWork)} can write them in one transaction.
+ * every change is compared to the {@link Schedule} the unit of work was started with, unchanged objects are not written
+ * <br> </br>
+ * <b>Usage:</b>
+ * <br> </br>
+ * - start it with the {@link Schedule} as it is in the database
+ * <br> </br>
+ * - put the new or changed objects, use an ID <= 0 for new ones
+ * <br> </br>
+ * - commit it with {@link DatabaseHelper#commit(ScheduleUnitOfWork)}, a unit of work can only be committed once
+ * <br> </br>
+ * - after the commit, take the {@link Schedule} as it is now from {@link ScheduleUnitOfWork#getCommittedSchedule()}
+ * and apply the changes to a {@link LessonGrid} with {@link LessonGrid#apply(ScheduleUnitOfWork)}, instead of reloading both
+ */
+public class ScheduleUnitOfWork {
+    private final Schedule schedule;
+    private String newScheduleName = null;
+    private final ArrayList<Weekday> dirtyWeekdays = new ArrayList<>();
+    private final ArrayList<Lesson> dirtyLessons = new ArrayList<>();
+    private final ArrayList<Weekday> dirtyLessonWeekdays = new ArrayList<>();
+    private final ArrayList<Lesson> removedLessons = new ArrayList<>();
+    private Lesson[] committedLessons = null;
+    private Schedule committedSchedule = null;
+
+    /**
+     * c'tor for a unit of work on a {@link Schedule}
+     *
+     * @param schedule the {@link Schedule} as it is in the database
+     */
+    public ScheduleUnitOfWork(Schedule schedule) {
+        this.schedule = schedule;
+    }
+
+    /**
+     * renames the {@link Schedule}
+     *
+     * @param name the new name of the {@link Schedule}
+     */
+    public void renameSchedule(String name) {
+        newScheduleName = name.equals(schedule.getName()) ? null : name;
+    }
+
+    /**
+     * puts a new or changed {@link Weekday} into the {@link Schedule}, without its {@link Lesson}s
+     *
+     * @param weekday the {@link Weekday}, with an ID <= 0 if it is new
+     */
+    public void putWeekday(Weekday weekday) {
+        Weekday stored = getStoredWeekday(weekday.getId());
+        if (stored != null && stored.getName().equals(weekday.getName())) {
+            return;
+        }
+
+        removeById(dirtyWeekdays, weekday.getId());
+        dirtyWeekdays.add(weekday);
+    }
+
+    /**
+     * puts a new or changed {@link Lesson} into a {@link Weekday}
+     *
+     * @param weekday the {@link Weekday} the {@link Lesson} is on, either stored or put with {@link ScheduleUnitOfWork#putWeekday(Weekday)}
+     * @param lesson  the {@link Lesson}, with an ID <= 0 if it is new
+     */
+    public void putLesson(Weekday weekday, Lesson lesson) {
+        Weekday stored = getStoredWeekday(weekday.getId());
+        if (stored != null) {
+            for (Lesson storedLesson : stored.getLessons()) {
+                if (storedLesson.match(lesson)) {
+                    return;
+                }
+            }
+        }
+
+        if (lesson.getId() > 0) {
+            for (int i = 0; i < dirtyLessons.size(); i++) {
+                if (dirtyLessons.get(i).getId() == lesson.getId()) {
+                    dirtyLessons.remove(i);
+                    dirtyLessonWeekdays.remove(i);
+                    break;
+                }
+            }
+        }
+        dirtyLessons.add(lesson);
+        dirtyLessonWeekdays.add(weekday);
+    }
+
+    /**
+     * removes a stored {@link Lesson} from the {@link Schedule}
+     *
+     * @param lesson the {@link Lesson} to remove
+     */
+    public void removeLesson(Lesson lesson) {
+        if (lesson.getId() > 0) {
+            removedLessons.add(lesson);
+        }
+    }
+
+    /**
+     * indicates whether there is anything to write
+     *
+     * @return true if nothing was changed
+     */
+    public boolean isEmpty() {
+        return newScheduleName == null && dirtyWeekdays.isEmpty() && dirtyLessons.isEmpty() && removedLessons.isEmpty();
+    }
+
+    /**
+     * gets the {@link Schedule} with all changes of the unit of work, with the ids the database gave the new objects
+     *
+     * @return the {@link Schedule} as it is in the database after the commit
+     * @throws IllegalStateException if the unit of work wasn't committed
+     */
+    public Schedule getCommittedSchedule() {
+        if (committedSchedule == null) {
+            throw new IllegalStateException("the unit of work wasn't committed");
+        }
+        return committedSchedule;
+    }
+
+    //region package-private getters
+
+    /**
+     * gets the {@link Schedule} the unit of work was started with
+     *
+     * @return the stored {@link Schedule}
+     */
+    Schedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * gets the new name of the {@link Schedule}
+     *
+     * @return the new name, null if it wasn't changed
+     */
+    String getNewScheduleName() {
+        return newScheduleName;
+    }
+
+    /**
+     * gets the new and changed {@link Weekday}s in the order they were put
+     *
+     * @return the {@link Weekday}s to write
+     */
+    List<Weekday> getDirtyWeekdays() {
+        return dirtyWeekdays;
+    }
+
+    /**
+     * gets the new and changed {@link Lesson}s in the order they were put
+     *
+     * @return the {@link Lesson}s to write
+     */
+    List<Lesson> getDirtyLessons() {
+        return dirtyLessons;
+    }
+
+    /**
+     * gets the {@link Weekday}s of the dirty {@link Lesson}s, at the same index as their {@link Lesson}
+     *
+     * @return the {@link Weekday}s of {@link ScheduleUnitOfWork#getDirtyLessons()}
+     */
+    List<Weekday> getDirtyLessonWeekdays() {
+        return dirtyLessonWeekdays;
+    }
+
+    /**
+     * gets the removed {@link Lesson}s
+     *
+     * @return the {@link Lesson}s to delete
+     */
+    List<Lesson> getRemovedLessons() {
+        return removedLessons;
+    }
+
+    /**
+     * gets the written {@link Lesson}s with the ids they have in the database
+     *
+     * @return the {@link Lesson}s at the same index as in {@link ScheduleUnitOfWork#getDirtyLessons()}
+     * @throws IllegalStateException if the unit of work wasn't committed
+     */
+    Lesson[] getCommittedLessons() {
+        if (committedLessons == null) {
+            throw new IllegalStateException("the unit of work wasn't committed");
+        }
+        return committedLessons;
+    }
+
+    /**
+     * marks the unit of work as committed, called by the {@link DatabaseHelper} once all changes are written
+     *
+     * @param newWeekdayIds the ids the new {@link Weekday}s got in the database
+     * @param lessonIds     the ids of the written {@link Lesson}s, at the same index as in {@link ScheduleUnitOfWork#getDirtyLessons()}
+     */
+    void setCommitted(Map<Weekday, Integer> newWeekdayIds, int[] lessonIds) {
+        committedLessons = new Lesson[dirtyLessons.size()];
+        for (int i = 0; i < committedLessons.length; i++) {
+            Lesson lesson = dirtyLessons.get(i);
+            committedLessons[i] = new Lesson(lessonIds[i], lesson.getSubject(), lesson.getPeriod());
+        }
+
+        ArrayList<Weekday> days = new ArrayList<>();
+        ArrayList<ArrayList<Lesson>> lessonsOfDays = new ArrayList<>();
+        for (Weekday day : schedule.getDays()) {
+            if (day == null) {
+                continue;
+            }
+            ArrayList<Lesson> lessons = new ArrayList<>();
+            for (Lesson lesson : day.getLessons()) {
+                if (!containsId(removedLessons, lesson.getId()) && !containsId(dirtyLessons, lesson.getId())) {
+                    lessons.add(lesson);
+                }
+            }
+            days.add(day);
+            lessonsOfDays.add(lessons);
+        }
+
+        for (Weekday weekday : dirtyWeekdays) {
+            int index = weekday.getId() > 0 ? indexOfId(days, weekday.getId()) : -1;
+            Weekday committed = new Weekday(weekday.getId() > 0 ? weekday.getId() : newWeekdayIds.get(weekday), weekday.getName(), new Lesson[0]);
+            if (index >= 0) {
+                days.set(index, committed);
+            } else {
+                days.add(committed);
+                lessonsOfDays.add(new ArrayList<Lesson>());
+            }
+        }
+
+        for (int i = 0; i < committedLessons.length; i++) {
+            Weekday weekday = dirtyLessonWeekdays.get(i);
+            int weekdayId = weekday.getId() > 0 ? weekday.getId() : newWeekdayIds.get(weekday);
+            lessonsOfDays.get(indexOfId(days, weekdayId)).add(committedLessons[i]);
+        }
+
+        Weekday[] committedDays = new Weekday[days.size()];
+        for (int i = 0; i < committedDays.length; i++) {
+            Weekday day = days.get(i);
+            committedDays[i] = new Weekday(day.getId(), day.getName(), lessonsOfDays.get(i).toArray(new Lesson[0]));
+        }
+        committedSchedule = new Schedule(schedule.getId(), newScheduleName != null ? newScheduleName : schedule.getName(), committedDays);
+    }
+    //endregion
+
+    //region private methods
+
+    /**
+     * gets the {@link Weekday} at the given id from the {@link Schedule} the unit of work was started with
+     *
+     * @param id id of the {@link Weekday}
+     * @return the stored {@link Weekday}, null if it is new
+     */
+    private Weekday getStoredWeekday(int id) {
+        if (id <= 0) {
+            return null;
+        }
+        for (Weekday day : schedule.getDays()) {
+            if (day != null && day.getId() == id) {
+                return day;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * removes an already put {@link Weekday} with the given id, so only the last put one is written
+     *
+     * @param weekdays the put {@link Weekday}s
+     * @param id       id of the {@link Weekday}, nothing is removed for new ones
+     */
+    private void removeById(ArrayList<Weekday> weekdays, int id) {
+        if (id <= 0) {
+            return;
+        }
+        for (int i = 0; i < weekdays.size(); i++) {
+            if (weekdays.get(i).getId() == id) {
+                weekdays.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * indicates whether one of the {@link Lesson}s has the given id
+     *
+     * @param lessons the {@link Lesson}s
+     * @param id      id of the {@link Lesson}, new ones never match
+     * @return true if there is a {@link Lesson} with the id
+     */
+    private static boolean containsId(List<Lesson> lessons, int id) {
+        if (id <= 0) {
+            return false;
+        }
+        for (Lesson lesson : lessons) {
+            if (lesson.getId() == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * gets the index of the {@link Weekday} with the given id
+     *
+     * @param weekdays the {@link Weekday}s
+     * @param id       id of the {@link Weekday}
+     * @return the index, -1 if there is none with the id
+     */
+    private static int indexOfId(List<Weekday> weekdays, int id) {
+        for (int i = 0; i < weekdays.size(); i++) {
+            if (weekdays.get(i).getId() == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    //endregion
+}
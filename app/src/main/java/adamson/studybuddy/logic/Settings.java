@@ -38,6 +38,10 @@ public class Settings {
      * the key under which periodsAtDay are saved to {@link SharedPreferences}
      */
     private static final String PERIODS_AT_DAY = "periodsAtDay";
+    /**
+     * the key under which the database tuning profile is saved to {@link SharedPreferences}
+     */
+    private static final String DATABASE_TUNING = "databaseTuning";
 
 
     /**
@@ -55,6 +59,11 @@ public class Settings {
      */
     private int periodsAtDay;
 
+    /**
+     * name of the {@link DatabaseTuning} profile of the database
+     */
+    private String databaseTuning;
+
 
     /**
      * Factory method used to create a new {@link Settings} Object with current valid settings
@@ -67,7 +76,8 @@ public class Settings {
 
         return new Settings(context,
                 preferences.getString(DATE_FORMAT, DATE_FORMAT_DDMMYYYY),
-                preferences.getInt(PERIODS_AT_DAY, 6)
+                preferences.getInt(PERIODS_AT_DAY, 6),
+                preferences.getString(DATABASE_TUNING, DatabaseTuning.PROFILE_DEFAULT)
         );
     }
 
@@ -78,11 +88,13 @@ public class Settings {
      * @param activeDateFormat One of {@link Settings#DATE_FORMAT_DDMMYYYY} ,
      *                         {@link Settings#DATE_FORMAT_MMDDYYYY} , {@link Settings#DATE_FORMAT_YYYYMMDD}
      * @param periodsAtDay     number of periods at each day
+     * @param databaseTuning   name of the {@link DatabaseTuning} profile of the database
      */
-    private Settings(Context context, String activeDateFormat, int periodsAtDay) {
+    private Settings(Context context, String activeDateFormat, int periodsAtDay, String databaseTuning) {
         this.context = context;
         this.activeDateFormat = activeDateFormat;
         this.periodsAtDay = periodsAtDay;
+        this.databaseTuning = databaseTuning;
     }
 
     /**
@@ -93,6 +105,7 @@ public class Settings {
 
         preferences.putString(DATE_FORMAT, activeDateFormat);
         preferences.putInt(PERIODS_AT_DAY, periodsAtDay);
+        preferences.putString(DATABASE_TUNING, databaseTuning);
 
         preferences.apply();
     }
@@ -136,6 +149,26 @@ public class Settings {
     public void setPeriodsAtDay(int periodsAtDay) {
         this.periodsAtDay = periodsAtDay;
     }
+
+    /**
+     * gets the name of the {@link DatabaseTuning} profile of the database
+     *
+     * @return One of {@link DatabaseTuning#PROFILE_DEFAULT} , {@link DatabaseTuning#PROFILE_LOW_MEMORY} ,
+     * {@link DatabaseTuning#PROFILE_BALANCED} , {@link DatabaseTuning#PROFILE_FAST}
+     */
+    public String getDatabaseTuning() {
+        return databaseTuning;
+    }
+
+    /**
+     * sets the {@link DatabaseTuning} profile of the database, it is applied the next time the database is opened
+     *
+     * @param databaseTuning One of {@link DatabaseTuning#PROFILE_DEFAULT} , {@link DatabaseTuning#PROFILE_LOW_MEMORY} ,
+     *                       {@link DatabaseTuning#PROFILE_BALANCED} , {@link DatabaseTuning#PROFILE_FAST}
+     */
+    public void setDatabaseTuning(String databaseTuning) {
+        this.databaseTuning = databaseTuning;
+    }
     //endregion
 
 
@@ -0,0 +1,92 @@
+package adamson.studybuddy.logic;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import java.util.HashMap;
+
+/**
+ * registry which compiles every SQL statement used by {@link DatabaseHelperImpl} only once into a {@link SQLiteStatement}
+ * and hands out the same compiled statement for every further call, so SQLite doesn't have to parse and plan it again.
+ * <br> </br>
+ * Note: compiled statements belong to the database they were compiled on,
+ * so the registry drops all statements as soon as it is asked for a statement of another or a closed database
+ * <br> </br>
+ * Note: the bindings of a statement are not thread safe, so every thread gets its own compiled statements.
+ * a thread only ever closes its own statements, the statements of other threads are invalidated by a new generation
+ * and closed by their thread the next time it asks for a statement, so no statement is closed while another thread uses it
+ */
+class StatementRegistry {
+    private final ThreadLocal<ThreadStatements> threadStatements = new ThreadLocal<ThreadStatements>() {
+        @Override
+        protected ThreadStatements initialValue() {
+            return new ThreadStatements();
+        }
+    };
+    private SQLiteDatabase database;
+    private int generation;
+
+    /**
+     * compiled statements of one thread
+     */
+    private static class ThreadStatements {
+        private final HashMap<String, SQLiteStatement> statements = new HashMap<>();
+        private int generation;
+
+        /**
+         * closes and removes all compiled statements of the thread
+         */
+        private void close() {
+            for (SQLiteStatement statement : statements.values()) {
+                statement.close();
+            }
+            statements.clear();
+        }
+    }
+
+    /**
+     * gets the compiled statement of the calling thread for the given SQL, compiles it if it was not requested before.
+     * all bindings of a reused statement are cleared
+     *
+     * @param db  the database the statement is executed on
+     * @param sql the SQL of the statement, use '?' for arguments
+     * @return the compiled statement, ready to be bound
+     */
+    SQLiteStatement get(SQLiteDatabase db, String sql) {
+        int currentGeneration;
+        synchronized (this) {
+            if (db != database || !database.isOpen()) {
+                database = db;
+                generation++;
+            }
+            currentGeneration = generation;
+        }
+
+        ThreadStatements cache = threadStatements.get();
+        if (cache.generation != currentGeneration) {
+            cache.close();
+            cache.generation = currentGeneration;
+        }
+
+        SQLiteStatement statement = cache.statements.get(sql);
+        if (statement == null) {
+            statement = db.compileStatement(sql);
+            cache.statements.put(sql, statement);
+        } else {
+            statement.clearBindings();
+        }
+        return statement;
+    }
+
+    /**
+     * closes the compiled statements of the calling thread and invalidates the ones of all other threads,
+     * every other thread closes its own statements the next time it asks for one
+     */
+    void clear() {
+        synchronized (this) {
+            database = null;
+            generation++;
+        }
+        threadStatements.get().close();
+    }
+}
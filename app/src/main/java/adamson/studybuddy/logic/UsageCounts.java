@@ -0,0 +1,84 @@
+package adamson.studybuddy.logic;
+
+/**
+ * how many rows of the tables which reference a subject use a specific {@link adamson.studybuddy.logic.objects.Subject},
+ * or all subjects of a {@link adamson.studybuddy.logic.objects.Teacher}
+ */
+public class UsageCounts {
+    private final int homework;
+    private final int openHomework;
+    private final int exams;
+    private final int grades;
+    private final int lessons;
+
+    /**
+     * c'tor for the UsageCounts
+     *
+     * @param homework     count of all homework
+     * @param openHomework count of the homework to do
+     * @param exams        count of exams
+     * @param grades       count of grades
+     * @param lessons      count of lessons
+     */
+    UsageCounts(int homework, int openHomework, int exams, int grades, int lessons) {
+        this.homework = homework;
+        this.openHomework = openHomework;
+        this.exams = exams;
+        this.grades = grades;
+        this.lessons = lessons;
+    }
+
+    /**
+     * gets the count of all homework
+     *
+     * @return count of all homework, done or not
+     */
+    public int getHomework() {
+        return homework;
+    }
+
+    /**
+     * gets the count of the homework to do
+     *
+     * @return count of the homework which isn't done
+     */
+    public int getOpenHomework() {
+        return openHomework;
+    }
+
+    /**
+     * gets the count of exams
+     *
+     * @return count of exams
+     */
+    public int getExams() {
+        return exams;
+    }
+
+    /**
+     * gets the count of grades
+     *
+     * @return count of grades
+     */
+    public int getGrades() {
+        return grades;
+    }
+
+    /**
+     * gets the count of lessons
+     *
+     * @return count of lessons in all schedules
+     */
+    public int getLessons() {
+        return lessons;
+    }
+
+    /**
+     * gets the count of all using rows
+     *
+     * @return sum of homework, exams, grades and lessons
+     */
+    public int getTotal() {
+        return homework + exams + grades + lessons;
+    }
+}
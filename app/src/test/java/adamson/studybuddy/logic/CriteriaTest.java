@@ -0,0 +1,184 @@
+package adamson.studybuddy.logic;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests the {@link Criteria} and how the find methods of the {@link InMemoryDatabaseHelper} apply it
+ */
+public class CriteriaTest {
+    private InMemoryDatabaseHelper databaseHelper;
+    private Subject maths;
+    private Subject physics;
+
+    @Before
+    public void setUp() throws Exception {
+        databaseHelper = new InMemoryDatabaseHelper();
+        Teacher meyer = databaseHelper.getTeacherAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Teacher(0, "Meyer", "MEY", Teacher.FEMALE)));
+        Teacher braeuer = databaseHelper.getTeacherAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Teacher(0, "Braeuer", "BRAE", Teacher.MALE)));
+        maths = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Subject(0, meyer, "maths", "A210", "#ff0000")));
+        physics = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Subject(0, braeuer, "physics", "B106", "#00ff00")));
+    }
+
+    //Launch test area: builder
+    @Test
+    public void defaults() {
+        Criteria testResultValue = new Criteria();
+
+        assertEquals(-1, testResultValue.getSubjectId());
+        assertEquals(-1, testResultValue.getTeacherId());
+        assertNull(testResultValue.getDone());
+        assertFalse(testResultValue.hasDeadlineRange());
+        assertEquals(Criteria.Order.ID, testResultValue.getOrder());
+        assertEquals(-1, testResultValue.getLimit());
+        assertFalse(testResultValue.hasAfter());
+    }
+
+    @Test
+    public void deadlineRangeIsStoredAsEpochDays() {
+        Criteria testResultValue = new Criteria().whereDeadlineBetween(new GregorianCalendar(2018, 8, 1), new GregorianCalendar(2018, 8, 7));
+
+        assertTrue(testResultValue.hasDeadlineRange());
+        assertEquals(17775, testResultValue.getFromDay());
+        assertEquals(17781, testResultValue.getToDay());
+    }
+
+    @Test
+    public void afterTakesTheSortKeyOfTheObject() {
+        Criteria homeworkPage = new Criteria().after(new Homework(7, maths, "p. 12", new GregorianCalendar(2018, 8, 1), false));
+        Criteria gradePage = new Criteria().after(new Grade(3, maths, "test 1", "2"));
+
+        assertTrue(homeworkPage.hasAfter());
+        assertEquals("17775", homeworkPage.getAfterKey());
+        assertEquals(7, homeworkPage.getAfterId());
+        assertEquals("test 1", gradePage.getAfterKey());
+        assertEquals(3, gradePage.getAfterId());
+        assertFalse(new Criteria().after((Homework) null).hasAfter());
+    }
+    //End test area: builder
+
+    //Launch test area: find
+    @Test
+    public void allFiltersHaveToMatch() throws Exception {
+        insertHomework(maths, "p. 12", new GregorianCalendar(2018, 8, 3), false);
+        insertHomework(maths, "p. 13", new GregorianCalendar(2018, 8, 4), true);
+        insertHomework(maths, "p. 14", new GregorianCalendar(2018, 8, 20), false);
+        insertHomework(physics, "p. 30", new GregorianCalendar(2018, 8, 3), false);
+
+        Homework[] testResultValue = databaseHelper.findHomework(new Criteria().whereSubject(maths.getId()).whereDone(false)
+                .whereDeadlineBetween(new GregorianCalendar(2018, 8, 1), new GregorianCalendar(2018, 8, 7)));
+
+        assertEquals(1, testResultValue.length);
+        assertEquals("p. 12", testResultValue[0].getDescription());
+    }
+
+    @Test
+    public void deadlineRangeIncludesBothDays() throws Exception {
+        insertExam(maths, "first", new GregorianCalendar(2018, 8, 1));
+        insertExam(maths, "last", new GregorianCalendar(2018, 8, 7));
+        insertExam(maths, "after", new GregorianCalendar(2018, 8, 8));
+
+        Exam[] testResultValue = databaseHelper.findExams(new Criteria().orderBy(Criteria.Order.DEADLINE)
+                .whereDeadlineBetween(new GregorianCalendar(2018, 8, 1), new GregorianCalendar(2018, 8, 7)));
+
+        assertEquals(2, testResultValue.length);
+        assertEquals("first", testResultValue[0].getDescription());
+        assertEquals("last", testResultValue[1].getDescription());
+    }
+
+    @Test
+    public void whereTeacher() throws Exception {
+        databaseHelper.insertIntoDBOrThrow(new Grade(0, maths, "test 1", "2"));
+        databaseHelper.insertIntoDBOrThrow(new Grade(0, physics, "test 1", "3"));
+
+        Grade[] testResultValue = databaseHelper.findGrades(new Criteria().whereTeacher(physics.getTeacher().getId()));
+
+        assertEquals(1, testResultValue.length);
+        assertEquals("3", testResultValue[0].getGrade());
+    }
+
+    @Test
+    public void pagesFollowTheOrderWithTiesById() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            insertHomework(maths, "same day " + i, new GregorianCalendar(2018, 8, 3), false);
+        }
+        insertHomework(maths, "earlier", new GregorianCalendar(2018, 8, 1), false);
+
+        Homework[] first = databaseHelper.findHomework(new Criteria().orderBy(Criteria.Order.DEADLINE).limit(3));
+        Homework[] second = databaseHelper.findHomework(new Criteria().orderBy(Criteria.Order.DEADLINE).after(first[2]).limit(3));
+
+        assertEquals("earlier", first[0].getDescription());
+        assertEquals("same day 0", first[1].getDescription());
+        assertEquals("same day 1", first[2].getDescription());
+        assertEquals(3, second.length);
+        assertEquals("same day 2", second[0].getDescription());
+        assertEquals("same day 4", second[2].getDescription());
+    }
+
+    @Test
+    public void gradesByName() throws Exception {
+        databaseHelper.insertIntoDBOrThrow(new Grade(0, maths, "test 2", "1"));
+        databaseHelper.insertIntoDBOrThrow(new Grade(0, maths, "oral", "2"));
+        databaseHelper.insertIntoDBOrThrow(new Grade(0, maths, "test 1", "3"));
+
+        Grade[] testResultValue = databaseHelper.findGrades(new Criteria().orderBy(Criteria.Order.NAME));
+
+        assertEquals("oral", testResultValue[0].getName());
+        assertEquals("test 1", testResultValue[1].getName());
+        assertEquals("test 2", testResultValue[2].getName());
+    }
+    //End test area: find
+
+    //Launch test area: unsupported filters
+    @Test(expected = IllegalArgumentException.class)
+    public void whereDoneOnlyForHomework() {
+        databaseHelper.findExams(new Criteria().whereDone(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void deadlineNotForGrades() {
+        databaseHelper.findGrades(new Criteria().orderBy(Criteria.Order.DEADLINE));
+    }
+    //End test area: unsupported filters
+
+    //region private methods
+
+    /**
+     * inserts a {@link Homework}
+     *
+     * @param subject     the {@link Subject} of the {@link Homework}
+     * @param description the description
+     * @param deadline    the deadline
+     * @param done        whether the {@link Homework} is done
+     * @throws IllegalAccessException if the insert failed
+     */
+    private void insertHomework(Subject subject, String description, GregorianCalendar deadline, boolean done) throws IllegalAccessException {
+        databaseHelper.insertIntoDBOrThrow(new Homework(0, subject, description, deadline, done));
+    }
+
+    /**
+     * inserts an {@link Exam}
+     *
+     * @param subject     the {@link Subject} of the {@link Exam}
+     * @param description the description
+     * @param deadline    the deadline
+     * @throws IllegalAccessException if the insert failed
+     */
+    private void insertExam(Subject subject, String description, GregorianCalendar deadline) throws IllegalAccessException {
+        databaseHelper.insertIntoDBOrThrow(new Exam(0, subject, description, deadline));
+    }
+    //endregion
+}
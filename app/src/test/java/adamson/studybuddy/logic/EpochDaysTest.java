@@ -0,0 +1,61 @@
+package adamson.studybuddy.logic;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests the conversion between calendar days and the epoch days stored as deadlines
+ */
+public class EpochDaysTest {
+    private final TimeZone defaultTimeZone = TimeZone.getDefault();
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    //Launch test area: fromCalendar
+    @Test
+    public void firstEpochDayIsZero() {
+        assertEquals(0, EpochDays.fromCalendar(new GregorianCalendar(1970, 0, 1)));
+    }
+
+    @Test
+    public void fromCalendar() {
+        assertEquals(17775, EpochDays.fromCalendar(new GregorianCalendar(2018, 8, 1)));
+        assertEquals(18321, EpochDays.fromCalendar(new GregorianCalendar(2020, 1, 29)));
+        assertEquals(-1, EpochDays.fromCalendar(new GregorianCalendar(1969, 11, 31)));
+    }
+
+    @Test
+    public void fromCalendarIgnoresTheTimeOfDay() {
+        assertEquals(17775, EpochDays.fromCalendar(new GregorianCalendar(2018, 8, 1, 23, 59, 59)));
+    }
+    //End test area: fromCalendar
+
+    //Launch test area: round trip
+    @Test
+    public void roundTripOverAYear() {
+        for (long day = 17532; day < 17532 + 366; day++) {
+            assertEquals(day, EpochDays.fromCalendar(EpochDays.toCalendar(day)));
+        }
+    }
+
+    @Test
+    public void roundTripInEveryTimeZone() {
+        for (String id : new String[]{"Europe/Berlin", "America/Los_Angeles", "Pacific/Kiritimati", "Pacific/Pago_Pago"}) {
+            TimeZone.setDefault(TimeZone.getTimeZone(id));
+
+            //the days of the daylight saving time switches in Europe and North America
+            assertEquals(new GregorianCalendar(2018, 2, 25), EpochDays.toCalendar(EpochDays.fromCalendar(new GregorianCalendar(2018, 2, 25))));
+            assertEquals(new GregorianCalendar(2018, 10, 4), EpochDays.toCalendar(EpochDays.fromCalendar(new GregorianCalendar(2018, 10, 4))));
+            assertEquals(17775, EpochDays.fromCalendar(new GregorianCalendar(2018, 8, 1)));
+        }
+    }
+    //End test area: round trip
+}
@@ -0,0 +1,265 @@
+package adamson.studybuddy.logic;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Exam;
+import adamson.studybuddy.logic.objects.Grade;
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Schedule;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+import adamson.studybuddy.logic.objects.Weekday;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * the insert, get, update and delete scenarios of the DatabaseTest, run against the {@link InMemoryDatabaseHelper} on the JVM.
+ * the scenarios are the conformance suite of the {@link RecordStore} backends, every backend has to pass all of them
+ */
+@RunWith(Parameterized.class)
+public class InMemoryDatabaseHelperTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Parameterized.Parameter
+    public String backend;
+
+    private InMemoryDatabaseHelper databaseHelper;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> backends() {
+        return Arrays.asList(new Object[][]{{"heap"}, {"mapped"}});
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        RecordStore.Factory factory = backend.equals("heap") ? HeapRecordStore.FACTORY : MappedRecordStore.factory(folder.getRoot());
+        databaseHelper = new InMemoryDatabaseHelper(factory);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        databaseHelper.close();
+    }
+
+    //Launch test area: teacher
+    @Test
+    public void addGetTeacher() {
+        int id = databaseHelper.insertIntoDB(new Teacher(0, "Braeuer", "BRAE", Teacher.MALE));
+
+        Teacher testResultValue = databaseHelper.getTeacherAtId(id);
+
+        assertTrue(new Teacher(id, "Braeuer", "BRAE", Teacher.MALE).match(testResultValue));
+    }
+
+    @Test
+    public void addTeacherWithTakenAbbreviation() {
+        databaseHelper.insertIntoDB(new Teacher(0, "Meyer", "MEY", Teacher.FEMALE));
+
+        assertEquals(-1, databaseHelper.insertIntoDB(new Teacher(0, "Meyer", "MEY", Teacher.MALE)));
+        assertEquals(1, databaseHelper.size(DatabaseHelper.TABLE_TEACHER));
+    }
+
+    @Test
+    public void updateTeacher() throws Exception {
+        int id = databaseHelper.insertIntoDB(new Teacher(0, "Meyer", "MEY", Teacher.FEMALE));
+
+        databaseHelper.updateTeacherAtIdOrThrow(new Teacher(id, "Dickens", "DICK", Teacher.MALE));
+
+        assertTrue(new Teacher(id, "Dickens", "DICK", Teacher.MALE).match(databaseHelper.getTeacherAtId(id)));
+    }
+    //End test area: teacher
+
+    //Launch test area: subject
+    @Test
+    public void addGetSubject() {
+        Teacher teacher = new Teacher(0, "Braeuer", "BRAE", Teacher.MALE);
+        int id = databaseHelper.insertIntoDB(new Subject(0, teacher, "computer science", "B106", "#ff0000"));
+
+        Subject testResultValue = databaseHelper.getSubjectAtId(id);
+
+        Teacher expectedTeacher = new Teacher(testResultValue.getTeacher().getId(), "Braeuer", "BRAE", Teacher.MALE);
+        assertTrue(new Subject(id, expectedTeacher, "computer science", "B106", "#ff0000").match(testResultValue));
+        assertTrue(databaseHelper.existsTeacherAtId(expectedTeacher.getId()));
+    }
+
+    @Test
+    public void updateSubjectIsSeenByItsHomework() throws Exception {
+        int homeworkId = databaseHelper.insertIntoDB(new Homework(0, newSubject("maths"), "p. 12", new GregorianCalendar(2018, 9, 1), false));
+        Subject subject = databaseHelper.getHomeworkAtId(homeworkId).getSubject();
+
+        databaseHelper.updateSubjectAtIdOrThrow(new Subject(subject.getId(), subject.getTeacher(), "algebra", "A210", "#00ff00"));
+
+        assertEquals("algebra", databaseHelper.getHomeworkAtId(homeworkId).getSubject().getName());
+    }
+    //End test area: subject
+
+    //Launch test area: homework, exam, grade
+    @Test
+    public void addGetHomework() {
+        int id = databaseHelper.insertIntoDB(new Homework(0, newSubject("german"), "read chapter 3", new GregorianCalendar(2018, 9, 1), true));
+
+        Homework testResultValue = databaseHelper.getHomeworkAtId(id);
+
+        assertEquals(id, testResultValue.getId());
+        assertEquals("read chapter 3", testResultValue.getDescription());
+        assertEquals("german", testResultValue.getSubject().getName());
+        assertTrue(testResultValue.isDone());
+    }
+
+    @Test
+    public void addGetExam() {
+        int id = databaseHelper.insertIntoDB(new Exam(0, newSubject("maths"), "functions", new GregorianCalendar(2018, 10, 5)));
+
+        Exam testResultValue = databaseHelper.getExamAtId(id);
+
+        assertEquals(id, testResultValue.getId());
+        assertEquals("functions", testResultValue.getDescription());
+        assertEquals(new GregorianCalendar(2018, 10, 5), testResultValue.getDeadline());
+    }
+
+    @Test
+    public void addUpdateGrade() throws Exception {
+        int id = databaseHelper.insertIntoDB(new Grade(0, newSubject("maths"), "test 1", "2"));
+        Subject subject = databaseHelper.getGradeAtId(id).getSubject();
+
+        databaseHelper.updateGradeAtIdOrThrow(new Grade(id, subject, "test 1", "1"));
+
+        assertEquals("1", databaseHelper.getGradeAtId(id).getGrade());
+    }
+    //End test area: homework, exam, grade
+
+    //Launch test area: schedule
+    @Test
+    public void addGetPeriod() {
+        int id = databaseHelper.insertIntoDB(new Period(0, 1, "08-00-00", "08-45-00"));
+
+        assertTrue(new Period(id, 1, "08-00-00", "08-45-00").match(databaseHelper.getPeriodAtId(id)));
+    }
+
+    @Test
+    public void addGetWeekday() {
+        int id = databaseHelper.insertIntoDB(new Weekday(0, "Monday", new Lesson[0]));
+
+        Weekday testResultValue = databaseHelper.getWeekdayAtId(id);
+
+        assertEquals("Monday", testResultValue.getName());
+        assertEquals(0, testResultValue.getLessons().length);
+    }
+
+    @Test
+    public void addGetSchedule() {
+        Lesson lesson = new Lesson(0, newSubject("maths"), new Period(0, 1, "08-00-00", "08-45-00"));
+        Weekday[] weekdays = {new Weekday(0, "Monday", new Lesson[]{lesson}), new Weekday(0, "Tuesday", new Lesson[0])};
+
+        int id = databaseHelper.insertIntoDB(new Schedule(0, "A", weekdays));
+
+        Schedule testResultValue = databaseHelper.getScheduleAtId(id);
+        assertEquals("A", testResultValue.getName());
+        assertEquals(2, testResultValue.getDays().length);
+        assertEquals(1, testResultValue.getDay("Monday").getLessons().length);
+    }
+    //End test area: schedule
+
+    //Launch test area: delete
+    @Test
+    public void deleteTeacherCascades() {
+        Subject subject = newSubject("maths");
+        int homeworkId = databaseHelper.insertIntoDB(new Homework(0, subject, "p. 12", new GregorianCalendar(2018, 9, 1), false));
+        int teacherId = databaseHelper.getHomeworkAtId(homeworkId).getSubject().getTeacher().getId();
+        databaseHelper.insertIntoDB(new Lesson(0, databaseHelper.getHomeworkAtId(homeworkId).getSubject(), new Period(0, 1, "08-00-00", "08-45-00")));
+
+        databaseHelper.deleteTeacherAtId(teacherId);
+
+        assertEquals(0, databaseHelper.size(DatabaseHelper.TABLE_SUBJECT));
+        assertEquals(0, databaseHelper.size(DatabaseHelper.TABLE_HOMEWORK));
+        assertEquals(0, databaseHelper.size(DatabaseHelper.TABLE_LESSON));
+        assertEquals(1, databaseHelper.size(DatabaseHelper.TABLE_PERIOD));
+    }
+
+    @Test
+    public void deleteSubjectCascades() {
+        int examId = databaseHelper.insertIntoDB(new Exam(0, newSubject("maths"), "functions", new GregorianCalendar(2018, 10, 5)));
+        Subject subject = databaseHelper.getExamAtId(examId).getSubject();
+        databaseHelper.insertIntoDB(new Grade(0, subject, "test 1", "2"));
+
+        databaseHelper.deleteSubjectAtId(subject.getId());
+
+        assertNull(databaseHelper.getExamAtId(examId));
+        assertEquals(0, databaseHelper.size(DatabaseHelper.TABLE_GRADE));
+        assertEquals(1, databaseHelper.size(DatabaseHelper.TABLE_TEACHER));
+    }
+
+    @Test
+    public void deleteScheduleCascades() {
+        Weekday[] weekdays = {new Weekday(0, "Monday", new Lesson[0]), new Weekday(0, "Tuesday", new Lesson[0])};
+        int id = databaseHelper.insertIntoDB(new Schedule(0, "A", weekdays));
+
+        databaseHelper.deleteScheduleAtId(id);
+
+        assertFalse(databaseHelper.existsScheduleAtId(id));
+        assertEquals(0, databaseHelper.size(DatabaseHelper.TABLE_WEEKDAY));
+    }
+    //End test area: delete
+
+    //Launch test area: not found
+    @Test
+    public void getMissingReturnsNull() {
+        assertNull(databaseHelper.getTeacherAtId(1));
+        assertNull(databaseHelper.getSubjectAtId(1));
+        assertNull(databaseHelper.getHomeworkAtId(1));
+        assertNull(databaseHelper.getScheduleAtId(1));
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void getMissingOrThrow() throws Exception {
+        databaseHelper.getGradeAtIdOrThrow(1);
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void updateMissingOrThrow() throws Exception {
+        databaseHelper.updateTeacherAtIdOrThrow(new Teacher(1, "Meyer", "MEY", Teacher.FEMALE));
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void deleteMissingOrThrow() throws Exception {
+        databaseHelper.deleteHomeworkAtIdOrThrow(1);
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void deleteTwiceOrThrow() throws Exception {
+        int id = databaseHelper.insertIntoDB(new Teacher(0, "Meyer", "MEY", Teacher.FEMALE));
+
+        databaseHelper.deleteTeacherAtIdOrThrow(id);
+        databaseHelper.deleteTeacherAtIdOrThrow(id);
+    }
+    //End test area: not found
+
+    //region private methods
+
+    /**
+     * builds a {@link Subject} which isn't in the database yet, together with its {@link Teacher}
+     *
+     * @param name name of the {@link Subject}, also used for the abbreviation of its {@link Teacher}
+     * @return the {@link Subject} with id 0
+     */
+    private static Subject newSubject(String name) {
+        return new Subject(0, new Teacher(0, "Meyer", name.toUpperCase(), Teacher.FEMALE), name, "A210", "#ff0000");
+    }
+    //endregion
+}
@@ -0,0 +1,144 @@
+package adamson.studybuddy.logic;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests the open addressing map of the {@link InMemoryDatabaseHelper}
+ */
+public class IntObjectMapTest {
+    private IntObjectMap<String> map;
+
+    @Before
+    public void setUp() {
+        map = new IntObjectMap<>(4);
+    }
+
+    //Launch test area: put, get, remove
+    @Test
+    public void putGet() {
+        map.put(1, "one");
+        map.put(17, "seventeen");
+
+        assertEquals("one", map.get(1));
+        assertEquals("seventeen", map.get(17));
+        assertNull(map.get(2));
+        assertTrue(map.containsKey(17));
+        assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    public void putReplacesTheValue() {
+        map.put(1, "one");
+        map.put(1, "uno");
+
+        assertEquals("uno", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void removeKeepsTheOtherKeysReachable() {
+        for (int key = 1; key <= 100; key++) {
+            map.put(key, "value " + key);
+        }
+
+        for (int key = 1; key <= 100; key += 2) {
+            assertEquals("value " + key, map.remove(key));
+        }
+
+        assertEquals(50, map.size());
+        for (int key = 1; key <= 100; key++) {
+            assertEquals(key % 2 == 0 ? "value " + key : null, map.get(key));
+        }
+    }
+
+    @Test
+    public void removeMissingKey() {
+        map.put(1, "one");
+
+        assertNull(map.remove(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void behavesLikeAHashMap() {
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            int key = 1 + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                expected.put(key, "value " + i);
+                map.put(key, "value " + i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = 1; key <= 500; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+    //End test area: put, get, remove
+
+    //Launch test area: keys
+    @Test
+    public void keysAreSorted() {
+        map.put(30, "thirty");
+        map.put(2, "two");
+        map.put(11, "eleven");
+
+        assertArrayEquals(new int[]{2, 11, 30}, map.keys());
+    }
+
+    @Test
+    public void maxKeyAfterRemove() {
+        map.put(3, "three");
+        map.put(9, "nine");
+        map.put(5, "five");
+
+        assertEquals(9, map.maxKey());
+        map.remove(9);
+        assertEquals(5, map.maxKey());
+        map.remove(3);
+        assertEquals(5, map.maxKey());
+    }
+
+    @Test
+    public void clear() {
+        map.put(1, "one");
+        map.put(2, "two");
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertEquals(0, map.maxKey());
+        assertNull(map.get(1));
+        assertEquals(0, map.keys().length);
+    }
+
+    @Test
+    public void growKeepsAllEntries() {
+        int[] keys = new int[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (i + 1) * 7919;
+            map.put(keys[i], String.valueOf(keys[i]));
+        }
+
+        assertArrayEquals(keys, map.keys());
+        assertEquals(String.valueOf(keys[500]), map.get(keys[500]));
+        assertEquals(1000, map.size());
+    }
+    //End test area: keys
+}
@@ -0,0 +1,102 @@
+package adamson.studybuddy.logic;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests the open addressing index from ids to offsets
+ */
+public class IntOffsetIndexTest {
+    private IntOffsetIndex index;
+
+    @Before
+    public void setUp() {
+        index = new IntOffsetIndex(4);
+    }
+
+    //Launch test area: put, get, remove
+    @Test
+    public void putGet() {
+        index.put(1, 0);
+        index.put(17, 64);
+
+        assertEquals(0, index.get(1));
+        assertEquals(64, index.get(17));
+        assertEquals(-1, index.get(2));
+    }
+
+    @Test
+    public void putReplacesTheOffset() {
+        index.put(1, 0);
+        index.put(1, 128);
+
+        assertEquals(128, index.get(1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void removeReturnsTheOffset() {
+        index.put(5, 320);
+
+        assertEquals(320, index.remove(5));
+        assertEquals(-1, index.remove(5));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void behavesLikeAHashMap() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            int key = 1 + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                Integer offset = expected.remove(key);
+                assertEquals(offset == null ? -1 : offset, index.remove(key));
+            } else {
+                expected.put(key, i);
+                index.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), index.size());
+        for (int key = 1; key <= 500; key++) {
+            Integer offset = expected.get(key);
+            assertEquals(offset == null ? -1 : offset, index.get(key));
+        }
+    }
+    //End test area: put, get, remove
+
+    //Launch test area: keys
+    @Test
+    public void growKeepsAllKeysSorted() {
+        int[] keys = new int[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (i + 1) * 7919;
+            index.put(keys[i], i * 64);
+        }
+
+        assertArrayEquals(keys, index.keys());
+        assertEquals(500 * 64, index.get(keys[500]));
+    }
+
+    @Test
+    public void clear() {
+        index.put(1, 0);
+        index.put(2, 64);
+
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(1));
+        assertEquals(0, index.keys().length);
+    }
+    //End test area: keys
+}
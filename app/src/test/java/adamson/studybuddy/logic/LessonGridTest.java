@@ -0,0 +1,144 @@
+package adamson.studybuddy.logic;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Schedule;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+import adamson.studybuddy.logic.objects.Weekday;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests the lookups of the {@link LessonGrid} by weekday and school hour
+ */
+public class LessonGridTest {
+    private Subject maths;
+    private Period first;
+    private Period third;
+    private Lesson mondayLesson;
+    private LessonGrid grid;
+
+    @Before
+    public void setUp() {
+        maths = new Subject(1, new Teacher(1, "Meyer", "MEY", Teacher.FEMALE), "maths", "A210", "#ff0000");
+        first = new Period(1, 1, "08-00-00", "08-45-00");
+        third = new Period(3, 3, "09-45-00", "10-30-00");
+        mondayLesson = new Lesson(1, maths, first);
+
+        Weekday[] weekdays = {new Weekday(1, Weekday.MONDAY, new Lesson[]{mondayLesson}), null, new Weekday(2, Weekday.FRIDAY, new Lesson[0])};
+        grid = new LessonGrid(new Schedule(1, "A", weekdays), new Period[]{first, third});
+    }
+
+    //Launch test area: lookup
+    @Test
+    public void getLessonOfTheSchedule() {
+        assertSame(mondayLesson, grid.getLesson(Weekday.MONDAY, 1));
+        assertTrue(grid.isOccupied(Weekday.MONDAY, 1));
+        assertFalse(grid.isOccupied(Weekday.FRIDAY, 1));
+    }
+
+    @Test
+    public void getPeriod() {
+        assertSame(third, grid.getPeriod(3));
+        assertNull(grid.getPeriod(2));
+    }
+
+    @Test
+    public void lookupsOutsideTheGridAreEmpty() {
+        assertNull(grid.getLesson(Weekday.MONDAY, 12));
+        assertNull(grid.getLesson(Weekday.MONDAY, -1));
+        assertNull(grid.getLesson("Sunday", 1));
+        assertNull(grid.getPeriod(12));
+    }
+
+    @Test
+    public void indexOf() {
+        assertEquals(0, LessonGrid.indexOf(Weekday.MONDAY));
+        assertEquals(5, LessonGrid.indexOf(Weekday.SATURDAY));
+        assertEquals(-1, LessonGrid.indexOf("Sunday"));
+    }
+    //End test area: lookup
+
+    //Launch test area: put and remove
+    @Test
+    public void putLessonGrowsTheGrid() {
+        Lesson late = new Lesson(2, maths, new Period(9, 9, "14-00-00", "14-45-00"));
+
+        grid.putLesson(Weekday.FRIDAY, late);
+
+        assertSame(late, grid.getLesson(Weekday.FRIDAY, 9));
+        assertSame(mondayLesson, grid.getLesson(Weekday.MONDAY, 1));
+        assertSame(third, grid.getPeriod(3));
+    }
+
+    @Test
+    public void putLessonReplacesTheLessonOfTheSlot() {
+        Lesson replacement = new Lesson(2, maths, first);
+
+        grid.putLesson(Weekday.MONDAY, replacement);
+
+        assertSame(replacement, grid.getLesson(Weekday.MONDAY, 1));
+    }
+
+    @Test
+    public void removeLesson() {
+        grid.removeLesson(Weekday.MONDAY, 1);
+        grid.removeLesson(Weekday.MONDAY, 12);
+
+        assertFalse(grid.isOccupied(Weekday.MONDAY, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void putLessonAtUnknownWeekday() {
+        grid.putLesson("Sunday", mondayLesson);
+    }
+    //End test area: put and remove
+
+    //Launch test area: apply
+    @Test
+    public void applyCommittedUnitOfWork() throws Exception {
+        InMemoryDatabaseHelper databaseHelper = new InMemoryDatabaseHelper();
+        Subject storedMaths = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(maths));
+        Period storedFirst = databaseHelper.getPeriodAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(first));
+        Period storedThird = databaseHelper.getPeriodAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(third));
+        Weekday[] weekdays = {new Weekday(0, Weekday.MONDAY, new Lesson[]{new Lesson(0, storedMaths, storedFirst)})};
+        Schedule schedule = databaseHelper.getScheduleAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Schedule(0, "A", weekdays)));
+        LessonGrid storedGrid = new LessonGrid(schedule, databaseHelper.getAllPeriods());
+        Lesson storedLesson = storedGrid.getLesson(Weekday.MONDAY, 1);
+
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+        Weekday friday = new Weekday(0, Weekday.FRIDAY, new Lesson[0]);
+        work.putWeekday(friday);
+        work.putLesson(friday, new Lesson(storedLesson.getId(), storedMaths, storedThird));
+        work.putLesson(schedule.getDay(Weekday.MONDAY), new Lesson(0, storedMaths, storedThird));
+        assertTrue(databaseHelper.commit(work));
+
+        storedGrid.apply(work);
+
+        LessonGrid reloadedGrid = new LessonGrid(databaseHelper.getScheduleAtIdOrThrow(schedule.getId()), databaseHelper.getAllPeriods());
+        for (String weekday : LessonGrid.WEEKDAYS) {
+            for (int schoolHourNo = 1; schoolHourNo <= 3; schoolHourNo++) {
+                Lesson expected = reloadedGrid.getLesson(weekday, schoolHourNo);
+                Lesson testResultValue = storedGrid.getLesson(weekday, schoolHourNo);
+                assertEquals(expected == null, testResultValue == null);
+                assertTrue(expected == null || expected.match(testResultValue));
+            }
+        }
+        assertFalse(storedGrid.isOccupied(Weekday.MONDAY, 1));
+        assertEquals(storedLesson.getId(), storedGrid.getLesson(Weekday.FRIDAY, 3).getId());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void applyUncommittedUnitOfWork() {
+        grid.apply(new ScheduleUnitOfWork(new Schedule(1, "A", new Weekday[0])));
+    }
+    //End test area: apply
+}
@@ -0,0 +1,112 @@
+package adamson.studybuddy.logic;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * tests what the {@link MappedRecordStore} keeps in its file, beyond the contract of {@link RecordStoreTest}
+ */
+public class MappedRecordStoreTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    //Launch test area: file
+    @Test
+    public void reopenKeepsTheRecords() throws Exception {
+        File path = folder.newFile();
+        MappedRecordStore<Teacher> store = new MappedRecordStore<>(path, RecordCodec.TEACHER);
+        for (int id = 1; id <= 100; id++) {
+            store.put(id, new Teacher(id, "Meyer", "MEY" + id, Teacher.FEMALE));
+        }
+        store.delete(50);
+        store.close();
+
+        MappedRecordStore<Teacher> reopened = new MappedRecordStore<>(path, RecordCodec.TEACHER);
+
+        assertEquals(99, reopened.size());
+        assertEquals(100, reopened.maxId());
+        assertFalse(reopened.contains(50));
+        assertEquals("MEY77", reopened.get(77).getAbbreviation());
+        reopened.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void reopenWithAnotherCodec() throws Exception {
+        File path = folder.newFile();
+        new MappedRecordStore<>(path, RecordCodec.TEACHER).close();
+
+        new MappedRecordStore<>(path, RecordCodec.PERIOD);
+    }
+
+    @Test
+    public void deletedSlotIsReused() throws Exception {
+        File path = folder.newFile();
+        MappedRecordStore<Period> store = new MappedRecordStore<>(path, RecordCodec.PERIOD);
+        store.put(1, new Period(1, 1, "08-00-00", "08-45-00"));
+        store.put(2, new Period(2, 2, "08-45-00", "09-30-00"));
+        long length = path.length();
+
+        store.delete(1);
+        store.put(3, new Period(3, 3, "09-45-00", "10-30-00"));
+        store.close();
+
+        assertEquals(length, path.length());
+        assertArrayEquals(new int[]{2, 3}, new MappedRecordStore<>(path, RecordCodec.PERIOD).ids());
+    }
+
+    @Test
+    public void tooLongRecordIsNotStored() throws Exception {
+        MappedRecordStore<Teacher> store = new MappedRecordStore<>(folder.newFile(), RecordCodec.TEACHER);
+
+        try {
+            store.put(1, new Teacher(1, "Meyer", "an abbreviation which is too long", Teacher.FEMALE));
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertFalse(store.contains(1));
+        }
+        store.put(2, new Teacher(2, "Meyer", "MEY", Teacher.FEMALE));
+
+        assertArrayEquals(new int[]{2}, store.ids());
+        store.close();
+    }
+    //End test area: file
+
+    //Launch test area: codecs
+    @Test
+    public void childrenReadTheCurrentParent() throws Exception {
+        MappedRecordStore<Teacher> teachers = new MappedRecordStore<>(folder.newFile(), RecordCodec.TEACHER);
+        MappedRecordStore<Subject> subjects = new MappedRecordStore<>(folder.newFile(), RecordCodec.subject(teachers));
+        MappedRecordStore<Homework> homework = new MappedRecordStore<>(folder.newFile(), RecordCodec.homework(subjects));
+        Teacher teacher = new Teacher(1, "Meyer", "MEY", Teacher.FEMALE);
+        teachers.put(1, teacher);
+        subjects.put(1, new Subject(1, teacher, "maths", "A210", "#ff0000"));
+        homework.put(1, new Homework(1, subjects.get(1), "p. 12", new GregorianCalendar(2018, 8, 3), true));
+
+        teachers.put(1, new Teacher(1, "Dickens", "DICK", Teacher.MALE));
+
+        Homework testResultValue = homework.get(1);
+        assertEquals("Dickens", testResultValue.getSubject().getTeacher().getName());
+        assertEquals(new GregorianCalendar(2018, 8, 3), testResultValue.getDeadline());
+        assertTrue(testResultValue.isDone());
+        homework.close();
+        subjects.close();
+        teachers.close();
+    }
+    //End test area: codecs
+}
@@ -0,0 +1,108 @@
+package adamson.studybuddy.logic;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * compares the {@link HeapRecordStore} and the {@link MappedRecordStore} backend of the {@link InMemoryDatabaseHelper}
+ * on the same workloads of inserts, selects by id, updates, filtered finds and deletes.
+ * prints the time of every workload per backend, after a warm up round so the JIT has compiled both
+ */
+public class RecordStoreBenchmark {
+    private static final int ROWS = 10000;
+    private static final int ROUNDS = 3;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void compareBackends() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            long[] heap = runWorkloads(new InMemoryDatabaseHelper(HeapRecordStore.FACTORY));
+            long[] mapped = runWorkloads(new InMemoryDatabaseHelper(MappedRecordStore.factory(folder.newFolder())));
+
+            if (round > 0) {
+                System.out.println("round " + round + ", " + ROWS + " rows, heap / mapped in ms");
+                System.out.println("  inserts:        " + heap[0] + " / " + mapped[0]);
+                System.out.println("  selects by id:  " + heap[1] + " / " + mapped[1]);
+                System.out.println("  updates:        " + heap[2] + " / " + mapped[2]);
+                System.out.println("  filtered finds: " + heap[3] + " / " + mapped[3]);
+                System.out.println("  deletes:        " + heap[4] + " / " + mapped[4]);
+            }
+        }
+    }
+
+    //region private methods
+
+    /**
+     * runs every workload on a helper and closes it
+     *
+     * @param databaseHelper the helper, with empty tables
+     * @return the times of the inserts, selects by id, updates, filtered finds and deletes in ms
+     * @throws Exception if a workload fails
+     */
+    private static long[] runWorkloads(InMemoryDatabaseHelper databaseHelper) throws Exception {
+        long[] times = new long[5];
+        Subject subject = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(
+                new Subject(0, new Teacher(0, "Meyer", "MEY", Teacher.FEMALE), "maths", "A210", "#ff0000")));
+        int[] ids = new int[ROWS];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            ids[i] = databaseHelper.insertIntoDBOrThrow(new Homework(0, subject, "Homework " + i, new GregorianCalendar(2018, 8, 1 + i % 28), false));
+        }
+        times[0] = elapsedMillis(start);
+
+        start = System.nanoTime();
+        for (int id : ids) {
+            databaseHelper.getHomeworkAtIdOrThrow(id);
+        }
+        times[1] = elapsedMillis(start);
+
+        int doneInFirstTwoWeeks = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < ROWS; i += 2) {
+            databaseHelper.updateHomeworkAtIdOrThrow(new Homework(ids[i], subject, "Homework " + i, new GregorianCalendar(2018, 8, 1 + i % 28), true));
+            if (i % 28 < 14) {
+                doneInFirstTwoWeeks++;
+            }
+        }
+        times[2] = elapsedMillis(start);
+
+        start = System.nanoTime();
+        Homework[] found = databaseHelper.findHomework(new Criteria().whereSubject(subject.getId()).whereDone(true)
+                .whereDeadlineBetween(new GregorianCalendar(2018, 8, 1), new GregorianCalendar(2018, 8, 14)));
+        times[3] = elapsedMillis(start);
+
+        start = System.nanoTime();
+        for (int id : ids) {
+            databaseHelper.deleteHomeworkAtIdOrThrow(id);
+        }
+        times[4] = elapsedMillis(start);
+
+        assertEquals(doneInFirstTwoWeeks, found.length);
+        assertEquals(0, databaseHelper.size(DatabaseHelper.TABLE_HOMEWORK));
+        databaseHelper.close();
+        return times;
+    }
+
+    /**
+     * gets the time since a start
+     *
+     * @param start the start from {@link System#nanoTime()}
+     * @return the time in ms
+     */
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1000000;
+    }
+    //endregion
+}
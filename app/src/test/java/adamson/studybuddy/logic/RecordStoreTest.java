@@ -0,0 +1,131 @@
+package adamson.studybuddy.logic;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * the contract of a single {@link RecordStore}, every backend has to pass all of these tests
+ */
+@RunWith(Parameterized.class)
+public class RecordStoreTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Parameterized.Parameter
+    public String backend;
+
+    private RecordStore<Teacher> store;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> backends() {
+        return Arrays.asList(new Object[][]{{"heap"}, {"mapped"}});
+    }
+
+    @Before
+    public void setUp() {
+        RecordStore.Factory factory = backend.equals("heap") ? HeapRecordStore.FACTORY : MappedRecordStore.factory(folder.getRoot());
+        store = factory.open(DatabaseHelper.TABLE_TEACHER, RecordCodec.TEACHER);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        store.close();
+    }
+
+    //Launch test area: put, get, delete
+    @Test
+    public void putGet() {
+        store.put(3, new Teacher(3, "Meyer", "MEY", Teacher.FEMALE));
+
+        assertTrue(new Teacher(3, "Meyer", "MEY", Teacher.FEMALE).match(store.get(3)));
+        assertTrue(store.contains(3));
+        assertNull(store.get(4));
+        assertFalse(store.contains(4));
+    }
+
+    @Test
+    public void putReplacesTheRecord() {
+        store.put(1, new Teacher(1, "Meyer", "MEY", Teacher.FEMALE));
+        store.put(1, new Teacher(1, "Dickens", "DICK", Teacher.MALE));
+
+        assertEquals("Dickens", store.get(1).getName());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void delete() {
+        store.put(1, new Teacher(1, "Meyer", "MEY", Teacher.FEMALE));
+
+        assertTrue(store.delete(1));
+        assertFalse(store.delete(1));
+        assertNull(store.get(1));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void nullStringsStayNull() {
+        store.put(1, new Teacher(1, "Meyer", null, Teacher.FEMALE));
+
+        assertNull(store.get(1).getAbbreviation());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void putAtIdZero() {
+        store.put(0, new Teacher(0, "Meyer", "MEY", Teacher.FEMALE));
+    }
+    //End test area: put, get, delete
+
+    //Launch test area: ids
+    @Test
+    public void idsAreAscending() {
+        for (int id : new int[]{70, 3, 1, 42}) {
+            store.put(id, new Teacher(id, "Meyer", "MEY" + id, Teacher.FEMALE));
+        }
+
+        assertArrayEquals(new int[]{1, 3, 42, 70}, store.ids());
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    public void maxIdAfterDelete() {
+        store.put(1, new Teacher(1, "Meyer", "MEY", Teacher.FEMALE));
+        store.put(2, new Teacher(2, "Dickens", "DICK", Teacher.MALE));
+
+        assertEquals(2, store.maxId());
+        store.delete(2);
+        assertEquals(1, store.maxId());
+        store.delete(1);
+        assertEquals(0, store.maxId());
+    }
+
+    @Test
+    public void clear() {
+        for (int id = 1; id <= 100; id++) {
+            store.put(id, new Teacher(id, "Meyer", "MEY" + id, Teacher.FEMALE));
+        }
+
+        store.clear();
+        store.put(5, new Teacher(5, "Dickens", "DICK", Teacher.MALE));
+
+        assertArrayEquals(new int[]{5}, store.ids());
+        assertEquals(5, store.maxId());
+        assertEquals("Dickens", store.get(5).getName());
+    }
+    //End test area: ids
+}
@@ -0,0 +1,181 @@
+package adamson.studybuddy.logic;
+
+import android.database.AbstractCursor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+
+import adamson.studybuddy.logic.objects.Homework;
+import adamson.studybuddy.logic.objects.Teacher;
+
+import static adamson.studybuddy.logic.DatabaseHelper.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests the {@link RowMapper}s against a cursor of a joined homework query on the JVM
+ */
+public class RowMapperTest {
+    private static final String[] HOMEWORK_COLUMNS = {
+            HOMEWORK_COLUMN_ID, HOMEWORK_COLUMN_DESCRIPTION, HOMEWORK_COLUMN_DEADLINE, HOMEWORK_COLUMN_DONE,
+            SUBJECT_COLUMN_ID, SUBJECT_COLUMN_NAME, SUBJECT_COLUMN_ROOM, SUBJECT_COLUMN_COLOR,
+            TEACHER_COLUMN_ID, TEACHER_COLUMN_NAME, TEACHER_COLUMN_ABBREVIATION, TEACHER_COLUMN_GENDER
+    };
+
+    //Launch test area: column indices
+    @Test
+    public void columnIndicesAreResolvedOncePerCursor() {
+        FakeCursor cursor = new FakeCursor(HOMEWORK_COLUMNS, homeworkRows(100));
+
+        RowMapper<Homework> mapper = RowMapper.HOMEWORK.forCursor(cursor);
+        int lookups = cursor.columnLookups;
+        while (cursor.moveToNext()) {
+            mapper.map(cursor);
+        }
+
+        assertEquals(HOMEWORK_COLUMNS.length, lookups);
+        assertEquals(lookups, cursor.columnLookups);
+    }
+
+    @Test
+    public void columnIndicesDependOnTheQuery() {
+        String[] reversed = HOMEWORK_COLUMNS.clone();
+        Collections.reverse(Arrays.asList(reversed));
+        Object[][] rows = homeworkRows(1);
+        Collections.reverse(Arrays.asList(rows[0]));
+
+        FakeCursor cursor = new FakeCursor(reversed, rows);
+        cursor.moveToNext();
+        Homework testResultValue = RowMapper.HOMEWORK.forCursor(cursor).map(cursor);
+
+        assertEquals(1, testResultValue.getId());
+        assertEquals("Homework 0", testResultValue.getDescription());
+        assertEquals(new GregorianCalendar(2018, 9, 1), testResultValue.getDeadline());
+        assertTrue(testResultValue.isDone());
+        assertEquals("maths", testResultValue.getSubject().getName());
+        assertEquals(Teacher.FEMALE, testResultValue.getSubject().getTeacher().getGender());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingColumnThrowsInConstructor() {
+        RowMapper.HOMEWORK.forCursor(new FakeCursor(Arrays.copyOf(HOMEWORK_COLUMNS, 8), new Object[0][]));
+    }
+    //End test area: column indices
+
+    //Launch test area: lesson
+    @Test
+    public void lessonOfEmptyJoinSide() {
+        String[] columns = {LESSON_COLUMN_ID, PERIOD_COLUMN_ID, PERIOD_COLUMN_SCHOOL_HOUR_NO, PERIOD_COLUMN_STARTTIME, PERIOD_COLUMN_ENDTIME,
+                SUBJECT_COLUMN_ID, SUBJECT_COLUMN_NAME, SUBJECT_COLUMN_ROOM, SUBJECT_COLUMN_COLOR,
+                TEACHER_COLUMN_ID, TEACHER_COLUMN_NAME, TEACHER_COLUMN_ABBREVIATION, TEACHER_COLUMN_GENDER};
+        FakeCursor cursor = new FakeCursor(columns, new Object[][]{new Object[columns.length]});
+        cursor.moveToNext();
+
+        assertFalse(new RowMapper.LessonMapper(cursor).hasLesson(cursor));
+    }
+    //End test area: lesson
+
+    //region private methods
+
+    /**
+     * builds the rows of a joined homework query, all homework belong to the same {@link adamson.studybuddy.logic.objects.Subject}
+     *
+     * @param count count of rows
+     * @return the rows in the order of {@link RowMapperTest#HOMEWORK_COLUMNS}
+     */
+    private static Object[][] homeworkRows(int count) {
+        long deadline = EpochDays.fromCalendar(new GregorianCalendar(2018, 9, 1));
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            rows[i] = new Object[]{i + 1, "Homework " + i, deadline, 1, 1, "maths", "A210", "#ff0000", 1, "Meyer", "MEY", "f"};
+        }
+        return rows;
+    }
+    //endregion
+
+    /**
+     * cursor over fixed rows, which counts the lookups of column indices
+     */
+    private static final class FakeCursor extends AbstractCursor {
+        private final String[] columns;
+        private final Object[][] rows;
+        private int position = -1;
+        private int columnLookups;
+
+        /**
+         * c'tor for a cursor before its first row
+         *
+         * @param columns names of the columns
+         * @param rows    values of the rows in the order of the columns
+         */
+        FakeCursor(String[] columns, Object[][] rows) {
+            this.columns = columns;
+            this.rows = rows;
+        }
+
+        @Override
+        public int getColumnIndexOrThrow(String columnName) {
+            columnLookups++;
+            int index = Arrays.asList(columns).indexOf(columnName);
+            if (index < 0) {
+                throw new IllegalArgumentException("column '" + columnName + "' does not exist");
+            }
+            return index;
+        }
+
+        @Override
+        public boolean moveToNext() {
+            position++;
+            return position < rows.length;
+        }
+
+        @Override
+        public int getCount() {
+            return rows.length;
+        }
+
+        @Override
+        public String[] getColumnNames() {
+            return columns;
+        }
+
+        @Override
+        public String getString(int column) {
+            return (String) rows[position][column];
+        }
+
+        @Override
+        public short getShort(int column) {
+            return ((Number) rows[position][column]).shortValue();
+        }
+
+        @Override
+        public int getInt(int column) {
+            return ((Number) rows[position][column]).intValue();
+        }
+
+        @Override
+        public long getLong(int column) {
+            return ((Number) rows[position][column]).longValue();
+        }
+
+        @Override
+        public float getFloat(int column) {
+            return ((Number) rows[position][column]).floatValue();
+        }
+
+        @Override
+        public double getDouble(int column) {
+            return ((Number) rows[position][column]).doubleValue();
+        }
+
+        @Override
+        public boolean isNull(int column) {
+            return rows[position][column] == null;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package adamson.studybuddy.logic;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import adamson.studybuddy.logic.objects.Lesson;
+import adamson.studybuddy.logic.objects.Period;
+import adamson.studybuddy.logic.objects.Schedule;
+import adamson.studybuddy.logic.objects.Subject;
+import adamson.studybuddy.logic.objects.Teacher;
+import adamson.studybuddy.logic.objects.Weekday;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests which changes a {@link ScheduleUnitOfWork} collects and how the {@link InMemoryDatabaseHelper} commits them
+ */
+public class ScheduleUnitOfWorkTest {
+    private InMemoryDatabaseHelper databaseHelper;
+    private Schedule schedule;
+    private Subject maths;
+    private Period first;
+    private Period second;
+
+    @Before
+    public void setUp() throws Exception {
+        databaseHelper = new InMemoryDatabaseHelper();
+        Teacher teacher = databaseHelper.getTeacherAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Teacher(0, "Meyer", "MEY", Teacher.FEMALE)));
+        maths = databaseHelper.getSubjectAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Subject(0, teacher, "maths", "A210", "#ff0000")));
+        first = databaseHelper.getPeriodAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Period(0, 1, "08-00-00", "08-45-00")));
+        second = databaseHelper.getPeriodAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Period(0, 2, "08-45-00", "09-30-00")));
+
+        Weekday[] weekdays = {new Weekday(0, "Monday", new Lesson[]{new Lesson(0, maths, first)}), new Weekday(0, "Tuesday", new Lesson[0])};
+        schedule = databaseHelper.getScheduleAtIdOrThrow(databaseHelper.insertIntoDBOrThrow(new Schedule(0, "A", weekdays)));
+    }
+
+    //Launch test area: collect changes
+    @Test
+    public void unchangedValuesAreNoChanges() {
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+        Weekday monday = schedule.getDay("Monday");
+
+        work.renameSchedule("A");
+        work.putWeekday(new Weekday(monday.getId(), "Monday", monday.getLessons()));
+        work.putLesson(monday, monday.getLessons()[0]);
+        work.removeLesson(new Lesson(0, maths, first));
+
+        assertTrue(work.isEmpty());
+    }
+
+    @Test
+    public void renameBackToTheStoredName() {
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+
+        work.renameSchedule("B");
+        assertEquals("B", work.getNewScheduleName());
+        work.renameSchedule("A");
+
+        assertNull(work.getNewScheduleName());
+    }
+
+    @Test
+    public void latestEditOfALessonWins() {
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+        Weekday monday = schedule.getDay("Monday");
+        Weekday tuesday = schedule.getDay("Tuesday");
+        Lesson lesson = monday.getLessons()[0];
+
+        work.putLesson(monday, new Lesson(lesson.getId(), maths, second));
+        work.putLesson(tuesday, new Lesson(lesson.getId(), maths, first));
+
+        assertEquals(1, work.getDirtyLessons().size());
+        assertSame(tuesday, work.getDirtyLessonWeekdays().get(0));
+        assertFalse(work.isEmpty());
+    }
+    //End test area: collect changes
+
+    //Launch test area: commit
+    @Test
+    public void commitWritesAllChanges() throws Exception {
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+        Weekday monday = schedule.getDay("Monday");
+        Weekday wednesday = new Weekday(0, "Wednesday", new Lesson[0]);
+
+        work.renameSchedule("B");
+        work.putLesson(monday, new Lesson(monday.getLessons()[0].getId(), maths, second));
+        work.putWeekday(wednesday);
+        work.putLesson(wednesday, new Lesson(0, maths, first));
+
+        assertTrue(databaseHelper.commit(work));
+
+        Schedule testResultValue = databaseHelper.getScheduleAtIdOrThrow(schedule.getId());
+        assertEquals("B", testResultValue.getName());
+        assertEquals(3, testResultValue.getDays().length);
+        assertEquals(2, testResultValue.getDay("Monday").getLessons()[0].getPeriod().getSchoolHourNo());
+        assertEquals(1, testResultValue.getDay("Wednesday").getLessons().length);
+    }
+
+    @Test
+    public void commitWritesNothingIfTwoLessonsShareASlot() throws Exception {
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+        Weekday monday = schedule.getDay("Monday");
+
+        work.renameSchedule("B");
+        work.putLesson(monday, new Lesson(0, maths, first));
+
+        assertFalse(databaseHelper.commit(work));
+        assertEquals("A", databaseHelper.getScheduleAtIdOrThrow(schedule.getId()).getName());
+        assertEquals(1, databaseHelper.getScheduleAtIdOrThrow(schedule.getId()).getDay("Monday").getLessons().length);
+    }
+
+    @Test
+    public void movedLessonFreesItsSlot() throws Exception {
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+        Weekday monday = schedule.getDay("Monday");
+
+        work.putLesson(monday, new Lesson(monday.getLessons()[0].getId(), maths, second));
+        work.putLesson(monday, new Lesson(0, maths, first));
+
+        assertTrue(databaseHelper.commit(work));
+        assertEquals(2, databaseHelper.getScheduleAtIdOrThrow(schedule.getId()).getDay("Monday").getLessons().length);
+    }
+
+    @Test
+    public void removeLesson() throws Exception {
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+        Lesson lesson = schedule.getDay("Monday").getLessons()[0];
+
+        work.removeLesson(lesson);
+
+        assertTrue(databaseHelper.commit(work));
+        assertFalse(databaseHelper.existsLessonAtId(lesson.getId()));
+    }
+
+    @Test
+    public void committedScheduleHasTheNewIds() throws Exception {
+        ScheduleUnitOfWork work = new ScheduleUnitOfWork(schedule);
+        Weekday monday = schedule.getDay("Monday");
+        Weekday wednesday = new Weekday(0, "Wednesday", new Lesson[0]);
+
+        work.renameSchedule("B");
+        work.removeLesson(monday.getLessons()[0]);
+        work.putWeekday(wednesday);
+        work.putLesson(wednesday, new Lesson(0, maths, first));
+        assertTrue(databaseHelper.commit(work));
+
+        Schedule testResultValue = work.getCommittedSchedule();
+        Schedule stored = databaseHelper.getScheduleAtIdOrThrow(schedule.getId());
+        assertEquals("B", testResultValue.getName());
+        assertEquals(0, testResultValue.getDay("Monday").getLessons().length);
+        assertEquals(stored.getDay("Wednesday").getId(), testResultValue.getDay("Wednesday").getId());
+        assertTrue(stored.getDay("Wednesday").getLessons()[0].match(testResultValue.getDay("Wednesday").getLessons()[0]));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void noCommittedScheduleBeforeTheCommit() {
+        new ScheduleUnitOfWork(schedule).getCommittedSchedule();
+    }
+    //End test area: commit
+}